@@ -0,0 +1,92 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import java.sql.JDBCType;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+/**
+ * Table definitions shared by all benchmarks. The shapes are loosely based on the order tables used in the
+ * join examples of the main test suite.
+ */
+public final class BenchmarkTables {
+    private BenchmarkTables() {}
+
+    public static final Customer customer = new Customer();
+    public static final OrderMaster orderMaster = new OrderMaster();
+    public static final OrderLine orderLine = new OrderLine();
+    public static final ItemMaster itemMaster = new ItemMaster();
+    public static final Supplier supplier = new Supplier();
+
+    public static final class Customer extends SqlTable {
+        public final SqlColumn<Integer> id = column("id", JDBCType.INTEGER);
+        public final SqlColumn<String> firstName = column("first_name", JDBCType.VARCHAR);
+        public final SqlColumn<String> lastName = column("last_name", JDBCType.VARCHAR);
+        public final SqlColumn<String> city = column("city", JDBCType.VARCHAR);
+        public final SqlColumn<String> state = column("state", JDBCType.VARCHAR);
+        public final SqlColumn<Integer> rating = column("rating", JDBCType.INTEGER);
+        public final SqlColumn<Boolean> active = column("active", JDBCType.BOOLEAN);
+
+        public Customer() {
+            super("Customer");
+        }
+    }
+
+    public static final class OrderMaster extends SqlTable {
+        public final SqlColumn<Integer> orderId = column("order_id", JDBCType.INTEGER);
+        public final SqlColumn<Integer> customerId = column("customer_id", JDBCType.INTEGER);
+        public final SqlColumn<String> status = column("status", JDBCType.VARCHAR);
+
+        public OrderMaster() {
+            super("OrderMaster");
+        }
+    }
+
+    public static final class OrderLine extends SqlTable {
+        public final SqlColumn<Integer> orderId = column("order_id", JDBCType.INTEGER);
+        public final SqlColumn<Integer> lineNumber = column("line_number", JDBCType.INTEGER);
+        public final SqlColumn<Integer> itemId = column("item_id", JDBCType.INTEGER);
+        public final SqlColumn<Integer> quantity = column("quantity", JDBCType.INTEGER);
+
+        public OrderLine() {
+            super("OrderLine");
+        }
+    }
+
+    public static final class ItemMaster extends SqlTable {
+        public final SqlColumn<Integer> itemId = column("item_id", JDBCType.INTEGER);
+        public final SqlColumn<Integer> supplierId = column("supplier_id", JDBCType.INTEGER);
+        public final SqlColumn<String> description = column("description", JDBCType.VARCHAR);
+
+        public ItemMaster() {
+            super("ItemMaster");
+        }
+    }
+
+    public static final class Supplier extends SqlTable {
+        public final SqlColumn<Integer> supplierId = column("supplier_id", JDBCType.INTEGER);
+        public final SqlColumn<String> name = column("name", JDBCType.VARCHAR);
+
+        public Supplier() {
+            super("Supplier");
+        }
+    }
+
+    public record CustomerRecord(Integer id, String firstName, String lastName, String city, String state,
+                                 Integer rating, Boolean active) {}
+}
@@ -0,0 +1,75 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.where.render.CriterionRenderer;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.where.render.RenderedCriterion;
+import org.mybatis.dynamic.sql.where.render.StreamingCriterionRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the criterion renderer in isolation - without the surrounding statement renderers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CriterionRendererBenchmark {
+    private CriteriaGroup deepGroup;
+    private final StatementConfiguration statementConfiguration = new StatementConfiguration();
+
+    @Setup
+    public void setup() {
+        deepGroup = SelectRendererBenchmark.deepGroup(SelectRendererBenchmark.WHERE_DEPTH);
+    }
+
+    @Benchmark
+    public Optional<RenderedCriterion> deepGroup(BenchmarkState state) {
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(state.renderingStrategy)
+                .withStatementConfiguration(statementConfiguration)
+                .build();
+
+        return deepGroup.accept(new CriterionRenderer(renderingContext));
+    }
+
+    @Benchmark
+    public Optional<FragmentAndParameters> deepGroupStreaming(BenchmarkState state) {
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(state.renderingStrategy)
+                .withStatementConfiguration(statementConfiguration)
+                .build();
+
+        return new StreamingCriterionRenderer(renderingContext).render(deepGroup, List.of(), "where");
+    }
+}
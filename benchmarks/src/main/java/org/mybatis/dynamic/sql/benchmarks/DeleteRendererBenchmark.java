@@ -0,0 +1,71 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.deleteFrom;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualTo;
+import static org.mybatis.dynamic.sql.SqlBuilder.isIn;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.customer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeleteRendererBenchmark {
+    private DeleteModel deleteByPrimaryKey;
+    private DeleteModel deleteInList;
+
+    @Setup
+    public void setup() {
+        deleteByPrimaryKey = deleteFrom(customer)
+                .where(customer.id, isEqualTo(22))
+                .build();
+
+        List<Integer> ids = IntStream.range(0, SelectRendererBenchmark.IN_LIST_SIZE).boxed().toList();
+        deleteInList = deleteFrom(customer)
+                .where(customer.id, isIn(ids))
+                .build();
+    }
+
+    @Benchmark
+    public DeleteStatementProvider deleteByPrimaryKey(BenchmarkState state) {
+        return deleteByPrimaryKey.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public DeleteStatementProvider deleteInList(BenchmarkState state) {
+        return deleteInList.render(state.renderingStrategy);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.customer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.CustomerRecord;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultiRowInsertRendererBenchmark {
+    static final int ROWS = 500;
+
+    private MultiRowInsertModel<CustomerRecord> multiRowInsert;
+
+    @Setup
+    public void setup() {
+        List<CustomerRecord> records = IntStream.range(0, ROWS)
+                .mapToObj(i -> new CustomerRecord(i, "First" + i, "Last" + i, "City", "IL", i % 10, true))
+                .toList();
+
+        multiRowInsert = insertMultiple(records)
+                .into(customer)
+                .map(customer.id).toProperty("id")
+                .map(customer.firstName).toProperty("firstName")
+                .map(customer.lastName).toProperty("lastName")
+                .map(customer.city).toProperty("city")
+                .map(customer.state).toProperty("state")
+                .map(customer.rating).toProperty("rating")
+                .map(customer.active).toProperty("active")
+                .build();
+    }
+
+    @Benchmark
+    public MultiRowInsertStatementProvider<CustomerRecord> multiRowInsert(BenchmarkState state) {
+        return multiRowInsert.render(state.renderingStrategy);
+    }
+}
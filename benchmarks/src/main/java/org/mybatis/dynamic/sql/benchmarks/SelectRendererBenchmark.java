@@ -0,0 +1,160 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.and;
+import static org.mybatis.dynamic.sql.SqlBuilder.group;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualTo;
+import static org.mybatis.dynamic.sql.SqlBuilder.isGreaterThan;
+import static org.mybatis.dynamic.sql.SqlBuilder.isIn;
+import static org.mybatis.dynamic.sql.SqlBuilder.isLessThan;
+import static org.mybatis.dynamic.sql.SqlBuilder.isLike;
+import static org.mybatis.dynamic.sql.SqlBuilder.or;
+import static org.mybatis.dynamic.sql.SqlBuilder.select;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.customer;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.itemMaster;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.orderLine;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.orderMaster;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.supplier;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the select renderer. Models are built once in setup so the benchmark methods only measure
+ * rendering. The {@link #buildAndRenderSimpleSelect(BenchmarkState)} benchmark also includes the DSL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelectRendererBenchmark {
+    static final int IN_LIST_SIZE = 1000;
+    static final int WHERE_DEPTH = 8;
+    static final int UNION_BRANCHES = 10;
+
+    private SelectModel simpleSelect;
+    private SelectModel fiveWayJoin;
+    private SelectModel deepWhere;
+    private SelectModel union;
+    private SelectModel inList;
+
+    @Setup
+    public void setup() {
+        simpleSelect = buildSimpleSelect();
+
+        fiveWayJoin = select(customer.id, customer.lastName, orderMaster.orderId, orderLine.lineNumber,
+                        itemMaster.description, supplier.name)
+                .from(customer, "c")
+                .join(orderMaster, "om").on(customer.id, isEqualTo(orderMaster.customerId))
+                .join(orderLine, "ol").on(orderMaster.orderId, isEqualTo(orderLine.orderId))
+                .join(itemMaster, "im").on(orderLine.itemId, isEqualTo(itemMaster.itemId))
+                .join(supplier, "s").on(itemMaster.supplierId, isEqualTo(supplier.supplierId))
+                .where(customer.state, isEqualTo("IL"))
+                .and(orderMaster.status, isEqualTo("OPEN"))
+                .and(orderLine.quantity, isGreaterThan(10))
+                .orderBy(customer.lastName, orderMaster.orderId.descending())
+                .build();
+
+        deepWhere = select(customer.allColumns())
+                .from(customer)
+                .where(deepGroup(WHERE_DEPTH))
+                .build();
+
+        var unionBuilder = select(customer.id, customer.lastName)
+                .from(customer)
+                .where(customer.rating, isEqualTo(0));
+        for (int i = 1; i < UNION_BRANCHES; i++) {
+            unionBuilder = unionBuilder.union()
+                    .select(customer.id, customer.lastName)
+                    .from(customer)
+                    .where(customer.rating, isEqualTo(i));
+        }
+        union = unionBuilder.build();
+
+        List<Integer> ids = IntStream.range(0, IN_LIST_SIZE).boxed().toList();
+        inList = select(customer.id, customer.lastName)
+                .from(customer)
+                .where(customer.id, isIn(ids))
+                .build();
+    }
+
+    private static SelectModel buildSimpleSelect() {
+        return select(customer.id, customer.firstName, customer.lastName)
+                .from(customer)
+                .where(customer.id, isEqualTo(22))
+                .and(customer.lastName, isLike("Fl%"))
+                .limit(10)
+                .build();
+    }
+
+    static CriteriaGroup deepGroup(int depth) {
+        if (depth == 0) {
+            return group(customer.rating, isLessThan(depth), and(customer.active, isEqualTo(true)));
+        }
+
+        return group(customer.rating, isGreaterThan(depth),
+                and(customer.city, isEqualTo("City" + depth)),
+                or(deepGroup(depth - 1)));
+    }
+
+    @Benchmark
+    public SelectStatementProvider simpleSelect(BenchmarkState state) {
+        return simpleSelect.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider buildAndRenderSimpleSelect(BenchmarkState state) {
+        return buildSimpleSelect().render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider fiveWayJoin(BenchmarkState state) {
+        return fiveWayJoin.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider deepWhere(BenchmarkState state) {
+        return deepWhere.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider union(BenchmarkState state) {
+        return union.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider inList(BenchmarkState state) {
+        return inList.render(state.renderingStrategy);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualTo;
+import static org.mybatis.dynamic.sql.SqlBuilder.update;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.customer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpdateRendererBenchmark {
+    private UpdateModel updateByPrimaryKey;
+    private UpdateModel updateWithDeepWhere;
+
+    @Setup
+    public void setup() {
+        updateByPrimaryKey = update(customer)
+                .set(customer.firstName).equalTo("Fred")
+                .set(customer.lastName).equalTo("Flintstone")
+                .set(customer.city).equalTo("Bedrock")
+                .set(customer.state).equalToWhenPresent((String) null)
+                .set(customer.rating).equalTo(5)
+                .where(customer.id, isEqualTo(22))
+                .build();
+
+        updateWithDeepWhere = update(customer)
+                .set(customer.active).equalTo(false)
+                .where(SelectRendererBenchmark.deepGroup(SelectRendererBenchmark.WHERE_DEPTH))
+                .build();
+    }
+
+    @Benchmark
+    public UpdateStatementProvider updateByPrimaryKey(BenchmarkState state) {
+        return updateByPrimaryKey.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public UpdateStatementProvider updateWithDeepWhere(BenchmarkState state) {
+        return updateWithDeepWhere.render(state.renderingStrategy);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.sql.JDBCType;
+import java.util.Collection;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderedParameterInfo;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.Messages;
+
+/**
+ * Base class for conditions that bind a list of values as a single array parameter - for example
+ * <code>id in (select * from unnest(cast(? as INTEGER array)))</code>. The statement has exactly one placeholder no
+ * matter how many values are in the list, so the same statement (and the same database plan) is used for lists of any
+ * size.
+ *
+ * <p>The values are converted with the parameter type converter of the column, then bound as a Java array whose
+ * component type is the common type of the converted values. The placeholder is cast to an array of the column's JDBC
+ * type (or, if the column has no JDBC type, a type derived from the component type of the array) because databases
+ * cannot infer the type of an array parameter. Rendering fails if the column has no JDBC type and the component type
+ * has no corresponding SQL type. The rendering strategy decides how the array is bound - see
+ * {@link org.mybatis.dynamic.sql.render.RenderingStrategy#getArrayParameterValue(BindableColumn, String, Object[])}.
+ *
+ * <p>The in list strategy does not apply to these conditions.
+ *
+ * @param <T> the Java type related to the database column type
+ * @since 2.1.0
+ */
+public abstract class AbstractArrayValueCondition<T> extends AbstractListValueCondition<T> {
+
+    protected AbstractArrayValueCondition(Collection<T> values) {
+        super(values);
+    }
+
+    /**
+     * Convert the values of this condition to the array that will be bound to the statement.
+     *
+     * @param leftColumn the column related to the values. The column's parameter type converter is applied
+     *                   to each value
+     * @return an array of converted values
+     */
+    public Object[] arrayValue(BindableColumn<T> leftColumn) {
+        List<@Nullable Object> convertedValues = values().map(leftColumn::convertParameterType).toList();
+
+        Object[] array = (Object[]) Array.newInstance(componentType(convertedValues), convertedValues.size());
+        return convertedValues.toArray(array);
+    }
+
+    /**
+     * Calculate the SQL type name of the elements of an array parameter. This name is used in the cast of the
+     * placeholder, and when a <code>java.sql.Array</code> is created for the parameter.
+     *
+     * @param jdbcType the JDBC type of the column related to the array, if known
+     * @param componentType the component type of the Java array. Used when the JDBC type is not known
+     * @return the SQL type name of the elements of the array
+     * @throws InvalidSqlException if the JDBC type is not known and the component type does not map to a SQL type -
+     *     for example, when the values have different Java types
+     */
+    public static String elementTypeName(@Nullable JDBCType jdbcType, Class<?> componentType) {
+        if (jdbcType != null) {
+            return jdbcType.getName();
+        } else if (componentType == Integer.class) {
+            return "INTEGER"; //$NON-NLS-1$
+        } else if (componentType == Long.class) {
+            return "BIGINT"; //$NON-NLS-1$
+        } else if (componentType == Short.class) {
+            return "SMALLINT"; //$NON-NLS-1$
+        } else if (componentType == BigDecimal.class) {
+            return "NUMERIC"; //$NON-NLS-1$
+        } else if (componentType == Double.class) {
+            return "DOUBLE"; //$NON-NLS-1$
+        } else if (componentType == Boolean.class) {
+            return "BOOLEAN"; //$NON-NLS-1$
+        } else if (componentType == String.class) {
+            return "VARCHAR"; //$NON-NLS-1$
+        } else {
+            throw new InvalidSqlException(Messages.getString("ERROR.86", componentType.getName())); //$NON-NLS-1$
+        }
+    }
+
+    private Class<?> componentType(List<@Nullable Object> values) {
+        Class<?> componentType = null;
+        for (Object value : values) {
+            if (value == null) {
+                continue;
+            }
+
+            if (componentType == null) {
+                componentType = value.getClass();
+            } else if (!componentType.equals(value.getClass())) {
+                return Object.class;
+            }
+        }
+        return componentType == null ? Object.class : componentType;
+    }
+
+    @Override
+    public FragmentAndParameters renderCondition(RenderingContext renderingContext, BindableColumn<T> leftColumn) {
+        Object[] array = arrayValue(leftColumn);
+        String elementTypeName = elementTypeName(leftColumn.jdbcType().orElse(null),
+                array.getClass().getComponentType());
+        RenderedParameterInfo parameterInfo = renderingContext.calculateArrayParameterInfo(leftColumn);
+        return FragmentAndParameters
+                .withFragment(operator() + " (select * from unnest(cast(" //$NON-NLS-1$
+                        + parameterInfo.renderedPlaceHolder() + " as " + elementTypeName //$NON-NLS-1$
+                        + " array)))") //$NON-NLS-1$
+                .withParameter(parameterInfo.parameterMapKey(),
+                        renderingContext.arrayParameterValue(leftColumn, elementTypeName, array))
+                .build();
+    }
+}
@@ -28,6 +28,10 @@ public abstract class AbstractColumnComparisonCondition<T> implements Renderable
         this.rightColumn = rightColumn;
     }
 
+    public BasicColumn rightColumn() {
+        return rightColumn;
+    }
+
     public abstract String operator();
 
     @Override
@@ -15,14 +15,20 @@
  */
 package org.mybatis.dynamic.sql;
 
+import static org.mybatis.dynamic.sql.util.StringUtilities.spaceAfter;
+import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
+
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.mybatis.dynamic.sql.configuration.InListStrategy;
 import org.mybatis.dynamic.sql.render.RenderedParameterInfo;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
@@ -75,9 +81,71 @@ public abstract class AbstractListValueCondition<T> implements RenderableConditi
 
     public abstract String operator();
 
+    /**
+     * The connector used to combine several lists when the {@link InListStrategy} splits a long list of values - "or"
+     * for "in" conditions, "and" for "not in" conditions. The in list strategy is only applied to conditions that
+     * return a connector.
+     *
+     * @return the connector, or empty (the default) if the in list strategy does not apply to this condition
+     * @since 2.1.0
+     */
+    protected Optional<String> inListConnector() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the values of this condition as they will be rendered - split and padded by the {@link InListStrategy}
+     * if the strategy applies to this condition.
+     *
+     * @param inListStrategy the in list strategy for the statement
+     * @return the lists of values to render
+     * @since 2.1.0
+     */
+    public List<List<T>> valueLists(InListStrategy inListStrategy) {
+        List<T> valueList = values().toList();
+        return inListConnector().isPresent() ? inListStrategy.apply(valueList) : List.of(valueList);
+    }
+
     @Override
     public FragmentAndParameters renderCondition(RenderingContext renderingContext, BindableColumn<T> leftColumn) {
-        return values().map(v -> toFragmentAndParameters(v, renderingContext, leftColumn))
+        if (renderingContext.inListStrategy().equals(InListStrategy.defaultStrategy())) {
+            return renderValues(values(), renderingContext, leftColumn);
+        }
+
+        // the column is not rendered here, so lists that would be split are rendered as a single list
+        return renderValues(valueLists(renderingContext.inListStrategy()).stream().flatMap(List::stream),
+                renderingContext, leftColumn);
+    }
+
+    @Override
+    public Optional<FragmentAndParameters> renderColumnAndCondition(RenderingContext renderingContext,
+                                                                   BindableColumn<T> leftColumn) {
+        InListStrategy inListStrategy = renderingContext.inListStrategy();
+        return inListConnector()
+                .filter(c -> inListStrategy.isSplit(values.size()))
+                .map(c -> renderSplitValues(valueLists(inListStrategy), c, renderingContext, leftColumn));
+    }
+
+    private FragmentAndParameters renderSplitValues(List<List<T>> valueLists, String connector,
+                                                    RenderingContext renderingContext, BindableColumn<T> leftColumn) {
+        return valueLists.stream()
+                .map(vl -> renderColumnAndValues(vl, renderingContext, leftColumn))
+                .collect(FragmentCollector.collect())
+                .toFragmentAndParameters(Collectors.joining(spaceBefore(spaceAfter(connector)),
+                        "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private FragmentAndParameters renderColumnAndValues(List<T> values, RenderingContext renderingContext,
+                                                        BindableColumn<T> leftColumn) {
+        FragmentCollector fc = new FragmentCollector();
+        fc.add(renderLeftColumn(renderingContext, leftColumn));
+        fc.add(renderValues(values.stream(), renderingContext, leftColumn));
+        return fc.toFragmentAndParameters(Collectors.joining(" ")); //$NON-NLS-1$
+    }
+
+    private FragmentAndParameters renderValues(Stream<T> values, RenderingContext renderingContext,
+                                               BindableColumn<T> leftColumn) {
+        return values.map(v -> toFragmentAndParameters(v, renderingContext, leftColumn))
                 .collect(FragmentCollector.collect())
                 .toFragmentAndParameters(Collectors.joining(",", //$NON-NLS-1$
                         operator() + " (", ")")); //$NON-NLS-1$ //$NON-NLS-2$
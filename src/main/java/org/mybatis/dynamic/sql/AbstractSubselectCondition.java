@@ -30,6 +30,16 @@ public abstract class AbstractSubselectCondition<T> implements RenderableConditi
 
     public abstract String operator();
 
+    /**
+     * The select model of the sub query.
+     *
+     * @return the select model
+     * @since 2.1.0
+     */
+    public SelectModel selectModel() {
+        return selectModel;
+    }
+
     @Override
     public FragmentAndParameters renderCondition(RenderingContext renderingContext, BindableColumn<T> leftColumn) {
         return SubQueryRenderer.withSelectModel(selectModel)
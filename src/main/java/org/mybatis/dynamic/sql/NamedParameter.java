@@ -0,0 +1,174 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import java.sql.JDBCType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderedParameterInfo;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.Messages;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * A named parameter is a placeholder for a value that is supplied when the statement is rendered, rather than when
+ * the statement is built. Named parameters can be used anywhere a column or expression can be used - for example,
+ * in the column comparison conditions, in functions, or in set phrases.
+ *
+ * <p>Because the model does not capture parameter values, a model with named parameters can be built once, kept in a
+ * static field, and rendered concurrently with different values:
+ * <code>
+ *     private static final SelectModel selectByMinimumId = select(id, firstName)
+ *             .from(person)
+ *             .where(id, isGreaterThan(param("minimumId")))
+ *             .build();
+ *
+ *     SelectStatementProvider selectStatement = selectByMinimumId.render(RenderingStrategies.MYBATIS3,
+ *             Map.of("minimumId", 3));
+ * </code>
+ *
+ * <p>The parameter map key of a named parameter is the name itself, and the same name can be used several times in a
+ * statement. A type column can be supplied to specify the JDBC type, type handler, and parameter type converter used
+ * for the parameter.
+ *
+ * <p>Statements that contain named parameters must be rendered with values for every named parameter - either with
+ * the render methods that accept a map of values, or by rendering a template and binding named values. Rendering
+ * such a statement without values fails with an {@link InvalidSqlException}.
+ *
+ * @param <T> the Java type of the parameter
+ * @since 2.1.0
+ */
+public class NamedParameter<T> implements BindableColumn<T> {
+    private static final Pattern VALID_NAME = Pattern.compile("[A-Za-z_]\\w*"); //$NON-NLS-1$
+    private static final Pattern GENERATED_NAME = Pattern.compile("(u\\d+_)*p\\d+|u\\d+_.*"); //$NON-NLS-1$
+
+    private final String name;
+    private final @Nullable BindableColumn<T> typeColumn;
+
+    private NamedParameter(String name, @Nullable BindableColumn<T> typeColumn) {
+        Validator.assertTrue(VALID_NAME.matcher(name).matches() && !GENERATED_NAME.matcher(name).matches(),
+                "ERROR.63", name); //$NON-NLS-1$
+        this.name = name;
+        this.typeColumn = typeColumn;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public FragmentAndParameters render(RenderingContext renderingContext) {
+        RenderedParameterInfo rpi = renderingContext.calculateNamedParameterInfo(name, this);
+        // the parameter itself is a marker in the parameter map that is replaced when values are bound
+        return FragmentAndParameters.withFragment(rpi.renderedPlaceHolder())
+                .withParameter(rpi.parameterMapKey(), this)
+                .build();
+    }
+
+    @Override
+    public @Nullable Object convertParameterType(T value) {
+        return typeColumn == null ? value : typeColumn.convertParameterType(value);
+    }
+
+    @Override
+    public Optional<Class<T>> javaType() {
+        return typeColumn == null ? Optional.empty() : typeColumn.javaType();
+    }
+
+    @Override
+    public Optional<JDBCType> jdbcType() {
+        return typeColumn == null ? Optional.empty() : typeColumn.jdbcType();
+    }
+
+    @Override
+    public Optional<String> typeHandler() {
+        return typeColumn == null ? Optional.empty() : typeColumn.typeHandler();
+    }
+
+    @Override
+    public Optional<RenderingStrategy> renderingStrategy() {
+        return typeColumn == null ? Optional.empty() : typeColumn.renderingStrategy();
+    }
+
+    @Override
+    public Optional<String> alias() {
+        return Optional.empty();
+    }
+
+    @Override
+    public NamedParameter<T> as(String alias) {
+        throw new InvalidSqlException(Messages.getString("ERROR.38")); //$NON-NLS-1$
+    }
+
+    /**
+     * Replace the named parameters in a rendered parameter map with values.
+     *
+     * @param parameters the parameters of a rendered statement
+     * @param values the values of the named parameters, keyed by name
+     * @return a new parameter map with a value for every named parameter
+     * @throws InvalidSqlException if a value is missing for a named parameter in the statement, or if a value is
+     *     supplied for a name that is not a named parameter in the statement
+     */
+    public static Map<String, Object> bindValues(Map<String, Object> parameters, Map<String, ?> values) {
+        for (String name : values.keySet()) {
+            Validator.assertTrue(parameters.get(name) instanceof NamedParameter, "ERROR.65", name); //$NON-NLS-1$
+        }
+
+        Map<String, Object> boundParameters = new HashMap<>(parameters);
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            if (entry.getValue() instanceof NamedParameter<?> namedParameter) {
+                Validator.assertTrue(values.containsKey(entry.getKey()), "ERROR.64", entry.getKey()); //$NON-NLS-1$
+                //noinspection DataFlowIssue
+                boundParameters.put(entry.getKey(), namedParameter.convertValue(values.get(entry.getKey())));
+            }
+        }
+        return boundParameters;
+    }
+
+    /**
+     * Verify that a rendered parameter map does not contain any unbound named parameters. Statements rendered
+     * without values for their named parameters cannot be executed.
+     *
+     * @param parameters the parameters of a rendered statement
+     * @throws InvalidSqlException if the parameter map contains a named parameter that has no value
+     */
+    public static void assertBound(Map<String, Object> parameters) {
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            Validator.assertFalse(entry.getValue() instanceof NamedParameter, "ERROR.64", entry.getKey()); //$NON-NLS-1$
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable Object convertValue(@Nullable Object value) {
+        return value == null ? null : convertParameterType((T) value);
+    }
+
+    public static <T> NamedParameter<T> of(String name) {
+        return new NamedParameter<>(Objects.requireNonNull(name), null);
+    }
+
+    public static <T> NamedParameter<T> of(String name, BindableColumn<T> typeColumn) {
+        return new NamedParameter<>(Objects.requireNonNull(name), Objects.requireNonNull(typeColumn));
+    }
+}
@@ -15,6 +15,8 @@
  */
 package org.mybatis.dynamic.sql;
 
+import java.util.Optional;
+
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
@@ -53,6 +55,25 @@ public interface RenderableCondition<T> {
                 .orElseGet(() -> leftColumn.render(renderingContext));
     }
 
+    /**
+     * Render the complete column and condition phrase - typically in a WHERE clause.
+     *
+     * <p>Most conditions do not need to override this method. By default, the phrase is rendered as the result of
+     * {@link RenderableCondition#renderLeftColumn(RenderingContext, BindableColumn)}, followed by the result of
+     * {@link RenderableCondition#renderCondition(RenderingContext, BindableColumn)}. Conditions can override this
+     * method if they need to render the column more than once - for example, an "in" condition that is split
+     * into several lists.
+     *
+     * @param renderingContext the current rendering context
+     * @param leftColumn the column related to this condition in a where clause
+     * @return the rendered phrase, or empty if the phrase should be rendered in the default way
+     * @since 2.1.0
+     */
+    default Optional<FragmentAndParameters> renderColumnAndCondition(RenderingContext renderingContext,
+                                                                     BindableColumn<T> leftColumn) {
+        return Optional.empty();
+    }
+
     /**
      * Subclasses can override this to inform the renderer if the condition should not be included
      * in the rendered SQL.  Typically, conditions will not render if they are empty.
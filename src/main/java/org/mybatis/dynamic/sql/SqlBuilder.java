@@ -17,20 +17,27 @@ package org.mybatis.dynamic.sql;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.delete.BatchDeleteDSL;
 import org.mybatis.dynamic.sql.delete.DeleteDSL;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
 import org.mybatis.dynamic.sql.dsl.HavingDSL;
 import org.mybatis.dynamic.sql.dsl.WhereDSL;
 import org.mybatis.dynamic.sql.insert.BatchInsertDSL;
+import org.mybatis.dynamic.sql.insert.BatchUpsertDSL;
 import org.mybatis.dynamic.sql.insert.GeneralInsertDSL;
 import org.mybatis.dynamic.sql.insert.InsertDSL;
 import org.mybatis.dynamic.sql.insert.InsertSelectDSL;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertDSL;
+import org.mybatis.dynamic.sql.insert.MultiRowUpsertDSL;
+import org.mybatis.dynamic.sql.insert.StreamingBatchInsertDSL;
+import org.mybatis.dynamic.sql.insert.UpsertDSL;
 import org.mybatis.dynamic.sql.select.ColumnSortSpecification;
 import org.mybatis.dynamic.sql.select.CountDSL;
 import org.mybatis.dynamic.sql.select.MultiSelectDSL;
@@ -58,6 +65,8 @@ import org.mybatis.dynamic.sql.select.function.OperatorFunction;
 import org.mybatis.dynamic.sql.select.function.Substring;
 import org.mybatis.dynamic.sql.select.function.Subtract;
 import org.mybatis.dynamic.sql.select.function.Upper;
+import org.mybatis.dynamic.sql.update.BatchUpdateDSL;
+import org.mybatis.dynamic.sql.update.MultiRowUpdateDSL;
 import org.mybatis.dynamic.sql.update.UpdateDSL;
 import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.util.Buildable;
@@ -76,6 +85,7 @@ import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualToWithSubsele
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanWhenPresent;
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsIn;
+import org.mybatis.dynamic.sql.where.condition.IsInArray;
 import org.mybatis.dynamic.sql.where.condition.IsInCaseInsensitive;
 import org.mybatis.dynamic.sql.where.condition.IsInCaseInsensitiveWhenPresent;
 import org.mybatis.dynamic.sql.where.condition.IsInWhenPresent;
@@ -99,6 +109,7 @@ import org.mybatis.dynamic.sql.where.condition.IsNotEqualToColumn;
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualToWhenPresent;
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualToWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsNotIn;
+import org.mybatis.dynamic.sql.where.condition.IsNotInArray;
 import org.mybatis.dynamic.sql.where.condition.IsNotInCaseInsensitive;
 import org.mybatis.dynamic.sql.where.condition.IsNotInCaseInsensitiveWhenPresent;
 import org.mybatis.dynamic.sql.where.condition.IsNotInWhenPresent;
@@ -162,6 +173,39 @@ public interface SqlBuilder {
         return DeleteDSL.deleteFrom(table, tableAlias);
     }
 
+    /**
+     * Delete a Batch of records. Where conditions are bound to properties of each record, and the model object is
+     * structured to support bulk deletes with JDBC batch support.
+     *
+     * @param records
+     *            records to delete
+     * @param <T>
+     *            the type of record to delete
+     *
+     * @return the next step in the DSL
+     * @since 2.1.0
+     */
+    @SafeVarargs
+    static <T> BatchDeleteDSL.FromGatherer<T> deleteBatch(T... records) {
+        return BatchDeleteDSL.delete(records);
+    }
+
+    /**
+     * Delete a Batch of records. Where conditions are bound to properties of each record, and the model object is
+     * structured to support bulk deletes with JDBC batch support.
+     *
+     * @param records
+     *            records to delete
+     * @param <T>
+     *            the type of record to delete
+     *
+     * @return the next step in the DSL
+     * @since 2.1.0
+     */
+    static <T> BatchDeleteDSL.FromGatherer<T> deleteBatch(Collection<T> records) {
+        return BatchDeleteDSL.delete(records);
+    }
+
     static <T> InsertDSL.IntoGatherer<T> insert(T row) {
         return InsertDSL.insert(row);
     }
@@ -195,6 +239,40 @@ public interface SqlBuilder {
         return BatchInsertDSL.insert(records);
     }
 
+    /**
+     * Insert a Batch of records supplied by a stream. The records are not collected into a list - they are read from
+     * the stream as the batch is executed, so this is suitable for very large bulk inserts. The rendered batch
+     * can only be executed once. The stream is closed when the batch has been executed.
+     *
+     * @param records
+     *            records to insert
+     * @param <T>
+     *            the type of record to insert
+     *
+     * @return the next step in the DSL
+     * @since 2.1.0
+     */
+    static <T> StreamingBatchInsertDSL.IntoGatherer<T> insertBatch(Stream<T> records) {
+        return StreamingBatchInsertDSL.insert(records);
+    }
+
+    /**
+     * Insert a Batch of records supplied by an iterator. The records are not collected into a list - they are read
+     * from the iterator as the batch is executed, so this is suitable for very large bulk inserts. The rendered batch
+     * can only be executed once.
+     *
+     * @param records
+     *            records to insert
+     * @param <T>
+     *            the type of record to insert
+     *
+     * @return the next step in the DSL
+     * @since 2.1.0
+     */
+    static <T> StreamingBatchInsertDSL.IntoGatherer<T> insertBatch(Iterator<T> records) {
+        return StreamingBatchInsertDSL.insert(records);
+    }
+
     /**
      * Insert multiple records in a single statement. The model object is structured as a single insert statement with
      * multiple values clauses. This statement is suitable for use with a small number of records. It is not suitable
@@ -230,6 +308,84 @@ public interface SqlBuilder {
         return MultiRowInsertDSL.insert(records);
     }
 
+    /**
+     * Insert a record, or update the existing row if a row with the same key already exists. The statement is
+     * rendered as a MERGE statement unless a different dialect is specified.
+     *
+     * @param row
+     *            the record to upsert
+     * @param <T>
+     *            the type of record to upsert
+     *
+     * @return the next step in the DSL
+     * @since 2.1.0
+     */
+    static <T> UpsertDSL.IntoGatherer<T> upsert(T row) {
+        return UpsertDSL.upsert(row);
+    }
+
+    /**
+     * Upsert multiple records in a single statement.
+     *
+     * @param records
+     *            records to upsert
+     * @param <T>
+     *            the type of record to upsert
+     *
+     * @return the next step in the DSL
+     * @since 2.1.0
+     */
+    @SafeVarargs
+    static <T> MultiRowUpsertDSL.IntoGatherer<T> upsertMultiple(T... records) {
+        return MultiRowUpsertDSL.upsert(records);
+    }
+
+    /**
+     * Upsert multiple records in a single statement.
+     *
+     * @param records
+     *            records to upsert
+     * @param <T>
+     *            the type of record to upsert
+     *
+     * @return the next step in the DSL
+     * @since 2.1.0
+     */
+    static <T> MultiRowUpsertDSL.IntoGatherer<T> upsertMultiple(Collection<T> records) {
+        return MultiRowUpsertDSL.upsert(records);
+    }
+
+    /**
+     * Upsert a Batch of records. The model object is structured to support bulk upserts with JDBC batch support.
+     *
+     * @param records
+     *            records to upsert
+     * @param <T>
+     *            the type of record to upsert
+     *
+     * @return the next step in the DSL
+     * @since 2.1.0
+     */
+    @SafeVarargs
+    static <T> BatchUpsertDSL.IntoGatherer<T> upsertBatch(T... records) {
+        return BatchUpsertDSL.upsert(records);
+    }
+
+    /**
+     * Upsert a Batch of records. The model object is structured to support bulk upserts with JDBC batch support.
+     *
+     * @param records
+     *            records to upsert
+     * @param <T>
+     *            the type of record to upsert
+     *
+     * @return the next step in the DSL
+     * @since 2.1.0
+     */
+    static <T> BatchUpsertDSL.IntoGatherer<T> upsertBatch(Collection<T> records) {
+        return BatchUpsertDSL.upsert(records);
+    }
+
     static InsertIntoNextStep insertInto(SqlTable table) {
         return new InsertIntoNextStep(table);
     }
@@ -262,6 +418,76 @@ public interface SqlBuilder {
         return UpdateDSL.update(table, tableAlias);
     }
 
+    /**
+     * Update a Batch of records. Set phrases and where conditions are bound to properties of each record, and the
+     * model object is structured to support bulk updates with JDBC batch support.
+     *
+     * @param records
+     *            records to update
+     * @param <T>
+     *            the type of record to update
+     *
+     * @return the next step in the DSL
+     * @since 2.1.0
+     */
+    @SafeVarargs
+    static <T> BatchUpdateDSL.TableGatherer<T> updateBatch(T... records) {
+        return BatchUpdateDSL.update(records);
+    }
+
+    /**
+     * Update a Batch of records. Set phrases and where conditions are bound to properties of each record, and the
+     * model object is structured to support bulk updates with JDBC batch support.
+     *
+     * @param records
+     *            records to update
+     * @param <T>
+     *            the type of record to update
+     *
+     * @return the next step in the DSL
+     * @since 2.1.0
+     */
+    static <T> BatchUpdateDSL.TableGatherer<T> updateBatch(Collection<T> records) {
+        return BatchUpdateDSL.update(records);
+    }
+
+    /**
+     * Update multiple records with a single statement. Set phrases mapped to properties are rendered as case
+     * expressions on the key column.
+     *
+     * <p>For large bulk updates, see {@link SqlBuilder#updateBatch(Collection)}
+     *
+     * @param records
+     *            records to update
+     * @param <T>
+     *            the type of record to update
+     *
+     * @return the next step in the DSL
+     * @since 2.1.0
+     */
+    @SafeVarargs
+    static <T> MultiRowUpdateDSL.TableGatherer<T> updateMultiple(T... records) {
+        return MultiRowUpdateDSL.update(records);
+    }
+
+    /**
+     * Update multiple records with a single statement. Set phrases mapped to properties are rendered as case
+     * expressions on the key column.
+     *
+     * <p>For large bulk updates, see {@link SqlBuilder#updateBatch(Collection)}
+     *
+     * @param records
+     *            records to update
+     * @param <T>
+     *            the type of record to update
+     *
+     * @return the next step in the DSL
+     * @since 2.1.0
+     */
+    static <T> MultiRowUpdateDSL.TableGatherer<T> updateMultiple(Collection<T> records) {
+        return MultiRowUpdateDSL.update(records);
+    }
+
     static WhereDSL where() {
         return new WhereDSL();
     }
@@ -554,6 +780,34 @@ public interface SqlBuilder {
         return BoundValue.of(value);
     }
 
+    /**
+     * A placeholder for a value that is supplied when the statement is rendered.
+     *
+     * @param name the name of the parameter
+     * @param <T> the type of the parameter
+     * @return a named parameter
+     * @see NamedParameter
+     * @since 2.1.0
+     */
+    static <T> NamedParameter<T> param(String name) {
+        return NamedParameter.of(name);
+    }
+
+    /**
+     * A placeholder for a value that is supplied when the statement is rendered. The JDBC type, type handler, and
+     * parameter type converter of the type column are used for the parameter.
+     *
+     * @param name the name of the parameter
+     * @param typeColumn a column that supplies type information for the parameter
+     * @param <T> the type of the parameter
+     * @return a named parameter
+     * @see NamedParameter
+     * @since 2.1.0
+     */
+    static <T> NamedParameter<T> param(String name, BindableColumn<T> typeColumn) {
+        return NamedParameter.of(name, typeColumn);
+    }
+
     // functions
     static <T> Add<T> add(BindableColumn<T> firstColumn, BasicColumn secondColumn,
             BasicColumn... subsequentColumns) {
@@ -817,6 +1071,15 @@ public interface SqlBuilder {
         return IsInWhenPresent.of(values);
     }
 
+    @SafeVarargs
+    static <T> IsInArray<T> isInArray(T... values) {
+        return IsInArray.of(values);
+    }
+
+    static <T> IsInArray<T> isInArray(Collection<T> values) {
+        return IsInArray.of(values);
+    }
+
     @SafeVarargs
     static <T> IsNotIn<T> isNotIn(T... values) {
         return IsNotIn.of(values);
@@ -839,6 +1102,15 @@ public interface SqlBuilder {
         return IsNotInWhenPresent.of(values);
     }
 
+    @SafeVarargs
+    static <T> IsNotInArray<T> isNotInArray(T... values) {
+        return IsNotInArray.of(values);
+    }
+
+    static <T> IsNotInArray<T> isNotInArray(Collection<T> values) {
+        return IsNotInArray.of(values);
+    }
+
     static <T> IsBetween.Builder<T> isBetween(T value1) {
         return IsBetween.isBetween(value1);
     }
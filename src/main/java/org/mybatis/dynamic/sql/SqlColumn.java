@@ -156,6 +156,27 @@ public class SqlColumn<T> implements BindableColumn<T>, SortSpecification {
         return Optional.ofNullable(javaProperty);
     }
 
+    /**
+     * The table qualifier set with {@link #qualifiedWith(String)}, if any.
+     *
+     * @return the table qualifier
+     * @since 2.1.0
+     */
+    public Optional<String> tableQualifier() {
+        return Optional.ofNullable(tableQualifier);
+    }
+
+    /**
+     * The phrase appended to the column name when rendered in an ORDER BY clause. This will be " DESC" if the
+     * column was created with {@link #descending()}, or an empty string otherwise.
+     *
+     * @return the descending phrase
+     * @since 2.1.0
+     */
+    public String descendingPhrase() {
+        return descendingPhrase;
+    }
+
     @Override
     public @Nullable Object convertParameterType(@Nullable T value) {
         return value == null ? null : parameterTypeConverter.convert(value);
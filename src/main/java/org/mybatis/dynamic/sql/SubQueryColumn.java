@@ -32,6 +32,16 @@ public class SubQueryColumn implements BasicColumn {
         this.selectModel = Objects.requireNonNull(selectModel);
     }
 
+    /**
+     * The select model of the sub query.
+     *
+     * @return the select model
+     * @since 2.1.0
+     */
+    public SelectModel selectModel() {
+        return selectModel;
+    }
+
     @Override
     public Optional<String> alias() {
         return Optional.ofNullable(alias);
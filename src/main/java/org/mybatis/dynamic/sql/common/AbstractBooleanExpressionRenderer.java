@@ -15,61 +15,28 @@
  */
 package org.mybatis.dynamic.sql.common;
 
-import static org.mybatis.dynamic.sql.util.StringUtilities.spaceAfter;
-
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
-import org.mybatis.dynamic.sql.where.render.CriterionRenderer;
-import org.mybatis.dynamic.sql.where.render.RenderedCriterion;
+import org.mybatis.dynamic.sql.where.render.StreamingCriterionRenderer;
 
 public abstract class AbstractBooleanExpressionRenderer {
     protected final AbstractBooleanExpressionModel model;
     private final String prefix;
-    private final CriterionRenderer criterionRenderer;
     protected final RenderingContext renderingContext;
 
     protected AbstractBooleanExpressionRenderer(String prefix, AbstractBuilder<?> builder) {
         model = Objects.requireNonNull(builder.model);
         this.prefix = Objects.requireNonNull(prefix);
         renderingContext = Objects.requireNonNull(builder.renderingContext);
-        criterionRenderer = new CriterionRenderer(renderingContext);
     }
 
     public Optional<FragmentAndParameters> render() {
-        return criterionRenderer.render(model.initialCriterion(), model.subCriteria(), this::calculateClause)
-                .map(RenderedCriterion::fragmentAndParameters);
-    }
-
-    private String calculateClause(FragmentCollector collector) {
-        if (collector.hasMultipleFragments()) {
-            return collector.collectFragments(
-                    Collectors.joining(" ", spaceAfter(prefix), "")); //$NON-NLS-1$ //$NON-NLS-2$
-        } else {
-            return collector.firstFragment()
-                    .map(this::stripEnclosingParenthesesIfPresent)
-                    .map(this::addPrefix)
-                    .orElse(""); //$NON-NLS-1$
-        }
-    }
-
-    private String stripEnclosingParenthesesIfPresent(String fragment) {
-        // The fragment will have surrounding open/close parentheses if there is more than one rendered condition.
-        // Since there is only a single fragment, we don't need these in the final rendered clause
-        if (fragment.startsWith("(") && fragment.endsWith(")")) { //$NON-NLS-1$ //$NON-NLS-2$
-            return fragment.substring(1, fragment.length() - 1);
-        } else {
-            return fragment;
-        }
-    }
-
-    private String addPrefix(String fragment) {
-        return spaceAfter(prefix) + fragment;
+        return new StreamingCriterionRenderer(renderingContext)
+                .render(model.initialCriterion(), model.subCriteria(), prefix);
     }
 
     public abstract static class AbstractBuilder<B extends AbstractBuilder<B>> {
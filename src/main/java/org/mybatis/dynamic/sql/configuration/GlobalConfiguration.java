@@ -18,15 +18,22 @@ package org.mybatis.dynamic.sql.configuration;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
 
+import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.exception.DynamicSqlException;
+import org.mybatis.dynamic.sql.render.RenderListener;
 import org.mybatis.dynamic.sql.util.Messages;
 
 public class GlobalConfiguration {
     public static final String CONFIGURATION_FILE_PROPERTY = "mybatis-dynamic-sql.configurationFile"; //$NON-NLS-1$
     private static final String DEFAULT_PROPERTY_FILE = "mybatis-dynamic-sql.properties"; //$NON-NLS-1$
     private boolean isNonRenderingWhereClauseAllowed = false;
+    private int renderedStatementCacheSize = 0;
+    private InListStrategy inListStrategy = InListStrategy.defaultStrategy();
+    private @Nullable RenderListener renderListener;
+    private int parallelRenderingThreshold = 0;
     private final Properties properties = new Properties();
 
     public GlobalConfiguration() {
@@ -62,9 +69,59 @@ public class GlobalConfiguration {
     private void initializeKnownProperties() {
         String value = properties.getProperty("nonRenderingWhereClauseAllowed", "false"); //$NON-NLS-1$ //$NON-NLS-2$
         isNonRenderingWhereClauseAllowed = Boolean.parseBoolean(value);
+
+        value = properties.getProperty("renderedStatementCacheSize", "0"); //$NON-NLS-1$ //$NON-NLS-2$
+        renderedStatementCacheSize = parseInteger(value, "renderedStatementCacheSize"); //$NON-NLS-1$
+
+        value = properties.getProperty("inListPaddingEnabled", "false"); //$NON-NLS-1$ //$NON-NLS-2$
+        boolean isInListPaddingEnabled = Boolean.parseBoolean(value);
+        value = properties.getProperty("maximumInListSize", "0"); //$NON-NLS-1$ //$NON-NLS-2$
+        inListStrategy = InListStrategy.of(isInListPaddingEnabled,
+                parseInteger(value, "maximumInListSize")); //$NON-NLS-1$
+
+        value = properties.getProperty("parallelRenderingThreshold", "0"); //$NON-NLS-1$ //$NON-NLS-2$
+        parallelRenderingThreshold = parseInteger(value, "parallelRenderingThreshold"); //$NON-NLS-1$
+
+        value = properties.getProperty("renderListener"); //$NON-NLS-1$
+        if (value != null && !value.isBlank()) {
+            renderListener = createRenderListener(value.trim());
+        }
+    }
+
+    private RenderListener createRenderListener(String className) {
+        try {
+            Class<?> listenerClass = Class.forName(className, true, getClass().getClassLoader());
+            return (RenderListener) listenerClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new DynamicSqlException(Messages.getString("ERROR.62", className), e); //$NON-NLS-1$
+        }
+    }
+
+    private int parseInteger(String value, String propertyName) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new DynamicSqlException(Messages.getString("ERROR.53", propertyName, value), e); //$NON-NLS-1$
+        }
     }
 
     public boolean isIsNonRenderingWhereClauseAllowed() {
         return isNonRenderingWhereClauseAllowed;
     }
+
+    public int getRenderedStatementCacheSize() {
+        return renderedStatementCacheSize;
+    }
+
+    public InListStrategy getInListStrategy() {
+        return inListStrategy;
+    }
+
+    public int getParallelRenderingThreshold() {
+        return parallelRenderingThreshold;
+    }
+
+    public Optional<RenderListener> getRenderListener() {
+        return Optional.ofNullable(renderListener);
+    }
 }
@@ -15,15 +15,31 @@
  */
 package org.mybatis.dynamic.sql.configuration;
 
+import org.mybatis.dynamic.sql.render.RenderedStatementCache;
+
 public class GlobalContext {
 
     private static final GlobalContext instance = new GlobalContext();
 
     private final GlobalConfiguration globalConfiguration = new GlobalConfiguration();
 
+    private final RenderedStatementCache renderedStatementCache =
+            new RenderedStatementCache(globalConfiguration.getRenderedStatementCacheSize());
+
     private GlobalContext() {}
 
     public static GlobalConfiguration getConfiguration() {
         return instance.globalConfiguration;
     }
+
+    /**
+     * Returns the shared cache of rendered statements. The size of the cache is set with the
+     * "renderedStatementCacheSize" global configuration property. The cache is disabled by default.
+     *
+     * @return the rendered statement cache
+     * @since 2.1.0
+     */
+    public static RenderedStatementCache getRenderedStatementCache() {
+        return instance.renderedStatementCache;
+    }
 }
@@ -0,0 +1,172 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * Determines how the values of "in" and "not in" conditions are rendered. By default, the values are rendered as a
+ * single list with one placeholder per value. This strategy can change that in two ways:
+ *
+ * <ul>
+ *     <li>Padding: the list is padded to the next power of two by repeating the last value. This limits the number
+ *         of distinct statements generated for lists of varying size, which helps statement and plan caches.</li>
+ *     <li>Maximum list size: lists longer than the maximum are split into several lists of at most the maximum size.
+ *         For example, <code>(id in (...) or id in (...))</code>. This avoids driver and database limits on the
+ *         number of values in a list, or the number of parameters in a statement.</li>
+ * </ul>
+ *
+ * <p>Repeating a value does not change the result of an "in" or "not in" condition.
+ *
+ * @since 2.1.0
+ */
+public class InListStrategy {
+    private static final InListStrategy DEFAULT = new InListStrategy(false, 0);
+
+    private final boolean isPaddingEnabled;
+    private final int maximumListSize;
+
+    private InListStrategy(boolean isPaddingEnabled, int maximumListSize) {
+        this.isPaddingEnabled = isPaddingEnabled;
+        this.maximumListSize = maximumListSize;
+    }
+
+    public boolean isPaddingEnabled() {
+        return isPaddingEnabled;
+    }
+
+    /**
+     * The maximum number of values in a single list.
+     *
+     * @return the maximum list size, or zero if lists are never split
+     */
+    public int maximumListSize() {
+        return maximumListSize;
+    }
+
+    /**
+     * Whether a list of values must be split into several lists by this strategy.
+     *
+     * @param size the number of values in a list
+     * @return true if the list is longer than the maximum list size
+     */
+    public boolean isSplit(int size) {
+        return maximumListSize > 0 && size > maximumListSize;
+    }
+
+    /**
+     * Split and pad a list of values according to this strategy.
+     *
+     * @param values the values of a condition
+     * @param <T> the type of the values
+     * @return a list of value lists. Each list will be rendered as a separate "in" or "not in" phrase.
+     */
+    public <T> List<List<T>> apply(List<T> values) {
+        int size = values.size();
+        if (size == 0 || !isPaddingEnabled && (maximumListSize == 0 || size <= maximumListSize)) {
+            return List.of(values);
+        }
+
+        int chunkSize = isSplit(size) ? maximumListSize : size;
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < size; start += chunkSize) {
+            chunks.add(pad(values.subList(start, Math.min(start + chunkSize, size))));
+        }
+        return chunks;
+    }
+
+    /**
+     * Calculate the number of values rendered by this strategy for a list of values - including any padding.
+     *
+     * @param size the number of values in a list
+     * @return the total number of values in the lists rendered for the list
+     */
+    public int renderedSize(int size) {
+        if (!isSplit(size)) {
+            return paddedSize(size);
+        }
+
+        int fullLists = size / maximumListSize;
+        int remainder = size % maximumListSize;
+        return fullLists * maximumListSize + paddedSize(remainder);
+    }
+
+    private <T> List<T> pad(List<T> values) {
+        int paddedSize = paddedSize(values.size());
+        if (paddedSize == values.size()) {
+            return values;
+        }
+
+        List<T> padded = new ArrayList<>(paddedSize);
+        padded.addAll(values);
+        T lastValue = values.get(values.size() - 1);
+        while (padded.size() < paddedSize) {
+            padded.add(lastValue);
+        }
+        return padded;
+    }
+
+    private int paddedSize(int size) {
+        if (!isPaddingEnabled || size <= 1) {
+            return size;
+        }
+
+        int paddedSize = Integer.highestOneBit(size - 1) << 1;
+        return maximumListSize == 0 ? paddedSize : Math.min(paddedSize, maximumListSize);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof InListStrategy that)) {
+            return false;
+        }
+        return isPaddingEnabled == that.isPaddingEnabled && maximumListSize == that.maximumListSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isPaddingEnabled, maximumListSize);
+    }
+
+    /**
+     * The default strategy - values are rendered as a single list, without padding.
+     *
+     * @return the default strategy
+     */
+    public static InListStrategy defaultStrategy() {
+        return DEFAULT;
+    }
+
+    /**
+     * Create a strategy.
+     *
+     * @param isPaddingEnabled if true, lists are padded to the next power of two by repeating the last value
+     * @param maximumListSize the maximum number of values in a single list, or zero for no maximum
+     * @return the new strategy
+     */
+    public static InListStrategy of(boolean isPaddingEnabled, int maximumListSize) {
+        Validator.assertFalse(maximumListSize < 0, "ERROR.54"); //$NON-NLS-1$
+        return new InListStrategy(isPaddingEnabled, maximumListSize);
+    }
+}
@@ -15,7 +15,13 @@
  */
 package org.mybatis.dynamic.sql.configuration;
 
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.exception.NonRenderingWhereClauseException;
+import org.mybatis.dynamic.sql.render.RenderListener;
+import org.mybatis.dynamic.sql.render.RenderedStatementCache;
 
 /**
  * This class can be used to change some behaviors of the framework. Every configurable statement
@@ -32,6 +38,31 @@ import org.mybatis.dynamic.sql.exception.NonRenderingWhereClauseException;
  *         empty list of values. If no criteria are specified in a where clause, the framework
  *         assumes that no where clause was intended and will not throw an exception.
  *     </dd>
+ *     <dt>renderedStatementCache</dt>
+ *     <dd>The {@link RenderedStatementCache} used when rendering this statement. By default, this is the
+ *         shared cache from the {@link GlobalContext} if the "renderedStatementCacheSize" global property
+ *         is greater than zero, or no cache otherwise. Set to null to render this statement without a cache.
+ *     </dd>
+ *     <dt>inListStrategy</dt>
+ *     <dd>The {@link InListStrategy} used to render "in" and "not in" conditions. By default, lists are rendered
+ *         without padding or splitting unless the "inListPaddingEnabled" or "maximumInListSize" global properties
+ *         are set.
+ *     </dd>
+ *     <dt>renderListener</dt>
+ *     <dd>The {@link RenderListener} notified when this statement is rendered. By default, this is the listener
+ *         created from the "renderListener" global property, or no listener if that property is not set.
+ *     </dd>
+ *     <dt>parallelRenderingThreshold</dt>
+ *     <dd>The number of branches in a union at which the branches are rendered in parallel. By default, this is
+ *         the value of the "parallelRenderingThreshold" global property. Parallel rendering is disabled if the
+ *         value is zero (the default).
+ *     </dd>
+ *     <dt>statementHints</dt>
+ *     <dd>JDBC execution hints for select statements - fetch size, query timeout, maximum rows, and a forward only
+ *         result set. Hints are carried on the rendered statement and applied when it is executed by the Spring
+ *         support or by MyBatis with the {@code StatementHintsInterceptor}. By default, no hints are set.
+ *         See {@link StatementHints}.
+ *     </dd>
  * </dl>
  *
  * @see GlobalConfiguration
@@ -43,6 +74,12 @@ import org.mybatis.dynamic.sql.exception.NonRenderingWhereClauseException;
 public class StatementConfiguration {
     private boolean isNonRenderingWhereClauseAllowed =
             GlobalContext.getConfiguration().isIsNonRenderingWhereClauseAllowed();
+    private @Nullable RenderedStatementCache renderedStatementCache = defaultRenderedStatementCache();
+    private InListStrategy inListStrategy = GlobalContext.getConfiguration().getInListStrategy();
+    private @Nullable RenderListener renderListener = GlobalContext.getConfiguration().getRenderListener()
+            .orElse(null);
+    private int parallelRenderingThreshold = GlobalContext.getConfiguration().getParallelRenderingThreshold();
+    private StatementHints statementHints = StatementHints.empty();
 
     public boolean isNonRenderingWhereClauseAllowed() {
         return isNonRenderingWhereClauseAllowed;
@@ -52,4 +89,128 @@ public class StatementConfiguration {
         isNonRenderingWhereClauseAllowed = nonRenderingWhereClauseAllowed;
         return this;
     }
+
+    public Optional<RenderedStatementCache> renderedStatementCache() {
+        return Optional.ofNullable(renderedStatementCache);
+    }
+
+    /**
+     * Set the cache of rendered statements for this statement.
+     *
+     * @param renderedStatementCache the cache to use, or null to render this statement without a cache
+     * @return this configuration
+     * @since 2.1.0
+     */
+    public StatementConfiguration setRenderedStatementCache(@Nullable RenderedStatementCache renderedStatementCache) {
+        this.renderedStatementCache = renderedStatementCache;
+        return this;
+    }
+
+    public InListStrategy inListStrategy() {
+        return inListStrategy;
+    }
+
+    /**
+     * Set the strategy for rendering "in" and "not in" conditions in this statement.
+     *
+     * @param inListStrategy the strategy to use
+     * @return this configuration
+     * @since 2.1.0
+     */
+    public StatementConfiguration setInListStrategy(InListStrategy inListStrategy) {
+        this.inListStrategy = Objects.requireNonNull(inListStrategy);
+        return this;
+    }
+
+    public Optional<RenderListener> renderListener() {
+        return Optional.ofNullable(renderListener);
+    }
+
+    /**
+     * Set the listener notified when this statement is rendered.
+     *
+     * @param renderListener the listener to use, or null to render this statement without a listener
+     * @return this configuration
+     * @since 2.1.0
+     */
+    public StatementConfiguration setRenderListener(@Nullable RenderListener renderListener) {
+        this.renderListener = renderListener;
+        return this;
+    }
+
+    public int parallelRenderingThreshold() {
+        return parallelRenderingThreshold;
+    }
+
+    /**
+     * Set the number of branches in a union at which the branches are rendered in parallel. Parallel rendering
+     * only helps with very large unions - for most statements the cost of coordinating threads is greater than the
+     * cost of rendering.
+     *
+     * @param parallelRenderingThreshold the minimum number of branches to render in parallel, or zero to always
+     *     render sequentially
+     * @return this configuration
+     * @since 2.1.0
+     */
+    public StatementConfiguration setParallelRenderingThreshold(int parallelRenderingThreshold) {
+        this.parallelRenderingThreshold = parallelRenderingThreshold;
+        return this;
+    }
+
+    public StatementHints statementHints() {
+        return statementHints;
+    }
+
+    /**
+     * Set the number of rows the JDBC driver should fetch in each round trip when this statement is executed.
+     *
+     * @param fetchSize the fetch size, or null to use the driver default
+     * @return this configuration
+     * @since 2.1.0
+     */
+    public StatementConfiguration setFetchSize(@Nullable Integer fetchSize) {
+        statementHints = statementHints.withFetchSize(fetchSize);
+        return this;
+    }
+
+    /**
+     * Set the number of seconds the JDBC driver will wait for this statement to execute.
+     *
+     * @param queryTimeout the timeout in seconds, or null to use the framework default
+     * @return this configuration
+     * @since 2.1.0
+     */
+    public StatementConfiguration setQueryTimeout(@Nullable Integer queryTimeout) {
+        statementHints = statementHints.withQueryTimeout(queryTimeout);
+        return this;
+    }
+
+    /**
+     * Set the maximum number of rows returned when this statement is executed.
+     *
+     * @param maxRows the maximum number of rows, or null for no limit
+     * @return this configuration
+     * @since 2.1.0
+     */
+    public StatementConfiguration setMaxRows(@Nullable Integer maxRows) {
+        statementHints = statementHints.withMaxRows(maxRows);
+        return this;
+    }
+
+    /**
+     * Set whether this statement is prepared for a forward only, read only result set.
+     *
+     * @param forwardOnly true to request a forward only, read only result set
+     * @return this configuration
+     * @since 2.1.0
+     */
+    public StatementConfiguration setForwardOnly(boolean forwardOnly) {
+        statementHints = statementHints.withForwardOnly(forwardOnly);
+        return this;
+    }
+
+    private static @Nullable RenderedStatementCache defaultRenderedStatementCache() {
+        RenderedStatementCache globalCache = GlobalContext.getRenderedStatementCache();
+        return globalCache.isEnabled() ? globalCache : null;
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.configuration;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * JDBC execution hints for a select statement. Hints do not change the rendered SQL - they are carried on the
+ * rendered {@link org.mybatis.dynamic.sql.select.render.SelectStatementProvider} and applied to the JDBC statement
+ * by the Spring and MyBatis support when the statement is executed. Hints that are not set leave the driver or
+ * framework defaults in place.
+ *
+ * <dl>
+ *     <dt>fetchSize</dt>
+ *     <dd>The number of rows the driver should fetch in each round trip to the database. Some drivers have special
+ *         values - for example, MySQL streams rows one at a time if the fetch size is {@link Integer#MIN_VALUE}.
+ *         PostgreSQL only honors the fetch size if auto commit is disabled.
+ *     </dd>
+ *     <dt>queryTimeout</dt>
+ *     <dd>The number of seconds the driver will wait for the statement to execute.</dd>
+ *     <dt>maxRows</dt>
+ *     <dd>The maximum number of rows returned by the statement. Excess rows are silently dropped.</dd>
+ *     <dt>forwardOnly</dt>
+ *     <dd>If true, the statement is prepared for a forward only, read only result set.</dd>
+ * </dl>
+ *
+ * <p>Hints are set with {@code configureStatement} when a statement is built. For example:
+ *
+ * <pre>
+ *     select(id, description)
+ *         .from(foo)
+ *         .configureStatement(c -&gt; c.setFetchSize(500).setQueryTimeout(30))
+ *         .build()
+ *         .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+ * </pre>
+ *
+ * @see StatementConfiguration
+ * @since 2.1.0
+ */
+public class StatementHints {
+    private static final StatementHints EMPTY = new StatementHints(null, null, null, false);
+
+    private final @Nullable Integer fetchSize;
+    private final @Nullable Integer queryTimeout;
+    private final @Nullable Integer maxRows;
+    private final boolean isForwardOnly;
+
+    private StatementHints(@Nullable Integer fetchSize, @Nullable Integer queryTimeout, @Nullable Integer maxRows,
+                           boolean isForwardOnly) {
+        this.fetchSize = fetchSize;
+        this.queryTimeout = queryTimeout;
+        this.maxRows = maxRows;
+        this.isForwardOnly = isForwardOnly;
+    }
+
+    public Optional<Integer> fetchSize() {
+        return Optional.ofNullable(fetchSize);
+    }
+
+    public Optional<Integer> queryTimeout() {
+        return Optional.ofNullable(queryTimeout);
+    }
+
+    public Optional<Integer> maxRows() {
+        return Optional.ofNullable(maxRows);
+    }
+
+    public boolean isForwardOnly() {
+        return isForwardOnly;
+    }
+
+    /**
+     * Whether any hint is set.
+     *
+     * @return true if no hint is set, and the statement can be executed with the framework defaults
+     */
+    public boolean isEmpty() {
+        return fetchSize == null && queryTimeout == null && maxRows == null && !isForwardOnly;
+    }
+
+    /**
+     * Apply the fetch size, query timeout, and maximum rows hints to a JDBC statement. The forward only hint cannot
+     * be applied to a statement after it is prepared, so it is not applied by this method.
+     *
+     * @param statement the statement
+     * @throws SQLException if the driver rejects a hint
+     */
+    public void applyTo(Statement statement) throws SQLException {
+        if (fetchSize != null) {
+            statement.setFetchSize(fetchSize);
+        }
+        if (queryTimeout != null) {
+            statement.setQueryTimeout(queryTimeout);
+        }
+        if (maxRows != null) {
+            statement.setMaxRows(maxRows);
+        }
+    }
+
+    public StatementHints withFetchSize(@Nullable Integer fetchSize) {
+        return new StatementHints(fetchSize, queryTimeout, maxRows, isForwardOnly);
+    }
+
+    public StatementHints withQueryTimeout(@Nullable Integer queryTimeout) {
+        Validator.assertFalse(queryTimeout != null && queryTimeout < 0,
+                "ERROR.70", "queryTimeout"); //$NON-NLS-1$ //$NON-NLS-2$
+        return new StatementHints(fetchSize, queryTimeout, maxRows, isForwardOnly);
+    }
+
+    public StatementHints withMaxRows(@Nullable Integer maxRows) {
+        Validator.assertFalse(maxRows != null && maxRows < 0,
+                "ERROR.70", "maxRows"); //$NON-NLS-1$ //$NON-NLS-2$
+        return new StatementHints(fetchSize, queryTimeout, maxRows, isForwardOnly);
+    }
+
+    public StatementHints withForwardOnly(boolean isForwardOnly) {
+        return new StatementHints(fetchSize, queryTimeout, maxRows, isForwardOnly);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof StatementHints that)) {
+            return false;
+        }
+        return Objects.equals(fetchSize, that.fetchSize)
+                && Objects.equals(queryTimeout, that.queryTimeout)
+                && Objects.equals(maxRows, that.maxRows)
+                && isForwardOnly == that.isForwardOnly;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fetchSize, queryTimeout, maxRows, isForwardOnly);
+    }
+
+    /**
+     * Hints with no values set.
+     *
+     * @return the empty hints
+     */
+    public static StatementHints empty() {
+        return EMPTY;
+    }
+}
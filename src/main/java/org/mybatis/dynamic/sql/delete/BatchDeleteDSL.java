@@ -0,0 +1,107 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.ConfigurableStatement;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+
+/**
+ * DSL for a batch delete. Where conditions are bound to properties of each record, so the statement is rendered
+ * once and executed for every record with a JDBC batch.
+ *
+ * @param <T> the type of record
+ * @since 2.1.0
+ */
+public class BatchDeleteDSL<T> implements Buildable<BatchDeleteModel<T>>, ConfigurableStatement<BatchDeleteDSL<T>> {
+
+    private final Collection<T> records;
+    private final SqlTable table;
+    private final List<PropertyMapping> whereMappings = new ArrayList<>();
+    private final StatementConfiguration statementConfiguration = new StatementConfiguration();
+
+    private BatchDeleteDSL(Collection<T> records, SqlTable table) {
+        this.records = records;
+        this.table = Objects.requireNonNull(table);
+    }
+
+    public <F> WhereFinisher<F> where(SqlColumn<F> column) {
+        return new WhereFinisher<>(column);
+    }
+
+    public <F> WhereFinisher<F> and(SqlColumn<F> column) {
+        return new WhereFinisher<>(column);
+    }
+
+    @Override
+    public BatchDeleteDSL<T> configureStatement(Consumer<StatementConfiguration> consumer) {
+        consumer.accept(statementConfiguration);
+        return this;
+    }
+
+    @Override
+    public BatchDeleteModel<T> build() {
+        return BatchDeleteModel.withRecords(records)
+                .withTable(table)
+                .withWhereMappings(whereMappings)
+                .withStatementConfiguration(statementConfiguration)
+                .build();
+    }
+
+    @SafeVarargs
+    public static <T> FromGatherer<T> delete(T... records) {
+        return delete(Arrays.asList(records));
+    }
+
+    public static <T> FromGatherer<T> delete(Collection<T> records) {
+        return new FromGatherer<>(records);
+    }
+
+    public static class FromGatherer<T> {
+        private final Collection<T> records;
+
+        private FromGatherer(Collection<T> records) {
+            this.records = records;
+        }
+
+        public BatchDeleteDSL<T> from(SqlTable table) {
+            return new BatchDeleteDSL<>(records, table);
+        }
+    }
+
+    public class WhereFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public WhereFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        public BatchDeleteDSL<T> isEqualToProperty(String property) {
+            whereMappings.add(PropertyMapping.of(column, property));
+            return BatchDeleteDSL.this;
+        }
+    }
+}
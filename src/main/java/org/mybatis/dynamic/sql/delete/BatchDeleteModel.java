@@ -0,0 +1,112 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
+import org.mybatis.dynamic.sql.delete.render.BatchDeleteRenderer;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * Model for a batch delete.
+ *
+ * @param <T> the type of record
+ * @since 2.1.0
+ */
+public class BatchDeleteModel<T> {
+    private final SqlTable table;
+    private final List<T> records;
+    private final List<PropertyMapping> whereMappings;
+    private final StatementConfiguration statementConfiguration;
+
+    private BatchDeleteModel(Builder<T> builder) {
+        table = Objects.requireNonNull(builder.table);
+        records = List.copyOf(builder.records);
+        whereMappings = List.copyOf(builder.whereMappings);
+        statementConfiguration = Objects.requireNonNullElseGet(builder.statementConfiguration,
+                StatementConfiguration::new);
+        Validator.assertNotEmpty(records, "ERROR.75"); //$NON-NLS-1$
+        Validator.assertNotEmpty(whereMappings, "ERROR.76"); //$NON-NLS-1$
+    }
+
+    public SqlTable table() {
+        return table;
+    }
+
+    public List<T> records() {
+        return records;
+    }
+
+    public Stream<PropertyMapping> whereMappings() {
+        return whereMappings.stream();
+    }
+
+    public StatementConfiguration statementConfiguration() {
+        return statementConfiguration;
+    }
+
+    public BatchDelete<T> render(RenderingStrategy renderingStrategy) {
+        return BatchDeleteRenderer.withBatchDeleteModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .render();
+    }
+
+    public static <T> Builder<T> withRecords(Collection<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private @Nullable SqlTable table;
+        private final List<T> records = new ArrayList<>();
+        private final List<PropertyMapping> whereMappings = new ArrayList<>();
+        private @Nullable StatementConfiguration statementConfiguration;
+
+        public Builder<T> withTable(SqlTable table) {
+            this.table = table;
+            return this;
+        }
+
+        public Builder<T> withRecords(Collection<T> records) {
+            this.records.addAll(records);
+            return this;
+        }
+
+        public Builder<T> withWhereMappings(List<PropertyMapping> whereMappings) {
+            this.whereMappings.addAll(whereMappings);
+            return this;
+        }
+
+        public Builder<T> withStatementConfiguration(StatementConfiguration statementConfiguration) {
+            this.statementConfiguration = statementConfiguration;
+            return this;
+        }
+
+        public BatchDeleteModel<T> build() {
+            return new BatchDeleteModel<>(this);
+        }
+    }
+}
@@ -15,17 +15,25 @@
  */
 package org.mybatis.dynamic.sql.delete;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.NamedParameter;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.common.CommonBuilder;
 import org.mybatis.dynamic.sql.common.OrderByModel;
 import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.delete.render.DefaultDeleteStatementProvider;
 import org.mybatis.dynamic.sql.delete.render.DeleteRenderer;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementTemplate;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.where.WhereModel;
 
@@ -71,12 +79,59 @@ public class DeleteModel {
     }
 
     public DeleteStatementProvider render(RenderingStrategy renderingStrategy) {
+        ParameterSequence sequence = new ParameterSequence();
+        DeleteStatementProvider statement = renderUnbound(renderingStrategy, sequence);
+        if (sequence.hasNamedParameters()) {
+            NamedParameter.assertBound(statement.getParameters());
+        }
+        return statement;
+    }
+
+    private DeleteStatementProvider renderUnbound(RenderingStrategy renderingStrategy, ParameterSequence sequence) {
         return DeleteRenderer.withDeleteModel(this)
                 .withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence)
                 .build()
                 .render();
     }
 
+    /**
+     * Render this statement and bind values to the named parameters in the statement. The model is not changed, so
+     * a model with named parameters can be rendered concurrently with different values.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param parameterValues the values of the named parameters, keyed by name
+     * @return the rendered statement with a value for every named parameter
+     * @see NamedParameter
+     * @since 2.1.0
+     */
+    public DeleteStatementProvider render(RenderingStrategy renderingStrategy, Map<String, ?> parameterValues) {
+        DeleteStatementProvider deleteStatement = renderUnbound(renderingStrategy, new ParameterSequence());
+        return DefaultDeleteStatementProvider.withDeleteStatement(deleteStatement.getDeleteStatement())
+                .withParameters(NamedParameter.bindValues(deleteStatement.getParameters(), parameterValues))
+                .withPositionalParameters(deleteStatement.getPositionalParameters())
+                .build();
+    }
+
+    /**
+     * Render this statement once as a template. New parameter values can be bound to the template many times without
+     * rendering the statement again.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return a template for this statement
+     * @since 2.1.0
+     */
+    public DeleteStatementTemplate renderTemplate(RenderingStrategy renderingStrategy) {
+        List<ParameterSlot> parameterSlots = new ArrayList<>();
+        DeleteStatementProvider deleteStatement = DeleteRenderer.withDeleteModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .withParameterSlots(parameterSlots)
+                .build()
+                .render();
+
+        return new DeleteStatementTemplate(deleteStatement, parameterSlots);
+    }
+
     public <R> R map(Function<DeleteModel, R> adapterFunction) {
         return adapterFunction.apply(this);
     }
@@ -0,0 +1,93 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete.render;
+
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.delete.BatchDeleteModel;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+import org.mybatis.dynamic.sql.render.RenderInstrumentation;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+
+/**
+ * Renders a batch delete. Where conditions are bound to properties of a record with bindings like
+ * <code>#{row.propertyName}</code> (MyBatis) or <code>:row.propertyName</code> (Spring).
+ *
+ * @param <T> the type of record
+ * @since 2.1.0
+ */
+public class BatchDeleteRenderer<T> {
+    private static final String ROW_PREFIX = "row"; //$NON-NLS-1$
+
+    private final BatchDeleteModel<T> model;
+    private final RenderingStrategy renderingStrategy;
+
+    private BatchDeleteRenderer(Builder<T> builder) {
+        model = Objects.requireNonNull(builder.model);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+    }
+
+    public BatchDelete<T> render() {
+        RenderInstrumentation renderInstrumentation =
+                RenderInstrumentation.start(model.statementConfiguration().renderListener().orElse(null));
+
+        String deleteStatement = "delete from " //$NON-NLS-1$
+                + model.table().tableName()
+                + model.whereMappings()
+                        .map(this::calculateCondition)
+                        .collect(Collectors.joining(" and ", " where ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+        renderInstrumentation.finish(StatementType.BATCH_DELETE, deleteStatement,
+                (int) model.whereMappings().count());
+
+        return BatchDelete.withRecords(model.records())
+                .withDeleteStatement(deleteStatement)
+                .build();
+    }
+
+    private String calculateCondition(PropertyMapping mapping) {
+        return mapping.columnName()
+                + " = " //$NON-NLS-1$
+                + mapping.column().renderingStrategy().orElse(renderingStrategy)
+                        .getRecordBasedInsertBinding(mapping.column(), ROW_PREFIX, mapping.property());
+    }
+
+    public static <T> Builder<T> withBatchDeleteModel(BatchDeleteModel<T> model) {
+        return new Builder<T>().withBatchDeleteModel(model);
+    }
+
+    public static class Builder<T> {
+        private @Nullable BatchDeleteModel<T> model;
+        private @Nullable RenderingStrategy renderingStrategy;
+
+        public Builder<T> withBatchDeleteModel(BatchDeleteModel<T> model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder<T> withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public BatchDeleteRenderer<T> build() {
+            return new BatchDeleteRenderer<>(this);
+        }
+    }
+}
@@ -15,19 +15,24 @@
  */
 package org.mybatis.dynamic.sql.delete.render;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
 
 public class DefaultDeleteStatementProvider implements DeleteStatementProvider {
     private final String deleteStatement;
     private final Map<String, Object> parameters;
+    private final List<ParameterSlot> positionalParameters;
 
     private DefaultDeleteStatementProvider(Builder builder) {
         deleteStatement = Objects.requireNonNull(builder.deleteStatement);
         parameters = builder.parameters;
+        positionalParameters = Collections.unmodifiableList(builder.positionalParameters);
     }
 
     @Override
@@ -40,6 +45,11 @@ public class DefaultDeleteStatementProvider implements DeleteStatementProvider {
         return deleteStatement;
     }
 
+    @Override
+    public List<ParameterSlot> getPositionalParameters() {
+        return positionalParameters;
+    }
+
     public static Builder withDeleteStatement(String deleteStatement) {
         return new Builder().withDeleteStatement(deleteStatement);
     }
@@ -47,6 +57,7 @@ public class DefaultDeleteStatementProvider implements DeleteStatementProvider {
     public static class Builder {
         private @Nullable String deleteStatement;
         private final Map<String, Object> parameters = new HashMap<>();
+        private List<ParameterSlot> positionalParameters = Collections.emptyList();
 
         public Builder withDeleteStatement(String deleteStatement) {
             this.deleteStatement = deleteStatement;
@@ -58,6 +69,11 @@ public class DefaultDeleteStatementProvider implements DeleteStatementProvider {
             return this;
         }
 
+        public Builder withPositionalParameters(List<ParameterSlot> positionalParameters) {
+            this.positionalParameters = positionalParameters;
+            return this;
+        }
+
         public DefaultDeleteStatementProvider build() {
             return new DefaultDeleteStatementProvider(this);
         }
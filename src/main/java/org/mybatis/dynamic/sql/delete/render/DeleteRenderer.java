@@ -15,6 +15,8 @@
  */
 package org.mybatis.dynamic.sql.delete.render;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -24,7 +26,12 @@ import org.mybatis.dynamic.sql.common.OrderByModel;
 import org.mybatis.dynamic.sql.common.OrderByRenderer;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
 import org.mybatis.dynamic.sql.render.ExplicitTableAliasCalculator;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+import org.mybatis.dynamic.sql.render.RenderInstrumentation;
 import org.mybatis.dynamic.sql.render.RenderedParameterInfo;
+import org.mybatis.dynamic.sql.render.RenderedStatementCache;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
@@ -34,21 +41,67 @@ import org.mybatis.dynamic.sql.where.WhereModel;
 
 public class DeleteRenderer {
     private final DeleteModel deleteModel;
+    private final RenderingStrategy renderingStrategy;
+    private final @Nullable List<ParameterSlot> parameterSlots;
+    private final List<ParameterSlot> positionalParameters = new ArrayList<>();
+    private final RenderInstrumentation renderInstrumentation;
+    private final ParameterSequence sequence;
     private final RenderingContext renderingContext;
 
     private DeleteRenderer(Builder builder) {
         deleteModel = Objects.requireNonNull(builder.deleteModel);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        parameterSlots = builder.parameterSlots;
+        sequence = Objects.requireNonNullElseGet(builder.sequence, ParameterSequence::new);
+        renderInstrumentation = Objects.requireNonNullElseGet(builder.renderInstrumentation,
+                () -> RenderInstrumentation.start(deleteModel.statementConfiguration().renderListener().orElse(null)));
         TableAliasCalculator tableAliasCalculator = builder.deleteModel.tableAlias()
                 .map(a -> ExplicitTableAliasCalculator.of(deleteModel.table(), a))
                 .orElseGet(TableAliasCalculator::empty);
         renderingContext = RenderingContext
-                .withRenderingStrategy(Objects.requireNonNull(builder.renderingStrategy))
+                .withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence)
                 .withTableAliasCalculator(tableAliasCalculator)
                 .withStatementConfiguration(deleteModel.statementConfiguration())
+                .withParameterSlots(parameterSlots)
+                .withPositionalParameters(renderingStrategy.isPositional() ? positionalParameters : null)
+                .withRenderInstrumentation(renderInstrumentation)
                 .build();
     }
 
     public DeleteStatementProvider render() {
+        FragmentAndParameters fragmentAndParameters = deleteModel.statementConfiguration().renderedStatementCache()
+                .filter(c -> parameterSlots == null && !renderingStrategy.isPositional())
+                .flatMap(this::renderWithCache)
+                .orElseGet(this::renderDeleteModel);
+
+        renderInstrumentation.finish(StatementType.DELETE, fragmentAndParameters.fragment(),
+                fragmentAndParameters.parameters().size());
+
+        return DefaultDeleteStatementProvider.withDeleteStatement(fragmentAndParameters.fragment())
+                .withParameters(fragmentAndParameters.parameters())
+                .withPositionalParameters(positionalParameters)
+                .build();
+    }
+
+    private Optional<FragmentAndParameters> renderWithCache(RenderedStatementCache renderedStatementCache) {
+        return new DeleteShapeCalculator(deleteModel, renderingStrategy).calculate()
+                .map(shape -> renderedStatementCache.render(shape, renderInstrumentation,
+                        this::renderWithParameterSlots));
+    }
+
+    private FragmentAndParameters renderWithParameterSlots(List<ParameterSlot> parameterSlots) {
+        // the nested renderer shares this renderer's instrumentation and sequence so skipped conditions and named
+        // parameters are recorded once
+        Builder builder = withDeleteModel(deleteModel)
+                .withRenderingStrategy(renderingStrategy)
+                .withParameterSlots(parameterSlots)
+                .withSequence(sequence);
+        builder.renderInstrumentation = renderInstrumentation;
+        return builder.build().renderDeleteModel();
+    }
+
+    private FragmentAndParameters renderDeleteModel() {
         FragmentCollector fragmentCollector = new FragmentCollector();
 
         fragmentCollector.add(calculateDeleteStatementStart());
@@ -56,14 +109,7 @@ public class DeleteRenderer {
         calculateOrderByClause().ifPresent(fragmentCollector::add);
         calculateLimitClause().ifPresent(fragmentCollector::add);
 
-        return toDeleteStatementProvider(fragmentCollector);
-    }
-
-    private DeleteStatementProvider toDeleteStatementProvider(FragmentCollector fragmentCollector) {
-        return DefaultDeleteStatementProvider
-                .withDeleteStatement(fragmentCollector.collectFragments(Collectors.joining(" "))) //$NON-NLS-1$
-                .withParameters(fragmentCollector.parameters())
-                .build();
+        return fragmentCollector.toFragmentAndParameters(Collectors.joining(" ")); //$NON-NLS-1$
     }
 
     private FragmentAndParameters calculateDeleteStatementStart() {
@@ -106,6 +152,9 @@ public class DeleteRenderer {
     public static class Builder {
         private @Nullable DeleteModel deleteModel;
         private @Nullable RenderingStrategy renderingStrategy;
+        private @Nullable List<ParameterSlot> parameterSlots;
+        private @Nullable RenderInstrumentation renderInstrumentation;
+        private @Nullable ParameterSequence sequence;
 
         public Builder withDeleteModel(DeleteModel deleteModel) {
             this.deleteModel = deleteModel;
@@ -117,6 +166,16 @@ public class DeleteRenderer {
             return this;
         }
 
+        public Builder withParameterSlots(@Nullable List<ParameterSlot> parameterSlots) {
+            this.parameterSlots = parameterSlots;
+            return this;
+        }
+
+        public Builder withSequence(ParameterSequence sequence) {
+            this.sequence = sequence;
+            return this;
+        }
+
         public DeleteRenderer build() {
             return new DeleteRenderer(this);
         }
@@ -0,0 +1,76 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete.render;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementShape;
+import org.mybatis.dynamic.sql.where.render.CriterionShapeCalculator;
+
+/**
+ * Calculates the {@link StatementShape} of a delete statement. Statements with constructs that cannot be captured in
+ * a shape (like an exists condition) have no shape and are always rendered.
+ *
+ * @since 2.1.0
+ */
+public class DeleteShapeCalculator {
+    private final DeleteModel deleteModel;
+    private final RenderingStrategy renderingStrategy;
+    private final RenderingContext renderingContext;
+    private final Map<SqlTable, String> tableAliases;
+    private final StatementShape.Builder shapeBuilder = new StatementShape.Builder();
+
+    public DeleteShapeCalculator(DeleteModel deleteModel, RenderingStrategy renderingStrategy) {
+        this.deleteModel = Objects.requireNonNull(deleteModel);
+        this.renderingStrategy = Objects.requireNonNull(renderingStrategy);
+        renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withStatementConfiguration(deleteModel.statementConfiguration())
+                .build();
+        tableAliases = deleteModel.tableAlias()
+                .map(a -> Map.of(deleteModel.table(), a))
+                .orElseGet(Map::of);
+    }
+
+    public Optional<StatementShape> calculate() {
+        shapeBuilder.withElement(DeleteModel.class)
+                .withElement(renderingStrategy)
+                .withElement(deleteModel.statementConfiguration().isNonRenderingWhereClauseAllowed())
+                .withTable(deleteModel.table(), tableAliases);
+
+        boolean supported = deleteModel.whereModel()
+                .map(new CriterionShapeCalculator(shapeBuilder, renderingContext, tableAliases)::calculate)
+                .orElseGet(this::markAbsent)
+                && deleteModel.orderByModel().map(shapeBuilder::withOrderBy).orElseGet(this::markAbsent);
+        if (!supported) {
+            return Optional.empty();
+        }
+
+        shapeBuilder.withElement(deleteModel.limit().isPresent());
+        deleteModel.limit().ifPresent(shapeBuilder::withParameterValue);
+        return Optional.of(shapeBuilder.build());
+    }
+
+    private boolean markAbsent() {
+        shapeBuilder.withElement(null);
+        return true;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete.render;
+
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.dynamic.sql.render.AbstractStatementTemplate;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+
+/**
+ * A delete statement that has been rendered once, and can be bound to new parameter values many times.
+ *
+ * @see AbstractStatementTemplate
+ * @since 2.1.0
+ */
+public class DeleteStatementTemplate extends AbstractStatementTemplate<DeleteStatementProvider> {
+    private final List<ParameterSlot> positionalParameters;
+
+    public DeleteStatementTemplate(DeleteStatementProvider deleteStatement, List<ParameterSlot> parameterSlots) {
+        super(deleteStatement.getDeleteStatement(), deleteStatement.getParameters(), parameterSlots);
+        positionalParameters = deleteStatement.getPositionalParameters();
+    }
+
+    @Override
+    protected DeleteStatementProvider toStatementProvider(String statement, Map<String, Object> parameters) {
+        return DefaultDeleteStatementProvider.withDeleteStatement(statement)
+                .withParameters(parameters)
+                .withPositionalParameters(positionalParameters)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete.render;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A delete statement for a single record of a batch. Bindings in the statement are of the form
+ * <code>row.propertyName</code>, so they are resolved against {@link #getRow()} rather than the parameter map.
+ *
+ * @param <T> the type of record
+ * @since 2.1.0
+ */
+public class RowDeleteStatementProvider<T> implements DeleteStatementProvider {
+    private final String deleteStatement;
+    private final T row;
+
+    RowDeleteStatementProvider(String deleteStatement, T row) {
+        this.deleteStatement = deleteStatement;
+        this.row = row;
+    }
+
+    @Override
+    public Map<String, Object> getParameters() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public String getDeleteStatement() {
+        return deleteStatement;
+    }
+
+    public T getRow() {
+        return row;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.dsl;
+
+import org.mybatis.dynamic.sql.select.KeysetPage;
+
+/**
+ * Operations for keyset pagination.
+ *
+ * @param <T> the type returned after a page is applied
+ * @since 2.1.0
+ */
+public interface KeysetOperations<T> {
+    /**
+     * Select a page with keyset pagination. The seek predicate of the page (if any) is added to the where clause with
+     * "and", and the order by and limit clauses are set from the sort columns and page size of the page.
+     *
+     * @param page the page to select
+     * @return the next step of the DSL
+     */
+    T seek(KeysetPage page);
+}
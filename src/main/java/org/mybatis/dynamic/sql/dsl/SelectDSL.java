@@ -35,6 +35,7 @@ import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
 import org.mybatis.dynamic.sql.select.GroupByModel;
 import org.mybatis.dynamic.sql.select.HavingApplier;
 import org.mybatis.dynamic.sql.select.HavingModel;
+import org.mybatis.dynamic.sql.select.KeysetPage;
 import org.mybatis.dynamic.sql.select.PagingModel;
 import org.mybatis.dynamic.sql.select.QueryExpressionModel;
 import org.mybatis.dynamic.sql.select.SelectModel;
@@ -53,6 +54,7 @@ public class SelectDSL implements
         HavingOperations<SelectDSL.QueryExpressionHavingBuilder>,
         LimitAndOffsetOperations<SelectDSL, SelectModel>,
         ForAndWaitOperations<SelectDSL>,
+        KeysetOperations<SelectDSL>,
         ConfigurableStatement<SelectDSL>,
         Buildable<SelectModel> {
     private final StatementConfiguration statementConfiguration = new StatementConfiguration();
@@ -163,6 +165,14 @@ public class SelectDSL implements
         return this;
     }
 
+    @Override
+    public SelectDSL seek(KeysetPage page) {
+        page.seekCriterion().ifPresent(c -> where().and(c));
+        orderBy(page.orderBy());
+        limit(page.pageSize());
+        return this;
+    }
+
     @Override
     public SelectDSL groupBy(Collection<? extends BasicColumn> columns) {
         currentQueryValues.builder.withGroupByModel(GroupByModel.of(columns));
@@ -246,6 +256,7 @@ public class SelectDSL implements
             GroupByOperations<SelectDSL>,
             LimitAndOffsetOperations<SelectDSL, SelectModel>,
             ForAndWaitOperations<SelectDSL>,
+            KeysetOperations<SelectDSL>,
             Buildable<SelectModel> {
         private final SqlCriterion initialCriterion;
         private final List<AndOrCriteriaGroup> subCriteria = new ArrayList<>();
@@ -293,6 +304,11 @@ public class SelectDSL implements
             return SelectDSL.this.orderBy(columns);
         }
 
+        @Override
+        public SelectDSL seek(KeysetPage page) {
+            return SelectDSL.this.seek(page);
+        }
+
         @Override
         public SelectDSL groupBy(Collection<? extends BasicColumn> columns) {
             return SelectDSL.this.groupBy(columns);
@@ -335,6 +351,7 @@ public class SelectDSL implements
             OrderByOperations<SelectDSL>,
             LimitAndOffsetOperations<SelectDSL, SelectModel>,
             ForAndWaitOperations<SelectDSL>,
+            KeysetOperations<SelectDSL>,
             Buildable<SelectModel> {
 
         protected JoinSpecificationFinisher(JoinType joinType, TableExpression joinTable,
@@ -386,6 +403,11 @@ public class SelectDSL implements
             return SelectDSL.this.orderBy(columns);
         }
 
+        @Override
+        public SelectDSL seek(KeysetPage page) {
+            return SelectDSL.this.seek(page);
+        }
+
         @Override
         protected JoinSpecificationFinisher getThis() {
             return this;
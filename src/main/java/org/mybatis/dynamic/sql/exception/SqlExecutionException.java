@@ -0,0 +1,34 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.exception;
+
+import java.io.Serial;
+import java.sql.SQLException;
+
+/**
+ * Thrown when a statement executed by the JDBC support in this library fails. The cause is the
+ * {@link SQLException} reported by the driver.
+ *
+ * @since 2.1.0
+ */
+public class SqlExecutionException extends DynamicSqlException {
+    @Serial
+    private static final long serialVersionUID = -2196407512265810547L;
+
+    public SqlExecutionException(String message, SQLException cause) {
+        super(message, cause);
+    }
+}
@@ -24,17 +24,21 @@ import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 
 public abstract class AbstractMultiRowInsertModel<T> {
     private final SqlTable table;
     private final List<T> records;
     protected final List<AbstractColumnMapping> columnMappings;
+    private final StatementConfiguration statementConfiguration;
 
     protected AbstractMultiRowInsertModel(AbstractBuilder<T, ?> builder) {
         table = Objects.requireNonNull(builder.table);
         records = Collections.unmodifiableList(Objects.requireNonNull(builder.records));
         columnMappings = Objects.requireNonNull(builder.columnMappings);
+        statementConfiguration = Objects.requireNonNullElseGet(builder.statementConfiguration,
+                StatementConfiguration::new);
     }
 
     public Stream<AbstractColumnMapping> columnMappings() {
@@ -53,10 +57,15 @@ public abstract class AbstractMultiRowInsertModel<T> {
         return records.size();
     }
 
+    public StatementConfiguration statementConfiguration() {
+        return statementConfiguration;
+    }
+
     public abstract static class AbstractBuilder<T, S extends AbstractBuilder<T, S>> {
         private @Nullable SqlTable table;
         private final List<T> records = new ArrayList<>();
         private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+        private @Nullable StatementConfiguration statementConfiguration;
 
         public S withTable(SqlTable table) {
             this.table = table;
@@ -73,6 +82,11 @@ public abstract class AbstractMultiRowInsertModel<T> {
             return getThis();
         }
 
+        public S withStatementConfiguration(StatementConfiguration statementConfiguration) {
+            this.statementConfiguration = statementConfiguration;
+            return getThis();
+        }
+
         protected abstract S getThis();
     }
 }
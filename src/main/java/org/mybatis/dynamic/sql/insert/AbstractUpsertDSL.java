@@ -0,0 +1,146 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.ConfigurableStatement;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.MappedColumnMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.RowMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * Base class for the upsert DSLs. Columns are mapped in the same way as record based inserts, then the key columns
+ * and the columns to update are specified.
+ *
+ * @param <D> the type of the concrete DSL
+ * @since 2.1.0
+ */
+public abstract class AbstractUpsertDSL<D extends AbstractUpsertDSL<D>> implements ConfigurableStatement<D> {
+    protected final SqlTable table;
+    protected final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+    protected final UpsertSpecification.Builder upsertSpecificationBuilder = new UpsertSpecification.Builder();
+    protected final StatementConfiguration statementConfiguration = new StatementConfiguration();
+
+    protected AbstractUpsertDSL(SqlTable table) {
+        this.table = Objects.requireNonNull(table);
+    }
+
+    public <F> ColumnMappingFinisher<F> map(SqlColumn<F> column) {
+        return new ColumnMappingFinisher<>(column);
+    }
+
+    public <F> D withMappedColumn(SqlColumn<F> column) {
+        columnMappings.add(MappedColumnMapping.of(column));
+        return getThis();
+    }
+
+    /**
+     * Specify the columns that identify an existing row. The key columns must be mapped.
+     *
+     * @param keyColumns the key columns - typically the primary key, or the columns of a unique index
+     * @return this DSL
+     */
+    public D onConflict(SqlColumn<?>... keyColumns) {
+        upsertSpecificationBuilder.withKeyColumns(Arrays.asList(keyColumns));
+        return getThis();
+    }
+
+    /**
+     * Specify the columns updated if a row with the same key exists. By default, every mapped column except the key
+     * columns is updated.
+     *
+     * @param updateColumns the columns to update. Every column must be mapped.
+     * @return this DSL
+     */
+    public D updateColumns(SqlColumn<?>... updateColumns) {
+        upsertSpecificationBuilder.withUpdateColumns(Arrays.asList(updateColumns));
+        return getThis();
+    }
+
+    /**
+     * Leave existing rows unchanged - new rows are inserted, and rows with an existing key are ignored.
+     *
+     * @return this DSL
+     */
+    public D doNothing() {
+        upsertSpecificationBuilder.withUpdateColumns(List.of());
+        return getThis();
+    }
+
+    /**
+     * Set the SQL dialect used to render the upsert. The default is {@link UpsertDialect#MERGE}.
+     *
+     * @param dialect the dialect
+     * @return this DSL
+     */
+    public D withDialect(UpsertDialect dialect) {
+        upsertSpecificationBuilder.withDialect(dialect);
+        return getThis();
+    }
+
+    @Override
+    public D configureStatement(Consumer<StatementConfiguration> consumer) {
+        consumer.accept(statementConfiguration);
+        return getThis();
+    }
+
+    protected abstract D getThis();
+
+    public class ColumnMappingFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public ColumnMappingFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        public D toProperty(String property) {
+            columnMappings.add(PropertyMapping.of(column, property));
+            return getThis();
+        }
+
+        public D toNull() {
+            columnMappings.add(NullMapping.of(column));
+            return getThis();
+        }
+
+        public D toConstant(String constant) {
+            columnMappings.add(ConstantMapping.of(column, constant));
+            return getThis();
+        }
+
+        public D toStringConstant(String constant) {
+            columnMappings.add(StringConstantMapping.of(column, constant));
+            return getThis();
+        }
+
+        public D toRow() {
+            columnMappings.add(RowMapping.of(column));
+            return getThis();
+        }
+    }
+}
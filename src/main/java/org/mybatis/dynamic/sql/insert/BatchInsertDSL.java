@@ -20,24 +20,23 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 import org.mybatis.dynamic.sql.util.Buildable;
-import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.ConfigurableStatement;
 import org.mybatis.dynamic.sql.util.MappedColumnMapping;
-import org.mybatis.dynamic.sql.util.NullMapping;
-import org.mybatis.dynamic.sql.util.PropertyMapping;
-import org.mybatis.dynamic.sql.util.RowMapping;
-import org.mybatis.dynamic.sql.util.StringConstantMapping;
 
-public class BatchInsertDSL<T> implements Buildable<BatchInsertModel<T>> {
+public class BatchInsertDSL<T> implements Buildable<BatchInsertModel<T>>, ConfigurableStatement<BatchInsertDSL<T>> {
 
     private final Collection<T> records;
     private final SqlTable table;
     private final List<AbstractColumnMapping> columnMappings;
+    private final StatementConfiguration statementConfiguration = new StatementConfiguration();
 
     private BatchInsertDSL(AbstractBuilder<T, ?> builder) {
         this.records = builder.records;
@@ -54,11 +53,18 @@ public class BatchInsertDSL<T> implements Buildable<BatchInsertModel<T>> {
         return this;
     }
 
+    @Override
+    public BatchInsertDSL<T> configureStatement(Consumer<StatementConfiguration> consumer) {
+        consumer.accept(statementConfiguration);
+        return this;
+    }
+
     @Override
     public BatchInsertModel<T> build() {
         return BatchInsertModel.withRecords(records)
                 .withTable(table)
                 .withColumnMappings(columnMappings)
+                .withStatementConfiguration(statementConfiguration)
                 .build();
     }
 
@@ -83,36 +89,10 @@ public class BatchInsertDSL<T> implements Buildable<BatchInsertModel<T>> {
         }
     }
 
-    public class ColumnMappingFinisher<F> {
-        private final SqlColumn<F> column;
-
+    public class ColumnMappingFinisher<F>
+            extends org.mybatis.dynamic.sql.insert.ColumnMappingFinisher<F, BatchInsertDSL<T>> {
         public ColumnMappingFinisher(SqlColumn<F> column) {
-            this.column = column;
-        }
-
-        public BatchInsertDSL<T> toProperty(String property) {
-            columnMappings.add(PropertyMapping.of(column, property));
-            return BatchInsertDSL.this;
-        }
-
-        public BatchInsertDSL<T> toNull() {
-            columnMappings.add(NullMapping.of(column));
-            return BatchInsertDSL.this;
-        }
-
-        public BatchInsertDSL<T> toConstant(String constant) {
-            columnMappings.add(ConstantMapping.of(column, constant));
-            return BatchInsertDSL.this;
-        }
-
-        public BatchInsertDSL<T> toStringConstant(String constant) {
-            columnMappings.add(StringConstantMapping.of(column, constant));
-            return BatchInsertDSL.this;
-        }
-
-        public BatchInsertDSL<T> toRow() {
-            columnMappings.add(RowMapping.of(column));
-            return BatchInsertDSL.this;
+            super(column, columnMappings, BatchInsertDSL.this);
         }
     }
 
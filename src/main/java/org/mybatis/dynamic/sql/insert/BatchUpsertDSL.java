@@ -0,0 +1,75 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.Buildable;
+
+/**
+ * DSL for an upsert of multiple records with JDBC batch support.
+ *
+ * @param <T> the type of record
+ * @since 2.1.0
+ */
+public class BatchUpsertDSL<T> extends AbstractUpsertDSL<BatchUpsertDSL<T>>
+        implements Buildable<BatchUpsertModel<T>> {
+    private final Collection<T> records;
+
+    private BatchUpsertDSL(Collection<T> records, SqlTable table) {
+        super(table);
+        this.records = new ArrayList<>(records);
+    }
+
+    @Override
+    protected BatchUpsertDSL<T> getThis() {
+        return this;
+    }
+
+    @Override
+    public BatchUpsertModel<T> build() {
+        return BatchUpsertModel.withRecords(records)
+                .withTable(table)
+                .withColumnMappings(columnMappings)
+                .withUpsertSpecification(upsertSpecificationBuilder.build())
+                .withStatementConfiguration(statementConfiguration)
+                .build();
+    }
+
+    @SafeVarargs
+    public static <T> IntoGatherer<T> upsert(T... records) {
+        return upsert(Arrays.asList(records));
+    }
+
+    public static <T> IntoGatherer<T> upsert(Collection<T> records) {
+        return new IntoGatherer<>(records);
+    }
+
+    public static class IntoGatherer<T> {
+        private final Collection<T> records;
+
+        private IntoGatherer(Collection<T> records) {
+            this.records = records;
+        }
+
+        public BatchUpsertDSL<T> into(SqlTable table) {
+            return new BatchUpsertDSL<>(records, table);
+        }
+    }
+}
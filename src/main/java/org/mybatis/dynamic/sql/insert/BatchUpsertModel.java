@@ -0,0 +1,76 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.Collection;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.BatchUpsertRenderer;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * Model for an upsert of multiple records with JDBC batch support. The rendered statement is a {@link BatchInsert},
+ * so it can be executed with any method that executes a batch insert.
+ *
+ * @param <T> the type of record
+ * @since 2.1.0
+ */
+public class BatchUpsertModel<T> extends AbstractMultiRowInsertModel<T> {
+    private final UpsertSpecification upsertSpecification;
+
+    private BatchUpsertModel(Builder<T> builder) {
+        super(builder);
+        upsertSpecification = Objects.requireNonNull(builder.upsertSpecification);
+        Validator.assertNotEmpty(records(), "ERROR.74"); //$NON-NLS-1$
+        Validator.assertNotEmpty(columnMappings, "ERROR.73"); //$NON-NLS-1$
+    }
+
+    public UpsertSpecification upsertSpecification() {
+        return upsertSpecification;
+    }
+
+    public BatchInsert<T> render(RenderingStrategy renderingStrategy) {
+        return BatchUpsertRenderer.withBatchUpsertModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .render();
+    }
+
+    public static <T> Builder<T> withRecords(Collection<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> extends AbstractBuilder<T, Builder<T>> {
+        private @Nullable UpsertSpecification upsertSpecification;
+
+        public Builder<T> withUpsertSpecification(UpsertSpecification upsertSpecification) {
+            this.upsertSpecification = upsertSpecification;
+            return this;
+        }
+
+        @Override
+        protected Builder<T> getThis() {
+            return this;
+        }
+
+        public BatchUpsertModel<T> build() {
+            return new BatchUpsertModel<>(this);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.List;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.RowMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * Completes the mapping of a column in a batch insert. The mapping is added to the column mappings of the DSL, and
+ * the DSL is returned so the next column can be mapped.
+ *
+ * @param <F> the type of the column
+ * @param <D> the type of the DSL
+ * @since 2.1.0
+ */
+public class ColumnMappingFinisher<F, D> {
+    private final SqlColumn<F> column;
+    private final List<AbstractColumnMapping> columnMappings;
+    private final D dsl;
+
+    protected ColumnMappingFinisher(SqlColumn<F> column, List<AbstractColumnMapping> columnMappings, D dsl) {
+        this.column = column;
+        this.columnMappings = columnMappings;
+        this.dsl = dsl;
+    }
+
+    public D toProperty(String property) {
+        return addMapping(PropertyMapping.of(column, property));
+    }
+
+    public D toNull() {
+        return addMapping(NullMapping.of(column));
+    }
+
+    public D toConstant(String constant) {
+        return addMapping(ConstantMapping.of(column, constant));
+    }
+
+    public D toStringConstant(String constant) {
+        return addMapping(StringConstantMapping.of(column, constant));
+    }
+
+    public D toRow() {
+        return addMapping(RowMapping.of(column));
+    }
+
+    private D addMapping(AbstractColumnMapping columnMapping) {
+        columnMappings.add(columnMapping);
+        return dsl;
+    }
+}
@@ -21,10 +21,12 @@ import java.util.Objects;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.NamedParameter;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertRenderer;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 import org.mybatis.dynamic.sql.util.Validator;
@@ -55,10 +57,16 @@ public class GeneralInsertModel {
     }
 
     public GeneralInsertStatementProvider render(RenderingStrategy renderingStrategy) {
-        return GeneralInsertRenderer.withInsertModel(this)
+        ParameterSequence sequence = new ParameterSequence();
+        GeneralInsertStatementProvider statement = GeneralInsertRenderer.withInsertModel(this)
                 .withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence)
                 .build()
                 .render();
+        if (sequence.hasNamedParameters()) {
+            NamedParameter.assertBound(statement.getParameters());
+        }
+        return statement;
     }
 
     public static class Builder {
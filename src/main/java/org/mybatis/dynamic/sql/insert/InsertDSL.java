@@ -19,13 +19,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.ConfigurableStatement;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
 import org.mybatis.dynamic.sql.util.MappedColumnMapping;
 import org.mybatis.dynamic.sql.util.MappedColumnWhenPresentMapping;
@@ -35,11 +38,12 @@ import org.mybatis.dynamic.sql.util.PropertyWhenPresentMapping;
 import org.mybatis.dynamic.sql.util.RowMapping;
 import org.mybatis.dynamic.sql.util.StringConstantMapping;
 
-public class InsertDSL<T> implements Buildable<InsertModel<T>> {
+public class InsertDSL<T> implements Buildable<InsertModel<T>>, ConfigurableStatement<InsertDSL<T>> {
 
     private final T row;
     private final SqlTable table;
     private final List<AbstractColumnMapping> columnMappings;
+    private final StatementConfiguration statementConfiguration = new StatementConfiguration();
 
     private InsertDSL(Builder<T> builder) {
         this.row = Objects.requireNonNull(builder.row);
@@ -61,11 +65,18 @@ public class InsertDSL<T> implements Buildable<InsertModel<T>> {
         return this;
     }
 
+    @Override
+    public InsertDSL<T> configureStatement(Consumer<StatementConfiguration> consumer) {
+        consumer.accept(statementConfiguration);
+        return this;
+    }
+
     @Override
     public InsertModel<T> build() {
         return InsertModel.withRow(row)
                 .withTable(table)
                 .withColumnMappings(columnMappings)
+                .withStatementConfiguration(statementConfiguration)
                 .build();
     }
 
@@ -22,6 +22,7 @@ import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
 import org.mybatis.dynamic.sql.insert.render.InsertRenderer;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
@@ -32,11 +33,14 @@ public class InsertModel<T> {
     private final SqlTable table;
     private final T row;
     private final List<AbstractColumnMapping> columnMappings;
+    private final StatementConfiguration statementConfiguration;
 
     private InsertModel(Builder<T> builder) {
         table = Objects.requireNonNull(builder.table);
         row = Objects.requireNonNull(builder.row);
         columnMappings = Objects.requireNonNull(builder.columnMappings);
+        statementConfiguration = Objects.requireNonNullElseGet(builder.statementConfiguration,
+                StatementConfiguration::new);
         Validator.assertNotEmpty(columnMappings, "ERROR.7"); //$NON-NLS-1$
     }
 
@@ -52,6 +56,10 @@ public class InsertModel<T> {
         return table;
     }
 
+    public StatementConfiguration statementConfiguration() {
+        return statementConfiguration;
+    }
+
     public InsertStatementProvider<T> render(RenderingStrategy renderingStrategy) {
         return InsertRenderer.withInsertModel(this)
                 .withRenderingStrategy(renderingStrategy)
@@ -67,6 +75,7 @@ public class InsertModel<T> {
         private @Nullable SqlTable table;
         private @Nullable T row;
         private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+        private @Nullable StatementConfiguration statementConfiguration;
 
         public Builder<T> withTable(SqlTable table) {
             this.table = table;
@@ -83,6 +92,11 @@ public class InsertModel<T> {
             return this;
         }
 
+        public Builder<T> withStatementConfiguration(StatementConfiguration statementConfiguration) {
+            this.statementConfiguration = statementConfiguration;
+            return this;
+        }
+
         public InsertModel<T> build() {
             return new InsertModel<>(this);
         }
@@ -19,10 +19,12 @@ import java.util.Objects;
 import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.NamedParameter;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
 import org.mybatis.dynamic.sql.insert.render.InsertSelectRenderer;
 import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.SelectModel;
 
@@ -56,10 +58,16 @@ public class InsertSelectModel {
     }
 
     public InsertSelectStatementProvider render(RenderingStrategy renderingStrategy) {
-        return InsertSelectRenderer.withInsertSelectModel(this)
+        ParameterSequence sequence = new ParameterSequence();
+        InsertSelectStatementProvider statement = InsertSelectRenderer.withInsertSelectModel(this)
                 .withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence)
                 .build()
                 .render();
+        if (sequence.hasNamedParameters()) {
+            NamedParameter.assertBound(statement.getParameters());
+        }
+        return statement;
     }
 
     public static Builder withTable(SqlTable table) {
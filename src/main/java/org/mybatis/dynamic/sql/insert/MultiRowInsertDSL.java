@@ -19,11 +19,14 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.ConfigurableStatement;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
 import org.mybatis.dynamic.sql.util.MappedColumnMapping;
 import org.mybatis.dynamic.sql.util.NullMapping;
@@ -31,11 +34,13 @@ import org.mybatis.dynamic.sql.util.PropertyMapping;
 import org.mybatis.dynamic.sql.util.RowMapping;
 import org.mybatis.dynamic.sql.util.StringConstantMapping;
 
-public class MultiRowInsertDSL<T> implements Buildable<MultiRowInsertModel<T>> {
+public class MultiRowInsertDSL<T>
+        implements Buildable<MultiRowInsertModel<T>>, ConfigurableStatement<MultiRowInsertDSL<T>> {
 
     private final Collection<T> records;
     private final SqlTable table;
     private final List<AbstractColumnMapping> columnMappings;
+    private final StatementConfiguration statementConfiguration = new StatementConfiguration();
 
     private MultiRowInsertDSL(BatchInsertDSL.AbstractBuilder<T, ?> builder) {
         this.records = builder.records;
@@ -52,11 +57,18 @@ public class MultiRowInsertDSL<T> implements Buildable<MultiRowInsertModel<T>> {
         return this;
     }
 
+    @Override
+    public MultiRowInsertDSL<T> configureStatement(Consumer<StatementConfiguration> consumer) {
+        consumer.accept(statementConfiguration);
+        return this;
+    }
+
     @Override
     public MultiRowInsertModel<T> build() {
         return MultiRowInsertModel.withRecords(records)
                 .withTable(table)
                 .withColumnMappings(columnMappings)
+                .withStatementConfiguration(statementConfiguration)
                 .build();
     }
 
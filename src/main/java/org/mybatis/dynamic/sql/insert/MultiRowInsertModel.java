@@ -16,10 +16,12 @@
 package org.mybatis.dynamic.sql.insert;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertRenderer;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.RowLimit;
 import org.mybatis.dynamic.sql.util.Validator;
 
 public class MultiRowInsertModel<T> extends AbstractMultiRowInsertModel<T> {
@@ -37,6 +39,22 @@ public class MultiRowInsertModel<T> extends AbstractMultiRowInsertModel<T> {
                 .render();
     }
 
+    /**
+     * Render the insert as several statements, each with no more rows than allowed by the limit.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param limit the limit on the size of each statement
+     * @return a list of insert statements, in record order
+     * @since 2.1.0
+     */
+    public List<MultiRowInsertStatementProvider<T>> render(RenderingStrategy renderingStrategy,
+                                                           RowLimit limit) {
+        return MultiRowInsertRenderer.withMultiRowInsertModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .render(limit);
+    }
+
     public static <T> Builder<T> withRecords(Collection<T> records) {
         return new Builder<T>().withRecords(records);
     }
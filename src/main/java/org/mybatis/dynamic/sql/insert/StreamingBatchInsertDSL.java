@@ -0,0 +1,109 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.ConfigurableStatement;
+import org.mybatis.dynamic.sql.util.MappedColumnMapping;
+
+/**
+ * DSL for a batch insert where the records are supplied by an iterator or stream. The records are never collected
+ * into a list - see {@link org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert} for details.
+ *
+ * @param <T> the type of record to insert
+ * @since 2.1.0
+ */
+public class StreamingBatchInsertDSL<T>
+        implements Buildable<StreamingBatchInsertModel<T>>, ConfigurableStatement<StreamingBatchInsertDSL<T>> {
+
+    private final Iterator<T> records;
+    private final Runnable closeHandler;
+    private final SqlTable table;
+    private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+    private final StatementConfiguration statementConfiguration = new StatementConfiguration();
+
+    private StreamingBatchInsertDSL(Iterator<T> records, Runnable closeHandler, SqlTable table) {
+        this.records = Objects.requireNonNull(records);
+        this.closeHandler = Objects.requireNonNull(closeHandler);
+        this.table = Objects.requireNonNull(table);
+    }
+
+    public <F> ColumnMappingFinisher<F, StreamingBatchInsertDSL<T>> map(SqlColumn<F> column) {
+        return new ColumnMappingFinisher<>(column, columnMappings, this);
+    }
+
+    public <F> StreamingBatchInsertDSL<T> withMappedColumn(SqlColumn<F> column) {
+        columnMappings.add(MappedColumnMapping.of(column));
+        return this;
+    }
+
+    @Override
+    public StreamingBatchInsertDSL<T> configureStatement(Consumer<StatementConfiguration> consumer) {
+        consumer.accept(statementConfiguration);
+        return this;
+    }
+
+    @Override
+    public StreamingBatchInsertModel<T> build() {
+        return StreamingBatchInsertModel.withRecords(records)
+                .withCloseHandler(closeHandler)
+                .withTable(table)
+                .withColumnMappings(columnMappings)
+                .withStatementConfiguration(statementConfiguration)
+                .build();
+    }
+
+    /**
+     * Start a batch insert of records supplied by a stream. The stream is closed when the records have been
+     * executed.
+     *
+     * @param records the records to insert
+     * @param <T> the type of record to insert
+     * @return the next step in the DSL
+     */
+    public static <T> StreamingBatchInsertDSL.IntoGatherer<T> insert(Stream<T> records) {
+        return new IntoGatherer<>(records.iterator(), records::close);
+    }
+
+    public static <T> StreamingBatchInsertDSL.IntoGatherer<T> insert(Iterator<T> records) {
+        return new IntoGatherer<>(records, () -> { });
+    }
+
+    public static class IntoGatherer<T> {
+        private final Iterator<T> records;
+        private final Runnable closeHandler;
+
+        private IntoGatherer(Iterator<T> records, Runnable closeHandler) {
+            this.records = records;
+            this.closeHandler = closeHandler;
+        }
+
+        public StreamingBatchInsertDSL<T> into(SqlTable table) {
+            return new StreamingBatchInsertDSL<>(records, closeHandler, table);
+        }
+    }
+}
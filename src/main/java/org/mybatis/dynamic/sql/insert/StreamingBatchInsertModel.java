@@ -0,0 +1,130 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsertRenderer;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * Model for a batch insert where the records are supplied by an iterator. Unlike {@link BatchInsertModel}, the
+ * records are not copied into a list, and the model may only be rendered and executed once.
+ *
+ * @param <T> the type of record to insert
+ * @since 2.1.0
+ */
+public class StreamingBatchInsertModel<T> {
+    private final SqlTable table;
+    private final Iterator<T> records;
+    private final Runnable closeHandler;
+    private final List<AbstractColumnMapping> columnMappings;
+    private final StatementConfiguration statementConfiguration;
+
+    private StreamingBatchInsertModel(Builder<T> builder) {
+        table = Objects.requireNonNull(builder.table);
+        records = Objects.requireNonNull(builder.records);
+        closeHandler = builder.closeHandler;
+        columnMappings = Objects.requireNonNull(builder.columnMappings);
+        statementConfiguration = Objects.requireNonNullElseGet(builder.statementConfiguration,
+                StatementConfiguration::new);
+        Validator.assertNotEmpty(columnMappings, "ERROR.5"); //$NON-NLS-1$
+    }
+
+    public Stream<AbstractColumnMapping> columnMappings() {
+        return columnMappings.stream();
+    }
+
+    public Iterator<T> records() {
+        return records;
+    }
+
+    /**
+     * Returns a handler that releases the source of the records - for example, by closing a stream. The handler is
+     * run when the records have been executed.
+     *
+     * @return the close handler
+     */
+    public Runnable closeHandler() {
+        return closeHandler;
+    }
+
+    public SqlTable table() {
+        return table;
+    }
+
+    public StatementConfiguration statementConfiguration() {
+        return statementConfiguration;
+    }
+
+    public StreamingBatchInsert<T> render(RenderingStrategy renderingStrategy) {
+        return StreamingBatchInsertRenderer.withStreamingBatchInsertModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .render();
+    }
+
+    public static <T> Builder<T> withRecords(Iterator<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private @Nullable SqlTable table;
+        private @Nullable Iterator<T> records;
+        private Runnable closeHandler = () -> { };
+        private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+        private @Nullable StatementConfiguration statementConfiguration;
+
+        public Builder<T> withTable(SqlTable table) {
+            this.table = table;
+            return this;
+        }
+
+        public Builder<T> withRecords(Iterator<T> records) {
+            this.records = records;
+            return this;
+        }
+
+        public Builder<T> withCloseHandler(Runnable closeHandler) {
+            this.closeHandler = closeHandler;
+            return this;
+        }
+
+        public Builder<T> withColumnMappings(List<AbstractColumnMapping> columnMappings) {
+            this.columnMappings.addAll(columnMappings);
+            return this;
+        }
+
+        public Builder<T> withStatementConfiguration(StatementConfiguration statementConfiguration) {
+            this.statementConfiguration = statementConfiguration;
+            return this;
+        }
+
+        public StreamingBatchInsertModel<T> build() {
+            return new StreamingBatchInsertModel<>(this);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.Buildable;
+
+/**
+ * DSL for an upsert of a single record.
+ *
+ * @param <T> the type of record
+ * @since 2.1.0
+ */
+public class UpsertDSL<T> extends AbstractUpsertDSL<UpsertDSL<T>> implements Buildable<UpsertModel<T>> {
+    private final T row;
+
+    private UpsertDSL(T row, SqlTable table) {
+        super(table);
+        this.row = Objects.requireNonNull(row);
+    }
+
+    @Override
+    protected UpsertDSL<T> getThis() {
+        return this;
+    }
+
+    @Override
+    public UpsertModel<T> build() {
+        return UpsertModel.withRow(row)
+                .withTable(table)
+                .withColumnMappings(columnMappings)
+                .withUpsertSpecification(upsertSpecificationBuilder.build())
+                .withStatementConfiguration(statementConfiguration)
+                .build();
+    }
+
+    public static <T> IntoGatherer<T> upsert(T row) {
+        return new IntoGatherer<>(row);
+    }
+
+    public static class IntoGatherer<T> {
+        private final T row;
+
+        private IntoGatherer(T row) {
+            this.row = row;
+        }
+
+        public UpsertDSL<T> into(SqlTable table) {
+            return new UpsertDSL<>(row, table);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+/**
+ * The SQL syntax used to render an upsert - an insert that updates the existing row if a row with the same key
+ * already exists.
+ *
+ * @since 2.1.0
+ */
+public enum UpsertDialect {
+    /**
+     * Renders {@code insert ... on conflict (keys) do update set column = excluded.column}. This syntax is
+     * supported by PostgreSQL and SQLite.
+     */
+    POSTGRESQL,
+
+    /**
+     * Renders {@code insert ... values (...) as new on duplicate key update column = new.column}, with a row alias
+     * for the new values. This syntax is supported by MySQL 8.0.19 and later - use {@link #MARIADB} for MariaDB and
+     * older MySQL versions. The database matches rows with any primary key or unique index, so the key columns of the
+     * upsert are only used when no columns are updated.
+     */
+    MYSQL,
+
+    /**
+     * Renders {@code insert ... on duplicate key update column = values(column)}. This syntax is supported by
+     * MariaDB, and by MySQL versions before 8.0.19 (later MySQL versions deprecate the {@code values} function). The
+     * database matches rows with any primary key or unique index, so the key columns of the upsert are only used
+     * when no columns are updated.
+     */
+    MARIADB,
+
+    /**
+     * Renders a standard SQL {@code merge} statement with the new rows as a {@code values} table. This syntax is
+     * supported by HSQLDB, H2, DB2, and PostgreSQL 15 and later. Use {@link #SQL_SERVER} for SQL Server. Oracle is
+     * not supported - it does not accept a {@code values} table as the source of a merge.
+     */
+    MERGE,
+
+    /**
+     * Renders the same statement as {@link #MERGE}, terminated by a semicolon as SQL Server requires for merge
+     * statements.
+     */
+    SQL_SERVER
+}
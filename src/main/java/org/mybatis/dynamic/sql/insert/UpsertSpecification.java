@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * Describes how an upsert resolves a conflict with an existing row - the key columns that identify a row, the columns
+ * that are updated if the row exists, and the SQL dialect used to render the statement.
+ *
+ * @since 2.1.0
+ */
+public class UpsertSpecification {
+    private final List<SqlColumn<?>> keyColumns;
+    private final @Nullable List<SqlColumn<?>> updateColumns;
+    private final UpsertDialect dialect;
+
+    private UpsertSpecification(Builder builder) {
+        keyColumns = List.copyOf(builder.keyColumns);
+        updateColumns = builder.updateColumns == null ? null : List.copyOf(builder.updateColumns);
+        dialect = Objects.requireNonNull(builder.dialect);
+        Validator.assertNotEmpty(keyColumns, "ERROR.71"); //$NON-NLS-1$
+    }
+
+    public List<SqlColumn<?>> keyColumns() {
+        return keyColumns;
+    }
+
+    /**
+     * The columns updated if a row with the same key exists.
+     *
+     * @return the update columns, or an empty Optional if every mapped column except the key columns is updated
+     */
+    public Optional<List<SqlColumn<?>>> updateColumns() {
+        return Optional.ofNullable(updateColumns);
+    }
+
+    public UpsertDialect dialect() {
+        return dialect;
+    }
+
+    public static class Builder {
+        private final List<SqlColumn<?>> keyColumns = new ArrayList<>();
+        private @Nullable List<SqlColumn<?>> updateColumns;
+        private UpsertDialect dialect = UpsertDialect.MERGE;
+
+        public Builder withKeyColumns(Collection<? extends SqlColumn<?>> keyColumns) {
+            this.keyColumns.addAll(keyColumns);
+            return this;
+        }
+
+        public Builder withUpdateColumns(@Nullable Collection<? extends SqlColumn<?>> updateColumns) {
+            this.updateColumns = updateColumns == null ? null : new ArrayList<>(updateColumns);
+            return this;
+        }
+
+        public Builder withDialect(UpsertDialect dialect) {
+            this.dialect = dialect;
+            return this;
+        }
+
+        public UpsertSpecification build() {
+            return new UpsertSpecification(this);
+        }
+    }
+}
@@ -21,14 +21,17 @@ import java.util.List;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
 
 public class BatchInsert<T> {
     private final String insertStatement;
     private final List<T> records;
+    private final List<ParameterSlot> positionalParameters;
 
     private BatchInsert(Builder<T> builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
         records = Collections.unmodifiableList(Objects.requireNonNull(builder.records));
+        positionalParameters = Collections.unmodifiableList(builder.positionalParameters);
     }
 
     /**
@@ -45,6 +48,7 @@ public class BatchInsert<T> {
     private InsertStatementProvider<T> toInsertStatement(T row) {
         return DefaultInsertStatementProvider.withRow(row)
                 .withInsertStatement(insertStatement)
+                .withPositionalParameters(positionalParameters)
                 .build();
     }
 
@@ -61,6 +65,17 @@ public class BatchInsert<T> {
         return records;
     }
 
+    /**
+     * Returns the parameters of the insert statement in placeholder order, if it was rendered with a positional
+     * rendering strategy. The parameters are the same for every record - for example "row.firstName".
+     *
+     * @return the positional parameters of the insert statement
+     * @since 2.1.0
+     */
+    public List<ParameterSlot> getPositionalParameters() {
+        return positionalParameters;
+    }
+
     public static <T> Builder<T> withRecords(List<T> records) {
         return new Builder<T>().withRecords(records);
     }
@@ -68,6 +83,7 @@ public class BatchInsert<T> {
     public static class Builder<T> {
         private @Nullable String insertStatement;
         private final List<T> records = new ArrayList<>();
+        private List<ParameterSlot> positionalParameters = Collections.emptyList();
 
         public Builder<T> withInsertStatement(String insertStatement) {
             this.insertStatement = insertStatement;
@@ -79,6 +95,11 @@ public class BatchInsert<T> {
             return this;
         }
 
+        public Builder<T> withPositionalParameters(List<ParameterSlot> positionalParameters) {
+            this.positionalParameters = positionalParameters;
+            return this;
+        }
+
         public BatchInsert<T> build() {
             return new BatchInsert<>(this);
         }
@@ -19,6 +19,8 @@ import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+import org.mybatis.dynamic.sql.render.RenderInstrumentation;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 
 public class BatchInsertRenderer<T> {
@@ -33,14 +35,20 @@ public class BatchInsertRenderer<T> {
     }
 
     public BatchInsert<T> render() {
+        RenderInstrumentation renderInstrumentation =
+                RenderInstrumentation.start(model.statementConfiguration().renderListener().orElse(null));
+
         FieldAndValueCollector collector = model.columnMappings()
                 .map(m -> m.accept(visitor))
                 .collect(FieldAndValueCollector.collect());
 
         String insertStatement = InsertRenderingUtilities.calculateInsertStatement(model.table(), collector);
 
+        renderInstrumentation.finish(StatementType.BATCH_INSERT, insertStatement, collector.bindingCount());
+
         return BatchInsert.withRecords(model.records())
                 .withInsertStatement(insertStatement)
+                .withPositionalParameters(collector.positionalParameters())
                 .build();
     }
 
@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.insert.BatchUpsertModel;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+import org.mybatis.dynamic.sql.render.RenderInstrumentation;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+
+public class BatchUpsertRenderer<T> {
+
+    private final BatchUpsertModel<T> model;
+    private final MultiRowValuePhraseVisitor visitor;
+
+    private BatchUpsertRenderer(Builder<T> builder) {
+        model = Objects.requireNonNull(builder.model);
+        visitor = new MultiRowValuePhraseVisitor(Objects.requireNonNull(builder.renderingStrategy),
+                "row"); //$NON-NLS-1$
+    }
+
+    public BatchInsert<T> render() {
+        RenderInstrumentation renderInstrumentation =
+                RenderInstrumentation.start(model.statementConfiguration().renderListener().orElse(null));
+
+        FieldAndValueCollector collector = model.columnMappings()
+                .map(m -> m.accept(visitor))
+                .collect(FieldAndValueCollector.collect());
+
+        String upsertStatement = UpsertRenderingUtilities.calculateUpsertStatement(model.table(), collector,
+                model.upsertSpecification());
+
+        renderInstrumentation.finish(StatementType.BATCH_UPSERT, upsertStatement,
+                UpsertRenderingUtilities.calculateParameterCount(collector, model.upsertSpecification()));
+
+        return BatchInsert.withRecords(model.records())
+                .withInsertStatement(upsertStatement)
+                .withPositionalParameters(UpsertRenderingUtilities.calculatePositionalParameters(collector,
+                        model.upsertSpecification()))
+                .build();
+    }
+
+    public static <T> Builder<T> withBatchUpsertModel(BatchUpsertModel<T> model) {
+        return new Builder<T>().withBatchUpsertModel(model);
+    }
+
+    public static class Builder<T> {
+        private @Nullable BatchUpsertModel<T> model;
+        private @Nullable RenderingStrategy renderingStrategy;
+
+        public Builder<T> withBatchUpsertModel(BatchUpsertModel<T> model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder<T> withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public BatchUpsertRenderer<T> build() {
+            return new BatchUpsertRenderer<>(this);
+        }
+    }
+}
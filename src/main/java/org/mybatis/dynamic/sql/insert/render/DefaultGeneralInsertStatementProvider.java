@@ -15,20 +15,25 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
 
 public class DefaultGeneralInsertStatementProvider
         implements GeneralInsertStatementProvider, InsertSelectStatementProvider {
     private final String insertStatement;
     private final Map<String, Object> parameters;
+    private final List<ParameterSlot> positionalParameters;
 
     private DefaultGeneralInsertStatementProvider(Builder builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
         parameters = builder.parameters;
+        positionalParameters = Collections.unmodifiableList(builder.positionalParameters);
     }
 
     @Override
@@ -41,6 +46,11 @@ public class DefaultGeneralInsertStatementProvider
         return insertStatement;
     }
 
+    @Override
+    public List<ParameterSlot> getPositionalParameters() {
+        return positionalParameters;
+    }
+
     public static Builder withInsertStatement(String insertStatement) {
         return new Builder().withInsertStatement(insertStatement);
     }
@@ -48,6 +58,7 @@ public class DefaultGeneralInsertStatementProvider
     public static class Builder {
         private @Nullable String insertStatement;
         private final Map<String, Object> parameters = new HashMap<>();
+        private List<ParameterSlot> positionalParameters = Collections.emptyList();
 
         public Builder withInsertStatement(String insertStatement) {
             this.insertStatement = insertStatement;
@@ -59,6 +70,11 @@ public class DefaultGeneralInsertStatementProvider
             return this;
         }
 
+        public Builder withPositionalParameters(List<ParameterSlot> positionalParameters) {
+            this.positionalParameters = positionalParameters;
+            return this;
+        }
+
         public DefaultGeneralInsertStatementProvider build() {
             return new DefaultGeneralInsertStatementProvider(this);
         }
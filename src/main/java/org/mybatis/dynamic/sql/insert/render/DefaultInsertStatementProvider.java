@@ -15,17 +15,22 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
 
 public class DefaultInsertStatementProvider<T> implements InsertStatementProvider<T> {
     private final String insertStatement;
     private final T row;
+    private final List<ParameterSlot> positionalParameters;
 
     private DefaultInsertStatementProvider(Builder<T> builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
         row = Objects.requireNonNull(builder.row);
+        positionalParameters = Collections.unmodifiableList(builder.positionalParameters);
     }
 
     @Override
@@ -38,6 +43,11 @@ public class DefaultInsertStatementProvider<T> implements InsertStatementProvide
         return insertStatement;
     }
 
+    @Override
+    public List<ParameterSlot> getPositionalParameters() {
+        return positionalParameters;
+    }
+
     public static <T> Builder<T> withRow(T row) {
         return new Builder<T>().withRow(row);
     }
@@ -45,6 +55,7 @@ public class DefaultInsertStatementProvider<T> implements InsertStatementProvide
     public static class Builder<T> {
         private @Nullable String insertStatement;
         private @Nullable T row;
+        private List<ParameterSlot> positionalParameters = Collections.emptyList();
 
         public Builder<T> withInsertStatement(String insertStatement) {
             this.insertStatement = insertStatement;
@@ -56,6 +67,11 @@ public class DefaultInsertStatementProvider<T> implements InsertStatementProvide
             return this;
         }
 
+        public Builder<T> withPositionalParameters(List<ParameterSlot> positionalParameters) {
+            this.positionalParameters = positionalParameters;
+            return this;
+        }
+
         public DefaultInsertStatementProvider<T> build() {
             return new DefaultInsertStatementProvider<>(this);
         }
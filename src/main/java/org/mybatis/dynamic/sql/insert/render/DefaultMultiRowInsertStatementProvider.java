@@ -21,15 +21,18 @@ import java.util.List;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
 
 public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsertStatementProvider<T> {
 
     private final List<T> records;
     private final String insertStatement;
+    private final List<ParameterSlot> positionalParameters;
 
     private DefaultMultiRowInsertStatementProvider(Builder<T> builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
         records = Collections.unmodifiableList(builder.records);
+        positionalParameters = Collections.unmodifiableList(builder.positionalParameters);
     }
 
     @Override
@@ -42,9 +45,15 @@ public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsert
         return records;
     }
 
+    @Override
+    public List<ParameterSlot> getPositionalParameters() {
+        return positionalParameters;
+    }
+
     public static class Builder<T> {
         private final List<T> records = new ArrayList<>();
         private @Nullable String insertStatement;
+        private List<ParameterSlot> positionalParameters = Collections.emptyList();
 
         public Builder<T> withRecords(List<T> records) {
             this.records.addAll(records);
@@ -56,6 +65,11 @@ public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsert
             return this;
         }
 
+        public Builder<T> withPositionalParameters(List<ParameterSlot> positionalParameters) {
+            this.positionalParameters = positionalParameters;
+            return this;
+        }
+
         public DefaultMultiRowInsertStatementProvider<T> build() {
             return new DefaultMultiRowInsertStatementProvider<>(this);
         }
@@ -21,15 +21,20 @@ import java.util.Objects;
 import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
 
 public class FieldAndValueAndParameters {
     private final String fieldName;
     private final String valuePhrase;
+    private final boolean parameterBinding;
+    private final @Nullable ParameterSlot positionalParameter;
     private final Map<String, Object> parameters;
 
     private FieldAndValueAndParameters(Builder builder) {
         fieldName = Objects.requireNonNull(builder.fieldName);
         valuePhrase = Objects.requireNonNull(builder.valuePhrase);
+        parameterBinding = builder.parameterBinding;
+        positionalParameter = builder.positionalParameter;
         parameters = builder.parameters;
     }
 
@@ -41,6 +46,28 @@ public class FieldAndValueAndParameters {
         return valuePhrase;
     }
 
+    /**
+     * Whether the value phrase is a parameter binding. Bindings of multi-row inserts contain a placeholder for the
+     * row index - other value phrases (constants for example) are rendered as is.
+     *
+     * @return true if the value phrase is a parameter binding
+     * @since 2.1.0
+     */
+    public boolean isParameterBinding() {
+        return parameterBinding;
+    }
+
+    /**
+     * The parameter of a row based binding, if the binding was rendered with a positional rendering strategy. The
+     * parameter map key is the property path of the binding - for example "row.firstName".
+     *
+     * @return the positional parameter of the binding
+     * @since 2.1.0
+     */
+    public Optional<ParameterSlot> positionalParameter() {
+        return Optional.ofNullable(positionalParameter);
+    }
+
     public Map<String, Object> parameters() {
         return parameters;
     }
@@ -52,6 +79,8 @@ public class FieldAndValueAndParameters {
     public static class Builder {
         private @Nullable String fieldName;
         private @Nullable String valuePhrase;
+        private boolean parameterBinding;
+        private @Nullable ParameterSlot positionalParameter;
         private final Map<String, Object> parameters = new HashMap<>();
 
         public Builder withFieldName(String fieldName) {
@@ -64,6 +93,31 @@ public class FieldAndValueAndParameters {
             return this;
         }
 
+        /**
+         * Set the value phrase to a parameter binding.
+         *
+         * @param binding the parameter binding
+         * @return this builder
+         * @since 2.1.0
+         */
+        public Builder withParameterBinding(String binding) {
+            this.valuePhrase = binding;
+            this.parameterBinding = true;
+            return this;
+        }
+
+        /**
+         * Set the parameter of a row based binding rendered with a positional rendering strategy.
+         *
+         * @param positionalParameter the positional parameter, or null if the binding is not positional
+         * @return this builder
+         * @since 2.1.0
+         */
+        public Builder withPositionalParameter(@Nullable ParameterSlot positionalParameter) {
+            this.positionalParameter = positionalParameter;
+            return this;
+        }
+
         public Builder withParameter(String key, @Nullable Object value) {
             // the value can be null because a parameter type converter may return null
 
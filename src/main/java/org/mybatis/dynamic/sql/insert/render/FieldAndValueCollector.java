@@ -16,14 +16,20 @@
 package org.mybatis.dynamic.sql.insert.render;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.render.ParameterSlot;
 
 public class FieldAndValueCollector {
+    private static final String ROW_INDEX_PLACEHOLDER = "%s"; //$NON-NLS-1$
+
     final List<FieldAndValueAndParameters> fieldsAndValues = new ArrayList<>();
 
     public FieldAndValueCollector() {
@@ -49,6 +55,31 @@ public class FieldAndValueCollector {
                 .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
+    /**
+     * The names of the columns in this collector, in the order they appear in the columns phrase.
+     *
+     * @return the column names
+     * @since 2.1.0
+     */
+    public List<String> fieldNames() {
+        return fieldsAndValues.stream()
+                .map(FieldAndValueAndParameters::fieldName)
+                .toList();
+    }
+
+    /**
+     * The value phrases of the columns in this collector, keyed by column name, in the order they appear in the
+     * columns phrase.
+     *
+     * @return the value phrases
+     * @since 2.1.0
+     */
+    public Map<String, String> valuePhrases() {
+        return fieldsAndValues.stream()
+                .collect(Collectors.toMap(FieldAndValueAndParameters::fieldName,
+                        FieldAndValueAndParameters::valuePhrase, (v1, v2) -> v2, LinkedHashMap::new));
+    }
+
     public String valuesPhrase() {
         return fieldsAndValues.stream()
                 .map(FieldAndValueAndParameters::valuePhrase)
@@ -56,16 +87,147 @@ public class FieldAndValueCollector {
     }
 
     public String multiRowInsertValuesPhrase(int rowCount) {
-        return IntStream.range(0, rowCount)
-                .mapToObj(this::toSingleRowOfValues)
-                .collect(Collectors.joining(", ", "values ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        List<String> fragments = rowFragments();
+        StringBuilder sb = new StringBuilder("values "); //$NON-NLS-1$
+        for (int row = 0; row < rowCount; row++) {
+            if (row > 0) {
+                sb.append(", "); //$NON-NLS-1$
+            }
+            appendRow(sb, fragments, row);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The number of row based parameters in a single row of a multi-row insert.
+     *
+     * @return the number of parameters in each row of values
+     * @since 2.1.0
+     */
+    public int parametersPerRow() {
+        return rowFragments().size() - 1;
+    }
+
+    /**
+     * The number of value phrases that are parameter bindings.
+     *
+     * @return the number of parameter bindings in a row of values
+     * @since 2.1.0
+     */
+    public int bindingCount() {
+        return bindingCount(fieldNames());
+    }
+
+    /**
+     * The number of value phrases of some columns that are parameter bindings.
+     *
+     * @param fieldNames the names of the columns
+     * @return the number of parameter bindings in the value phrases of the columns
+     * @since 2.1.0
+     */
+    public int bindingCount(Collection<String> fieldNames) {
+        return (int) fieldsAndValues.stream()
+                .filter(FieldAndValueAndParameters::isParameterBinding)
+                .filter(f -> fieldNames.contains(f.fieldName()))
+                .count();
     }
 
-    private String toSingleRowOfValues(int row) {
+    private void appendRow(StringBuilder sb, List<String> fragments, int row) {
+        sb.append(fragments.get(0));
+        for (int i = 1; i < fragments.size(); i++) {
+            sb.append(row).append(fragments.get(i));
+        }
+    }
+
+    // Parameter bindings for multi-row inserts contain a "%s" placeholder for the row index. A row of values is split
+    // around the placeholders once, then the index of each row is appended between the fragments. Only bindings are
+    // split, so constants may contain "%s" or a single "%". Earlier versions formatted every value with
+    // String.format, so "%%" in a constant is still rendered as "%" - constants written for those versions keep
+    // rendering the same SQL.
+    private List<String> rowFragments() {
+        List<String> fragments = new ArrayList<>();
+        StringBuilder fragment = new StringBuilder("("); //$NON-NLS-1$
+        for (int i = 0; i < fieldsAndValues.size(); i++) {
+            if (i > 0) {
+                fragment.append(", "); //$NON-NLS-1$
+            }
+
+            FieldAndValueAndParameters fieldAndValue = fieldsAndValues.get(i);
+            if (fieldAndValue.isParameterBinding()) {
+                appendBinding(fragments, fragment, fieldAndValue.valuePhrase());
+            } else {
+                fragment.append(fieldAndValue.valuePhrase().replace("%%", "%")); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        }
+        fragments.add(fragment.append(')').toString());
+        return fragments;
+    }
+
+    private void appendBinding(List<String> fragments, StringBuilder fragment, String binding) {
+        int start = 0;
+        int index = binding.indexOf(ROW_INDEX_PLACEHOLDER);
+        while (index >= 0) {
+            fragments.add(fragment.append(binding, start, index).toString());
+            fragment.setLength(0);
+            start = index + ROW_INDEX_PLACEHOLDER.length();
+            index = binding.indexOf(ROW_INDEX_PLACEHOLDER, start);
+        }
+        fragment.append(binding, start, binding.length());
+    }
+
+    /**
+     * The positional parameters of the row based bindings in this collector, in the order they appear in the values
+     * phrase. The list is empty unless the bindings were rendered with a positional rendering strategy.
+     *
+     * @return the positional parameters of a row of values
+     * @since 2.1.0
+     */
+    public List<ParameterSlot> positionalParameters() {
         return fieldsAndValues.stream()
-                .map(FieldAndValueAndParameters::valuePhrase)
-                .map(s -> s.formatted(row))
-                .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                .map(FieldAndValueAndParameters::positionalParameter)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * The positional parameters of the row based bindings of some columns, in the order the columns are listed.
+     *
+     * @param fieldNames the names of the columns
+     * @return the positional parameters of the columns
+     * @since 2.1.0
+     */
+    public List<ParameterSlot> positionalParameters(List<String> fieldNames) {
+        return fieldNames.stream()
+                .flatMap(n -> fieldsAndValues.stream().filter(f -> f.fieldName().equals(n)))
+                .map(FieldAndValueAndParameters::positionalParameter)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * The positional parameters of a multi-row insert, in the order they appear in the values phrase. The row index
+     * placeholder of each parameter is replaced with the index of the row.
+     *
+     * @param rowCount the number of rows in the statement
+     * @return the positional parameters of every row of values
+     * @since 2.1.0
+     */
+    public List<ParameterSlot> multiRowPositionalParameters(int rowCount) {
+        List<ParameterSlot> rowParameters = positionalParameters();
+        List<ParameterSlot> answer = new ArrayList<>(rowParameters.size() * rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            for (ParameterSlot rowParameter : rowParameters) {
+                answer.add(forRow(rowParameter, row));
+            }
+        }
+        return answer;
+    }
+
+    private ParameterSlot forRow(ParameterSlot rowParameter, int row) {
+        String parameterMapKey = rowParameter.parameterMapKey().replace(ROW_INDEX_PLACEHOLDER, String.valueOf(row));
+        return rowParameter.column()
+                .map(c -> ParameterSlot.of(parameterMapKey, c))
+                .orElseGet(() -> ParameterSlot.of(parameterMapKey));
     }
 
     public Map<String, Object> parameters() {
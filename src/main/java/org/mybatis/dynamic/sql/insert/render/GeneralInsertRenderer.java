@@ -15,11 +15,17 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+import org.mybatis.dynamic.sql.render.RenderInstrumentation;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.util.Validator;
@@ -28,12 +34,20 @@ public class GeneralInsertRenderer {
 
     private final GeneralInsertModel model;
     private final GeneralInsertValuePhraseVisitor visitor;
+    private final RenderInstrumentation renderInstrumentation;
+    private final List<ParameterSlot> positionalParameters = new ArrayList<>();
 
     private GeneralInsertRenderer(Builder builder) {
         model = Objects.requireNonNull(builder.model);
+        renderInstrumentation =
+                RenderInstrumentation.start(model.statementConfiguration().renderListener().orElse(null));
+        RenderingStrategy renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
         RenderingContext renderingContext = RenderingContext
-                .withRenderingStrategy(Objects.requireNonNull(builder.renderingStrategy))
+                .withRenderingStrategy(renderingStrategy)
+                .withSequence(Objects.requireNonNullElseGet(builder.sequence, ParameterSequence::new))
                 .withStatementConfiguration(model.statementConfiguration())
+                .withPositionalParameters(renderingStrategy.isPositional() ? positionalParameters : null)
+                .withRenderInstrumentation(renderInstrumentation)
                 .build();
         visitor = new GeneralInsertValuePhraseVisitor(renderingContext);
     }
@@ -48,8 +62,11 @@ public class GeneralInsertRenderer {
 
         String insertStatement = InsertRenderingUtilities.calculateInsertStatement(model.table(), collector);
 
+        renderInstrumentation.finish(StatementType.GENERAL_INSERT, insertStatement, collector.parameters().size());
+
         return DefaultGeneralInsertStatementProvider.withInsertStatement(insertStatement)
                 .withParameters(collector.parameters())
+                .withPositionalParameters(positionalParameters)
                 .build();
     }
 
@@ -60,6 +77,7 @@ public class GeneralInsertRenderer {
     public static class Builder {
         private @Nullable GeneralInsertModel model;
         private @Nullable RenderingStrategy renderingStrategy;
+        private @Nullable ParameterSequence sequence;
 
         public Builder withInsertModel(GeneralInsertModel model) {
             this.model = model;
@@ -71,6 +89,11 @@ public class GeneralInsertRenderer {
             return this;
         }
 
+        public Builder withSequence(ParameterSequence sequence) {
+            this.sequence = sequence;
+            return this;
+        }
+
         public GeneralInsertRenderer build() {
             return new GeneralInsertRenderer(this);
         }
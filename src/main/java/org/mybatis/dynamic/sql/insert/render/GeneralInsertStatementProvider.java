@@ -15,10 +15,25 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+
 public interface GeneralInsertStatementProvider {
     Map<String, Object> getParameters();
 
     String getInsertStatement();
+
+    /**
+     * The parameters of this statement in placeholder order, if it was rendered with a positional rendering strategy.
+     *
+     * @return the positional parameters. The default implementation returns an empty list.
+     * @see org.mybatis.dynamic.sql.render.RenderingStrategy#isPositional()
+     * @since 2.1.0
+     */
+    default List<ParameterSlot> getPositionalParameters() {
+        return Collections.emptyList();
+    }
 }
@@ -20,6 +20,8 @@ import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+import org.mybatis.dynamic.sql.render.RenderInstrumentation;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.util.Validator;
 
@@ -34,6 +36,9 @@ public class InsertRenderer<T> {
     }
 
     public InsertStatementProvider<T> render() {
+        RenderInstrumentation renderInstrumentation =
+                RenderInstrumentation.start(model.statementConfiguration().renderListener().orElse(null));
+
         FieldAndValueCollector collector = model.columnMappings()
                 .map(m -> m.accept(visitor))
                 .flatMap(Optional::stream)
@@ -43,8 +48,11 @@ public class InsertRenderer<T> {
 
         String insertStatement = InsertRenderingUtilities.calculateInsertStatement(model.table(), collector);
 
+        renderInstrumentation.finish(StatementType.INSERT, insertStatement, collector.bindingCount());
+
         return DefaultInsertStatementProvider.withRow(model.row())
                 .withInsertStatement(insertStatement)
+                .withPositionalParameters(collector.positionalParameters())
                 .build();
     }
 
@@ -24,6 +24,9 @@ import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.insert.InsertColumnListModel;
 import org.mybatis.dynamic.sql.insert.InsertSelectModel;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+import org.mybatis.dynamic.sql.render.RenderInstrumentation;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.render.SubQueryRenderer;
@@ -32,12 +35,17 @@ import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 public class InsertSelectRenderer {
 
     private final InsertSelectModel model;
+    private final RenderInstrumentation renderInstrumentation;
     private final RenderingContext renderingContext;
 
     private InsertSelectRenderer(Builder builder) {
         model = Objects.requireNonNull(builder.model);
+        renderInstrumentation =
+                RenderInstrumentation.start(model.statementConfiguration().renderListener().orElse(null));
         renderingContext = RenderingContext.withRenderingStrategy(Objects.requireNonNull(builder.renderingStrategy))
+                .withSequence(Objects.requireNonNullElseGet(builder.sequence, ParameterSequence::new))
                 .withStatementConfiguration(model.statementConfiguration())
+                .withRenderInstrumentation(renderInstrumentation)
                 .build();
     }
 
@@ -52,6 +60,9 @@ public class InsertSelectRenderer {
                 .build()
                 .render();
 
+        renderInstrumentation.finish(StatementType.INSERT_SELECT, fragmentAndParameters.fragment(),
+                fragmentAndParameters.parameters().size());
+
         return DefaultGeneralInsertStatementProvider.withInsertStatement(fragmentAndParameters.fragment())
                 .withParameters(fragmentAndParameters.parameters())
                 .build();
@@ -74,6 +85,7 @@ public class InsertSelectRenderer {
     public static class Builder {
         private @Nullable InsertSelectModel model;
         private @Nullable RenderingStrategy renderingStrategy;
+        private @Nullable ParameterSequence sequence;
 
         public Builder withInsertSelectModel(InsertSelectModel model) {
             this.model = model;
@@ -85,6 +97,11 @@ public class InsertSelectRenderer {
             return this;
         }
 
+        public Builder withSequence(ParameterSequence sequence) {
+            this.sequence = sequence;
+            return this;
+        }
+
         public InsertSelectRenderer build() {
             return new InsertSelectRenderer(this);
         }
@@ -15,6 +15,11 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import java.util.Collections;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+
 public interface InsertStatementProvider<T> {
     /**
      * Return the row associated with this insert statement.
@@ -29,4 +34,17 @@ public interface InsertStatementProvider<T> {
      * @return the formatted insert statement.
      */
     String getInsertStatement();
+
+    /**
+     * The parameters of this statement in placeholder order, if it was rendered with a positional rendering strategy.
+     * The parameter map key of each parameter is the path of a property of the row - for example "row.firstName" -
+     * or "row" for the row itself.
+     *
+     * @return the positional parameters. The default implementation returns an empty list.
+     * @see org.mybatis.dynamic.sql.render.RenderingStrategy#isPositional()
+     * @since 2.1.0
+     */
+    default List<ParameterSlot> getPositionalParameters() {
+        return Collections.emptyList();
+    }
 }
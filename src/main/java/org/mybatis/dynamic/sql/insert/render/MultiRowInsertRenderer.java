@@ -17,11 +17,17 @@ package org.mybatis.dynamic.sql.insert.render;
 
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+import org.mybatis.dynamic.sql.render.RenderInstrumentation;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.RowLimit;
 
 public class MultiRowInsertRenderer<T> {
 
@@ -30,27 +36,80 @@ public class MultiRowInsertRenderer<T> {
 
     private MultiRowInsertRenderer(Builder<T> builder) {
         model = Objects.requireNonNull(builder.model);
-        // the prefix is a generic format that will be resolved below with String.format(...)
+        // the prefix contains a row index placeholder that is resolved by the field and value collector
         visitor = new MultiRowValuePhraseVisitor(Objects.requireNonNull(builder.renderingStrategy),
                 "records[%s]"); //$NON-NLS-1$
     }
 
     public MultiRowInsertStatementProvider<T> render() {
+        RenderInstrumentation renderInstrumentation =
+                RenderInstrumentation.start(model.statementConfiguration().renderListener().orElse(null));
+
         FieldAndValueCollector collector = model.columnMappings()
                 .map(m -> m.accept(visitor))
                 .collect(FieldAndValueCollector.collect());
 
         String insertStatement = calculateInsertStatement(collector);
+        renderInstrumentation.finish(StatementType.MULTI_ROW_INSERT, insertStatement,
+                collector.parametersPerRow() * model.recordCount());
 
         return new DefaultMultiRowInsertStatementProvider.Builder<T>().withRecords(model.records())
                 .withInsertStatement(insertStatement)
+                .withPositionalParameters(collector.multiRowPositionalParameters(model.recordCount()))
                 .build();
     }
 
+    /**
+     * Render the insert as several statements, each with no more rows than allowed by the limit. All full chunks of
+     * records share a single rendered statement - only the final chunk is rendered separately if it is smaller.
+     *
+     * @param limit the limit on the size of each statement
+     * @return a list of insert statements, in record order
+     * @since 2.1.0
+     */
+    public List<MultiRowInsertStatementProvider<T>> render(RowLimit limit) {
+        RenderInstrumentation renderInstrumentation =
+                RenderInstrumentation.start(model.statementConfiguration().renderListener().orElse(null));
+
+        FieldAndValueCollector collector = model.columnMappings()
+                .map(m -> m.accept(visitor))
+                .collect(FieldAndValueCollector.collect());
+
+        List<T> records = model.records();
+        int recordCount = records.size();
+        int rowsPerStatement = Math.min(limit.rowsPerStatement(collector.parametersPerRow()), recordCount);
+        String fullInsertStatement = calculateInsertStatement(collector, rowsPerStatement);
+        // only the statement for a full chunk is reported - the final chunk is a shorter version of the same shape
+        renderInstrumentation.finish(StatementType.MULTI_ROW_INSERT, fullInsertStatement,
+                collector.parametersPerRow() * rowsPerStatement);
+
+        List<ParameterSlot> fullPositionalParameters = collector.multiRowPositionalParameters(rowsPerStatement);
+
+        List<MultiRowInsertStatementProvider<T>> statements = new ArrayList<>();
+        for (int start = 0; start < recordCount; start += rowsPerStatement) {
+            int end = Math.min(start + rowsPerStatement, recordCount);
+            boolean fullChunk = end - start == rowsPerStatement;
+            String insertStatement = fullChunk ? fullInsertStatement
+                    : calculateInsertStatement(collector, end - start);
+            List<ParameterSlot> positionalParameters = fullChunk ? fullPositionalParameters
+                    : collector.multiRowPositionalParameters(end - start);
+            statements.add(new DefaultMultiRowInsertStatementProvider.Builder<T>()
+                    .withRecords(records.subList(start, end))
+                    .withInsertStatement(insertStatement)
+                    .withPositionalParameters(positionalParameters)
+                    .build());
+        }
+        return statements;
+    }
+
     private String calculateInsertStatement(FieldAndValueCollector collector) {
+        return calculateInsertStatement(collector, model.recordCount());
+    }
+
+    private String calculateInsertStatement(FieldAndValueCollector collector, int rowCount) {
         String statementStart = InsertRenderingUtilities.calculateInsertStatementStart(model.table());
         String columnsPhrase = collector.columnsPhrase();
-        String valuesPhrase = collector.multiRowInsertValuesPhrase(model.recordCount());
+        String valuesPhrase = collector.multiRowInsertValuesPhrase(rowCount);
 
         return statementStart + spaceBefore(columnsPhrase) + spaceBefore(valuesPhrase);
     }
@@ -15,11 +15,27 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import java.util.Collections;
 import java.util.List;
 
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+
 public interface MultiRowInsertStatementProvider<T> {
 
     String getInsertStatement();
 
     List<T> getRecords();
+
+    /**
+     * The parameters of this statement in placeholder order, if it was rendered with a positional rendering strategy.
+     * The parameter map key of each parameter is the path of a property of a record - for example
+     * "records[2].firstName" - or the record itself, for example "records[2]".
+     *
+     * @return the positional parameters. The default implementation returns an empty list.
+     * @see org.mybatis.dynamic.sql.render.RenderingStrategy#isPositional()
+     * @since 2.1.0
+     */
+    default List<ParameterSlot> getPositionalParameters() {
+        return Collections.emptyList();
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.insert.MultiRowUpsertModel;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+import org.mybatis.dynamic.sql.render.RenderInstrumentation;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.RowLimit;
+
+public class MultiRowUpsertRenderer<T> {
+
+    private final MultiRowUpsertModel<T> model;
+    private final MultiRowValuePhraseVisitor visitor;
+
+    private MultiRowUpsertRenderer(Builder<T> builder) {
+        model = Objects.requireNonNull(builder.model);
+        // the prefix contains a row index placeholder that is resolved by the field and value collector
+        visitor = new MultiRowValuePhraseVisitor(Objects.requireNonNull(builder.renderingStrategy),
+                "records[%s]"); //$NON-NLS-1$
+    }
+
+    public MultiRowInsertStatementProvider<T> render() {
+        RenderInstrumentation renderInstrumentation =
+                RenderInstrumentation.start(model.statementConfiguration().renderListener().orElse(null));
+
+        FieldAndValueCollector collector = collect();
+        String upsertStatement = calculateUpsertStatement(collector, model.recordCount());
+        renderInstrumentation.finish(StatementType.MULTI_ROW_UPSERT, upsertStatement,
+                collector.parametersPerRow() * model.recordCount());
+
+        return new DefaultMultiRowInsertStatementProvider.Builder<T>().withRecords(model.records())
+                .withInsertStatement(upsertStatement)
+                .withPositionalParameters(collector.multiRowPositionalParameters(model.recordCount()))
+                .build();
+    }
+
+    /**
+     * Render the upsert as several statements, each with no more rows than allowed by the limit. All full chunks of
+     * records share a single rendered statement - only the final chunk is rendered separately if it is smaller.
+     *
+     * @param limit the limit on the size of each statement
+     * @return a list of upsert statements, in record order
+     */
+    public List<MultiRowInsertStatementProvider<T>> render(RowLimit limit) {
+        RenderInstrumentation renderInstrumentation =
+                RenderInstrumentation.start(model.statementConfiguration().renderListener().orElse(null));
+
+        FieldAndValueCollector collector = collect();
+        List<T> records = model.records();
+        int recordCount = records.size();
+        int rowsPerStatement = Math.min(limit.rowsPerStatement(collector.parametersPerRow()), recordCount);
+        String fullUpsertStatement = calculateUpsertStatement(collector, rowsPerStatement);
+        List<ParameterSlot> fullPositionalParameters = collector.multiRowPositionalParameters(rowsPerStatement);
+        renderInstrumentation.finish(StatementType.MULTI_ROW_UPSERT, fullUpsertStatement,
+                collector.parametersPerRow() * rowsPerStatement);
+
+        List<MultiRowInsertStatementProvider<T>> statements = new ArrayList<>();
+        for (int start = 0; start < recordCount; start += rowsPerStatement) {
+            int end = Math.min(start + rowsPerStatement, recordCount);
+            boolean fullChunk = end - start == rowsPerStatement;
+            String upsertStatement = fullChunk ? fullUpsertStatement
+                    : calculateUpsertStatement(collector, end - start);
+            List<ParameterSlot> positionalParameters = fullChunk ? fullPositionalParameters
+                    : collector.multiRowPositionalParameters(end - start);
+            statements.add(new DefaultMultiRowInsertStatementProvider.Builder<T>()
+                    .withRecords(records.subList(start, end))
+                    .withInsertStatement(upsertStatement)
+                    .withPositionalParameters(positionalParameters)
+                    .build());
+        }
+        return statements;
+    }
+
+    private FieldAndValueCollector collect() {
+        return model.columnMappings()
+                .map(m -> m.accept(visitor))
+                .collect(FieldAndValueCollector.collect());
+    }
+
+    private String calculateUpsertStatement(FieldAndValueCollector collector, int rowCount) {
+        return UpsertRenderingUtilities.calculateUpsertStatement(model.table(), collector,
+                collector.multiRowInsertValuesPhrase(rowCount), model.upsertSpecification());
+    }
+
+    public static <T> Builder<T> withMultiRowUpsertModel(MultiRowUpsertModel<T> model) {
+        return new Builder<T>().withMultiRowUpsertModel(model);
+    }
+
+    public static class Builder<T> {
+        private @Nullable MultiRowUpsertModel<T> model;
+        private @Nullable RenderingStrategy renderingStrategy;
+
+        public Builder<T> withMultiRowUpsertModel(MultiRowUpsertModel<T> model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder<T> withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public MultiRowUpsertRenderer<T> build() {
+            return new MultiRowUpsertRenderer<>(this);
+        }
+    }
+}
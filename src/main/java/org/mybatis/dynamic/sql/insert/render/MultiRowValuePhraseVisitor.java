@@ -15,7 +15,9 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
 import org.mybatis.dynamic.sql.util.MappedColumnMapping;
@@ -59,27 +61,36 @@ public class MultiRowValuePhraseVisitor extends MultiRowInsertMappingVisitor<Fie
     @Override
     public FieldAndValueAndParameters visit(PropertyMapping mapping) {
         return FieldAndValueAndParameters.withFieldName(mapping.columnName())
-                .withValuePhrase(calculateJdbcPlaceholder(mapping.column(), mapping.property()))
+                .withParameterBinding(calculateJdbcPlaceholder(mapping.column(), mapping.property()))
+                .withPositionalParameter(
+                        positionalParameter(mapping.column(), prefix + "." + mapping.property())) //$NON-NLS-1$
                 .build();
     }
 
     @Override
     public FieldAndValueAndParameters visit(RowMapping mapping) {
         return FieldAndValueAndParameters.withFieldName(mapping.columnName())
-                .withValuePhrase(calculateJdbcPlaceholder(mapping.column()))
+                .withParameterBinding(calculateJdbcPlaceholder(mapping.column()))
+                .withPositionalParameter(positionalParameter(mapping.column(), prefix))
                 .build();
     }
 
     @Override
     public FieldAndValueAndParameters visit(MappedColumnMapping mapping) {
         return FieldAndValueAndParameters.withFieldName(mapping.columnName())
-                .withValuePhrase(calculateJdbcPlaceholder(
+                .withParameterBinding(calculateJdbcPlaceholder(
                         mapping.column(),
                         InsertRenderingUtilities.getMappedPropertyName(mapping.column()))
                 )
+                .withPositionalParameter(positionalParameter(mapping.column(),
+                        prefix + "." + InsertRenderingUtilities.getMappedPropertyName(mapping.column()))) //$NON-NLS-1$
                 .build();
     }
 
+    private @Nullable ParameterSlot positionalParameter(SqlColumn<?> column, String parameterName) {
+        return renderingStrategy.isPositional() ? ParameterSlot.of(parameterName, column) : null;
+    }
+
     private String calculateJdbcPlaceholder(SqlColumn<?> column) {
         return column.renderingStrategy().orElse(renderingStrategy).getRecordBasedInsertBinding(column, prefix);
     }
@@ -0,0 +1,191 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * A rendered batch insert where the records are supplied by an iterator. The insert statement is rendered once, and
+ * records are read from the iterator only as they are needed. This allows very large data sets to be inserted
+ * without holding every record (or a statement provider for every record) in memory.
+ *
+ * <p>Records should be executed in chunks of a fixed size with {@link #forEachChunk(int, Consumer)}. Only one chunk
+ * of records is held in memory at any time.
+ *
+ * <p>The records can only be read once, so an instance of this class can only be executed once. If the records are
+ * supplied by a stream, the stream is closed when the records have been executed.
+ *
+ * @param <T> the type of record to insert
+ * @since 2.1.0
+ */
+public class StreamingBatchInsert<T> {
+    private final String insertStatement;
+    private final Iterator<T> records;
+    private final Runnable closeHandler;
+    private final List<ParameterSlot> positionalParameters;
+
+    private StreamingBatchInsert(Builder<T> builder) {
+        insertStatement = Objects.requireNonNull(builder.insertStatement);
+        records = Objects.requireNonNull(builder.records);
+        closeHandler = builder.closeHandler;
+        positionalParameters = Collections.unmodifiableList(builder.positionalParameters);
+    }
+
+    /**
+     * Returns the generated SQL for this batch. This is useful for Spring JDBC batch support.
+     *
+     * @return the generated INSERT statement
+     */
+    public String getInsertStatementSQL() {
+        return insertStatement;
+    }
+
+    /**
+     * Returns the parameters of the insert statement in placeholder order, if it was rendered with a positional
+     * rendering strategy. The parameters are the same for every record - for example "row.firstName".
+     *
+     * @return the positional parameters of the insert statement
+     * @since 2.1.0
+     */
+    public List<ParameterSlot> getPositionalParameters() {
+        return positionalParameters;
+    }
+
+    /**
+     * Returns a lazy stream of insert statements, one for each record. This is useful for MyBatis batch support.
+     * The stream reads from the iterator of records, so it can only be consumed once. Closing the stream closes the
+     * source of the records.
+     *
+     * @return a stream of insert statements
+     */
+    public Stream<InsertStatementProvider<T>> insertStatements() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED), false)
+                .onClose(closeHandler)
+                .map(this::toInsertStatement);
+    }
+
+    public InsertStatementProvider<T> toInsertStatement(T row) {
+        return DefaultInsertStatementProvider.withRow(row)
+                .withInsertStatement(insertStatement)
+                .withPositionalParameters(positionalParameters)
+                .build();
+    }
+
+    /**
+     * Read the records in chunks, and pass each chunk to the consumer. The same list is reused for every chunk and
+     * is cleared after the consumer returns, so the consumer must not keep a reference to the list.
+     *
+     * @param chunkSize the maximum number of records in a chunk. Every chunk except the last will contain exactly this
+     *                  number of records
+     * @param chunkConsumer a consumer that executes a chunk of records - typically a JDBC batch
+     * @return the total number of records read
+     */
+    public long forEachChunk(int chunkSize, Consumer<? super List<T>> chunkConsumer) {
+        return executeInChunks(chunkSize, chunk -> {
+            chunkConsumer.accept(chunk);
+            return chunk.size();
+        });
+    }
+
+    /**
+     * Read the records in chunks, and pass each chunk to the executor. The same list is reused for every chunk and
+     * is cleared after the executor returns, so the executor must not keep a reference to the list. The source of the
+     * records is closed when all records have been read, or if the executor fails.
+     *
+     * @param chunkSize the maximum number of records in a chunk. Every chunk except the last will contain exactly this
+     *                  number of records
+     * @param chunkExecutor a function that executes a chunk of records and returns a count - typically the number
+     *                      of rows inserted by a JDBC batch
+     * @return the sum of the counts returned by the executor
+     */
+    public long executeInChunks(int chunkSize, ToLongFunction<? super List<T>> chunkExecutor) {
+        Validator.assertTrue(chunkSize > 0, "ERROR.55"); //$NON-NLS-1$
+
+        List<T> chunk = new ArrayList<>(chunkSize);
+        long count = 0;
+        try {
+            while (records.hasNext()) {
+                chunk.add(records.next());
+                if (chunk.size() == chunkSize) {
+                    count += executeAndClear(chunk, chunkExecutor);
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                count += executeAndClear(chunk, chunkExecutor);
+            }
+        } finally {
+            closeHandler.run();
+        }
+
+        return count;
+    }
+
+    private long executeAndClear(List<T> chunk, ToLongFunction<? super List<T>> chunkExecutor) {
+        long count = chunkExecutor.applyAsLong(chunk);
+        chunk.clear();
+        return count;
+    }
+
+    public static <T> Builder<T> withRecords(Iterator<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private @Nullable String insertStatement;
+        private @Nullable Iterator<T> records;
+        private Runnable closeHandler = () -> { };
+        private List<ParameterSlot> positionalParameters = Collections.emptyList();
+
+        public Builder<T> withInsertStatement(String insertStatement) {
+            this.insertStatement = insertStatement;
+            return this;
+        }
+
+        public Builder<T> withRecords(Iterator<T> records) {
+            this.records = records;
+            return this;
+        }
+
+        public Builder<T> withCloseHandler(Runnable closeHandler) {
+            this.closeHandler = closeHandler;
+            return this;
+        }
+
+        public Builder<T> withPositionalParameters(List<ParameterSlot> positionalParameters) {
+            this.positionalParameters = positionalParameters;
+            return this;
+        }
+
+        public StreamingBatchInsert<T> build() {
+            return new StreamingBatchInsert<>(this);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.insert.StreamingBatchInsertModel;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+import org.mybatis.dynamic.sql.render.RenderInstrumentation;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+
+/**
+ * Renders a streaming batch insert. The insert statement is rendered once and is the same as the statement rendered
+ * by {@link BatchInsertRenderer} for the same column mappings.
+ *
+ * @param <T> the type of record to insert
+ * @since 2.1.0
+ */
+public class StreamingBatchInsertRenderer<T> {
+
+    private final StreamingBatchInsertModel<T> model;
+    private final MultiRowValuePhraseVisitor visitor;
+
+    private StreamingBatchInsertRenderer(Builder<T> builder) {
+        model = Objects.requireNonNull(builder.model);
+        visitor = new MultiRowValuePhraseVisitor(Objects.requireNonNull(builder.renderingStrategy),
+                "row"); //$NON-NLS-1$
+    }
+
+    public StreamingBatchInsert<T> render() {
+        RenderInstrumentation renderInstrumentation =
+                RenderInstrumentation.start(model.statementConfiguration().renderListener().orElse(null));
+
+        FieldAndValueCollector collector = model.columnMappings()
+                .map(m -> m.accept(visitor))
+                .collect(FieldAndValueCollector.collect());
+
+        String insertStatement = InsertRenderingUtilities.calculateInsertStatement(model.table(), collector);
+
+        renderInstrumentation.finish(StatementType.BATCH_INSERT, insertStatement, collector.bindingCount());
+
+        return StreamingBatchInsert.withRecords(model.records())
+                .withCloseHandler(model.closeHandler())
+                .withInsertStatement(insertStatement)
+                .withPositionalParameters(collector.positionalParameters())
+                .build();
+    }
+
+    public static <T> Builder<T> withStreamingBatchInsertModel(StreamingBatchInsertModel<T> model) {
+        return new Builder<T>().withStreamingBatchInsertModel(model);
+    }
+
+    public static class Builder<T> {
+        private @Nullable StreamingBatchInsertModel<T> model;
+        private @Nullable RenderingStrategy renderingStrategy;
+
+        public Builder<T> withStreamingBatchInsertModel(StreamingBatchInsertModel<T> model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder<T> withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public StreamingBatchInsertRenderer<T> build() {
+            return new StreamingBatchInsertRenderer<>(this);
+        }
+    }
+}
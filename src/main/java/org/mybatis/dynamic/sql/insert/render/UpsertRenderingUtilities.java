@@ -0,0 +1,270 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.UpsertDialect;
+import org.mybatis.dynamic.sql.insert.UpsertSpecification;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * Renders the dialect specific forms of an upsert statement from the columns and values phrase of an insert.
+ *
+ * @since 2.1.0
+ */
+public class UpsertRenderingUtilities {
+    private static final String SOURCE_ALIAS = "s"; //$NON-NLS-1$
+    private static final String ROW_ALIAS = "new"; //$NON-NLS-1$
+    private static final String MERGE_TERMINATOR = ";"; //$NON-NLS-1$
+
+    private UpsertRenderingUtilities() {}
+
+    /**
+     * Calculate an upsert statement for a single row.
+     *
+     * <p>The merge form binds the parameters directly in the search condition, the update, and the insert, so
+     * databases can infer the parameter types from the target columns. In a values source the parameter types are
+     * unknown, and some databases (HSQLDB, for example) bind them as character data.
+     *
+     * @param table the table
+     * @param collector the columns and value phrases of the row
+     * @param upsertSpecification the key columns, update columns, and dialect
+     * @return the upsert statement
+     */
+    public static String calculateUpsertStatement(SqlTable table, FieldAndValueCollector collector,
+                                                  UpsertSpecification upsertSpecification) {
+        if (!isMerge(upsertSpecification.dialect())) {
+            return calculateUpsertStatement(table, collector, collector.valuesPhrase(), upsertSpecification);
+        }
+
+        List<String> columnNames = collector.fieldNames();
+        List<String> keyColumns = mappedColumnNames(upsertSpecification.keyColumns(), columnNames);
+        List<String> updateColumns = calculateUpdateColumns(upsertSpecification, columnNames, keyColumns);
+        return calculateSingleRowMergeStatement(table, collector, keyColumns, updateColumns)
+                + terminator(upsertSpecification.dialect());
+    }
+
+    /**
+     * Calculate the number of parameters bound by a single row upsert statement. The single row merge form binds the
+     * values of the key columns and the update columns twice.
+     *
+     * @param collector the columns and value phrases of the row
+     * @param upsertSpecification the key columns, update columns, and dialect
+     * @return the number of parameters in the upsert statement
+     */
+    public static int calculateParameterCount(FieldAndValueCollector collector,
+                                              UpsertSpecification upsertSpecification) {
+        if (!isMerge(upsertSpecification.dialect())) {
+            return collector.bindingCount();
+        }
+
+        List<String> columnNames = collector.fieldNames();
+        List<String> keyColumns = mappedColumnNames(upsertSpecification.keyColumns(), columnNames);
+        List<String> updateColumns = calculateUpdateColumns(upsertSpecification, columnNames, keyColumns);
+        return collector.bindingCount(keyColumns) + collector.bindingCount(updateColumns) + collector.bindingCount();
+    }
+
+    /**
+     * Calculate the positional parameters of a single row upsert statement, in the order they appear in the
+     * statement. The list is empty unless the statement was rendered with a positional rendering strategy.
+     *
+     * @param collector the columns and value phrases of the row
+     * @param upsertSpecification the key columns, update columns, and dialect
+     * @return the positional parameters of the upsert statement
+     */
+    public static List<ParameterSlot> calculatePositionalParameters(FieldAndValueCollector collector,
+                                                                    UpsertSpecification upsertSpecification) {
+        if (!isMerge(upsertSpecification.dialect())) {
+            return collector.positionalParameters();
+        }
+
+        // the single row merge form binds the key values in the search condition and the update values in the set
+        // phrase before the insert values
+        List<String> columnNames = collector.fieldNames();
+        List<String> keyColumns = mappedColumnNames(upsertSpecification.keyColumns(), columnNames);
+        List<String> updateColumns = calculateUpdateColumns(upsertSpecification, columnNames, keyColumns);
+        List<ParameterSlot> answer = new ArrayList<>(collector.positionalParameters(keyColumns));
+        answer.addAll(collector.positionalParameters(updateColumns));
+        answer.addAll(collector.positionalParameters());
+        return answer;
+    }
+
+    /**
+     * Calculate an upsert statement with a values phrase. The merge form uses the values phrase as the source of the
+     * merge.
+     *
+     * @param table the table
+     * @param collector the columns and value phrases of a single row
+     * @param valuesPhrase the values phrase - either a single row or multiple rows
+     * @param upsertSpecification the key columns, update columns, and dialect
+     * @return the upsert statement
+     */
+    public static String calculateUpsertStatement(SqlTable table, FieldAndValueCollector collector,
+                                                  String valuesPhrase, UpsertSpecification upsertSpecification) {
+        List<String> columnNames = collector.fieldNames();
+        List<String> keyColumns = mappedColumnNames(upsertSpecification.keyColumns(), columnNames);
+        List<String> updateColumns = calculateUpdateColumns(upsertSpecification, columnNames, keyColumns);
+
+        return switch (upsertSpecification.dialect()) {
+            case POSTGRESQL -> calculateInsertStatement(table, collector, valuesPhrase)
+                    + calculateOnConflictPhrase(keyColumns, updateColumns);
+            case MYSQL -> calculateInsertStatement(table, collector, valuesPhrase) + " as " + ROW_ALIAS //$NON-NLS-1$
+                    + calculateOnDuplicateKeyPhrase(keyColumns, updateColumns,
+                            UpsertRenderingUtilities::rowAliasColumn);
+            case MARIADB -> calculateInsertStatement(table, collector, valuesPhrase)
+                    + calculateOnDuplicateKeyPhrase(keyColumns, updateColumns,
+                            UpsertRenderingUtilities::valuesFunction);
+            case MERGE, SQL_SERVER -> calculateMergeStatement(table, collector, valuesPhrase, keyColumns,
+                    updateColumns) + terminator(upsertSpecification.dialect());
+        };
+    }
+
+    private static boolean isMerge(UpsertDialect dialect) {
+        return dialect == UpsertDialect.MERGE || dialect == UpsertDialect.SQL_SERVER;
+    }
+
+    private static String terminator(UpsertDialect dialect) {
+        return dialect == UpsertDialect.SQL_SERVER ? MERGE_TERMINATOR : ""; //$NON-NLS-1$
+    }
+
+    private static List<String> calculateUpdateColumns(UpsertSpecification upsertSpecification,
+                                                       List<String> columnNames, List<String> keyColumns) {
+        return upsertSpecification.updateColumns()
+                .map(c -> mappedColumnNames(c, columnNames))
+                .orElseGet(() -> columnNames.stream().filter(c -> !keyColumns.contains(c)).toList());
+    }
+
+    private static String calculateInsertStatement(SqlTable table, FieldAndValueCollector collector,
+                                                   String valuesPhrase) {
+        return InsertRenderingUtilities.calculateInsertStatementStart(table)
+                + spaceBefore(collector.columnsPhrase())
+                + spaceBefore(valuesPhrase);
+    }
+
+    private static String calculateOnConflictPhrase(List<String> keyColumns, List<String> updateColumns) {
+        String onConflict = keyColumns.stream()
+                .collect(Collectors.joining(", ", " on conflict (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+        if (updateColumns.isEmpty()) {
+            return onConflict + " do nothing"; //$NON-NLS-1$
+        }
+
+        return onConflict + updateColumns.stream()
+                .map(c -> c + " = excluded." + c) //$NON-NLS-1$
+                .collect(Collectors.joining(", ", " do update set ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    private static String calculateOnDuplicateKeyPhrase(List<String> keyColumns, List<String> updateColumns,
+                                                        UnaryOperator<String> newValue) {
+        if (updateColumns.isEmpty()) {
+            // MySQL has no "do nothing" form - assigning a key column to itself leaves the row unchanged
+            String keyColumn = keyColumns.get(0);
+            return " on duplicate key update " + keyColumn + " = " + keyColumn; //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        return updateColumns.stream()
+                .map(c -> c + " = " + newValue.apply(c)) //$NON-NLS-1$
+                .collect(Collectors.joining(", ", " on duplicate key update ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    private static String calculateMergeStatement(SqlTable table, FieldAndValueCollector collector,
+                                                  String valuesPhrase, List<String> keyColumns,
+                                                  List<String> updateColumns) {
+        String tableName = table.tableName();
+        String columnsPhrase = collector.columnsPhrase();
+
+        StringBuilder sb = new StringBuilder("merge into ") //$NON-NLS-1$
+                .append(tableName)
+                .append(" using (") //$NON-NLS-1$
+                .append(valuesPhrase)
+                .append(") as ") //$NON-NLS-1$
+                .append(SOURCE_ALIAS)
+                .append(' ')
+                .append(columnsPhrase)
+                .append(keyColumns.stream()
+                        .map(c -> tableName + "." + c + " = " + sourceColumn(c)) //$NON-NLS-1$ //$NON-NLS-2$
+                        .collect(Collectors.joining(" and ", " on (", ")"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+        if (!updateColumns.isEmpty()) {
+            sb.append(updateColumns.stream()
+                    .map(c -> c + " = " + sourceColumn(c)) //$NON-NLS-1$
+                    .collect(Collectors.joining(", ", " when matched then update set ", ""))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+
+        return sb.append(" when not matched then insert ") //$NON-NLS-1$
+                .append(columnsPhrase)
+                .append(collector.fieldNames().stream()
+                        .map(UpsertRenderingUtilities::sourceColumn)
+                        .collect(Collectors.joining(", ", " values (", ")"))) //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                .toString();
+    }
+
+    private static String calculateSingleRowMergeStatement(SqlTable table, FieldAndValueCollector collector,
+                                                           List<String> keyColumns, List<String> updateColumns) {
+        String tableName = table.tableName();
+        Map<String, String> valuePhrases = collector.valuePhrases();
+
+        // the source is a single dummy row - the values are bound where they are used
+        StringBuilder sb = new StringBuilder("merge into ") //$NON-NLS-1$
+                .append(tableName)
+                .append(" using (values (1)) as ") //$NON-NLS-1$
+                .append(SOURCE_ALIAS)
+                .append(" (dummy)") //$NON-NLS-1$
+                .append(keyColumns.stream()
+                        .map(c -> tableName + "." + c + " = " + valuePhrases.get(c)) //$NON-NLS-1$ //$NON-NLS-2$
+                        .collect(Collectors.joining(" and ", " on (", ")"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+        if (!updateColumns.isEmpty()) {
+            sb.append(updateColumns.stream()
+                    .map(c -> c + " = " + valuePhrases.get(c)) //$NON-NLS-1$
+                    .collect(Collectors.joining(", ", " when matched then update set ", ""))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+
+        return sb.append(" when not matched then insert ") //$NON-NLS-1$
+                .append(collector.columnsPhrase())
+                .append(spaceBefore(collector.valuesPhrase()))
+                .toString();
+    }
+
+    private static String rowAliasColumn(String columnName) {
+        return ROW_ALIAS + "." + columnName; //$NON-NLS-1$
+    }
+
+    private static String valuesFunction(String columnName) {
+        return "values(" + columnName + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private static String sourceColumn(String columnName) {
+        return SOURCE_ALIAS + "." + columnName; //$NON-NLS-1$
+    }
+
+    private static List<String> mappedColumnNames(List<SqlColumn<?>> columns, List<String> mappedColumnNames) {
+        return columns.stream()
+                .map(SqlColumn::name)
+                .peek(n -> Validator.assertTrue(mappedColumnNames.contains(n), "ERROR.72", n)) //$NON-NLS-1$
+                .toList();
+    }
+}
@@ -17,7 +17,9 @@ package org.mybatis.dynamic.sql.insert.render;
 
 import java.util.Optional;
 
+import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
 import org.mybatis.dynamic.sql.util.InsertMappingVisitor;
@@ -62,7 +64,9 @@ public class ValuePhraseVisitor extends InsertMappingVisitor<Optional<FieldAndVa
     @Override
     public Optional<FieldAndValueAndParameters> visit(PropertyMapping mapping) {
         return FieldAndValueAndParameters.withFieldName(mapping.columnName())
-                .withValuePhrase(calculateJdbcPlaceholder(mapping.column(), mapping.property()))
+                .withParameterBinding(calculateJdbcPlaceholder(mapping.column(), mapping.property()))
+                .withPositionalParameter(
+                        positionalParameter(mapping.column(), "row." + mapping.property())) //$NON-NLS-1$
                 .buildOptional();
     }
 
@@ -78,17 +82,20 @@ public class ValuePhraseVisitor extends InsertMappingVisitor<Optional<FieldAndVa
     @Override
     public Optional<FieldAndValueAndParameters> visit(RowMapping mapping) {
         return FieldAndValueAndParameters.withFieldName(mapping.columnName())
-                .withValuePhrase(calculateJdbcPlaceholder(mapping.column()))
+                .withParameterBinding(calculateJdbcPlaceholder(mapping.column()))
+                .withPositionalParameter(positionalParameter(mapping.column(), "row")) //$NON-NLS-1$
                 .buildOptional();
     }
 
     @Override
     public Optional<FieldAndValueAndParameters> visit(MappedColumnMapping mapping) {
         return FieldAndValueAndParameters.withFieldName(mapping.columnName())
-                .withValuePhrase(calculateJdbcPlaceholder(
+                .withParameterBinding(calculateJdbcPlaceholder(
                         mapping.column(),
                         InsertRenderingUtilities.getMappedPropertyName(mapping.column()))
                 )
+                .withPositionalParameter(positionalParameter(mapping.column(),
+                        "row." + InsertRenderingUtilities.getMappedPropertyName(mapping.column()))) //$NON-NLS-1$
                 .buildOptional();
     }
 
@@ -101,6 +108,10 @@ public class ValuePhraseVisitor extends InsertMappingVisitor<Optional<FieldAndVa
         }
     }
 
+    private @Nullable ParameterSlot positionalParameter(SqlColumn<?> column, String parameterName) {
+        return renderingStrategy.isPositional() ? ParameterSlot.of(parameterName, column) : null;
+    }
+
     private String calculateJdbcPlaceholder(SqlColumn<?> column) {
         return column.renderingStrategy().orElse(renderingStrategy)
                 .getRecordBasedInsertBinding(column, "row"); //$NON-NLS-1$
@@ -0,0 +1,120 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.NamedParameter;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * Base class for statement templates. A statement template is a statement that has been rendered once, along with
+ * a binding plan - the ordered list of parameter slots allocated during rendering. New parameter values can be bound
+ * to a template many times without rendering the statement again.
+ *
+ * <p>The shape of the statement is fixed when the template is rendered. Conditions that may not render (like
+ * "isEqualToWhenPresent") are rendered or dropped based on the values in the model at that time, and binding new
+ * values will not change the generated SQL. Parameters that are not bound explicitly retain the values they had when
+ * the template was rendered.
+ *
+ * <p>New values are converted with the parameter type converter of the related column (if any). Any other
+ * transformation applied by a condition - for example, a mapper added with "map", or the conversion to upper case in
+ * the case-insensitive conditions - is not re-applied when binding values.
+ *
+ * <p>Templates are immutable and may be shared between threads.
+ *
+ * @param <P> the type of statement provider created when binding values
+ * @since 2.1.0
+ */
+public abstract class AbstractStatementTemplate<P> {
+    private final String statement;
+    private final Map<String, Object> parameters;
+    private final List<ParameterSlot> parameterSlots;
+    private final boolean hasNamedParameters;
+
+    protected AbstractStatementTemplate(String statement, Map<String, Object> parameters,
+                                        List<ParameterSlot> parameterSlots) {
+        this.statement = Objects.requireNonNull(statement);
+        this.parameters = Collections.unmodifiableMap(new HashMap<>(parameters));
+        this.parameterSlots = List.copyOf(parameterSlots);
+        // named parameters are never parameter slots, so only the template parameters need to be checked, once
+        hasNamedParameters = parameters.values().stream().anyMatch(NamedParameter.class::isInstance);
+    }
+
+    public String statement() {
+        return statement;
+    }
+
+    public List<ParameterSlot> parameterSlots() {
+        return parameterSlots;
+    }
+
+    /**
+     * Bind new values to the parameter slots of this template.
+     *
+     * @param values the new values, in slot order. There must be exactly one value for every parameter slot.
+     * @return a new statement provider with the rendered SQL and the new parameter values
+     */
+    public P bind(@Nullable Object... values) {
+        return bind(Arrays.asList(values));
+    }
+
+    /**
+     * Bind new values to the parameter slots of this template.
+     *
+     * @param values the new values, in slot order. There must be exactly one value for every parameter slot.
+     * @return a new statement provider with the rendered SQL and the new parameter values
+     * @throws org.mybatis.dynamic.sql.exception.InvalidSqlException if the statement contains named parameters -
+     *     use {@link #bindNamed(Map)} for those statements
+     */
+    public P bind(List<? extends @Nullable Object> values) {
+        Validator.assertTrue(values.size() == parameterSlots.size(), "ERROR.52", //$NON-NLS-1$
+                String.valueOf(parameterSlots.size()), String.valueOf(values.size()));
+
+        Map<String, Object> boundParameters = new HashMap<>(parameters);
+        for (int i = 0; i < parameterSlots.size(); i++) {
+            ParameterSlot parameterSlot = parameterSlots.get(i);
+            //noinspection DataFlowIssue
+            boundParameters.put(parameterSlot.parameterMapKey(), parameterSlot.convertParameterType(values.get(i)));
+        }
+
+        if (hasNamedParameters) {
+            NamedParameter.assertBound(boundParameters);
+        }
+        return toStatementProvider(statement, boundParameters);
+    }
+
+    /**
+     * Bind values to the named parameters of this template. Parameter slots retain the values they had when the
+     * template was rendered.
+     *
+     * @param namedValues the values of the named parameters, keyed by name. There must be a value for every named
+     *     parameter in the statement
+     * @return a new statement provider with the rendered SQL and the new parameter values
+     * @see NamedParameter
+     */
+    public P bindNamed(Map<String, ?> namedValues) {
+        return toStatementProvider(statement, NamedParameter.bindValues(parameters, namedValues));
+    }
+
+    protected abstract P toStatementProvider(String statement, Map<String, Object> parameters);
+}
@@ -15,9 +15,18 @@
  */
 package org.mybatis.dynamic.sql.render;
 
+import java.sql.JDBCType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.BindableColumn;
 
 public class MyBatis3RenderingStrategy extends RenderingStrategy {
+    // Rendered type details are shared by all columns with the same types. This keeps the cache small even when
+    // columns are created for every statement.
+    private static final Map<TypeDetails, String> RENDERED_TYPE_DETAILS = new ConcurrentHashMap<>();
+
     @Override
     public String getFormattedJdbcPlaceholder(String prefix, String parameterName) {
         return "#{" //$NON-NLS-1$
@@ -33,37 +42,48 @@ public class MyBatis3RenderingStrategy extends RenderingStrategy {
                 + prefix
                 + "." //$NON-NLS-1$
                 + parameterName
-                + renderJdbcType(column)
-                + renderJavaType(column)
-                + renderTypeHandler(column)
+                + renderTypeDetails(column)
                 + "}"; //$NON-NLS-1$
     }
 
     @Override
-    public String getRecordBasedInsertBinding(BindableColumn<?> column, String parameterName) {
+    public String getFormattedJdbcArrayPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        // MyBatis' array type handler creates a java.sql.Array based on the component type of the parameter
         return "#{" //$NON-NLS-1$
+                + prefix
+                + "." //$NON-NLS-1$
                 + parameterName
-                + renderJdbcType(column)
-                + renderJavaType(column)
-                + renderTypeHandler(column)
-                + "}"; //$NON-NLS-1$
+                + ",typeHandler=org.apache.ibatis.type.ArrayTypeHandler}"; //$NON-NLS-1$
     }
 
-    private String renderTypeHandler(BindableColumn<?> column) {
-        return column.typeHandler()
-                .map(th -> ",typeHandler=" + th) //$NON-NLS-1$
-                .orElse(""); //$NON-NLS-1$
+    @Override
+    public String getRecordBasedInsertBinding(BindableColumn<?> column, String parameterName) {
+        return "#{" //$NON-NLS-1$
+                + parameterName
+                + renderTypeDetails(column)
+                + "}"; //$NON-NLS-1$
     }
 
-    private String renderJdbcType(BindableColumn<?> column) {
-        return column.jdbcType()
-                .map(jt -> ",jdbcType=" + jt.getName()) //$NON-NLS-1$
-                .orElse(""); //$NON-NLS-1$
+    private String renderTypeDetails(BindableColumn<?> column) {
+        TypeDetails typeDetails = new TypeDetails(column.jdbcType().orElse(null), column.javaType().orElse(null),
+                column.typeHandler().orElse(null));
+        return RENDERED_TYPE_DETAILS.computeIfAbsent(typeDetails, TypeDetails::render);
     }
 
-    private String renderJavaType(BindableColumn<?> column) {
-        return column.javaType()
-                .map(jt -> ",javaType=" + jt.getName()) //$NON-NLS-1$
-                .orElse(""); //$NON-NLS-1$
+    private record TypeDetails(@Nullable JDBCType jdbcType, @Nullable Class<?> javaType,
+                               @Nullable String typeHandler) {
+        private String render() {
+            StringBuilder sb = new StringBuilder();
+            if (jdbcType != null) {
+                sb.append(",jdbcType=").append(jdbcType.getName()); //$NON-NLS-1$
+            }
+            if (javaType != null) {
+                sb.append(",javaType=").append(javaType.getName()); //$NON-NLS-1$
+            }
+            if (typeHandler != null) {
+                sb.append(",typeHandler=").append(typeHandler); //$NON-NLS-1$
+            }
+            return sb.toString();
+        }
     }
 }
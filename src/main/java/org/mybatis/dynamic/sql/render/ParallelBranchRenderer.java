@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+
+/**
+ * Renders the branches of a union, in parallel if enabled by the statement configuration.
+ *
+ * <p>When rendering in parallel, the first branch is rendered with the supplied rendering context and every other
+ * branch is rendered with a context that has a child parameter sequence. The child sequences are created in order
+ * before any branch is rendered, and the rendered branches are returned in order, so the rendered statement is the
+ * same no matter how the branches are scheduled. Branches are rendered on the common fork-join pool.
+ *
+ * <p>Parameter map keys in branches after the first are prefixed with a namespace (for example, "u1_p1") when
+ * rendering in parallel, so the rendered SQL is different from sequential rendering - but it is always the same
+ * for the same statement and configuration.
+ *
+ * @since 2.1.0
+ */
+public class ParallelBranchRenderer {
+    private ParallelBranchRenderer() {}
+
+    /**
+     * Render the branches of a union.
+     *
+     * @param renderingContext the rendering context of the union
+     * @param branches functions that render each branch with the supplied rendering context
+     * @return the rendered branches, in the same order as the branches
+     */
+    public static List<FragmentAndParameters> render(RenderingContext renderingContext,
+            List<? extends Function<RenderingContext, FragmentAndParameters>> branches) {
+        if (!renderingContext.isParallelRenderingEnabled(branches.size())) {
+            return branches.stream().map(b -> b.apply(renderingContext)).toList();
+        }
+
+        List<RenderingContext> renderingContexts = new ArrayList<>();
+        renderingContexts.add(renderingContext);
+        for (int i = 1; i < branches.size(); i++) {
+            renderingContexts.add(renderingContext.withChildParameterSequence());
+        }
+
+        return IntStream.range(0, branches.size())
+                .parallel()
+                .mapToObj(i -> branches.get(i).apply(renderingContexts.get(i)))
+                .toList();
+    }
+}
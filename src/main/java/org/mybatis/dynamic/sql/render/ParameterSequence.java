@@ -0,0 +1,126 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A sequence used to generate unique parameter map keys while rendering a statement. The sequence is shared by
+ * all the rendering contexts created for a statement.
+ *
+ * <p>When branches of a union are rendered in parallel, each branch after the first uses a child sequence with its
+ * own namespace. Parameter map keys from a child sequence are prefixed with the namespace, so they are unique
+ * without coordination between threads. Keys that a rendering strategy formats without drawing a value from the
+ * sequence - fixed names like the paging parameters of the Spring Batch strategy - are not prefixed, because the
+ * caller supplies them under that exact name. Child namespaces are allocated in order on the thread that renders the
+ * parent, so the rendered statement does not depend on thread scheduling.
+ *
+ * <p>The sequence also records whether a named parameter was rendered in the statement, so a statement rendered
+ * without values only needs to be checked for unbound named parameters when it has some. A child sequence records
+ * this in its parent as well.
+ *
+ * <p>A sequence is only used by one thread at a time, so this class is not synchronized. The named parameter flag is
+ * volatile because child sequences may set it in their parent from another thread.
+ *
+ * @since 2.1.0
+ */
+public class ParameterSequence {
+    private final String namespace;
+    private final @Nullable AtomicInteger sharedCounter;
+    private final @Nullable ParameterSequence parent;
+    private int next;
+    private int drawCount;
+    private int childCount;
+    private volatile boolean hasNamedParameters;
+
+    public ParameterSequence() {
+        this(1);
+    }
+
+    public ParameterSequence(int initialValue) {
+        this("", initialValue, null); //$NON-NLS-1$
+    }
+
+    private ParameterSequence(String namespace, int initialValue, @Nullable ParameterSequence parent) {
+        this.namespace = namespace;
+        sharedCounter = null;
+        this.parent = parent;
+        next = initialValue;
+    }
+
+    private ParameterSequence(AtomicInteger sharedCounter) {
+        namespace = ""; //$NON-NLS-1$
+        this.sharedCounter = sharedCounter;
+        parent = null;
+    }
+
+    // supports the deprecated AtomicInteger based hooks and builder method
+    static ParameterSequence of(AtomicInteger sharedCounter) {
+        return new ParameterSequence(sharedCounter);
+    }
+
+    public int getAndIncrement() {
+        drawCount++;
+        return sharedCounter == null ? next++ : sharedCounter.getAndIncrement();
+    }
+
+    public String namespace() {
+        return namespace;
+    }
+
+    /**
+     * Create a new sequence in a namespace nested within the namespace of this sequence. Every child of a sequence
+     * has a different namespace.
+     *
+     * @return a new sequence starting at one
+     */
+    public ParameterSequence child() {
+        childCount++;
+        return new ParameterSequence(namespace + "u" + childCount + "_", 1, this); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Whether a named parameter was rendered with this sequence, or with any of its children.
+     *
+     * @return true if the statement contains a named parameter
+     */
+    public boolean hasNamedParameters() {
+        return hasNamedParameters;
+    }
+
+    void namedParameterRendered() {
+        hasNamedParameters = true;
+        if (parent != null) {
+            parent.namedParameterRendered();
+        }
+    }
+
+    /**
+     * Calculate a parameter map key and prefix it with the namespace of this sequence. The key is only prefixed if
+     * the formatter draws a value from this sequence - a key formatted without the sequence is a fixed name.
+     *
+     * @param keyFormatter formats the parameter map key, usually with a value drawn from this sequence
+     * @return the parameter map key
+     */
+    String qualify(Function<ParameterSequence, String> keyFormatter) {
+        int drawsBefore = drawCount;
+        String parameterMapKey = keyFormatter.apply(this);
+        return namespace.isEmpty() || drawCount == drawsBefore ? parameterMapKey : namespace + parameterMapKey;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.BindableColumn;
+
+/**
+ * Describes a single parameter allocated while rendering a statement. Parameter slots are recorded in the order
+ * the parameters were allocated, which is the same order as the placeholders appear in most statements.
+ *
+ * <p>Slots are tied to a column when the parameter is bound to a column in a condition, a set phrase, or an insert
+ * value. Paging parameters (limit, offset, fetch first) are not tied to a column. Array parameters are tied to the
+ * column related to the elements of the array.
+ *
+ * @since 2.1.0
+ */
+public class ParameterSlot {
+    private final String parameterMapKey;
+    private final @Nullable BindableColumn<?> column;
+    private final boolean array;
+
+    private ParameterSlot(String parameterMapKey, @Nullable BindableColumn<?> column, boolean array) {
+        this.parameterMapKey = Objects.requireNonNull(parameterMapKey);
+        this.column = column;
+        this.array = array;
+    }
+
+    public String parameterMapKey() {
+        return parameterMapKey;
+    }
+
+    public Optional<BindableColumn<?>> column() {
+        return Optional.ofNullable(column);
+    }
+
+    /**
+     * Whether the parameter is bound as a single array.
+     *
+     * @return true if the value of the parameter is a Java array bound as a <code>java.sql.Array</code>
+     */
+    public boolean isArray() {
+        return array;
+    }
+
+    /**
+     * Convert a value with the parameter type converter of the related column (if any). Array values are not
+     * converted - the converter of the column applies to the elements of the array.
+     *
+     * @param value the value to convert
+     * @return the converted value, or the original value if this slot is not tied to a column or is an array
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable Object convertParameterType(@Nullable Object value) {
+        if (column == null || array || value == null) {
+            return value;
+        }
+
+        return ((BindableColumn<Object>) column).convertParameterType(value);
+    }
+
+    public static ParameterSlot of(String parameterMapKey) {
+        return new ParameterSlot(parameterMapKey, null, false);
+    }
+
+    public static ParameterSlot of(String parameterMapKey, BindableColumn<?> column) {
+        return new ParameterSlot(parameterMapKey, column, false);
+    }
+
+    public static ParameterSlot ofArray(String parameterMapKey, BindableColumn<?> column) {
+        return new ParameterSlot(parameterMapKey, column, true);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+/**
+ * Details about the rendering of a single statement.
+ *
+ * @param statementType the type of statement rendered
+ * @param durationNanos the time taken to render the statement in nanoseconds
+ * @param sqlLength the length of the rendered SQL
+ * @param parameterCount the number of parameters in the parameter map of the rendered statement. Row based inserts
+ *                       bind values from the records rather than a parameter map, so the count is zero for those
+ *                       statements
+ * @param skippedConditionCount the number of optional conditions that did not render - for example,
+ *                              "isEqualToWhenPresent" conditions with a null value
+ * @param shapeFingerprint a fingerprint of the rendered SQL. Statements with the same fingerprint almost certainly
+ *                         have the same SQL and differ only in parameter values
+ * @since 2.1.0
+ */
+public record RenderEvent(StatementType statementType, long durationNanos, int sqlLength, int parameterCount,
+                          int skippedConditionCount, long shapeFingerprint) {
+
+    public enum StatementType {
+        SELECT,
+        MULTI_SELECT,
+        UPDATE,
+        DELETE,
+        INSERT,
+        BATCH_INSERT,
+        MULTI_ROW_INSERT,
+        GENERAL_INSERT,
+        INSERT_SELECT,
+        UPSERT,
+        BATCH_UPSERT,
+        MULTI_ROW_UPSERT,
+        BATCH_UPDATE,
+        BATCH_DELETE
+    }
+}
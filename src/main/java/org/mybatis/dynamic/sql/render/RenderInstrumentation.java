@@ -0,0 +1,84 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.RenderableCondition;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+
+/**
+ * Measures the rendering of a single statement and reports it to a {@link RenderListener}. Renderers start the
+ * measurement before rendering, and finish it with the rendered SQL.
+ *
+ * <p>If there is no listener, a shared disabled instance is used. The disabled instance does not read the clock
+ * or allocate anything, so rendering has no measurement overhead unless a listener is configured.
+ *
+ * <p>The branches of a union may be rendered on several threads, so skipped conditions are counted atomically.
+ *
+ * @since 2.1.0
+ */
+public class RenderInstrumentation {
+    private static final RenderInstrumentation DISABLED = new RenderInstrumentation(null, 0);
+
+    private final @Nullable RenderListener listener;
+    private final long startTime;
+    private final AtomicInteger skippedConditionCount = new AtomicInteger();
+
+    private RenderInstrumentation(@Nullable RenderListener listener, long startTime) {
+        this.listener = listener;
+        this.startTime = startTime;
+    }
+
+    /**
+     * Notify an optional condition that it did not render, and count it.
+     *
+     * @param condition the condition that did not render
+     */
+    public void renderingSkipped(RenderableCondition<?> condition) {
+        condition.renderingSkipped();
+        if (listener != null) {
+            skippedConditionCount.incrementAndGet();
+        }
+    }
+
+    public void finish(StatementType statementType, String sql, int parameterCount) {
+        if (listener != null) {
+            listener.statementRendered(new RenderEvent(statementType, System.nanoTime() - startTime, sql.length(),
+                    parameterCount, skippedConditionCount.get(), fingerprint(sql)));
+        }
+    }
+
+    // a 64-bit FNV-1a hash of the SQL. String.hashCode has too few bits to distinguish the statements of a large
+    // application reliably
+    static long fingerprint(String sql) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < sql.length(); i++) {
+            hash ^= sql.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    public static RenderInstrumentation start(@Nullable RenderListener listener) {
+        return listener == null ? DISABLED : new RenderInstrumentation(listener, System.nanoTime());
+    }
+
+    public static RenderInstrumentation disabled() {
+        return DISABLED;
+    }
+}
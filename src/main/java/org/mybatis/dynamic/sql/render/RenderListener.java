@@ -0,0 +1,36 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+/**
+ * A listener that is notified every time a statement is rendered. Listeners can be used to measure the cost of
+ * rendering in an application - for example, to find statements that are rendered often and would benefit from
+ * the rendered statement cache or from statement templates.
+ *
+ * <p>A listener is configured for all statements with the "renderListener" global configuration property (the fully
+ * qualified name of a class with a public no-argument constructor), or for a single statement with
+ * {@link org.mybatis.dynamic.sql.configuration.StatementConfiguration#setRenderListener(RenderListener)}. There is no
+ * listener by default, and rendering is not measured at all unless a listener is configured.
+ *
+ * <p>Listeners are called on the rendering thread, so they should be fast and must be thread safe.
+ *
+ * @see RenderMetrics
+ * @since 2.1.0
+ */
+@FunctionalInterface
+public interface RenderListener {
+    void statementRendered(RenderEvent event);
+}
@@ -0,0 +1,249 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * A render listener that keeps simple metrics in memory for every distinct statement - the number of times it was
+ * rendered, the total and maximum render time, and a histogram of render times. Statements are distinguished by
+ * statement type and shape fingerprint.
+ *
+ * <p>The histogram has one bucket for each power of two nanoseconds. Bucket <code>n</code> counts renders that took
+ * at least 2<sup>n-1</sup> and less than 2<sup>n</sup> nanoseconds (bucket zero counts renders that took no
+ * measurable time).
+ *
+ * <p>This class is thread safe. Metrics are kept for at most {@link #maximumStatements()} distinct statements (the
+ * limit may be exceeded slightly when new statements are rendered concurrently). When the limit is reached, events for
+ * statements that are not already tracked are counted by {@link #droppedEventCount()} and otherwise ignored, so
+ * applications that generate an unbounded variety of statements do not use an unbounded amount of memory.
+ *
+ * @since 2.1.0
+ */
+public class RenderMetrics implements RenderListener {
+    private static final int BUCKET_COUNT = 64;
+    private static final int DEFAULT_MAXIMUM_STATEMENTS = 1000;
+
+    private final int maximumStatements;
+    private final Map<Key, Accumulator> accumulators = new ConcurrentHashMap<>();
+    private final LongAdder droppedEventCount = new LongAdder();
+
+    public RenderMetrics() {
+        this(DEFAULT_MAXIMUM_STATEMENTS);
+    }
+
+    public RenderMetrics(int maximumStatements) {
+        Validator.assertTrue(maximumStatements > 0, "ERROR.80"); //$NON-NLS-1$
+        this.maximumStatements = maximumStatements;
+    }
+
+    @Override
+    public void statementRendered(RenderEvent event) {
+        Key key = new Key(event.statementType(), event.shapeFingerprint());
+        Accumulator accumulator = accumulators.get(key);
+        if (accumulator == null) {
+            if (accumulators.size() >= maximumStatements) {
+                droppedEventCount.increment();
+                return;
+            }
+            accumulator = accumulators.computeIfAbsent(key, k -> new Accumulator());
+        }
+        accumulator.add(event);
+    }
+
+    public int maximumStatements() {
+        return maximumStatements;
+    }
+
+    /**
+     * The number of events that were ignored because metrics were already kept for the maximum number of statements.
+     *
+     * @return the number of ignored events
+     */
+    public long droppedEventCount() {
+        return droppedEventCount.sum();
+    }
+
+    /**
+     * Return a snapshot of the metrics for every statement, ordered by total render time with the most expensive
+     * statement first.
+     *
+     * @return the current metrics
+     */
+    public List<StatementMetrics> snapshot() {
+        return accumulators.entrySet().stream()
+                .map(e -> e.getValue().snapshot(e.getKey()))
+                .sorted(Comparator.comparingLong(StatementMetrics::totalNanos).reversed())
+                .toList();
+    }
+
+    public void clear() {
+        accumulators.clear();
+        droppedEventCount.reset();
+    }
+
+    static int bucket(long durationNanos) {
+        return durationNanos <= 0 ? 0 : Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(durationNanos));
+    }
+
+    private record Key(StatementType statementType, long shapeFingerprint) {}
+
+    private static class Accumulator {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder skippedConditionCount = new LongAdder();
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKET_COUNT);
+        private volatile int sqlLength;
+        private volatile int parameterCount;
+
+        private void add(RenderEvent event) {
+            count.increment();
+            totalNanos.add(event.durationNanos());
+            maxNanos.accumulate(event.durationNanos());
+            skippedConditionCount.add(event.skippedConditionCount());
+            histogram.incrementAndGet(bucket(event.durationNanos()));
+            sqlLength = event.sqlLength();
+            parameterCount = event.parameterCount();
+        }
+
+        private StatementMetrics snapshot(Key key) {
+            long[] buckets = new long[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets[i] = histogram.get(i);
+            }
+            return new StatementMetrics(key, sqlLength, parameterCount, count.sum(), totalNanos.sum(),
+                    maxNanos.get(), skippedConditionCount.sum(), buckets);
+        }
+    }
+
+    public static class StatementMetrics {
+        private final StatementType statementType;
+        private final long shapeFingerprint;
+        private final int sqlLength;
+        private final int parameterCount;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long skippedConditionCount;
+        private final long[] histogram;
+
+        private StatementMetrics(Key key, int sqlLength, int parameterCount, long count, long totalNanos,
+                                 long maxNanos, long skippedConditionCount, long[] histogram) {
+            statementType = key.statementType();
+            shapeFingerprint = key.shapeFingerprint();
+            this.sqlLength = sqlLength;
+            this.parameterCount = parameterCount;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.skippedConditionCount = skippedConditionCount;
+            this.histogram = histogram;
+        }
+
+        public StatementType statementType() {
+            return statementType;
+        }
+
+        public long shapeFingerprint() {
+            return shapeFingerprint;
+        }
+
+        public int sqlLength() {
+            return sqlLength;
+        }
+
+        public int parameterCount() {
+            return parameterCount;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long totalNanos() {
+            return totalNanos;
+        }
+
+        public long maxNanos() {
+            return maxNanos;
+        }
+
+        public long averageNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        public long skippedConditionCount() {
+            return skippedConditionCount;
+        }
+
+        public long[] histogram() {
+            return Arrays.copyOf(histogram, histogram.length);
+        }
+
+        /**
+         * Estimate a percentile of the render time from the histogram. The estimate is the upper bound of the
+         * histogram bucket that contains the percentile, so it is never more than twice the actual value.
+         *
+         * @param percentile the percentile to estimate, between 0 and 100
+         * @return the estimated render time in nanoseconds
+         */
+        public long percentileNanos(double percentile) {
+            long threshold = (long) Math.ceil(count * percentile / 100.0);
+            long cumulative = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                cumulative += histogram[i];
+                if (cumulative >= threshold && cumulative > 0) {
+                    return Math.min(1L << i, maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StatementMetrics that)) {
+                return false;
+            }
+            return statementType == that.statementType && shapeFingerprint == that.shapeFingerprint
+                    && count == that.count && totalNanos == that.totalNanos && maxNanos == that.maxNanos
+                    && sqlLength == that.sqlLength && parameterCount == that.parameterCount
+                    && skippedConditionCount == that.skippedConditionCount
+                    && Arrays.equals(histogram, that.histogram);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hash(statementType, shapeFingerprint, count, totalNanos)
+                    + Arrays.hashCode(histogram);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+
+/**
+ * A bounded cache of rendered SQL, keyed by {@link StatementShape}. Statements with the same shape render identical
+ * SQL - only the parameter values differ. When a shape is found in the cache, the SQL is reused and the parameter
+ * map is built directly from the values collected while calculating the shape.
+ *
+ * <p>The cache holds at most {@link #maximumSize()} entries. When the cache is full, the least recently used entry is
+ * evicted. A maximum size of zero disables the cache.
+ *
+ * <p>This class is thread safe.
+ *
+ * @since 2.1.0
+ */
+public class RenderedStatementCache {
+    private final int maximumSize;
+    private final Map<Object, CachedStatement> cache;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public RenderedStatementCache(int maximumSize) {
+        this.maximumSize = Math.max(maximumSize, 0);
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, CachedStatement> eldest) {
+                return size() > RenderedStatementCache.this.maximumSize;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return maximumSize > 0;
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Render a statement, or reuse the SQL rendered previously for a statement with the same shape.
+     *
+     * <p>On a cache miss, the renderer is called with an empty list that will receive the parameter slots allocated
+     * during rendering. The result is cached only if the rendered parameters match the values collected in the shape,
+     * so any statement that cannot be reproduced from its shape is simply rendered every time.
+     *
+     * @param shape the shape of the statement to render
+     * @param renderer a function that renders the statement and records parameter slots in the supplied list
+     * @return the rendered statement
+     */
+    public FragmentAndParameters render(StatementShape shape,
+                                        Function<List<ParameterSlot>, FragmentAndParameters> renderer) {
+        return render(shape, RenderInstrumentation.disabled(), renderer);
+    }
+
+    /**
+     * Render a statement, or reuse the SQL rendered previously for a statement with the same shape. When the SQL is
+     * reused, optional conditions that did not render are counted by the instrumentation. When the statement is
+     * rendered, the renderer is responsible for counting them.
+     *
+     * @param shape the shape of the statement to render
+     * @param renderInstrumentation the instrumentation for the statement being rendered
+     * @param renderer a function that renders the statement and records parameter slots in the supplied list
+     * @return the rendered statement
+     */
+    public FragmentAndParameters render(StatementShape shape, RenderInstrumentation renderInstrumentation,
+                                        Function<List<ParameterSlot>, FragmentAndParameters> renderer) {
+        Optional<CachedStatement> cachedStatement = get(shape.key());
+        if (cachedStatement.isPresent()) {
+            hitCount.increment();
+            shape.renderingSkipped(renderInstrumentation);
+            return cachedStatement.get().bind(shape.parameterValues());
+        }
+
+        missCount.increment();
+        List<ParameterSlot> parameterSlots = new ArrayList<>();
+        FragmentAndParameters fragmentAndParameters = renderer.apply(parameterSlots);
+        CachedStatement.of(fragmentAndParameters, parameterSlots, shape.parameterValues())
+                .ifPresent(cs -> put(shape.key(), cs));
+        return fragmentAndParameters;
+    }
+
+    private synchronized Optional<CachedStatement> get(Object key) {
+        return Optional.ofNullable(cache.get(key));
+    }
+
+    private synchronized void put(Object key, CachedStatement cachedStatement) {
+        if (isEnabled()) {
+            cache.put(key, cachedStatement);
+        }
+    }
+
+    private static class CachedStatement {
+        private final String statement;
+        private final List<String> parameterMapKeys;
+
+        private CachedStatement(String statement, List<String> parameterMapKeys) {
+            this.statement = statement;
+            this.parameterMapKeys = parameterMapKeys;
+        }
+
+        private FragmentAndParameters bind(List<@Nullable Object> parameterValues) {
+            return FragmentAndParameters.withFragment(statement)
+                    .withParameters(toParameterMap(parameterMapKeys, parameterValues))
+                    .build();
+        }
+
+        private static Optional<CachedStatement> of(FragmentAndParameters fragmentAndParameters,
+                                                    List<ParameterSlot> parameterSlots,
+                                                    List<@Nullable Object> parameterValues) {
+            if (parameterSlots.size() != parameterValues.size()) {
+                return Optional.empty();
+            }
+
+            List<String> parameterMapKeys = parameterSlots.stream().map(ParameterSlot::parameterMapKey).toList();
+            if (!hasSameParameters(toParameterMap(parameterMapKeys, parameterValues),
+                    fragmentAndParameters.parameters())) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new CachedStatement(fragmentAndParameters.fragment(), parameterMapKeys));
+        }
+
+        private static boolean hasSameParameters(Map<String, Object> expected, Map<String, Object> actual) {
+            // array parameters are compared by content
+            return expected.size() == actual.size() && expected.entrySet().stream()
+                    .allMatch(e -> actual.containsKey(e.getKey())
+                            && Objects.deepEquals(e.getValue(), actual.get(e.getKey())));
+        }
+
+        private static Map<String, Object> toParameterMap(List<String> parameterMapKeys,
+                                                          List<@Nullable Object> parameterValues) {
+            Map<String, Object> parameters = new HashMap<>();
+            for (int i = 0; i < parameterMapKeys.size(); i++) {
+                //noinspection DataFlowIssue
+                parameters.put(parameterMapKeys.get(i), parameterValues.get(i));
+            }
+            return parameters;
+        }
+    }
+}
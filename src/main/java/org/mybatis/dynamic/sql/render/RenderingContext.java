@@ -17,13 +17,16 @@ package org.mybatis.dynamic.sql.render;
 
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.RenderableCondition;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.InListStrategy;
 import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
 
 /**
@@ -36,20 +39,39 @@ import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
 public class RenderingContext {
 
     private final RenderingStrategy renderingStrategy;
-    private final AtomicInteger sequence;
+    private final ParameterSequence sequence;
     private final TableAliasCalculator tableAliasCalculator;
     private static final String PARAMETER_NAME = RenderingStrategy.DEFAULT_PARAMETER_PREFIX;
     private final StatementConfiguration statementConfiguration;
+    private final @Nullable List<ParameterSlot> parameterSlots;
+    private final @Nullable List<ParameterSlot> positionalParameters;
+    private final RenderInstrumentation renderInstrumentation;
 
     private RenderingContext(Builder builder) {
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
         tableAliasCalculator = Objects.requireNonNull(builder.tableAliasCalculator);
         statementConfiguration = Objects.requireNonNull(builder.statementConfiguration);
-        sequence = Objects.requireNonNullElseGet(builder.sequence, () -> new AtomicInteger(1));
+        sequence = Objects.requireNonNullElseGet(builder.sequence, ParameterSequence::new);
+        parameterSlots = builder.parameterSlots;
+        positionalParameters = builder.positionalParameters;
+        renderInstrumentation = builder.renderInstrumentation;
     }
 
     private String nextMapKey() {
-        return renderingStrategy.formatParameterMapKey(sequence);
+        return sequence.qualify(renderingStrategy::formatParameterMapKey);
+    }
+
+    private void recordParameterSlot(ParameterSlot parameterSlot) {
+        if (parameterSlots != null) {
+            parameterSlots.add(parameterSlot);
+        }
+        recordPositionalParameter(parameterSlot);
+    }
+
+    private void recordPositionalParameter(ParameterSlot parameterSlot) {
+        if (positionalParameters != null) {
+            positionalParameters.add(parameterSlot);
+        }
     }
 
     private <T> String renderedPlaceHolder(String mapKey, BindableColumn<T> column) {
@@ -58,28 +80,81 @@ public class RenderingContext {
     }
 
     public RenderedParameterInfo calculateFetchFirstRowsParameterInfo() {
-        String mapKey = renderingStrategy.formatParameterMapKeyForFetchFirstRows(sequence);
+        String mapKey = sequence.qualify(renderingStrategy::formatParameterMapKeyForFetchFirstRows);
+        recordParameterSlot(ParameterSlot.of(mapKey));
         return new RenderedParameterInfo(mapKey,
                 renderingStrategy.getFormattedJdbcPlaceholderForPagingParameters(PARAMETER_NAME, mapKey));
     }
 
     public RenderedParameterInfo calculateLimitParameterInfo() {
-        String mapKey = renderingStrategy.formatParameterMapKeyForLimit(sequence);
+        String mapKey = sequence.qualify(renderingStrategy::formatParameterMapKeyForLimit);
+        recordParameterSlot(ParameterSlot.of(mapKey));
         return new RenderedParameterInfo(mapKey,
                 renderingStrategy.getFormattedJdbcPlaceholderForPagingParameters(PARAMETER_NAME, mapKey));
     }
 
     public RenderedParameterInfo calculateOffsetParameterInfo() {
-        String mapKey = renderingStrategy.formatParameterMapKeyForOffset(sequence);
+        String mapKey = sequence.qualify(renderingStrategy::formatParameterMapKeyForOffset);
+        recordParameterSlot(ParameterSlot.of(mapKey));
         return new RenderedParameterInfo(mapKey,
                 renderingStrategy.getFormattedJdbcPlaceholderForPagingParameters(PARAMETER_NAME, mapKey));
     }
 
     public <T> RenderedParameterInfo calculateParameterInfo(BindableColumn<T> column) {
         String mapKey = nextMapKey();
+        recordParameterSlot(ParameterSlot.of(mapKey, column));
         return new RenderedParameterInfo(mapKey, renderedPlaceHolder(mapKey, column));
     }
 
+    /**
+     * Calculate a parameter with a fixed name. Named parameters are not numbered from the parameter sequence and
+     * are not recorded as parameter slots - their values are bound by name. They are recorded as positional
+     * parameters, and the parameter sequence records that the statement has named parameters.
+     *
+     * @param name the name of the parameter, used as the parameter map key
+     * @param column the column that supplies type information for the parameter
+     * @param <T> the type of the column
+     * @return the parameter map key and placeholder for the named parameter
+     * @since 2.1.0
+     */
+    public <T> RenderedParameterInfo calculateNamedParameterInfo(String name, BindableColumn<T> column) {
+        sequence.namedParameterRendered();
+        recordPositionalParameter(ParameterSlot.of(name, column));
+        return new RenderedParameterInfo(name, renderedPlaceHolder(name, column));
+    }
+
+    /**
+     * Calculate a parameter that will be bound as a single array. The column's parameter type converter applies to
+     * the elements of the array, so it is not applied to the array by the parameter slot.
+     *
+     * @param column the column related to the elements of the array
+     * @param <T> the type of the column
+     * @return the parameter map key and placeholder for the array
+     * @since 2.1.0
+     */
+    public <T> RenderedParameterInfo calculateArrayParameterInfo(BindableColumn<T> column) {
+        String mapKey = nextMapKey();
+        recordParameterSlot(ParameterSlot.ofArray(mapKey, column));
+        return new RenderedParameterInfo(mapKey, column.renderingStrategy().orElse(renderingStrategy)
+                .getFormattedJdbcArrayPlaceholder(column, PARAMETER_NAME, mapKey));
+    }
+
+    /**
+     * Calculate the value bound to an array parameter. The rendering strategy of the column, or the rendering
+     * strategy of the statement, decides how the array is bound.
+     *
+     * @param column the column related to the elements of the array
+     * @param elementTypeName the SQL type name of the elements of the array
+     * @param array the converted values
+     * @param <T> the type of the column
+     * @return the parameter value
+     * @since 2.1.0
+     */
+    public <T> Object arrayParameterValue(BindableColumn<T> column, String elementTypeName, Object[] array) {
+        return column.renderingStrategy().orElse(renderingStrategy)
+                .getArrayParameterValue(column, elementTypeName, array);
+    }
+
     public <T> String aliasedColumnName(SqlColumn<T> column) {
         return tableAliasCalculator.aliasForColumn(column.table())
                 .map(alias -> aliasedColumnName(column, alias))
@@ -100,6 +175,56 @@ public class RenderingContext {
         return statementConfiguration.isNonRenderingWhereClauseAllowed();
     }
 
+    public InListStrategy inListStrategy() {
+        return statementConfiguration.inListStrategy();
+    }
+
+    /**
+     * Notify an optional condition that it did not render. Renderers should call this method rather than
+     * notifying the condition directly, so that skipped conditions are reported to any render listener.
+     *
+     * @param condition the condition that did not render
+     * @since 2.1.0
+     */
+    public void renderingSkipped(RenderableCondition<?> condition) {
+        renderInstrumentation.renderingSkipped(condition);
+    }
+
+    /**
+     * Determine whether the branches of a union should be rendered in parallel. Branches are rendered in parallel
+     * if the number of branches reaches the parallel rendering threshold of the statement configuration. Statements
+     * rendered as templates, for the rendered statement cache, or with a positional rendering strategy, are always
+     * rendered sequentially.
+     *
+     * @param branchCount the number of branches in the union
+     * @return true if the branches should be rendered in parallel
+     * @since 2.1.0
+     */
+    public boolean isParallelRenderingEnabled(int branchCount) {
+        int threshold = statementConfiguration.parallelRenderingThreshold();
+        return threshold > 0 && branchCount >= threshold
+                && parameterSlots == null && positionalParameters == null;
+    }
+
+    /**
+     * Create a new rendering context based on this, with a child parameter sequence. This is used to render a
+     * branch of a union in parallel with the other branches.
+     *
+     * @return a new rendering context whose parameter map keys are in a new namespace
+     * @since 2.1.0
+     */
+    public RenderingContext withChildParameterSequence() {
+        return new Builder()
+                .withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence.child())
+                .withTableAliasCalculator(tableAliasCalculator)
+                .withStatementConfiguration(statementConfiguration)
+                .withParameterSlots(parameterSlots)
+                .withPositionalParameters(positionalParameters)
+                .withRenderInstrumentation(renderInstrumentation)
+                .build();
+    }
+
     /**
      * Create a new rendering context based on this, with the table alias calculator modified to include the
      * specified child table alias calculator. This is used by the query expression renderer when the alias calculator
@@ -120,6 +245,9 @@ public class RenderingContext {
                 .withSequence(this.sequence)
                 .withTableAliasCalculator(tac)
                 .withStatementConfiguration(statementConfiguration)
+                .withParameterSlots(parameterSlots)
+                .withPositionalParameters(positionalParameters)
+                .withRenderInstrumentation(renderInstrumentation)
                 .build();
     }
 
@@ -129,20 +257,35 @@ public class RenderingContext {
 
     public static class Builder {
         private @Nullable RenderingStrategy renderingStrategy;
-        private @Nullable AtomicInteger sequence;
+        private @Nullable ParameterSequence sequence;
         private @Nullable TableAliasCalculator tableAliasCalculator = TableAliasCalculator.empty();
         private @Nullable StatementConfiguration statementConfiguration;
+        private @Nullable List<ParameterSlot> parameterSlots;
+        private @Nullable List<ParameterSlot> positionalParameters;
+        private RenderInstrumentation renderInstrumentation = RenderInstrumentation.disabled();
 
         public Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
             this.renderingStrategy = renderingStrategy;
             return this;
         }
 
-        public Builder withSequence(AtomicInteger sequence) {
+        public Builder withSequence(ParameterSequence sequence) {
             this.sequence = sequence;
             return this;
         }
 
+        /**
+         * Set a sequence that takes its values from, and advances, an atomic counter.
+         *
+         * @param sequence the counter that supplies parameter sequence values
+         * @return this builder
+         * @deprecated since 2.1.0. Please use {@link #withSequence(ParameterSequence)} instead
+         */
+        @Deprecated(since = "2.1.0", forRemoval = true)
+        public Builder withSequence(AtomicInteger sequence) {
+            return withSequence(ParameterSequence.of(sequence));
+        }
+
         public Builder withTableAliasCalculator(TableAliasCalculator tableAliasCalculator) {
             this.tableAliasCalculator = tableAliasCalculator;
             return this;
@@ -153,6 +296,47 @@ public class RenderingContext {
             return this;
         }
 
+        /**
+         * Set a list that will receive a {@link ParameterSlot} for every parameter allocated during rendering.
+         * This is used when rendering statement templates and is typically not set.
+         *
+         * @param parameterSlots a mutable list that will receive parameter slots, in order of allocation
+         * @return this builder
+         * @since 2.1.0
+         */
+        public Builder withParameterSlots(@Nullable List<ParameterSlot> parameterSlots) {
+            this.parameterSlots = parameterSlots;
+            return this;
+        }
+
+        /**
+         * Set a list that will receive a {@link ParameterSlot} for every placeholder rendered, in the order the
+         * placeholders appear in the statement. Unlike {@link #withParameterSlots(List)}, named parameters are
+         * included. This is set by the statement renderers when the rendering strategy is positional.
+         *
+         * @param positionalParameters a mutable list that will receive the positional parameters
+         * @return this builder
+         * @see RenderingStrategy#isPositional()
+         * @since 2.1.0
+         */
+        public Builder withPositionalParameters(@Nullable List<ParameterSlot> positionalParameters) {
+            this.positionalParameters = positionalParameters;
+            return this;
+        }
+
+        /**
+         * Set the instrumentation that counts optional conditions skipped during rendering. This is set by the
+         * statement renderers when a {@link RenderListener} is configured and is typically not set otherwise.
+         *
+         * @param renderInstrumentation the instrumentation for the statement being rendered
+         * @return this builder
+         * @since 2.1.0
+         */
+        public Builder withRenderInstrumentation(RenderInstrumentation renderInstrumentation) {
+            this.renderInstrumentation = renderInstrumentation;
+            return this;
+        }
+
         public RenderingContext build() {
             return new RenderingContext(this);
         }
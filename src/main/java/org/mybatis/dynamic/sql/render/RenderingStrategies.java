@@ -15,10 +15,19 @@
  */
 package org.mybatis.dynamic.sql.render;
 
+import org.mybatis.dynamic.sql.util.jdbc.JdbcRenderingStrategy;
+
 public class RenderingStrategies {
     private RenderingStrategies() {}
 
     public static final RenderingStrategy MYBATIS3 = new MyBatis3RenderingStrategy();
 
     public static final RenderingStrategy SPRING_NAMED_PARAMETER = new SpringNamedParameterRenderingStrategy();
+
+    /**
+     * Rendering strategy for direct JDBC execution with {@link org.mybatis.dynamic.sql.util.jdbc.JdbcExecutor}.
+     *
+     * @since 2.1.0
+     */
+    public static final RenderingStrategy JDBC = new JdbcRenderingStrategy();
 }
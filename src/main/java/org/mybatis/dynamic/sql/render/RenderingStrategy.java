@@ -17,6 +17,7 @@ package org.mybatis.dynamic.sql.render;
 
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.BindableColumn;
 
 /**
@@ -36,14 +37,31 @@ import org.mybatis.dynamic.sql.BindableColumn;
 public abstract class RenderingStrategy {
     public static final String DEFAULT_PARAMETER_PREFIX = "parameters"; //$NON-NLS-1$
 
+    // Parameter map keys are calculated once and reused by every statement. Keys are cached lazily - a race
+    // between threads is harmless because strings are immutable and every thread calculates the same key
+    private static final @Nullable String[] PARAMETER_MAP_KEYS = new String[2048];
+
+    /**
+     * Generate a unique key that can be used to place a parameter value in the parameter map.
+     *
+     * @param sequence a sequence for calculating a unique value
+     * @return a key used to place the parameter value in the parameter map
+     */
+    public String formatParameterMapKey(ParameterSequence sequence) {
+        return parameterMapKey(sequence.getAndIncrement());
+    }
+
     /**
      * Generate a unique key that can be used to place a parameter value in the parameter map.
      *
      * @param sequence a sequence for calculating a unique value
      * @return a key used to place the parameter value in the parameter map
+     * @deprecated since 2.1.0. Statements are rendered with {@link #formatParameterMapKey(ParameterSequence)} -
+     *     please override it instead
      */
+    @Deprecated(since = "2.1.0", forRemoval = true)
     public String formatParameterMapKey(AtomicInteger sequence) {
-        return "p" + sequence.getAndIncrement(); //$NON-NLS-1$
+        return formatParameterMapKey(ParameterSequence.of(sequence));
     }
 
     /**
@@ -55,10 +73,23 @@ public abstract class RenderingStrategy {
      * @param sequence a sequence for calculating a unique value
      * @return a key used to place the parameter value in the parameter map
      */
-    public String formatParameterMapKeyForFetchFirstRows(AtomicInteger sequence) {
+    public String formatParameterMapKeyForFetchFirstRows(ParameterSequence sequence) {
         return formatParameterMapKey(sequence);
     }
 
+    /**
+     * Return a parameter map key intended as a parameter for a fetch first query.
+     *
+     * @param sequence a sequence for calculating a unique value
+     * @return a key used to place the parameter value in the parameter map
+     * @deprecated since 2.1.0. Statements are rendered with
+     *     {@link #formatParameterMapKeyForFetchFirstRows(ParameterSequence)} - please override it instead
+     */
+    @Deprecated(since = "2.1.0", forRemoval = true)
+    public String formatParameterMapKeyForFetchFirstRows(AtomicInteger sequence) {
+        return formatParameterMapKeyForFetchFirstRows(ParameterSequence.of(sequence));
+    }
+
     /**
      * Return a parameter map key intended as a parameter for a limit query.
      *
@@ -68,10 +99,23 @@ public abstract class RenderingStrategy {
      * @param sequence a sequence for calculating a unique value
      * @return a key used to place the parameter value in the parameter map
      */
-    public String formatParameterMapKeyForLimit(AtomicInteger sequence) {
+    public String formatParameterMapKeyForLimit(ParameterSequence sequence) {
         return formatParameterMapKey(sequence);
     }
 
+    /**
+     * Return a parameter map key intended as a parameter for a limit query.
+     *
+     * @param sequence a sequence for calculating a unique value
+     * @return a key used to place the parameter value in the parameter map
+     * @deprecated since 2.1.0. Statements are rendered with {@link #formatParameterMapKeyForLimit(ParameterSequence)} -
+     *     please override it instead
+     */
+    @Deprecated(since = "2.1.0", forRemoval = true)
+    public String formatParameterMapKeyForLimit(AtomicInteger sequence) {
+        return formatParameterMapKeyForLimit(ParameterSequence.of(sequence));
+    }
+
     /**
      * Return a parameter map key intended as a parameter for a query offset.
      *
@@ -81,10 +125,37 @@ public abstract class RenderingStrategy {
      * @param sequence a sequence for calculating a unique value
      * @return a key used to place the parameter value in the parameter map
      */
-    public String formatParameterMapKeyForOffset(AtomicInteger sequence) {
+    public String formatParameterMapKeyForOffset(ParameterSequence sequence) {
         return formatParameterMapKey(sequence);
     }
 
+    /**
+     * Return a parameter map key intended as a parameter for a query offset.
+     *
+     * @param sequence a sequence for calculating a unique value
+     * @return a key used to place the parameter value in the parameter map
+     * @deprecated since 2.1.0. Statements are rendered with
+     *     {@link #formatParameterMapKeyForOffset(ParameterSequence)} - please override it instead
+     */
+    @Deprecated(since = "2.1.0", forRemoval = true)
+    public String formatParameterMapKeyForOffset(AtomicInteger sequence) {
+        return formatParameterMapKeyForOffset(ParameterSequence.of(sequence));
+    }
+
+    /**
+     * Whether the placeholders rendered by this strategy are positional, like the JDBC <code>?</code> placeholder.
+     * A positional placeholder does not identify its parameter, so when this method returns true the statement
+     * renderers record the parameter of every placeholder, in the order the placeholders appear in the statement,
+     * and the statement providers carry them as positional parameters. Statements rendered with a positional
+     * strategy do not use the rendered statement cache, and the branches of a union are rendered sequentially.
+     *
+     * @return true if placeholders are positional. The default implementation returns false.
+     * @since 2.1.0
+     */
+    public boolean isPositional() {
+        return false;
+    }
+
     /**
      * This method generates a binding for a parameter to a placeholder in a generated SQL statement.
      *
@@ -100,7 +171,7 @@ public abstract class RenderingStrategy {
      * @param prefix parameter prefix used for locating the parameters in a SQL provider object. Typically, will be
      *               {@link RenderingStrategy#DEFAULT_PARAMETER_PREFIX}. This is ignored for Spring.
      * @param parameterName name of the parameter. Typically generated by calling
-     *     {@link RenderingStrategy#formatParameterMapKey(AtomicInteger)}
+     *     {@link RenderingStrategy#formatParameterMapKey(ParameterSequence)}
      * @return the generated binding
      */
     public abstract String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName);
@@ -118,7 +189,7 @@ public abstract class RenderingStrategy {
      * @param prefix parameter prefix used for locating the parameters in a SQL provider object. Typically, will be
      *               {@link RenderingStrategy#DEFAULT_PARAMETER_PREFIX}. This is ignored for Spring.
      * @param parameterName name of the parameter. Typically generated by calling
-     *     {@link RenderingStrategy#formatParameterMapKey(AtomicInteger)}
+     *     {@link RenderingStrategy#formatParameterMapKey(ParameterSequence)}
      * @return the generated binding
      */
     public abstract String getFormattedJdbcPlaceholder(String prefix, String parameterName);
@@ -133,13 +204,55 @@ public abstract class RenderingStrategy {
      * @param prefix parameter prefix used for locating the parameters in a SQL provider object. Typically, will be
      *               {@link RenderingStrategy#DEFAULT_PARAMETER_PREFIX}. This is ignored for Spring.
      * @param parameterName name of the parameter. Typically generated by calling
-     *     {@link RenderingStrategy#formatParameterMapKey(AtomicInteger)}
+     *     {@link RenderingStrategy#formatParameterMapKey(ParameterSequence)}
      * @return the generated binding
      */
     public String getFormattedJdbcPlaceholderForPagingParameters(String prefix, String parameterName) {
         return getFormattedJdbcPlaceholder(prefix, parameterName);
     }
 
+    /**
+     * This method generates a binding for a parameter that holds an array of values - for example, the parameter
+     * of an "isInArray" condition. The parameter value is a Java array that will be bound as a single
+     * <code>java.sql.Array</code> parameter.
+     *
+     * <p>Type details of the column describe the elements of the array, not the array itself, so they are not
+     * included in the binding by default.
+     *
+     * <p>For MyBatis, a binding looks like this: "#{prefix.parameterName,typeHandler=...ArrayTypeHandler}"
+     *
+     * <p>For Spring, a binding looks like this: ":parameterName"
+     *
+     * @param column column definition related to the elements of the array
+     * @param prefix parameter prefix used for locating the parameters in a SQL provider object. Typically, will be
+     *               {@link RenderingStrategy#DEFAULT_PARAMETER_PREFIX}. This is ignored for Spring.
+     * @param parameterName name of the parameter. Typically generated by calling
+     *     {@link RenderingStrategy#formatParameterMapKey(ParameterSequence)}
+     * @return the generated binding
+     * @since 2.1.0
+     */
+    public String getFormattedJdbcArrayPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        return getFormattedJdbcPlaceholder(prefix, parameterName);
+    }
+
+    /**
+     * This method calculates the value bound to a parameter rendered by
+     * {@link RenderingStrategy#getFormattedJdbcArrayPlaceholder(BindableColumn, String, String)}.
+     *
+     * <p>By default, the value is the Java array. MyBatis' array type handler creates a <code>java.sql.Array</code>
+     * from it, and Spring binds it as a single value with <code>PreparedStatement.setObject</code> (Spring only
+     * expands collections into lists of placeholders).
+     *
+     * @param column column definition related to the elements of the array
+     * @param elementTypeName the SQL type name of the elements of the array
+     * @param array the values of the array
+     * @return the parameter value
+     * @since 2.1.0
+     */
+    public Object getArrayParameterValue(BindableColumn<?> column, String elementTypeName, Object[] array) {
+        return array;
+    }
+
     /**
      * This method generates a binding for a parameter to a placeholder in a row based insert statement.
      *
@@ -179,4 +292,25 @@ public abstract class RenderingStrategy {
      * @return the generated binding
      */
     public abstract String getRecordBasedInsertBinding(BindableColumn<?> column, String parameterName);
+
+    /**
+     * Return the default parameter map key for a sequence number - "p1", "p2", etc. Keys for the first 2048
+     * sequence numbers are cached so that each key is only calculated once.
+     *
+     * @param sequenceNumber the sequence number
+     * @return the parameter map key
+     * @since 2.1.0
+     */
+    public static String parameterMapKey(int sequenceNumber) {
+        if (sequenceNumber < 0 || sequenceNumber >= PARAMETER_MAP_KEYS.length) {
+            return "p" + sequenceNumber; //$NON-NLS-1$
+        }
+
+        String key = PARAMETER_MAP_KEYS[sequenceNumber];
+        if (key == null) {
+            key = "p" + sequenceNumber; //$NON-NLS-1$
+            PARAMETER_MAP_KEYS[sequenceNumber] = key;
+        }
+        return key;
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.function.IntUnaryOperator;
+
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * Limits the size of the statements rendered for a statement that writes many rows - a multi-row insert, upsert, or
+ * update. When such a statement is rendered with a limit, the records are split into chunks and a separate statement
+ * is rendered for each chunk.
+ *
+ * <p>The limit can be expressed as a maximum number of rows in a statement, or as a maximum number of parameters in a
+ * statement. Many drivers and databases limit the number of parameters in a single statement - for example, SQL
+ * Server allows 2100 parameters, and PostgreSQL allows 32767.
+ *
+ * @since 2.1.0
+ */
+public class RowLimit {
+    private final int maxRows;
+    private final int maxParameters;
+
+    private RowLimit(int maxRows, int maxParameters) {
+        this.maxRows = maxRows;
+        this.maxParameters = maxParameters;
+    }
+
+    /**
+     * Calculate the number of rows in each statement when every row adds the same number of parameters.
+     *
+     * @param parametersPerRow the number of parameters in each row of the statement
+     * @return the maximum number of rows in a single statement
+     */
+    public int rowsPerStatement(int parametersPerRow) {
+        if (maxParameters == 0) {
+            return maxRows;
+        }
+
+        if (parametersPerRow == 0) {
+            return Integer.MAX_VALUE;
+        }
+
+        Validator.assertFalse(parametersPerRow > maxParameters, "ERROR.57", //$NON-NLS-1$
+                Integer.toString(parametersPerRow), Integer.toString(maxParameters));
+        return maxParameters / parametersPerRow;
+    }
+
+    /**
+     * Calculate the number of rows in each statement when the number of parameters is not proportional to the number
+     * of rows - for example, when an "in" list of keys is padded by the in list strategy.
+     *
+     * @param parameterCount calculates the number of parameters in a statement with the given number of rows. The
+     *     count must increase by at least one for each additional row
+     * @return the maximum number of rows in a single statement
+     */
+    public int rowsPerStatement(IntUnaryOperator parameterCount) {
+        if (maxParameters == 0) {
+            return maxRows;
+        }
+
+        int singleRowParameters = parameterCount.applyAsInt(1);
+        Validator.assertFalse(singleRowParameters > maxParameters, "ERROR.57", //$NON-NLS-1$
+                Integer.toString(singleRowParameters), Integer.toString(maxParameters));
+
+        // binary search for the largest row count that fits - no more rows than parameters can ever fit
+        int low = 1;
+        int high = maxParameters;
+        while (low < high) {
+            int rows = (low + high + 1) >>> 1;
+            if (parameterCount.applyAsInt(rows) <= maxParameters) {
+                low = rows;
+            } else {
+                high = rows - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Limit each statement to a maximum number of rows.
+     *
+     * @param maxRows the maximum number of rows in a statement
+     * @return the new limit
+     */
+    public static RowLimit maxRows(int maxRows) {
+        Validator.assertTrue(maxRows > 0, "ERROR.56"); //$NON-NLS-1$
+        return new RowLimit(maxRows, 0);
+    }
+
+    /**
+     * Limit each statement to a maximum number of parameters. Rows are never split across statements, so the
+     * number of rows in a statement is the maximum number of parameters divided by the number of parameters in a row.
+     *
+     * @param maxParameters the maximum number of parameters in a statement
+     * @return the new limit
+     */
+    public static RowLimit maxParameters(int maxParameters) {
+        Validator.assertTrue(maxParameters > 0, "ERROR.56"); //$NON-NLS-1$
+        return new RowLimit(0, maxParameters);
+    }
+}
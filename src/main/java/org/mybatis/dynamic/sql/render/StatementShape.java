@@ -0,0 +1,172 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.RenderableCondition;
+import org.mybatis.dynamic.sql.SortSpecification;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.common.OrderByModel;
+
+/**
+ * The structural fingerprint of a statement, along with the parameter values collected while calculating the
+ * fingerprint. Two statements with the same shape will render identical SQL, so the shape can be used as a key in
+ * the {@link RenderedStatementCache}.
+ *
+ * <p>The shape includes everything that can change the rendered SQL - the rendering strategy, tables and their
+ * aliases, columns, condition types, the number of values in list conditions, which optional conditions will render,
+ * and which paging clauses are present. Parameter values are collected in the same order the renderers allocate
+ * parameters, but are not part of the key.
+ *
+ * @since 2.1.0
+ */
+public class StatementShape {
+    private final Key key;
+    private final List<@Nullable Object> parameterValues;
+    private final List<RenderableCondition<?>> skippedConditions;
+
+    private StatementShape(Builder builder) {
+        key = new Key(builder.elements);
+        parameterValues = Collections.unmodifiableList(builder.parameterValues);
+        skippedConditions = builder.skippedConditions;
+    }
+
+    Object key() {
+        return key;
+    }
+
+    public List<@Nullable Object> parameterValues() {
+        return parameterValues;
+    }
+
+    /**
+     * Notify optional conditions that did not render. This mirrors the behavior of the renderers, and is called
+     * only when the rendered statement is taken from the cache.
+     *
+     * @param renderInstrumentation the instrumentation for the statement being rendered
+     */
+    void renderingSkipped(RenderInstrumentation renderInstrumentation) {
+        skippedConditions.forEach(renderInstrumentation::renderingSkipped);
+    }
+
+    private static final class Key {
+        private final List<@Nullable Object> elements;
+        private final int hashCode;
+
+        private Key(List<@Nullable Object> elements) {
+            this.elements = elements;
+            hashCode = elements.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            return o instanceof Key other && hashCode == other.hashCode && elements.equals(other.elements);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    public static class Builder {
+        private final List<@Nullable Object> elements = new ArrayList<>();
+        private final List<@Nullable Object> parameterValues = new ArrayList<>();
+        private final List<RenderableCondition<?>> skippedConditions = new ArrayList<>();
+
+        public Builder withElement(@Nullable Object element) {
+            elements.add(element);
+            return this;
+        }
+
+        public Builder withParameterValue(@Nullable Object parameterValue) {
+            parameterValues.add(parameterValue);
+            return this;
+        }
+
+        public Builder withSkippedCondition(RenderableCondition<?> condition) {
+            skippedConditions.add(condition);
+            return this;
+        }
+
+        /**
+         * Add a table to the shape. Table names are included because they can be calculated dynamically.
+         *
+         * @param table the table
+         * @param tableAliases the explicit table aliases in effect for the current query
+         * @return this builder
+         */
+        public Builder withTable(SqlTable table, Map<SqlTable, String> tableAliases) {
+            return withElement(table)
+                    .withElement(table.tableName())
+                    .withElement(table.tableAlias().orElse(null))
+                    .withElement(tableAliases.get(table));
+        }
+
+        /**
+         * Add a column to the shape. Only instances of {@link SqlColumn} itself are supported - subclasses and other
+         * kinds of columns may render in ways that cannot be captured in the shape.
+         *
+         * @param column the column
+         * @param tableAliases the explicit table aliases in effect for the current query
+         * @return true if the column is supported
+         */
+        public boolean withColumn(BasicColumn column, Map<SqlTable, String> tableAliases) {
+            if (column.getClass() != SqlColumn.class) {
+                return false;
+            }
+
+            SqlColumn<?> sqlColumn = (SqlColumn<?>) column;
+            withElement(sqlColumn.name())
+                    .withElement(sqlColumn.alias().orElse(null))
+                    .withElement(sqlColumn.tableQualifier().orElse(null))
+                    .withElement(sqlColumn.jdbcType().orElse(null))
+                    .withElement(sqlColumn.javaType().orElse(null))
+                    .withElement(sqlColumn.typeHandler().orElse(null))
+                    .withElement(sqlColumn.renderingStrategy().orElse(null))
+                    .withTable(sqlColumn.table(), tableAliases);
+            return true;
+        }
+
+        public boolean withOrderBy(OrderByModel orderByModel) {
+            List<SortSpecification> columns = orderByModel.columns().toList();
+            withElement(columns.size());
+            for (SortSpecification column : columns) {
+                if (column.getClass() != SqlColumn.class) {
+                    return false;
+                }
+                SqlColumn<?> sqlColumn = (SqlColumn<?>) column;
+                withElement(sqlColumn.alias().orElse(sqlColumn.name()))
+                        .withElement(sqlColumn.descendingPhrase());
+            }
+            return true;
+        }
+
+        public StatementShape build() {
+            return new StatementShape(this);
+        }
+    }
+}
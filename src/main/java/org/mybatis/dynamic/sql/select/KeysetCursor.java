@@ -0,0 +1,70 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * The position of a page in keyset pagination - the values of the sort columns in the last row of the previous page.
+ * Values are in the same order as the sort columns of the {@link KeysetPage}.
+ *
+ * <p>A cursor is immutable and can be kept between requests (for example, in a web session or as part of a "next
+ * page" link) to fetch the following page.
+ *
+ * @since 2.1.0
+ */
+public class KeysetCursor {
+    private final List<Object> values;
+
+    private KeysetCursor(List<Object> values) {
+        this.values = values;
+    }
+
+    public List<Object> values() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof KeysetCursor that)) {
+            return false;
+        }
+        return values.equals(that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(values);
+    }
+
+    public static KeysetCursor of(Object... values) {
+        return of(Arrays.asList(values));
+    }
+
+    public static KeysetCursor of(Collection<?> values) {
+        Validator.assertFalse(values.stream().anyMatch(Objects::isNull), "ERROR.60"); //$NON-NLS-1$
+        return new KeysetCursor(List.copyOf(values));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.and;
+import static org.mybatis.dynamic.sql.SqlBuilder.group;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualTo;
+import static org.mybatis.dynamic.sql.SqlBuilder.isGreaterThan;
+import static org.mybatis.dynamic.sql.SqlBuilder.isLessThan;
+import static org.mybatis.dynamic.sql.SqlBuilder.or;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.RenderableCondition;
+import org.mybatis.dynamic.sql.SortSpecification;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * A page of results in keyset (or "seek") pagination. Rather than skipping rows with an offset, keyset pagination
+ * selects the rows that sort after the last row of the previous page. With an index on the sort columns, the database
+ * can seek directly to the start of the page, so deep pages are as fast as the first page.
+ *
+ * <p>A page renders as an order by clause for the sort columns, a limit of the page size, and - for every page after
+ * the first - a seek predicate. For sort columns <code>a, b</code> the predicate is
+ * <code>(a &gt; ? or (a = ? and b &gt; ?))</code>. Descending columns are compared with "&lt;" instead of "&gt;".
+ *
+ * <p>The sort columns should be not null and together they should be unique (typically the last column is the
+ * primary key), otherwise rows may be skipped or repeated between pages.
+ *
+ * @since 2.1.0
+ */
+public class KeysetPage {
+    private final List<SqlColumn<?>> sortColumns;
+    private final long pageSize;
+    private final @Nullable KeysetCursor cursor;
+
+    private KeysetPage(List<SqlColumn<?>> sortColumns, long pageSize, @Nullable KeysetCursor cursor) {
+        this.sortColumns = sortColumns;
+        this.pageSize = pageSize;
+        this.cursor = cursor;
+    }
+
+    public List<SortSpecification> orderBy() {
+        return new ArrayList<>(sortColumns);
+    }
+
+    public long pageSize() {
+        return pageSize;
+    }
+
+    public Optional<KeysetCursor> cursor() {
+        return Optional.ofNullable(cursor);
+    }
+
+    /**
+     * Return the page that follows the row identified by a cursor.
+     *
+     * @param cursor the values of the sort columns in the last row of the previous page
+     * @return the next page
+     */
+    public KeysetPage after(KeysetCursor cursor) {
+        Validator.assertTrue(cursor.values().size() == sortColumns.size(), "ERROR.59", //$NON-NLS-1$
+                Integer.toString(sortColumns.size()), Integer.toString(cursor.values().size()));
+        return new KeysetPage(sortColumns, pageSize, cursor);
+    }
+
+    public KeysetPage after(Object... lastRowValues) {
+        return after(KeysetCursor.of(lastRowValues));
+    }
+
+    /**
+     * Calculate the seek predicate for this page.
+     *
+     * @return the seek predicate, or an empty Optional if this is the first page
+     */
+    public Optional<SqlCriterion> seekCriterion() {
+        return cursor().map(c -> calculateSeekCriterion(c.values()));
+    }
+
+    private SqlCriterion calculateSeekCriterion(List<Object> values) {
+        List<AndOrCriteriaGroup> alternatives = new ArrayList<>();
+        for (int i = 1; i < sortColumns.size(); i++) {
+            alternatives.add(or(seekAlternative(i, values)));
+        }
+        return group(seekAlternative(0, values), alternatives);
+    }
+
+    // the sort columns before the index are equal to the cursor, and the column at the index is after the cursor
+    private SqlCriterion seekAlternative(int index, List<Object> values) {
+        List<AndOrCriteriaGroup> equalities = new ArrayList<>();
+        for (int i = 1; i <= index; i++) {
+            equalities.add(and(comparison(sortColumns.get(i), values.get(i), i == index)));
+        }
+        return group(comparison(sortColumns.get(0), values.get(0), index == 0), equalities);
+    }
+
+    private static <T> SqlCriterion comparison(SqlColumn<T> column, Object value, boolean isSeek) {
+        @SuppressWarnings("unchecked")
+        T typedValue = (T) value;
+
+        RenderableCondition<T> condition;
+        if (!isSeek) {
+            condition = isEqualTo(typedValue);
+        } else if (column.descendingPhrase().isEmpty()) {
+            condition = isGreaterThan(typedValue);
+        } else {
+            condition = isLessThan(typedValue);
+        }
+
+        return ColumnAndConditionCriterion.withColumn(column)
+                .withCondition(condition)
+                .build();
+    }
+
+    /**
+     * Create the first page of a keyset pagination.
+     *
+     * @param pageSize the maximum number of rows in a page
+     * @param sortColumns the sort columns. Use {@link SqlColumn#descending()} for descending columns
+     * @return the first page
+     */
+    public static KeysetPage of(long pageSize, SqlColumn<?>... sortColumns) {
+        return of(pageSize, Arrays.asList(sortColumns));
+    }
+
+    public static KeysetPage of(long pageSize, Collection<? extends SqlColumn<?>> sortColumns) {
+        Validator.assertTrue(pageSize > 0, "ERROR.61"); //$NON-NLS-1$
+        Validator.assertNotEmpty(sortColumns, "ERROR.58"); //$NON-NLS-1$
+        return new KeysetPage(List.copyOf(sortColumns), pageSize, null);
+    }
+}
@@ -21,6 +21,8 @@ import java.util.Objects;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.NamedParameter;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.render.MultiSelectRenderer;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
@@ -46,10 +48,16 @@ public class MultiSelectModel extends AbstractSelectModel {
     }
 
     public SelectStatementProvider render(RenderingStrategy renderingStrategy) {
-        return MultiSelectRenderer.withMultiSelectModel(this)
+        ParameterSequence sequence = new ParameterSequence();
+        SelectStatementProvider statement = MultiSelectRenderer.withMultiSelectModel(this)
                 .withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence)
                 .build()
                 .render();
+        if (sequence.hasNamedParameters()) {
+            NamedParameter.assertBound(statement.getParameters());
+        }
+        return statement;
     }
 
     public static class Builder extends AbstractBuilder<Builder> {
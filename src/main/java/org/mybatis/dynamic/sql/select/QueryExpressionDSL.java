@@ -38,6 +38,7 @@ import org.mybatis.dynamic.sql.dsl.ForAndWaitOperations;
 import org.mybatis.dynamic.sql.dsl.GroupByOperations;
 import org.mybatis.dynamic.sql.dsl.HavingOperations;
 import org.mybatis.dynamic.sql.dsl.JoinOperations;
+import org.mybatis.dynamic.sql.dsl.KeysetOperations;
 import org.mybatis.dynamic.sql.dsl.LimitAndOffsetOperations;
 import org.mybatis.dynamic.sql.dsl.OrderByOperations;
 import org.mybatis.dynamic.sql.dsl.WhereOperations;
@@ -57,6 +58,7 @@ public class QueryExpressionDSL<R> extends AbstractQueryingDSL implements
         LimitAndOffsetOperations<SelectDSL<R>, R>,
         ForAndWaitOperations<SelectDSL<R>>,
         OrderByOperations<SelectDSL<R>>,
+        KeysetOperations<SelectDSL<R>>,
         Buildable<R> {
 
     private final @Nullable String connector;
@@ -168,6 +170,13 @@ public class QueryExpressionDSL<R> extends AbstractQueryingDSL implements
         return selectDSL.orderBy(columns);
     }
 
+    @Override
+    public SelectDSL<R> seek(KeysetPage page) {
+        page.seekCriterion().ifPresent(c -> where().and(c));
+        selectDSL.orderBy(page.orderBy()).limit(page.pageSize());
+        return selectDSL;
+    }
+
     public UnionBuilder union() {
         return new UnionBuilder("union"); //$NON-NLS-1$
     }
@@ -221,6 +230,7 @@ public class QueryExpressionDSL<R> extends AbstractQueryingDSL implements
             GroupByOperations<QueryExpressionDSL<R>>,
             ForAndWaitOperations<SelectDSL<R>>,
             LimitAndOffsetOperations<SelectDSL<R>, R>,
+            KeysetOperations<SelectDSL<R>>,
             Buildable<R> {
         protected final SqlCriterion initialCriterion;
         protected final List<AndOrCriteriaGroup> subCriteria = new ArrayList<>();
@@ -253,6 +263,11 @@ public class QueryExpressionDSL<R> extends AbstractQueryingDSL implements
             return QueryExpressionDSL.this.orderBy(columns);
         }
 
+        @Override
+        public SelectDSL<R> seek(KeysetPage page) {
+            return QueryExpressionDSL.this.seek(page);
+        }
+
         @Override
         public QueryExpressionDSL<R> groupBy(Collection<? extends BasicColumn> columns) {
             return QueryExpressionDSL.this.groupBy(columns);
@@ -310,6 +325,7 @@ public class QueryExpressionDSL<R> extends AbstractQueryingDSL implements
             ForAndWaitOperations<SelectDSL<R>>,
             LimitAndOffsetOperations<SelectDSL<R>, R>,
             OrderByOperations<SelectDSL<R>>,
+            KeysetOperations<SelectDSL<R>>,
             Buildable<R> {
         protected JoinSpecificationFinisher(JoinType joinType, TableExpression joinTable,
                                             SqlCriterion initialCriterion) {
@@ -360,6 +376,11 @@ public class QueryExpressionDSL<R> extends AbstractQueryingDSL implements
             return QueryExpressionDSL.this.orderBy(columns);
         }
 
+        @Override
+        public SelectDSL<R> seek(KeysetPage page) {
+            return QueryExpressionDSL.this.seek(page);
+        }
+
         @Override
         protected JoinSpecificationFinisher getThis() {
             return this;
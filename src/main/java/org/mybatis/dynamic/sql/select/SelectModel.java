@@ -17,15 +17,21 @@ package org.mybatis.dynamic.sql.select;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.NamedParameter;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.render.DefaultSelectStatementProvider;
 import org.mybatis.dynamic.sql.select.render.SelectRenderer;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementTemplate;
 import org.mybatis.dynamic.sql.util.Validator;
 
 public class SelectModel extends AbstractSelectModel {
@@ -54,12 +60,60 @@ public class SelectModel extends AbstractSelectModel {
     }
 
     public SelectStatementProvider render(RenderingStrategy renderingStrategy) {
+        ParameterSequence sequence = new ParameterSequence();
+        SelectStatementProvider statement = renderUnbound(renderingStrategy, sequence);
+        if (sequence.hasNamedParameters()) {
+            NamedParameter.assertBound(statement.getParameters());
+        }
+        return statement;
+    }
+
+    private SelectStatementProvider renderUnbound(RenderingStrategy renderingStrategy, ParameterSequence sequence) {
         return SelectRenderer.withSelectModel(this)
                 .withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence)
                 .build()
                 .render();
     }
 
+    /**
+     * Render this statement and bind values to the named parameters in the statement. The model is not changed, so
+     * a model with named parameters can be rendered concurrently with different values.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param parameterValues the values of the named parameters, keyed by name
+     * @return the rendered statement with a value for every named parameter
+     * @see NamedParameter
+     * @since 2.1.0
+     */
+    public SelectStatementProvider render(RenderingStrategy renderingStrategy, Map<String, ?> parameterValues) {
+        SelectStatementProvider selectStatement = renderUnbound(renderingStrategy, new ParameterSequence());
+        return DefaultSelectStatementProvider.withSelectStatement(selectStatement.getSelectStatement())
+                .withParameters(NamedParameter.bindValues(selectStatement.getParameters(), parameterValues))
+                .withStatementHints(selectStatement.getStatementHints())
+                .withPositionalParameters(selectStatement.getPositionalParameters())
+                .build();
+    }
+
+    /**
+     * Render this statement once as a template. New parameter values can be bound to the template many times without
+     * rendering the statement again.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return a template for this statement
+     * @since 2.1.0
+     */
+    public SelectStatementTemplate renderTemplate(RenderingStrategy renderingStrategy) {
+        List<ParameterSlot> parameterSlots = new ArrayList<>();
+        SelectStatementProvider selectStatement = SelectRenderer.withSelectModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .withParameterSlots(parameterSlots)
+                .build()
+                .render();
+
+        return new SelectStatementTemplate(selectStatement, parameterSlots);
+    }
+
     public <R> R map(Function<SelectModel, R> mapper) {
         return mapper.apply(this);
     }
@@ -17,18 +17,25 @@ package org.mybatis.dynamic.sql.select.render;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.configuration.StatementHints;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
 
 public class DefaultSelectStatementProvider implements SelectStatementProvider {
     private final String selectStatement;
     private final Map<String, Object> parameters;
+    private final StatementHints statementHints;
+    private final List<ParameterSlot> positionalParameters;
 
     private DefaultSelectStatementProvider(Builder builder) {
         selectStatement = Objects.requireNonNull(builder.selectStatement);
         parameters = Collections.unmodifiableMap(Objects.requireNonNull(builder.parameters));
+        statementHints = Objects.requireNonNull(builder.statementHints);
+        positionalParameters = Collections.unmodifiableList(builder.positionalParameters);
     }
 
     @Override
@@ -41,6 +48,16 @@ public class DefaultSelectStatementProvider implements SelectStatementProvider {
         return selectStatement;
     }
 
+    @Override
+    public StatementHints getStatementHints() {
+        return statementHints;
+    }
+
+    @Override
+    public List<ParameterSlot> getPositionalParameters() {
+        return positionalParameters;
+    }
+
     public static Builder withSelectStatement(String selectStatement) {
         return new Builder().withSelectStatement(selectStatement);
     }
@@ -48,6 +65,8 @@ public class DefaultSelectStatementProvider implements SelectStatementProvider {
     public static class Builder {
         private @Nullable String selectStatement;
         private final Map<String, Object> parameters = new HashMap<>();
+        private StatementHints statementHints = StatementHints.empty();
+        private List<ParameterSlot> positionalParameters = Collections.emptyList();
 
         public Builder withSelectStatement(String selectStatement) {
             this.selectStatement = selectStatement;
@@ -59,6 +78,16 @@ public class DefaultSelectStatementProvider implements SelectStatementProvider {
             return this;
         }
 
+        public Builder withStatementHints(StatementHints statementHints) {
+            this.statementHints = statementHints;
+            return this;
+        }
+
+        public Builder withPositionalParameters(List<ParameterSlot> positionalParameters) {
+            this.positionalParameters = positionalParameters;
+            return this;
+        }
+
         public DefaultSelectStatementProvider build() {
             return new DefaultSelectStatementProvider(this);
         }
@@ -15,13 +15,21 @@
  */
 package org.mybatis.dynamic.sql.select.render;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.common.OrderByModel;
 import org.mybatis.dynamic.sql.common.OrderByRenderer;
+import org.mybatis.dynamic.sql.render.ParallelBranchRenderer;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+import org.mybatis.dynamic.sql.render.RenderInstrumentation;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.MultiSelectModel;
@@ -33,38 +41,55 @@ import org.mybatis.dynamic.sql.util.FragmentCollector;
 
 public class MultiSelectRenderer {
     private final MultiSelectModel multiSelectModel;
-    private final RenderingContext renderingContext;
+    private final RenderingStrategy renderingStrategy;
+    private final ParameterSequence sequence;
 
     private MultiSelectRenderer(Builder builder) {
         multiSelectModel = Objects.requireNonNull(builder.multiSelectModel);
-        renderingContext = RenderingContext
-                .withRenderingStrategy(Objects.requireNonNull(builder.renderingStrategy))
-                .withStatementConfiguration(multiSelectModel.statementConfiguration())
-                .build();
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        sequence = Objects.requireNonNullElseGet(builder.sequence, ParameterSequence::new);
     }
 
     public SelectStatementProvider render() {
-        FragmentAndParameters initialSelect = renderSelect(multiSelectModel.initialSelect());
+        RenderInstrumentation renderInstrumentation = RenderInstrumentation.start(
+                multiSelectModel.statementConfiguration().renderListener().orElse(null));
+        List<ParameterSlot> positionalParameters = new ArrayList<>();
+        RenderingContext renderingContext = RenderingContext
+                .withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence)
+                .withStatementConfiguration(multiSelectModel.statementConfiguration())
+                .withPositionalParameters(renderingStrategy.isPositional() ? positionalParameters : null)
+                .withRenderInstrumentation(renderInstrumentation)
+                .build();
+
+        List<Function<RenderingContext, FragmentAndParameters>> branches = new ArrayList<>();
+        branches.add(rc -> renderSelect(multiSelectModel.initialSelect(), rc));
+        multiSelectModel.unionQueries().forEach(q -> branches.add(rc -> renderSelect(q, rc)));
 
-        FragmentCollector fragmentCollector = multiSelectModel
-                .unionQueries()
-                .map(this::renderSelect)
-                .collect(FragmentCollector.collect(initialSelect));
+        FragmentCollector fragmentCollector = ParallelBranchRenderer.render(renderingContext, branches).stream()
+                .collect(FragmentCollector.collect());
 
-        renderOrderBy().ifPresent(fragmentCollector::add);
-        renderPagingModel().ifPresent(fragmentCollector::add);
+        renderOrderBy(renderingContext).ifPresent(fragmentCollector::add);
+        renderPagingModel(renderingContext).ifPresent(fragmentCollector::add);
 
-        return toSelectStatementProvider(fragmentCollector);
+        return toSelectStatementProvider(fragmentCollector, positionalParameters, renderInstrumentation);
     }
 
-    private SelectStatementProvider toSelectStatementProvider(FragmentCollector fragmentCollector) {
-        return DefaultSelectStatementProvider
-                .withSelectStatement(fragmentCollector.collectFragments(Collectors.joining(" "))) //$NON-NLS-1$
+    private SelectStatementProvider toSelectStatementProvider(FragmentCollector fragmentCollector,
+                                                              List<ParameterSlot> positionalParameters,
+                                                              RenderInstrumentation renderInstrumentation) {
+        String selectStatement = fragmentCollector.collectFragments(Collectors.joining(" ")); //$NON-NLS-1$
+        renderInstrumentation.finish(StatementType.MULTI_SELECT, selectStatement,
+                fragmentCollector.parameters().size());
+
+        return DefaultSelectStatementProvider.withSelectStatement(selectStatement)
                 .withParameters(fragmentCollector.parameters())
+                .withStatementHints(multiSelectModel.statementConfiguration().statementHints())
+                .withPositionalParameters(positionalParameters)
                 .build();
     }
 
-    private FragmentAndParameters renderSelect(SelectModel selectModel) {
+    private FragmentAndParameters renderSelect(SelectModel selectModel, RenderingContext renderingContext) {
         return SubQueryRenderer.withSelectModel(selectModel)
                 .withRenderingContext(renderingContext)
                 .withPrefix("(") //$NON-NLS-1$
@@ -73,7 +98,7 @@ public class MultiSelectRenderer {
                 .render();
     }
 
-    private FragmentAndParameters renderSelect(UnionQuery unionQuery) {
+    private FragmentAndParameters renderSelect(UnionQuery unionQuery, RenderingContext renderingContext) {
         return SubQueryRenderer.withSelectModel(unionQuery.selectModel())
                 .withRenderingContext(renderingContext)
                 .withPrefix(unionQuery.connector() + " (") //$NON-NLS-1$
@@ -82,19 +107,19 @@ public class MultiSelectRenderer {
                 .render();
     }
 
-    private Optional<FragmentAndParameters> renderOrderBy() {
-        return multiSelectModel.orderByModel().map(this::renderOrderBy);
+    private Optional<FragmentAndParameters> renderOrderBy(RenderingContext renderingContext) {
+        return multiSelectModel.orderByModel().map(m -> renderOrderBy(m, renderingContext));
     }
 
-    private FragmentAndParameters renderOrderBy(OrderByModel orderByModel) {
+    private FragmentAndParameters renderOrderBy(OrderByModel orderByModel, RenderingContext renderingContext) {
         return new OrderByRenderer(renderingContext).render(orderByModel);
     }
 
-    private Optional<FragmentAndParameters> renderPagingModel() {
-        return multiSelectModel.pagingModel().map(this::renderPagingModel);
+    private Optional<FragmentAndParameters> renderPagingModel(RenderingContext renderingContext) {
+        return multiSelectModel.pagingModel().map(m -> renderPagingModel(m, renderingContext));
     }
 
-    private FragmentAndParameters renderPagingModel(PagingModel pagingModel) {
+    private FragmentAndParameters renderPagingModel(PagingModel pagingModel, RenderingContext renderingContext) {
         return new PagingModelRenderer.Builder()
                 .withPagingModel(pagingModel)
                 .withRenderingContext(renderingContext)
@@ -109,6 +134,7 @@ public class MultiSelectRenderer {
     public static class Builder {
         private @Nullable RenderingStrategy renderingStrategy;
         private @Nullable MultiSelectModel multiSelectModel;
+        private @Nullable ParameterSequence sequence;
 
         public Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
             this.renderingStrategy = renderingStrategy;
@@ -120,6 +146,11 @@ public class MultiSelectRenderer {
             return this;
         }
 
+        public Builder withSequence(ParameterSequence sequence) {
+            this.sequence = sequence;
+            return this;
+        }
+
         public MultiSelectRenderer build() {
             return new MultiSelectRenderer(this);
         }
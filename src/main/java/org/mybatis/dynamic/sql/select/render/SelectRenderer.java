@@ -15,9 +15,17 @@
  */
 package org.mybatis.dynamic.sql.select.render;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+import org.mybatis.dynamic.sql.render.RenderInstrumentation;
+import org.mybatis.dynamic.sql.render.RenderedStatementCache;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.SelectModel;
@@ -26,25 +34,58 @@ import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 public class SelectRenderer {
     private final SelectModel selectModel;
     private final RenderingStrategy renderingStrategy;
+    private final @Nullable List<ParameterSlot> parameterSlots;
+    private final ParameterSequence sequence;
 
     private SelectRenderer(Builder builder) {
         selectModel = Objects.requireNonNull(builder.selectModel);
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        parameterSlots = builder.parameterSlots;
+        sequence = Objects.requireNonNullElseGet(builder.sequence, ParameterSequence::new);
     }
 
     public SelectStatementProvider render() {
+        RenderInstrumentation renderInstrumentation =
+                RenderInstrumentation.start(selectModel.statementConfiguration().renderListener().orElse(null));
+
+        List<ParameterSlot> positionalParameters = new ArrayList<>();
+        FragmentAndParameters fragmentAndParameters = selectModel.statementConfiguration().renderedStatementCache()
+                .filter(c -> parameterSlots == null && !renderingStrategy.isPositional())
+                .flatMap(c -> renderWithCache(c, renderInstrumentation))
+                .orElseGet(() -> renderSelectModel(parameterSlots, positionalParameters, renderInstrumentation));
+
+        renderInstrumentation.finish(StatementType.SELECT, fragmentAndParameters.fragment(),
+                fragmentAndParameters.parameters().size());
+
+        return DefaultSelectStatementProvider.withSelectStatement(fragmentAndParameters.fragment())
+                .withParameters(fragmentAndParameters.parameters())
+                .withStatementHints(selectModel.statementConfiguration().statementHints())
+                .withPositionalParameters(positionalParameters)
+                .build();
+    }
+
+    private Optional<FragmentAndParameters> renderWithCache(RenderedStatementCache renderedStatementCache,
+                                                            RenderInstrumentation renderInstrumentation) {
+        return new SelectShapeCalculator(selectModel, renderingStrategy).calculate()
+                .map(shape -> renderedStatementCache.render(shape, renderInstrumentation,
+                        ps -> renderSelectModel(ps, null, renderInstrumentation)));
+    }
+
+    private FragmentAndParameters renderSelectModel(@Nullable List<ParameterSlot> parameterSlots,
+                                                    @Nullable List<ParameterSlot> positionalParameters,
+                                                    RenderInstrumentation renderInstrumentation) {
         RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence)
                 .withStatementConfiguration(selectModel.statementConfiguration())
+                .withParameterSlots(parameterSlots)
+                .withPositionalParameters(renderingStrategy.isPositional() ? positionalParameters : null)
+                .withRenderInstrumentation(renderInstrumentation)
                 .build();
 
-        FragmentAndParameters fragmentAndParameters = SubQueryRenderer.withSelectModel(selectModel)
+        return SubQueryRenderer.withSelectModel(selectModel)
                 .withRenderingContext(renderingContext)
                 .build()
                 .render();
-
-        return DefaultSelectStatementProvider.withSelectStatement(fragmentAndParameters.fragment())
-                .withParameters(fragmentAndParameters.parameters())
-                .build();
     }
 
     public static Builder withSelectModel(SelectModel selectModel) {
@@ -54,6 +95,8 @@ public class SelectRenderer {
     public static class Builder {
         private @Nullable SelectModel selectModel;
         private @Nullable RenderingStrategy renderingStrategy;
+        private @Nullable List<ParameterSlot> parameterSlots;
+        private @Nullable ParameterSequence sequence;
 
         public Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
             this.renderingStrategy = renderingStrategy;
@@ -65,6 +108,16 @@ public class SelectRenderer {
             return this;
         }
 
+        public Builder withParameterSlots(@Nullable List<ParameterSlot> parameterSlots) {
+            this.parameterSlots = parameterSlots;
+            return this;
+        }
+
+        public Builder withSequence(ParameterSequence sequence) {
+            this.sequence = sequence;
+            return this;
+        }
+
         public SelectRenderer build() {
             return new SelectRenderer(this);
         }
@@ -0,0 +1,166 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select.render;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.TableExpression;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementShape;
+import org.mybatis.dynamic.sql.select.GroupByModel;
+import org.mybatis.dynamic.sql.select.PagingModel;
+import org.mybatis.dynamic.sql.select.QueryExpressionModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.aggregate.CountAll;
+import org.mybatis.dynamic.sql.select.join.JoinModel;
+import org.mybatis.dynamic.sql.select.join.JoinSpecification;
+import org.mybatis.dynamic.sql.where.render.CriterionShapeCalculator;
+
+/**
+ * Calculates the {@link StatementShape} of a select statement. Statements that use sub queries, functions, or other
+ * constructs that cannot be captured in a shape have no shape and are always rendered.
+ *
+ * @since 2.1.0
+ */
+public class SelectShapeCalculator {
+    private final SelectModel selectModel;
+    private final RenderingStrategy renderingStrategy;
+    private final RenderingContext renderingContext;
+    private final StatementShape.Builder shapeBuilder = new StatementShape.Builder();
+
+    public SelectShapeCalculator(SelectModel selectModel, RenderingStrategy renderingStrategy) {
+        this.selectModel = Objects.requireNonNull(selectModel);
+        this.renderingStrategy = Objects.requireNonNull(renderingStrategy);
+        renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withStatementConfiguration(selectModel.statementConfiguration())
+                .build();
+    }
+
+    public Optional<StatementShape> calculate() {
+        shapeBuilder.withElement(SelectModel.class)
+                .withElement(renderingStrategy)
+                .withElement(selectModel.statementConfiguration().isNonRenderingWhereClauseAllowed());
+
+        List<QueryExpressionModel> queryExpressions = selectModel.queryExpressions().toList();
+        shapeBuilder.withElement(queryExpressions.size());
+        for (QueryExpressionModel queryExpression : queryExpressions) {
+            if (!calculateQueryExpression(queryExpression)) {
+                return Optional.empty();
+            }
+        }
+
+        if (!selectModel.orderByModel().map(shapeBuilder::withOrderBy).orElseGet(this::markAbsent)) {
+            return Optional.empty();
+        }
+
+        selectModel.pagingModel().ifPresentOrElse(this::calculatePagingModel, this::markAbsent);
+        shapeBuilder.withElement(selectModel.forClause().orElse(null))
+                .withElement(selectModel.waitClause().orElse(null));
+
+        return Optional.of(shapeBuilder.build());
+    }
+
+    private boolean calculateQueryExpression(QueryExpressionModel queryExpression) {
+        Map<SqlTable, String> tableAliases = queryExpression.tableAliases();
+        shapeBuilder.withElement(queryExpression.connector().orElse(null))
+                .withElement(queryExpression.isDistinct());
+
+        List<BasicColumn> columns = queryExpression.columns().toList();
+        shapeBuilder.withElement(columns.size());
+        for (BasicColumn column : columns) {
+            if (!calculateSelectListItem(column, tableAliases)) {
+                return false;
+            }
+        }
+
+        if (!calculateTable(queryExpression.table(), tableAliases)) {
+            return false;
+        }
+
+        CriterionShapeCalculator criterionShapeCalculator =
+                new CriterionShapeCalculator(shapeBuilder, renderingContext, tableAliases);
+
+        return queryExpression.joinModel().map(jm -> calculateJoinModel(jm, criterionShapeCalculator, tableAliases))
+                    .orElseGet(this::markAbsent)
+                && queryExpression.whereModel().map(criterionShapeCalculator::calculate)
+                    .orElseGet(this::markAbsent)
+                && queryExpression.groupByModel().map(gb -> calculateGroupByModel(gb, tableAliases))
+                    .orElseGet(this::markAbsent)
+                && queryExpression.havingModel().map(criterionShapeCalculator::calculate)
+                    .orElseGet(this::markAbsent);
+    }
+
+    private boolean calculateSelectListItem(BasicColumn column, Map<SqlTable, String> tableAliases) {
+        if (column.getClass() == CountAll.class) {
+            shapeBuilder.withElement(CountAll.class).withElement(column.alias().orElse(null));
+            return true;
+        }
+
+        return shapeBuilder.withColumn(column, tableAliases);
+    }
+
+    private boolean calculateTable(TableExpression table, Map<SqlTable, String> tableAliases) {
+        if (table instanceof SqlTable sqlTable) {
+            shapeBuilder.withTable(sqlTable, tableAliases);
+            return true;
+        }
+
+        return false;
+    }
+
+    private boolean calculateJoinModel(JoinModel joinModel, CriterionShapeCalculator criterionShapeCalculator,
+                                       Map<SqlTable, String> tableAliases) {
+        List<JoinSpecification> joinSpecifications = joinModel.joinSpecifications().toList();
+        shapeBuilder.withElement(joinSpecifications.size());
+        for (JoinSpecification joinSpecification : joinSpecifications) {
+            shapeBuilder.withElement(joinSpecification.joinType());
+            if (!calculateTable(joinSpecification.table(), tableAliases)
+                    || !criterionShapeCalculator.calculate(joinSpecification)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean calculateGroupByModel(GroupByModel groupByModel, Map<SqlTable, String> tableAliases) {
+        List<BasicColumn> columns = groupByModel.columns().toList();
+        shapeBuilder.withElement(columns.size());
+        return columns.stream().allMatch(c -> shapeBuilder.withColumn(c, tableAliases));
+    }
+
+    private void calculatePagingModel(PagingModel pagingModel) {
+        // parameter values must be collected in the same order as the paging renderers allocate them
+        shapeBuilder.withElement(pagingModel.limit().isPresent())
+                .withElement(pagingModel.offset().isPresent())
+                .withElement(pagingModel.fetchFirstRows().isPresent());
+        pagingModel.limit().ifPresent(shapeBuilder::withParameterValue);
+        pagingModel.offset().ifPresent(shapeBuilder::withParameterValue);
+        if (pagingModel.limit().isEmpty()) {
+            pagingModel.fetchFirstRows().ifPresent(shapeBuilder::withParameterValue);
+        }
+    }
+
+    private boolean markAbsent() {
+        shapeBuilder.withElement(null);
+        return true;
+    }
+}
@@ -15,10 +15,38 @@
  */
 package org.mybatis.dynamic.sql.select.render;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
+import org.mybatis.dynamic.sql.configuration.StatementHints;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+
 public interface SelectStatementProvider {
     Map<String, Object> getParameters();
 
     String getSelectStatement();
+
+    /**
+     * The parameters of this statement in the order their placeholders appear in the statement. Positional parameters
+     * are only recorded when the statement is rendered with a positional rendering strategy, such as
+     * {@link org.mybatis.dynamic.sql.render.RenderingStrategies#JDBC}.
+     *
+     * @return the positional parameters. The default implementation returns an empty list.
+     * @see org.mybatis.dynamic.sql.render.RenderingStrategy#isPositional()
+     * @since 2.1.0
+     */
+    default List<ParameterSlot> getPositionalParameters() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * JDBC execution hints for this statement, set with {@code configureStatement} when the statement was built.
+     *
+     * @return the hints for this statement. The default implementation returns empty hints.
+     * @since 2.1.0
+     */
+    default StatementHints getStatementHints() {
+        return StatementHints.empty();
+    }
 }
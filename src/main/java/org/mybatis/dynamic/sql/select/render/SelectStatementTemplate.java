@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select.render;
+
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.dynamic.sql.configuration.StatementHints;
+import org.mybatis.dynamic.sql.render.AbstractStatementTemplate;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+
+/**
+ * A select statement that has been rendered once, and can be bound to new parameter values many times.
+ *
+ * @see AbstractStatementTemplate
+ * @since 2.1.0
+ */
+public class SelectStatementTemplate extends AbstractStatementTemplate<SelectStatementProvider> {
+    private final StatementHints statementHints;
+    private final List<ParameterSlot> positionalParameters;
+
+    public SelectStatementTemplate(SelectStatementProvider selectStatement, List<ParameterSlot> parameterSlots) {
+        super(selectStatement.getSelectStatement(), selectStatement.getParameters(), parameterSlots);
+        statementHints = selectStatement.getStatementHints();
+        positionalParameters = selectStatement.getPositionalParameters();
+    }
+
+    @Override
+    protected SelectStatementProvider toStatementProvider(String statement, Map<String, Object> parameters) {
+        return DefaultSelectStatementProvider.withSelectStatement(statement)
+                .withParameters(parameters)
+                .withStatementHints(statementHints)
+                .withPositionalParameters(positionalParameters)
+                .build();
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select.render;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.mybatis.dynamic.sql.AbstractColumnComparisonCondition;
+import org.mybatis.dynamic.sql.AbstractSubselectCondition;
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.Constant;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.DerivedColumn;
+import org.mybatis.dynamic.sql.ExistsCriterion;
+import org.mybatis.dynamic.sql.NotCriterion;
+import org.mybatis.dynamic.sql.NullCriterion;
+import org.mybatis.dynamic.sql.RenderableCondition;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.StringConstant;
+import org.mybatis.dynamic.sql.SubQueryColumn;
+import org.mybatis.dynamic.sql.TableExpression;
+import org.mybatis.dynamic.sql.common.AbstractBooleanExpressionModel;
+import org.mybatis.dynamic.sql.select.QueryExpressionModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.SubQuery;
+import org.mybatis.dynamic.sql.select.aggregate.CountAll;
+import org.mybatis.dynamic.sql.select.join.JoinSpecification;
+import org.mybatis.dynamic.sql.where.condition.IsEqualTo;
+
+/**
+ * Calculates the tables read by a select statement - the tables in the from clause and joins of every query
+ * expression, including the tables of sub queries in the from clause, joins, select list, and where and having
+ * clauses.
+ *
+ * <p>The calculation is conservative. Statements that use functions, conditions that are not supplied by this
+ * library, or a "for" clause (for example "for update") have no calculated tables because the tables they read
+ * cannot be determined reliably from the model.
+ *
+ * @since 2.1.0
+ */
+public class SelectTableCalculator implements SqlCriterionVisitor<Boolean> {
+    private static final String STANDARD_CONDITION_PACKAGE = IsEqualTo.class.getPackageName();
+
+    private final SelectModel selectModel;
+    private final Set<SqlTable> tables = new LinkedHashSet<>();
+
+    public SelectTableCalculator(SelectModel selectModel) {
+        this.selectModel = Objects.requireNonNull(selectModel);
+    }
+
+    public Optional<Set<SqlTable>> calculate() {
+        if (calculateSelectModel(selectModel)) {
+            return Optional.of(Collections.unmodifiableSet(tables));
+        }
+        return Optional.empty();
+    }
+
+    private boolean calculateSelectModel(SelectModel model) {
+        return model.forClause().isEmpty()
+                && model.queryExpressions().allMatch(this::calculateQueryExpression);
+    }
+
+    private boolean calculateQueryExpression(QueryExpressionModel queryExpression) {
+        return queryExpression.columns().allMatch(this::calculateColumn)
+                && calculateTable(queryExpression.table())
+                && queryExpression.joinModel()
+                    .map(jm -> jm.joinSpecifications().allMatch(this::calculateJoinSpecification))
+                    .orElse(true)
+                && queryExpression.whereModel().map(this::calculate).orElse(true)
+                && queryExpression.groupByModel().map(gb -> gb.columns().allMatch(this::calculateColumn))
+                    .orElse(true)
+                && queryExpression.havingModel().map(this::calculate).orElse(true);
+    }
+
+    private boolean calculateJoinSpecification(JoinSpecification joinSpecification) {
+        return calculateTable(joinSpecification.table()) && calculate(joinSpecification);
+    }
+
+    private boolean calculateTable(TableExpression table) {
+        if (table instanceof SqlTable sqlTable) {
+            tables.add(sqlTable);
+            return true;
+        } else if (table instanceof SubQuery subQuery) {
+            return calculateSelectModel(subQuery.selectModel());
+        }
+
+        return false;
+    }
+
+    private boolean calculateColumn(BasicColumn column) {
+        if (column instanceof SqlColumn<?> sqlColumn) {
+            tables.add(sqlColumn.table());
+            return true;
+        } else if (column instanceof SubQueryColumn subQueryColumn) {
+            return calculateSelectModel(subQueryColumn.selectModel());
+        }
+
+        return column instanceof CountAll
+                || column instanceof DerivedColumn
+                || column instanceof Constant
+                || column instanceof StringConstant;
+    }
+
+    private boolean calculate(AbstractBooleanExpressionModel model) {
+        return calculate(model.initialCriterion(), model.subCriteria());
+    }
+
+    private boolean calculate(SqlCriterion initialCriterion, List<AndOrCriteriaGroup> subCriteria) {
+        return initialCriterion.accept(this) && calculateSubCriteria(subCriteria);
+    }
+
+    private boolean calculateSubCriteria(List<AndOrCriteriaGroup> subCriteria) {
+        return subCriteria.stream().allMatch(c -> calculate(c.initialCriterion(), c.subCriteria()));
+    }
+
+    @Override
+    public <T> Boolean visit(ColumnAndConditionCriterion<T> criterion) {
+        return calculateColumn(criterion.column())
+                && calculateCondition(criterion.condition())
+                && calculateSubCriteria(criterion.subCriteria());
+    }
+
+    @Override
+    public Boolean visit(ExistsCriterion criterion) {
+        return calculateSelectModel(criterion.existsPredicate().selectModelBuilder().build())
+                && calculateSubCriteria(criterion.subCriteria());
+    }
+
+    @Override
+    public Boolean visit(CriteriaGroup criterion) {
+        return calculate(criterion.initialCriterion(), criterion.subCriteria());
+    }
+
+    @Override
+    public Boolean visit(NotCriterion criterion) {
+        return calculate(criterion.initialCriterion(), criterion.subCriteria());
+    }
+
+    @Override
+    public Boolean visit(NullCriterion criterion) {
+        return true;
+    }
+
+    private <T> boolean calculateCondition(RenderableCondition<T> condition) {
+        if (!condition.getClass().getPackageName().equals(STANDARD_CONDITION_PACKAGE)) {
+            return false;
+        }
+
+        if (condition instanceof AbstractSubselectCondition<T> subselectCondition) {
+            return calculateSelectModel(subselectCondition.selectModel());
+        } else if (condition instanceof AbstractColumnComparisonCondition<T> columnComparisonCondition) {
+            return calculateColumn(columnComparisonCondition.rightColumn());
+        }
+
+        return true;
+    }
+}
@@ -15,12 +15,15 @@
  */
 package org.mybatis.dynamic.sql.select.render;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.common.OrderByModel;
 import org.mybatis.dynamic.sql.common.OrderByRenderer;
+import org.mybatis.dynamic.sql.render.ParallelBranchRenderer;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.select.PagingModel;
 import org.mybatis.dynamic.sql.select.QueryExpressionModel;
@@ -42,9 +45,11 @@ public class SubQueryRenderer {
     }
 
     public FragmentAndParameters render() {
-        FragmentCollector fragmentCollector = selectModel
-                .queryExpressions()
-                .map(this::renderQueryExpression)
+        List<Function<RenderingContext, FragmentAndParameters>> branches = selectModel.queryExpressions()
+                .<Function<RenderingContext, FragmentAndParameters>>map(q -> rc -> renderQueryExpression(q, rc))
+                .toList();
+
+        FragmentCollector fragmentCollector = ParallelBranchRenderer.render(renderingContext, branches).stream()
                 .collect(FragmentCollector.collect());
 
         selectModel.orderByModel()
@@ -66,7 +71,8 @@ public class SubQueryRenderer {
         return fragmentCollector.toFragmentAndParameters(Collectors.joining(" ", prefix, suffix)); //$NON-NLS-1$
     }
 
-    private FragmentAndParameters renderQueryExpression(QueryExpressionModel queryExpressionModel) {
+    private FragmentAndParameters renderQueryExpression(QueryExpressionModel queryExpressionModel,
+                                                        RenderingContext renderingContext) {
         return QueryExpressionRenderer.withQueryExpression(queryExpressionModel)
                 .withRenderingContext(renderingContext)
                 .build()
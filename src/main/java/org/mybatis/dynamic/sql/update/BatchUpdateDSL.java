@@ -0,0 +1,145 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.ConfigurableStatement;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * DSL for a batch update. Set phrases and where conditions are bound to properties of each record, so the statement
+ * is rendered once and executed for every record with a JDBC batch.
+ *
+ * @param <T> the type of record
+ * @since 2.1.0
+ */
+public class BatchUpdateDSL<T> implements Buildable<BatchUpdateModel<T>>, ConfigurableStatement<BatchUpdateDSL<T>> {
+
+    private final Collection<T> records;
+    private final SqlTable table;
+    private final List<AbstractColumnMapping> setMappings = new ArrayList<>();
+    private final List<PropertyMapping> whereMappings = new ArrayList<>();
+    private final StatementConfiguration statementConfiguration = new StatementConfiguration();
+
+    private BatchUpdateDSL(Collection<T> records, SqlTable table) {
+        this.records = records;
+        this.table = Objects.requireNonNull(table);
+    }
+
+    public <F> SetClauseFinisher<F> set(SqlColumn<F> column) {
+        return new SetClauseFinisher<>(column);
+    }
+
+    public <F> WhereFinisher<F> where(SqlColumn<F> column) {
+        return new WhereFinisher<>(column);
+    }
+
+    public <F> WhereFinisher<F> and(SqlColumn<F> column) {
+        return new WhereFinisher<>(column);
+    }
+
+    @Override
+    public BatchUpdateDSL<T> configureStatement(Consumer<StatementConfiguration> consumer) {
+        consumer.accept(statementConfiguration);
+        return this;
+    }
+
+    @Override
+    public BatchUpdateModel<T> build() {
+        return BatchUpdateModel.withRecords(records)
+                .withTable(table)
+                .withSetMappings(setMappings)
+                .withWhereMappings(whereMappings)
+                .withStatementConfiguration(statementConfiguration)
+                .build();
+    }
+
+    @SafeVarargs
+    public static <T> TableGatherer<T> update(T... records) {
+        return update(Arrays.asList(records));
+    }
+
+    public static <T> TableGatherer<T> update(Collection<T> records) {
+        return new TableGatherer<>(records);
+    }
+
+    public static class TableGatherer<T> {
+        private final Collection<T> records;
+
+        private TableGatherer(Collection<T> records) {
+            this.records = records;
+        }
+
+        public BatchUpdateDSL<T> table(SqlTable table) {
+            return new BatchUpdateDSL<>(records, table);
+        }
+    }
+
+    public class SetClauseFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public SetClauseFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        public BatchUpdateDSL<T> toProperty(String property) {
+            setMappings.add(PropertyMapping.of(column, property));
+            return BatchUpdateDSL.this;
+        }
+
+        public BatchUpdateDSL<T> toNull() {
+            setMappings.add(NullMapping.of(column));
+            return BatchUpdateDSL.this;
+        }
+
+        public BatchUpdateDSL<T> toConstant(String constant) {
+            setMappings.add(ConstantMapping.of(column, constant));
+            return BatchUpdateDSL.this;
+        }
+
+        public BatchUpdateDSL<T> toStringConstant(String constant) {
+            setMappings.add(StringConstantMapping.of(column, constant));
+            return BatchUpdateDSL.this;
+        }
+    }
+
+    public class WhereFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public WhereFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        public BatchUpdateDSL<T> isEqualToProperty(String property) {
+            whereMappings.add(PropertyMapping.of(column, property));
+            return BatchUpdateDSL.this;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderedParameterInfo;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.Messages;
+
+/**
+ * A value rendered as a parameter with the type details of a column. Unlike a
+ * {@link org.mybatis.dynamic.sql.BoundValue}, the value may be null.
+ *
+ * @param <T> the column type
+ */
+class ColumnTypedValue<T> implements BasicColumn {
+    private final SqlColumn<T> column;
+    private final @Nullable Object value;
+
+    ColumnTypedValue(SqlColumn<T> column, @Nullable Object value) {
+        this.column = column;
+        this.value = value;
+    }
+
+    @Override
+    public FragmentAndParameters render(RenderingContext renderingContext) {
+        RenderedParameterInfo rpi = renderingContext.calculateParameterInfo(column);
+        return FragmentAndParameters.withFragment(rpi.renderedPlaceHolder())
+                .withParameter(rpi.parameterMapKey(), value)
+                .build();
+    }
+
+    @Override
+    public Optional<String> alias() {
+        return Optional.empty();
+    }
+
+    @Override
+    public ColumnTypedValue<T> as(String alias) {
+        throw new InvalidSqlException(Messages.getString("ERROR.38")); //$NON-NLS-1$
+    }
+}
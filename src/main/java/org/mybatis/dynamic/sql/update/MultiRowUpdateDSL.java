@@ -0,0 +1,131 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * DSL for a multiple row update. Many records are updated with a single statement - each set phrase mapped to a
+ * property is rendered as a simple case expression on the key column.
+ *
+ * @param <T> the type of record
+ * @since 2.1.0
+ */
+public class MultiRowUpdateDSL<T> implements Buildable<MultiRowUpdateModel<T>> {
+
+    private final Collection<T> records;
+    private final SqlTable table;
+    private final List<AbstractColumnMapping> setMappings = new ArrayList<>();
+    private @Nullable PropertyMapping keyMapping;
+
+    private MultiRowUpdateDSL(Collection<T> records, SqlTable table) {
+        this.records = records;
+        this.table = Objects.requireNonNull(table);
+    }
+
+    public <F> SetClauseFinisher<F> set(SqlColumn<F> column) {
+        return new SetClauseFinisher<>(column);
+    }
+
+    public <F> WhereFinisher<F> where(SqlColumn<F> keyColumn) {
+        return new WhereFinisher<>(keyColumn);
+    }
+
+    @Override
+    public MultiRowUpdateModel<T> build() {
+        return MultiRowUpdateModel.withRecords(records)
+                .withTable(table)
+                .withSetMappings(setMappings)
+                .withKeyMapping(keyMapping)
+                .build();
+    }
+
+    @SafeVarargs
+    public static <T> TableGatherer<T> update(T... records) {
+        return update(Arrays.asList(records));
+    }
+
+    public static <T> TableGatherer<T> update(Collection<T> records) {
+        return new TableGatherer<>(records);
+    }
+
+    public static class TableGatherer<T> {
+        private final Collection<T> records;
+
+        private TableGatherer(Collection<T> records) {
+            this.records = records;
+        }
+
+        public MultiRowUpdateDSL<T> table(SqlTable table) {
+            return new MultiRowUpdateDSL<>(records, table);
+        }
+    }
+
+    public class SetClauseFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public SetClauseFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        public MultiRowUpdateDSL<T> toProperty(String property) {
+            setMappings.add(PropertyMapping.of(column, property));
+            return MultiRowUpdateDSL.this;
+        }
+
+        public MultiRowUpdateDSL<T> toNull() {
+            setMappings.add(NullMapping.of(column));
+            return MultiRowUpdateDSL.this;
+        }
+
+        public MultiRowUpdateDSL<T> toConstant(String constant) {
+            setMappings.add(ConstantMapping.of(column, constant));
+            return MultiRowUpdateDSL.this;
+        }
+
+        public MultiRowUpdateDSL<T> toStringConstant(String constant) {
+            setMappings.add(StringConstantMapping.of(column, constant));
+            return MultiRowUpdateDSL.this;
+        }
+    }
+
+    public class WhereFinisher<F> {
+        private final SqlColumn<F> keyColumn;
+
+        public WhereFinisher(SqlColumn<F> keyColumn) {
+            this.keyColumn = keyColumn;
+        }
+
+        public MultiRowUpdateDSL<T> isEqualToProperty(String property) {
+            keyMapping = PropertyMapping.of(keyColumn, property);
+            return MultiRowUpdateDSL.this;
+        }
+    }
+}
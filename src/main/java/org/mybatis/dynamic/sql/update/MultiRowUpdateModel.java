@@ -0,0 +1,212 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.isIn;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.GlobalContext;
+import org.mybatis.dynamic.sql.configuration.InListStrategy;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.RowLimit;
+import org.mybatis.dynamic.sql.select.caseexpression.SimpleCaseDSL;
+import org.mybatis.dynamic.sql.select.caseexpression.SimpleCaseModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.Messages;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.PropertyReader;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * Model for a multiple row update.
+ *
+ * <p>The model is rendered by building an {@link UpdateModel} for the records, so the statement is rendered by the
+ * normal update renderer. A set phrase mapped to a property is rendered as a simple case expression on the key
+ * column, and the where clause limits the update to the keys of the records:
+ *
+ * <pre>
+ * update foo set first_name = case id when ? then ? when ? then ? else first_name end where id in (?, ?)
+ * </pre>
+ *
+ * @param <T> the type of record
+ * @since 2.1.0
+ */
+public class MultiRowUpdateModel<T> {
+    private final SqlTable table;
+    private final List<T> records;
+    private final List<AbstractColumnMapping> setMappings;
+    private final PropertyMapping keyMapping;
+
+    private MultiRowUpdateModel(Builder<T> builder) {
+        table = Objects.requireNonNull(builder.table);
+        records = List.copyOf(builder.records);
+        setMappings = List.copyOf(builder.setMappings);
+        Validator.assertNotEmpty(records, "ERROR.77"); //$NON-NLS-1$
+        Validator.assertNotEmpty(setMappings, "ERROR.17"); //$NON-NLS-1$
+        Validator.assertFalse(builder.keyMapping == null, "ERROR.78"); //$NON-NLS-1$
+        keyMapping = Objects.requireNonNull(builder.keyMapping);
+    }
+
+    public SqlTable table() {
+        return table;
+    }
+
+    public List<T> records() {
+        return records;
+    }
+
+    public UpdateStatementProvider render(RenderingStrategy renderingStrategy) {
+        return toUpdateModel(records).render(renderingStrategy);
+    }
+
+    /**
+     * Render the update as several statements, each with no more rows than allowed by the limit.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param limit the limit on the size of each statement
+     * @return a list of update statements, in record order
+     */
+    public List<UpdateStatementProvider> render(RenderingStrategy renderingStrategy, RowLimit limit) {
+        int recordCount = records.size();
+        InListStrategy inListStrategy = GlobalContext.getConfiguration().getInListStrategy();
+        int rowsPerStatement = Math.min(limit.rowsPerStatement(rows -> parameterCount(rows, inListStrategy)),
+                recordCount);
+
+        List<UpdateStatementProvider> statements = new ArrayList<>();
+        for (int start = 0; start < recordCount; start += rowsPerStatement) {
+            List<T> chunk = records.subList(start, Math.min(start + rowsPerStatement, recordCount));
+            statements.add(toUpdateModel(chunk).render(renderingStrategy));
+        }
+        return statements;
+    }
+
+    /**
+     * Build an update model for some of the records in this model.
+     *
+     * @param chunk the records to update
+     * @return an update model
+     */
+    public UpdateModel toUpdateModel(List<T> chunk) {
+        return toUpdateModel(keyMapping.column(), chunk);
+    }
+
+    private <K> UpdateModel toUpdateModel(SqlColumn<K> keyColumn, List<T> chunk) {
+        List<K> keys = chunk.stream()
+                .map(this::<K>readKey)
+                .toList();
+
+        UpdateDSL<UpdateModel> dsl = UpdateDSL.update(table);
+        for (AbstractColumnMapping mapping : setMappings) {
+            applySetMapping(dsl, mapping, keyColumn, keys, chunk);
+        }
+
+        return dsl.where(keyColumn, isIn(keys)).build();
+    }
+
+    private <K> void applySetMapping(UpdateDSL<UpdateModel> dsl, AbstractColumnMapping mapping,
+                                     SqlColumn<K> keyColumn, List<K> keys, List<T> chunk) {
+        if (mapping instanceof PropertyMapping propertyMapping) {
+            dsl.set(propertyMapping.column())
+                    .equalTo(caseExpression(keyColumn, keys, propertyMapping, chunk));
+        } else if (mapping instanceof NullMapping) {
+            dsl.set(mapping.column()).equalToNull();
+        } else if (mapping instanceof ConstantMapping constantMapping) {
+            dsl.set(mapping.column()).equalToConstant(constantMapping.constant());
+        } else if (mapping instanceof StringConstantMapping stringConstantMapping) {
+            dsl.set(mapping.column()).equalToStringConstant(stringConstantMapping.constant());
+        }
+    }
+
+    private <K> SimpleCaseModel<K> caseExpression(SqlColumn<K> keyColumn, List<K> keys,
+                                                  PropertyMapping propertyMapping, List<T> chunk) {
+        SimpleCaseDSL<K> caseDSL = SimpleCaseDSL.simpleCase(keyColumn);
+        for (int i = 0; i < keys.size(); i++) {
+            Object value = readProperty(chunk.get(i), propertyMapping.property());
+            caseDSL.when(keys.get(i)).then(new ColumnTypedValue<>(propertyMapping.column(), value));
+        }
+
+        // every row in the where clause has a when condition, the else phrase keeps the statement valid SQL
+        return caseDSL.else_(propertyMapping.column()).end();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K> K readKey(T row) {
+        return (K) readProperty(row, keyMapping.property());
+    }
+
+    // each set phrase mapped to a property binds the key and the value for every row. The where clause binds the
+    // keys as they are rendered by the in list strategy, so padding can add parameters
+    private int parameterCount(int rows, InListStrategy inListStrategy) {
+        long propertyMappings = setMappings.stream()
+                .filter(PropertyMapping.class::isInstance)
+                .count();
+        return (int) propertyMappings * 2 * rows + inListStrategy.renderedSize(rows);
+    }
+
+    private static @Nullable Object readProperty(Object row, String property) {
+        return PropertyReader.of(row.getClass(), property)
+                .orElseThrow(() -> new InvalidSqlException(
+                        Messages.getString("ERROR.66", property, row.getClass().getName()))) //$NON-NLS-1$
+                .read(row);
+    }
+
+    public static <T> Builder<T> withRecords(Collection<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private @Nullable SqlTable table;
+        private final List<T> records = new ArrayList<>();
+        private final List<AbstractColumnMapping> setMappings = new ArrayList<>();
+        private @Nullable PropertyMapping keyMapping;
+
+        public Builder<T> withTable(SqlTable table) {
+            this.table = table;
+            return this;
+        }
+
+        public Builder<T> withRecords(Collection<T> records) {
+            this.records.addAll(records);
+            return this;
+        }
+
+        public Builder<T> withSetMappings(List<AbstractColumnMapping> setMappings) {
+            this.setMappings.addAll(setMappings);
+            return this;
+        }
+
+        public Builder<T> withKeyMapping(@Nullable PropertyMapping keyMapping) {
+            this.keyMapping = keyMapping;
+            return this;
+        }
+
+        public MultiRowUpdateModel<T> build() {
+            return new MultiRowUpdateModel<>(this);
+        }
+    }
+}
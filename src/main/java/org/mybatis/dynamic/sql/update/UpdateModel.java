@@ -17,19 +17,25 @@ package org.mybatis.dynamic.sql.update;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.NamedParameter;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.common.CommonBuilder;
 import org.mybatis.dynamic.sql.common.OrderByModel;
 import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.render.DefaultUpdateStatementProvider;
 import org.mybatis.dynamic.sql.update.render.UpdateRenderer;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementTemplate;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 import org.mybatis.dynamic.sql.util.Validator;
 import org.mybatis.dynamic.sql.where.WhereModel;
@@ -83,12 +89,59 @@ public class UpdateModel {
     }
 
     public UpdateStatementProvider render(RenderingStrategy renderingStrategy) {
+        ParameterSequence sequence = new ParameterSequence();
+        UpdateStatementProvider statement = renderUnbound(renderingStrategy, sequence);
+        if (sequence.hasNamedParameters()) {
+            NamedParameter.assertBound(statement.getParameters());
+        }
+        return statement;
+    }
+
+    private UpdateStatementProvider renderUnbound(RenderingStrategy renderingStrategy, ParameterSequence sequence) {
         return UpdateRenderer.withUpdateModel(this)
                 .withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence)
                 .build()
                 .render();
     }
 
+    /**
+     * Render this statement and bind values to the named parameters in the statement. The model is not changed, so
+     * a model with named parameters can be rendered concurrently with different values.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param parameterValues the values of the named parameters, keyed by name
+     * @return the rendered statement with a value for every named parameter
+     * @see NamedParameter
+     * @since 2.1.0
+     */
+    public UpdateStatementProvider render(RenderingStrategy renderingStrategy, Map<String, ?> parameterValues) {
+        UpdateStatementProvider updateStatement = renderUnbound(renderingStrategy, new ParameterSequence());
+        return DefaultUpdateStatementProvider.withUpdateStatement(updateStatement.getUpdateStatement())
+                .withParameters(NamedParameter.bindValues(updateStatement.getParameters(), parameterValues))
+                .withPositionalParameters(updateStatement.getPositionalParameters())
+                .build();
+    }
+
+    /**
+     * Render this statement once as a template. New parameter values can be bound to the template many times without
+     * rendering the statement again.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return a template for this statement
+     * @since 2.1.0
+     */
+    public UpdateStatementTemplate renderTemplate(RenderingStrategy renderingStrategy) {
+        List<ParameterSlot> parameterSlots = new ArrayList<>();
+        UpdateStatementProvider updateStatement = UpdateRenderer.withUpdateModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .withParameterSlots(parameterSlots)
+                .build()
+                .render();
+
+        return new UpdateStatementTemplate(updateStatement, parameterSlots);
+    }
+
     public <R> R map(Function<UpdateModel, R> mapper) {
         return mapper.apply(this);
     }
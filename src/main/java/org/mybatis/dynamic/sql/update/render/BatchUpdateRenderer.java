@@ -0,0 +1,121 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update.render;
+
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.insert.render.MultiRowValuePhraseVisitor;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+import org.mybatis.dynamic.sql.render.RenderInstrumentation;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.BatchUpdateModel;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+
+/**
+ * Renders a batch update. Set phrases and where conditions are bound to properties of a record with bindings like
+ * <code>#{row.propertyName}</code> (MyBatis) or <code>:row.propertyName</code> (Spring), the same as a batch insert.
+ *
+ * @param <T> the type of record
+ * @since 2.1.0
+ */
+public class BatchUpdateRenderer<T> {
+    private static final String ROW_PREFIX = "row"; //$NON-NLS-1$
+
+    private final BatchUpdateModel<T> model;
+    private final RenderingStrategy renderingStrategy;
+    private final SetPhraseVisitor visitor;
+
+    private BatchUpdateRenderer(Builder<T> builder) {
+        model = Objects.requireNonNull(builder.model);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        visitor = new SetPhraseVisitor(renderingStrategy);
+    }
+
+    public BatchUpdate<T> render() {
+        RenderInstrumentation renderInstrumentation =
+                RenderInstrumentation.start(model.statementConfiguration().renderListener().orElse(null));
+
+        String updateStatement = "update " //$NON-NLS-1$
+                + model.table().tableName()
+                + calculateSetPhrase()
+                + calculateWhereClause();
+
+        renderInstrumentation.finish(StatementType.BATCH_UPDATE, updateStatement, calculateParameterCount());
+
+        return BatchUpdate.withRecords(model.records())
+                .withUpdateStatement(updateStatement)
+                .build();
+    }
+
+    // each set phrase mapped to a property and each where condition binds one property of the row
+    private int calculateParameterCount() {
+        long setParameterCount = model.setMappings()
+                .filter(PropertyMapping.class::isInstance)
+                .count();
+        return (int) (setParameterCount + model.whereMappings().count());
+    }
+
+    private String calculateSetPhrase() {
+        return model.setMappings()
+                .map(m -> m.accept(visitor))
+                .map(f -> f.fieldName() + " = " + f.valuePhrase()) //$NON-NLS-1$
+                .collect(Collectors.joining(", ", " set ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    private String calculateWhereClause() {
+        return model.whereMappings()
+                .map(this::calculateCondition)
+                .collect(Collectors.joining(" and ", " where ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    private String calculateCondition(PropertyMapping mapping) {
+        return mapping.columnName()
+                + " = " //$NON-NLS-1$
+                + mapping.column().renderingStrategy().orElse(renderingStrategy)
+                        .getRecordBasedInsertBinding(mapping.column(), ROW_PREFIX, mapping.property());
+    }
+
+    public static <T> Builder<T> withBatchUpdateModel(BatchUpdateModel<T> model) {
+        return new Builder<T>().withBatchUpdateModel(model);
+    }
+
+    public static class Builder<T> {
+        private @Nullable BatchUpdateModel<T> model;
+        private @Nullable RenderingStrategy renderingStrategy;
+
+        public Builder<T> withBatchUpdateModel(BatchUpdateModel<T> model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder<T> withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public BatchUpdateRenderer<T> build() {
+            return new BatchUpdateRenderer<>(this);
+        }
+    }
+
+    private static class SetPhraseVisitor extends MultiRowValuePhraseVisitor {
+        SetPhraseVisitor(RenderingStrategy renderingStrategy) {
+            super(renderingStrategy, ROW_PREFIX);
+        }
+    }
+}
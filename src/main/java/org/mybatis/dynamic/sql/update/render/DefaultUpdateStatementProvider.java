@@ -15,19 +15,24 @@
  */
 package org.mybatis.dynamic.sql.update.render;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
 
 public class DefaultUpdateStatementProvider implements UpdateStatementProvider {
     private final String updateStatement;
     private final Map<String, Object> parameters;
+    private final List<ParameterSlot> positionalParameters;
 
     private DefaultUpdateStatementProvider(Builder builder) {
         updateStatement = Objects.requireNonNull(builder.updateStatement);
         parameters = builder.parameters;
+        positionalParameters = Collections.unmodifiableList(builder.positionalParameters);
     }
 
     @Override
@@ -40,6 +45,11 @@ public class DefaultUpdateStatementProvider implements UpdateStatementProvider {
         return updateStatement;
     }
 
+    @Override
+    public List<ParameterSlot> getPositionalParameters() {
+        return positionalParameters;
+    }
+
     public static Builder withUpdateStatement(String updateStatement) {
         return new Builder().withUpdateStatement(updateStatement);
     }
@@ -47,6 +57,7 @@ public class DefaultUpdateStatementProvider implements UpdateStatementProvider {
     public static class Builder {
         private @Nullable String updateStatement;
         private final Map<String, Object> parameters = new HashMap<>();
+        private List<ParameterSlot> positionalParameters = Collections.emptyList();
 
         public Builder withUpdateStatement(String updateStatement) {
             this.updateStatement = updateStatement;
@@ -58,6 +69,11 @@ public class DefaultUpdateStatementProvider implements UpdateStatementProvider {
             return this;
         }
 
+        public Builder withPositionalParameters(List<ParameterSlot> positionalParameters) {
+            this.positionalParameters = positionalParameters;
+            return this;
+        }
+
         public DefaultUpdateStatementProvider build() {
             return new DefaultUpdateStatementProvider(this);
         }
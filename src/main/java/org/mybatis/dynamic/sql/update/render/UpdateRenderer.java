@@ -15,6 +15,8 @@
  */
 package org.mybatis.dynamic.sql.update.render;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -23,7 +25,12 @@ import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.common.OrderByModel;
 import org.mybatis.dynamic.sql.common.OrderByRenderer;
 import org.mybatis.dynamic.sql.render.ExplicitTableAliasCalculator;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+import org.mybatis.dynamic.sql.render.RenderInstrumentation;
 import org.mybatis.dynamic.sql.render.RenderedParameterInfo;
+import org.mybatis.dynamic.sql.render.RenderedStatementCache;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
@@ -35,23 +42,69 @@ import org.mybatis.dynamic.sql.where.WhereModel;
 
 public class UpdateRenderer {
     private final UpdateModel updateModel;
+    private final RenderingStrategy renderingStrategy;
+    private final @Nullable List<ParameterSlot> parameterSlots;
+    private final List<ParameterSlot> positionalParameters = new ArrayList<>();
+    private final RenderInstrumentation renderInstrumentation;
+    private final ParameterSequence sequence;
     private final RenderingContext renderingContext;
     private final SetPhraseVisitor visitor;
 
     private UpdateRenderer(Builder builder) {
         updateModel = Objects.requireNonNull(builder.updateModel);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        parameterSlots = builder.parameterSlots;
+        sequence = Objects.requireNonNullElseGet(builder.sequence, ParameterSequence::new);
+        renderInstrumentation = Objects.requireNonNullElseGet(builder.renderInstrumentation,
+                () -> RenderInstrumentation.start(updateModel.statementConfiguration().renderListener().orElse(null)));
         TableAliasCalculator tableAliasCalculator = builder.updateModel.tableAlias()
                 .map(a -> ExplicitTableAliasCalculator.of(updateModel.table(), a))
                 .orElseGet(TableAliasCalculator::empty);
         renderingContext = RenderingContext
-                .withRenderingStrategy(Objects.requireNonNull(builder.renderingStrategy))
+                .withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence)
                 .withTableAliasCalculator(tableAliasCalculator)
                 .withStatementConfiguration(updateModel.statementConfiguration())
+                .withParameterSlots(parameterSlots)
+                .withPositionalParameters(renderingStrategy.isPositional() ? positionalParameters : null)
+                .withRenderInstrumentation(renderInstrumentation)
                 .build();
         visitor = new SetPhraseVisitor(renderingContext);
     }
 
     public UpdateStatementProvider render() {
+        FragmentAndParameters fragmentAndParameters = updateModel.statementConfiguration().renderedStatementCache()
+                .filter(c -> parameterSlots == null && !renderingStrategy.isPositional())
+                .flatMap(this::renderWithCache)
+                .orElseGet(this::renderUpdateModel);
+
+        renderInstrumentation.finish(StatementType.UPDATE, fragmentAndParameters.fragment(),
+                fragmentAndParameters.parameters().size());
+
+        return DefaultUpdateStatementProvider.withUpdateStatement(fragmentAndParameters.fragment())
+                .withParameters(fragmentAndParameters.parameters())
+                .withPositionalParameters(positionalParameters)
+                .build();
+    }
+
+    private Optional<FragmentAndParameters> renderWithCache(RenderedStatementCache renderedStatementCache) {
+        return new UpdateShapeCalculator(updateModel, renderingStrategy).calculate()
+                .map(shape -> renderedStatementCache.render(shape, renderInstrumentation,
+                        this::renderWithParameterSlots));
+    }
+
+    private FragmentAndParameters renderWithParameterSlots(List<ParameterSlot> parameterSlots) {
+        // the nested renderer shares this renderer's instrumentation and sequence so skipped conditions and named
+        // parameters are recorded once
+        Builder builder = withUpdateModel(updateModel)
+                .withRenderingStrategy(renderingStrategy)
+                .withParameterSlots(parameterSlots)
+                .withSequence(sequence);
+        builder.renderInstrumentation = renderInstrumentation;
+        return builder.build().renderUpdateModel();
+    }
+
+    private FragmentAndParameters renderUpdateModel() {
         FragmentCollector fragmentCollector = new FragmentCollector();
 
         fragmentCollector.add(calculateUpdateStatementStart());
@@ -60,14 +113,7 @@ public class UpdateRenderer {
         calculateOrderByClause().ifPresent(fragmentCollector::add);
         calculateLimitClause().ifPresent(fragmentCollector::add);
 
-        return toUpdateStatementProvider(fragmentCollector);
-    }
-
-    private UpdateStatementProvider toUpdateStatementProvider(FragmentCollector fragmentCollector) {
-        return DefaultUpdateStatementProvider
-                .withUpdateStatement(fragmentCollector.collectFragments(Collectors.joining(" "))) //$NON-NLS-1$
-                .withParameters(fragmentCollector.parameters())
-                .build();
+        return fragmentCollector.toFragmentAndParameters(Collectors.joining(" ")); //$NON-NLS-1$
     }
 
     private FragmentAndParameters calculateUpdateStatementStart() {
@@ -122,6 +168,9 @@ public class UpdateRenderer {
     public static class Builder {
         private @Nullable UpdateModel updateModel;
         private @Nullable RenderingStrategy renderingStrategy;
+        private @Nullable List<ParameterSlot> parameterSlots;
+        private @Nullable RenderInstrumentation renderInstrumentation;
+        private @Nullable ParameterSequence sequence;
 
         public Builder withUpdateModel(UpdateModel updateModel) {
             this.updateModel = updateModel;
@@ -133,6 +182,16 @@ public class UpdateRenderer {
             return this;
         }
 
+        public Builder withParameterSlots(@Nullable List<ParameterSlot> parameterSlots) {
+            this.parameterSlots = parameterSlots;
+            return this;
+        }
+
+        public Builder withSequence(ParameterSequence sequence) {
+            this.sequence = sequence;
+            return this;
+        }
+
         public UpdateRenderer build() {
             return new UpdateRenderer(this);
         }
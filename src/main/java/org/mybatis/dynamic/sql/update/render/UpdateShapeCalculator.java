@@ -0,0 +1,155 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update.render;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementShape;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.ColumnToColumnMapping;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.SelectMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+import org.mybatis.dynamic.sql.util.UpdateMappingVisitor;
+import org.mybatis.dynamic.sql.util.ValueMapping;
+import org.mybatis.dynamic.sql.util.ValueOrNullMapping;
+import org.mybatis.dynamic.sql.util.ValueWhenPresentMapping;
+import org.mybatis.dynamic.sql.where.render.CriterionShapeCalculator;
+
+/**
+ * Calculates the {@link StatementShape} of an update statement. Statements that set a column from a sub query, or
+ * use other constructs that cannot be captured in a shape, have no shape and are always rendered.
+ *
+ * @since 2.1.0
+ */
+public class UpdateShapeCalculator {
+    private final UpdateModel updateModel;
+    private final RenderingStrategy renderingStrategy;
+    private final RenderingContext renderingContext;
+    private final Map<SqlTable, String> tableAliases;
+    private final StatementShape.Builder shapeBuilder = new StatementShape.Builder();
+
+    public UpdateShapeCalculator(UpdateModel updateModel, RenderingStrategy renderingStrategy) {
+        this.updateModel = Objects.requireNonNull(updateModel);
+        this.renderingStrategy = Objects.requireNonNull(renderingStrategy);
+        renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withStatementConfiguration(updateModel.statementConfiguration())
+                .build();
+        tableAliases = updateModel.tableAlias()
+                .map(a -> Map.of(updateModel.table(), a))
+                .orElseGet(Map::of);
+    }
+
+    public Optional<StatementShape> calculate() {
+        shapeBuilder.withElement(UpdateModel.class)
+                .withElement(renderingStrategy)
+                .withElement(updateModel.statementConfiguration().isNonRenderingWhereClauseAllowed())
+                .withTable(updateModel.table(), tableAliases);
+
+        List<AbstractColumnMapping> columnMappings = updateModel.columnMappings().toList();
+        shapeBuilder.withElement(columnMappings.size());
+        SetPhraseShapeVisitor visitor = new SetPhraseShapeVisitor();
+        for (AbstractColumnMapping columnMapping : columnMappings) {
+            if (!columnMapping.accept(visitor)) {
+                return Optional.empty();
+            }
+        }
+
+        boolean supported = updateModel.whereModel()
+                .map(new CriterionShapeCalculator(shapeBuilder, renderingContext, tableAliases)::calculate)
+                .orElseGet(this::markAbsent)
+                && updateModel.orderByModel().map(shapeBuilder::withOrderBy).orElseGet(this::markAbsent);
+        if (!supported) {
+            return Optional.empty();
+        }
+
+        shapeBuilder.withElement(updateModel.limit().isPresent());
+        updateModel.limit().ifPresent(shapeBuilder::withParameterValue);
+        return Optional.of(shapeBuilder.build());
+    }
+
+    private boolean markAbsent() {
+        shapeBuilder.withElement(null);
+        return true;
+    }
+
+    private class SetPhraseShapeVisitor extends UpdateMappingVisitor<Boolean> {
+        @Override
+        public Boolean visit(NullMapping mapping) {
+            return withMapping(mapping);
+        }
+
+        @Override
+        public Boolean visit(ConstantMapping mapping) {
+            shapeBuilder.withElement(mapping.constant());
+            return withMapping(mapping);
+        }
+
+        @Override
+        public Boolean visit(StringConstantMapping mapping) {
+            shapeBuilder.withElement(mapping.constant());
+            return withMapping(mapping);
+        }
+
+        @Override
+        public <T> Boolean visit(ValueMapping<T> mapping) {
+            return withValue(mapping, mapping.value());
+        }
+
+        @Override
+        public <T> Boolean visit(ValueOrNullMapping<T> mapping) {
+            return mapping.value()
+                    .map(v -> withValue(mapping, v))
+                    .orElseGet(() -> withMapping(mapping));
+        }
+
+        @Override
+        public <T> Boolean visit(ValueWhenPresentMapping<T> mapping) {
+            return mapping.value()
+                    .map(v -> withValue(mapping, v))
+                    .orElseGet(UpdateShapeCalculator.this::markAbsent);
+        }
+
+        @Override
+        public Boolean visit(SelectMapping mapping) {
+            return false;
+        }
+
+        @Override
+        public Boolean visit(ColumnToColumnMapping mapping) {
+            return withMapping(mapping) && shapeBuilder.withColumn(mapping.rightColumn(), tableAliases);
+        }
+
+        private boolean withValue(AbstractColumnMapping mapping, @Nullable Object value) {
+            shapeBuilder.withElement(ValueMapping.class).withParameterValue(value);
+            return withMapping(mapping);
+        }
+
+        private boolean withMapping(AbstractColumnMapping mapping) {
+            shapeBuilder.withElement(mapping.getClass());
+            return shapeBuilder.withColumn(mapping.column(), tableAliases);
+        }
+    }
+}
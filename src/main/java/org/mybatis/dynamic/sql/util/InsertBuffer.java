@@ -0,0 +1,331 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+
+/**
+ * A write behind buffer for single row inserts. Insert statements added to the buffer are grouped by shape - the same
+ * table and the same column mappings - and are written together as multi-row inserts or batch inserts when a group
+ * reaches the maximum batch size, or when the window after the first insert in the group expires. Tables and columns
+ * are matched by identity, so inserts should use the same table and column objects - for example, the constants of a
+ * dynamic SQL support class.
+ *
+ * <p>Adding an insert does not wait for the database. Callers that need to know when the row is written can wait for
+ * the returned future. For example, with Spring:
+ *
+ * <pre>
+ * InsertBuffer&lt;AuditRecord&gt; buffer = new InsertBuffer.Builder&lt;AuditRecord&gt;()
+ *         .withMultiRowInserts(extensions::insertMultiple)
+ *         .withScheduler(scheduler)
+ *         .build();
+ *
+ * buffer.add(insert(auditRecord).into(audit).map(id).toProperty("id").map(message).toProperty("message"));
+ * </pre>
+ *
+ * <p>Rows are held in memory until they are written, and are lost if the application stops before then. Call
+ * {@link #flush()} before shutting down. Writes are executed by the scheduler, so they do not run in the transaction of
+ * the caller. The buffer does not own the scheduler and does not shut it down.
+ *
+ * <p>This class is thread safe.
+ *
+ * @param <T> the type of the rows
+ * @since 2.1.0
+ */
+public class InsertBuffer<T> {
+    private final Writer<T> writer;
+    private final ScheduledExecutorService scheduler;
+    private final long windowNanos;
+    private final int maximumBatchSize;
+    private final Map<ShapeKey, Shape<T>> shapes = new ConcurrentHashMap<>();
+
+    private InsertBuffer(Builder<T> builder) {
+        writer = Objects.requireNonNull(builder.writer);
+        scheduler = Objects.requireNonNull(builder.scheduler);
+        Validator.assertFalse(builder.window.isNegative(), "ERROR.84"); //$NON-NLS-1$
+        Validator.assertTrue(builder.maximumBatchSize > 0, "ERROR.85"); //$NON-NLS-1$
+        windowNanos = builder.window.toNanos();
+        maximumBatchSize = builder.maximumBatchSize;
+    }
+
+    /**
+     * Add an insert statement to the buffer.
+     *
+     * @param insertStatement the insert statement
+     * @return a future that completes when the row is written. The future completes exceptionally if the write
+     *     fails, or if the scheduler rejects the write
+     */
+    public CompletableFuture<Void> add(Buildable<InsertModel<T>> insertStatement) {
+        InsertModel<T> insertModel = insertStatement.build();
+        // "when present" mappings are resolved for this row, so rows with different present properties have
+        // different shapes
+        List<AbstractColumnMapping> columnMappings = insertModel.columnMappings()
+                .map(InsertBuffer::resolveWhenPresent)
+                .flatMap(Optional::stream)
+                .toList();
+        ShapeKey shapeKey = ShapeKey.of(insertModel.table(), columnMappings);
+
+        PendingRow<T> pendingRow = new PendingRow<>(insertModel.row(), new CompletableFuture<>());
+        int[] rowCount = new int[1];
+        // the row is added inside compute so that an empty shape cannot be removed concurrently
+        Shape<T> shape = shapes.compute(shapeKey, (k, s) -> {
+            Shape<T> answer = s == null ? new Shape<>(k, insertModel.table(), columnMappings) : s;
+            answer.rows.add(pendingRow);
+            rowCount[0] = answer.rowCount.incrementAndGet();
+            return answer;
+        });
+
+        try {
+            if (rowCount[0] % maximumBatchSize == 0) {
+                scheduler.execute(() -> flush(shape));
+            }
+            scheduleFlush(shape);
+        } catch (RejectedExecutionException e) {
+            // a flush that has already taken the row will write it, otherwise the row is not written
+            if (shape.rows.remove(pendingRow)) {
+                shape.rowCount.decrementAndGet();
+                pendingRow.future.completeExceptionally(e);
+                removeIfEmpty(shape);
+            }
+        }
+        return pendingRow.future;
+    }
+
+    private void scheduleFlush(Shape<T> shape) {
+        if (shape.flushScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.schedule(() -> flushScheduled(shape), windowNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // clear the flag so that a later row can schedule a flush
+                shape.flushScheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Write every row in the buffer immediately. The rows are written on the calling thread.
+     */
+    public void flush() {
+        shapes.values().forEach(this::flush);
+    }
+
+    public int pendingCount() {
+        return shapes.values().stream().mapToInt(s -> s.rowCount.get()).sum();
+    }
+
+    int shapeCount() {
+        return shapes.size();
+    }
+
+    private void flushScheduled(Shape<T> shape) {
+        // clear the flag before draining so that a row added after the drain schedules another flush
+        shape.flushScheduled.set(false);
+        flush(shape);
+    }
+
+    private void flush(Shape<T> shape) {
+        List<PendingRow<T>> batch = drain(shape);
+        while (!batch.isEmpty()) {
+            write(shape, batch);
+            batch = drain(shape);
+        }
+
+        removeIfEmpty(shape);
+    }
+
+    private void removeIfEmpty(Shape<T> shape) {
+        // remove empty shapes so the buffer does not grow with every shape it has seen
+        shapes.computeIfPresent(shape.key, (k, s) -> s == shape && s.rowCount.get() == 0 ? null : s);
+    }
+
+    private List<PendingRow<T>> drain(Shape<T> shape) {
+        List<PendingRow<T>> batch = new ArrayList<>();
+        PendingRow<T> pendingRow;
+        while (batch.size() < maximumBatchSize && (pendingRow = shape.rows.poll()) != null) {
+            batch.add(pendingRow);
+        }
+        shape.rowCount.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private void write(Shape<T> shape, List<PendingRow<T>> batch) {
+        try {
+            writer.write(shape.table, shape.columnMappings, batch.stream().map(PendingRow::row).toList());
+        } catch (RuntimeException e) {
+            batch.forEach(r -> r.future.completeExceptionally(e));
+            return;
+        } catch (Error e) {
+            // callers must not wait forever - complete the futures before the error is propagated
+            batch.forEach(r -> r.future.completeExceptionally(e));
+            throw e;
+        }
+        batch.forEach(r -> r.future.complete(null));
+    }
+
+    @FunctionalInterface
+    private interface Writer<T> {
+        void write(SqlTable table, List<AbstractColumnMapping> columnMappings, List<T> rows);
+    }
+
+    private static Optional<AbstractColumnMapping> resolveWhenPresent(AbstractColumnMapping mapping) {
+        if (mapping instanceof PropertyWhenPresentMapping whenPresentMapping) {
+            return whenPresentMapping.shouldRender()
+                    ? Optional.of(PropertyMapping.of(whenPresentMapping.column(), whenPresentMapping.property()))
+                    : Optional.empty();
+        } else if (mapping instanceof MappedColumnWhenPresentMapping whenPresentMapping) {
+            return whenPresentMapping.shouldRender()
+                    ? Optional.of(MappedColumnMapping.of(whenPresentMapping.column()))
+                    : Optional.empty();
+        } else {
+            return Optional.of(mapping);
+        }
+    }
+
+    private record PendingRow<T>(T row, CompletableFuture<Void> future) {}
+
+    /**
+     * The table and the resolved column mappings of an insert. Tables and columns are compared by identity.
+     */
+    private record ShapeKey(SqlTable table, List<MappingKey> mappings) {
+        static ShapeKey of(SqlTable table, List<AbstractColumnMapping> columnMappings) {
+            return new ShapeKey(table, columnMappings.stream().map(MappingKey::of).toList());
+        }
+    }
+
+    private record MappingKey(Class<?> mappingType, SqlColumn<?> column, @Nullable String value) {
+        static MappingKey of(AbstractColumnMapping mapping) {
+            String value;
+            if (mapping instanceof PropertyMapping propertyMapping) {
+                value = propertyMapping.property();
+            } else if (mapping instanceof ConstantMapping constantMapping) {
+                value = constantMapping.constant();
+            } else if (mapping instanceof StringConstantMapping stringConstantMapping) {
+                value = stringConstantMapping.constant();
+            } else {
+                // null, row, and mapped column mappings are identified by the column alone
+                value = null;
+            }
+            return new MappingKey(mapping.getClass(), mapping.column(), value);
+        }
+    }
+
+    private static class Shape<T> {
+        private final ShapeKey key;
+        private final SqlTable table;
+        private final List<AbstractColumnMapping> columnMappings;
+        private final Queue<PendingRow<T>> rows = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger rowCount = new AtomicInteger();
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+        private Shape(ShapeKey key, SqlTable table, List<AbstractColumnMapping> columnMappings) {
+            this.key = key;
+            this.table = table;
+            this.columnMappings = columnMappings;
+        }
+    }
+
+    public static class Builder<T> {
+        private @Nullable Writer<T> writer;
+        private @Nullable ScheduledExecutorService scheduler;
+        private Duration window = Duration.ofMillis(5);
+        private int maximumBatchSize = 100;
+
+        /**
+         * Write each group of rows with a multi-row insert statement.
+         *
+         * @param writer a function that executes the insert statement - for example
+         *     {@code NamedParameterJdbcTemplateExtensions::insertMultiple}
+         * @return this builder
+         */
+        public Builder<T> withMultiRowInserts(Consumer<Buildable<MultiRowInsertModel<T>>> writer) {
+            this.writer = (table, columnMappings, rows) -> writer.accept(() -> MultiRowInsertModel.withRecords(rows)
+                    .withTable(table)
+                    .withColumnMappings(columnMappings)
+                    .build());
+            return this;
+        }
+
+        /**
+         * Write each group of rows with a JDBC batch.
+         *
+         * @param writer a function that executes the batch - for example
+         *     {@code NamedParameterJdbcTemplateExtensions::insertBatch}
+         * @return this builder
+         */
+        public Builder<T> withBatchInserts(Consumer<Buildable<BatchInsertModel<T>>> writer) {
+            this.writer = (table, columnMappings, rows) -> writer.accept(() -> BatchInsertModel.withRecords(rows)
+                    .withTable(table)
+                    .withColumnMappings(columnMappings)
+                    .build());
+            return this;
+        }
+
+        public Builder<T> withScheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Set the time rows are collected before a group is written. The default is 5 milliseconds.
+         *
+         * @param window the time rows are collected. The window must not be negative
+         * @return this builder
+         */
+        public Builder<T> withWindow(Duration window) {
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of rows written by one statement. A full group is written immediately. The default is
+         * 100.
+         *
+         * @param maximumBatchSize the maximum number of rows in a statement. The size must be greater than zero
+         * @return this builder
+         */
+        public Builder<T> withMaximumBatchSize(int maximumBatchSize) {
+            this.maximumBatchSize = maximumBatchSize;
+            return this;
+        }
+
+        public InsertBuffer<T> build() {
+            return new InsertBuffer<>(this);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.isIn;
+import static org.mybatis.dynamic.sql.SqlBuilder.where;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.exception.DynamicSqlException;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.where.WhereApplier;
+
+/**
+ * Combines single row lookups by key into batched queries. Keys requested with {@link #load(Object)} are collected
+ * for a short window, or until a batch is full, and are then read with a single select statement with a
+ * "where key in (...)" clause. The rows returned are matched to the keys and complete the futures returned to the
+ * callers.
+ *
+ * <p>A key that is already waiting for a query is not queried again - callers that request the same key share the
+ * result of a single lookup.
+ *
+ * <p>The loader works with any execution framework. For example, with Spring:
+ *
+ * <pre>
+ * KeyedBatchLoader&lt;Integer, PersonRecord&gt; loader = new KeyedBatchLoader.Builder&lt;Integer, PersonRecord&gt;()
+ *         .withKeyColumn(id)
+ *         .withSelect(where -&gt; select(id, firstName, lastName).from(person).applyWhere(where))
+ *         .withQuery(RenderingStrategies.SPRING_NAMED_PARAMETER, s -&gt; extensions.selectList(s, personRowMapper))
+ *         .withKeyExtractor(PersonRecord::id)
+ *         .withScheduler(scheduler)
+ *         .build();
+ * </pre>
+ *
+ * <p>With MyBatis, use the {@code MYBATIS3} rendering strategy and a mapper that extends
+ * {@code CommonSelectMapper}: {@code withQuery(RenderingStrategies.MYBATIS3, s -> mapper.selectMany(s, rowMapper))}.
+ *
+ * <p>Batched queries are executed by the scheduler, so they do not run in the transaction of the caller. The loader
+ * does not own the scheduler and does not shut it down.
+ *
+ * <p>This class is thread safe.
+ *
+ * @param <K> the type of the key
+ * @param <R> the type of the rows returned by the query
+ * @since 2.1.0
+ */
+public class KeyedBatchLoader<K, R> {
+    private final BindableColumn<K> keyColumn;
+    private final Function<WhereApplier, Buildable<SelectModel>> select;
+    private final RenderingStrategy renderingStrategy;
+    private final Function<SelectStatementProvider, List<R>> query;
+    private final Function<R, K> keyExtractor;
+    private final ScheduledExecutorService scheduler;
+    private final long windowNanos;
+    private final int maximumBatchSize;
+
+    private final Map<K, CompletableFuture<Optional<R>>> futures = new HashMap<>();
+    private final Set<K> pendingKeys = new LinkedHashSet<>();
+    private @Nullable ScheduledFuture<?> scheduledDispatch;
+
+    private KeyedBatchLoader(Builder<K, R> builder) {
+        keyColumn = Objects.requireNonNull(builder.keyColumn);
+        select = Objects.requireNonNull(builder.select);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        query = Objects.requireNonNull(builder.query);
+        keyExtractor = Objects.requireNonNull(builder.keyExtractor);
+        scheduler = Objects.requireNonNull(builder.scheduler);
+        Validator.assertFalse(builder.window.isNegative(), "ERROR.82"); //$NON-NLS-1$
+        Validator.assertTrue(builder.maximumBatchSize > 0, "ERROR.83"); //$NON-NLS-1$
+        windowNanos = builder.window.toNanos();
+        maximumBatchSize = builder.maximumBatchSize;
+    }
+
+    /**
+     * Request the row with the key. The key is added to the current batch. The batch is queried when the window
+     * expires, when the batch is full, or when {@link #dispatch()} is called.
+     *
+     * @param key the key of the row
+     * @return a future that completes with the row, or with an empty Optional if no row has the key. The future
+     *     completes exceptionally if the query fails, if the scheduler rejects the query, or if the query returns
+     *     more than one row with the key
+     */
+    public CompletableFuture<Optional<R>> load(K key) {
+        Objects.requireNonNull(key);
+        CompletableFuture<Optional<R>> future;
+        List<K> fullBatch = null;
+        RejectedExecutionException rejection = null;
+        synchronized (this) {
+            future = futures.get(key);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                futures.put(key, future);
+                pendingKeys.add(key);
+                if (pendingKeys.size() >= maximumBatchSize) {
+                    fullBatch = takePendingKeys();
+                } else if (pendingKeys.size() == 1) {
+                    try {
+                        scheduledDispatch = scheduler.schedule(this::dispatch, windowNanos, TimeUnit.NANOSECONDS);
+                    } catch (RejectedExecutionException e) {
+                        pendingKeys.remove(key);
+                        rejection = e;
+                    }
+                }
+            }
+        }
+
+        if (rejection != null) {
+            fail(List.of(key), rejection);
+        }
+
+        if (fullBatch != null) {
+            List<K> keys = fullBatch;
+            try {
+                scheduler.execute(() -> execute(keys));
+            } catch (RejectedExecutionException e) {
+                fail(keys, e);
+            }
+        }
+
+        // callers get a copy so that completing or cancelling a future does not affect other callers
+        return future.copy();
+    }
+
+    /**
+     * Query the keys in the current batch immediately. The query is executed on the calling thread.
+     */
+    public void dispatch() {
+        List<K> keys;
+        synchronized (this) {
+            keys = takePendingKeys();
+        }
+
+        if (!keys.isEmpty()) {
+            execute(keys);
+        }
+    }
+
+    public synchronized int pendingCount() {
+        return pendingKeys.size();
+    }
+
+    private List<K> takePendingKeys() {
+        if (scheduledDispatch != null) {
+            scheduledDispatch.cancel(false);
+            scheduledDispatch = null;
+        }
+        List<K> keys = new ArrayList<>(pendingKeys);
+        pendingKeys.clear();
+        return keys;
+    }
+
+    private void execute(List<K> keys) {
+        Map<K, List<R>> rowsByKey;
+        try {
+            rowsByKey = query(keys);
+        } catch (RuntimeException e) {
+            fail(keys, e);
+            return;
+        } catch (Error e) {
+            // callers must not wait forever - complete the futures before the error is propagated
+            fail(keys, e);
+            throw e;
+        }
+
+        List<CompletableFuture<Optional<R>>> completedFutures = removeFutures(keys);
+        for (int i = 0; i < keys.size(); i++) {
+            complete(completedFutures.get(i), keys.get(i), rowsByKey.getOrDefault(keys.get(i), List.of()));
+        }
+    }
+
+    // only the callers of a key with more than one row fail - the other keys in the batch are not affected
+    private void complete(CompletableFuture<Optional<R>> future, K key, List<R> rows) {
+        if (rows.size() > 1) {
+            future.completeExceptionally(
+                    new DynamicSqlException(Messages.getString("ERROR.79", String.valueOf(key)))); //$NON-NLS-1$
+        } else {
+            future.complete(rows.stream().findFirst());
+        }
+    }
+
+    private void fail(List<K> keys, Throwable cause) {
+        for (CompletableFuture<Optional<R>> future : removeFutures(keys)) {
+            future.completeExceptionally(cause);
+        }
+    }
+
+    private Map<K, List<R>> query(List<K> keys) {
+        SelectModel selectModel = select.apply(where(keyColumn, isIn(keys)).toWhereApplier()).build();
+        List<R> rows = query.apply(selectModel.render(renderingStrategy));
+
+        Map<K, List<R>> rowsByKey = new HashMap<>();
+        for (R row : rows) {
+            rowsByKey.computeIfAbsent(keyExtractor.apply(row), k -> new ArrayList<>(1)).add(row);
+        }
+        return rowsByKey;
+    }
+
+    private synchronized List<CompletableFuture<Optional<R>>> removeFutures(List<K> keys) {
+        List<CompletableFuture<Optional<R>>> removedFutures = new ArrayList<>();
+        for (K key : keys) {
+            removedFutures.add(Objects.requireNonNull(futures.remove(key)));
+        }
+        return removedFutures;
+    }
+
+    public static class Builder<K, R> {
+        private @Nullable BindableColumn<K> keyColumn;
+        private @Nullable Function<WhereApplier, Buildable<SelectModel>> select;
+        private @Nullable RenderingStrategy renderingStrategy;
+        private @Nullable Function<SelectStatementProvider, List<R>> query;
+        private @Nullable Function<R, K> keyExtractor;
+        private @Nullable ScheduledExecutorService scheduler;
+        private Duration window = Duration.ofMillis(5);
+        private int maximumBatchSize = 100;
+
+        public Builder<K, R> withKeyColumn(BindableColumn<K> keyColumn) {
+            this.keyColumn = keyColumn;
+            return this;
+        }
+
+        /**
+         * Set the select statement for a batch. The function receives the "where key in (...)" clause for the batch,
+         * and should apply it to the statement with {@code applyWhere}. Further conditions can be added after the
+         * clause is applied.
+         *
+         * @param select a function that builds the select statement for a batch
+         * @return this builder
+         */
+        public Builder<K, R> withSelect(Function<WhereApplier, Buildable<SelectModel>> select) {
+            this.select = select;
+            return this;
+        }
+
+        public Builder<K, R> withQuery(RenderingStrategy renderingStrategy,
+                                       Function<SelectStatementProvider, List<R>> query) {
+            this.renderingStrategy = renderingStrategy;
+            this.query = query;
+            return this;
+        }
+
+        /**
+         * Set the function that returns the key of a row. Keys are matched with {@code equals}, so the key returned
+         * must be the same type as the keys requested.
+         *
+         * @param keyExtractor a function that returns the key of a row
+         * @return this builder
+         */
+        public Builder<K, R> withKeyExtractor(Function<R, K> keyExtractor) {
+            this.keyExtractor = keyExtractor;
+            return this;
+        }
+
+        public Builder<K, R> withScheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Set the time keys are collected before a batch is queried. The default is 5 milliseconds.
+         *
+         * @param window the time keys are collected. The window must not be negative
+         * @return this builder
+         */
+        public Builder<K, R> withWindow(Duration window) {
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of keys in a batch. A full batch is queried immediately. The default is 100.
+         *
+         * @param maximumBatchSize the maximum number of keys in a batch. The size must be greater than zero
+         * @return this builder
+         */
+        public Builder<K, R> withMaximumBatchSize(int maximumBatchSize) {
+            this.maximumBatchSize = maximumBatchSize;
+            return this;
+        }
+
+        public KeyedBatchLoader<K, R> build() {
+            return new KeyedBatchLoader<>(this);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.exception.DynamicSqlException;
+
+/**
+ * A precompiled reader for a (possibly nested) property of a record class. Readers are built from
+ * {@link MethodHandle}s for the public getters (or record component accessors) of the class, and are cached per
+ * class and property path. This allows record based inserts to read property values without going through a
+ * reflective bean wrapper for every row.
+ *
+ * <p>Nested properties are separated by a period - for example <code>address.street</code>. If any intermediate
+ * value in a nested path is null, the value of the property is null.
+ *
+ * @since 2.1.0
+ */
+public class PropertyReader {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Map<String, Getter>> GETTERS = new ClassValue<>() {
+        @Override
+        protected Map<String, Getter> computeValue(Class<?> type) {
+            return findGetters(type);
+        }
+    };
+
+    private static final ClassValue<Map<String, Optional<PropertyReader>>> READERS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<PropertyReader>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final String propertyPath;
+    private final Getter[] getters;
+
+    private PropertyReader(String propertyPath, List<Getter> getters) {
+        this.propertyPath = propertyPath;
+        this.getters = getters.toArray(new Getter[0]);
+    }
+
+    public String propertyPath() {
+        return propertyPath;
+    }
+
+    /**
+     * The declared type of the property at the end of the path.
+     *
+     * @return the declared property type
+     */
+    public Class<?> propertyType() {
+        return getters[getters.length - 1].type();
+    }
+
+    public @Nullable Object read(Object bean) {
+        @Nullable Object value = bean;
+        for (Getter getter : getters) {
+            if (value == null) {
+                return null;
+            }
+            value = getter.read(value);
+        }
+        return value;
+    }
+
+    /**
+     * Find, or build and cache, a reader for the property path in the specified class. Nested properties are
+     * resolved using the declared type of each intermediate property.
+     *
+     * @param type the class that declares the first property in the path
+     * @param propertyPath the property path - for example <code>firstName</code> or <code>address.street</code>
+     * @return a reader for the property, or an empty Optional if the class has no readable property with that path
+     */
+    public static Optional<PropertyReader> of(Class<?> type, String propertyPath) {
+        return READERS.get(type).computeIfAbsent(propertyPath, p -> compile(type, p));
+    }
+
+    private static Optional<PropertyReader> compile(Class<?> type, String propertyPath) {
+        List<Getter> getters = new ArrayList<>();
+        Class<?> currentType = type;
+        for (String property : propertyPath.split("\\.")) { //$NON-NLS-1$
+            Getter getter = GETTERS.get(currentType).get(property);
+            if (getter == null) {
+                return Optional.empty();
+            }
+            getters.add(getter);
+            currentType = getter.type();
+        }
+
+        return Optional.of(new PropertyReader(propertyPath, getters));
+    }
+
+    private static Map<String, Getter> findGetters(Class<?> type) {
+        Map<String, Getter> getters = new HashMap<>();
+        for (Method method : type.getMethods()) {
+            propertyName(method).ifPresent(name -> unreflect(name, method)
+                    .ifPresent(getter -> getters.putIfAbsent(name, getter)));
+        }
+
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                unreflect(component.getName(), component.getAccessor())
+                        .ifPresent(getter -> getters.put(component.getName(), getter));
+            }
+        }
+
+        return Collections.unmodifiableMap(getters);
+    }
+
+    private static Optional<String> propertyName(Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0
+                || method.getDeclaringClass() == Object.class) {
+            return Optional.empty();
+        }
+
+        String name = method.getName();
+        if (name.length() > 3 && name.startsWith("get") && method.getReturnType() != void.class) { //$NON-NLS-1$
+            return Optional.of(decapitalize(name.substring(3)));
+        } else if (name.length() > 2 && name.startsWith("is") //$NON-NLS-1$
+                && method.getReturnType() == boolean.class) {
+            return Optional.of(decapitalize(name.substring(2)));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    // follows the JavaBeans rule - "URL" stays "URL", "FirstName" becomes "firstName"
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static Optional<Getter> unreflect(String name, Method method) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            // the method is public, but the declaring class is not - for example a package private record
+            if (!method.trySetAccessible()) {
+                return Optional.empty();
+            }
+            try {
+                handle = MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException e2) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(new Getter(name, method.getReturnType(), handle.asType(GETTER_TYPE)));
+    }
+
+    private record Getter(String name, Class<?> type, MethodHandle handle) {
+        @Nullable Object read(Object bean) {
+            try {
+                return (Object) handle.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new DynamicSqlException(Messages.getString("ERROR.66", name, //$NON-NLS-1$
+                        bean.getClass().getName()), t);
+            }
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectTableCalculator;
+
+/**
+ * A bounded cache of query results with table based invalidation. Results are keyed by the rendered SQL, the
+ * parameter values, and a result mapping supplied by the caller (typically the row mapper), and are tagged with the
+ * tables read by the statement. {@link #invalidate(SqlTable)} removes every cached result that reads the table.
+ *
+ * <p>The tables read by a statement are calculated from the select model with {@link SelectTableCalculator}.
+ * Statements whose tables cannot be calculated - for example, statements that use functions or custom conditions - are
+ * always executed and their results are never cached.
+ *
+ * <p>The cache holds at most {@link #maximumSize()} entries. When the cache is full, the least recently used entry is
+ * evicted. Entries can also expire after a fixed time to live. A maximum size of zero disables the cache.
+ *
+ * <p>The cache only knows about writes that are reported to it. It is intended for data that is changed rarely, and
+ * only through a caching facade that invalidates the cache (such as {@code CachingJdbcTemplateExtensions} or
+ * {@code CachingMapperExecutor}). Writes made by other applications, or by other statements, are not seen until the
+ * entry expires. Cached results are shared by every caller and must not be modified.
+ *
+ * <p>This class is thread safe.
+ *
+ * @since 2.1.0
+ */
+public class QueryResultCache {
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Key, CachedResult> cache;
+    private final Map<String, Set<Key>> keysByTable = new HashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private long invalidationCount;
+
+    public QueryResultCache(int maximumSize) {
+        this(maximumSize, Duration.ZERO);
+    }
+
+    /**
+     * Create a cache.
+     *
+     * @param maximumSize the maximum number of cached results
+     * @param timeToLive the time a result is kept in the cache. A zero duration keeps results until they are evicted
+     *     or invalidated
+     */
+    public QueryResultCache(int maximumSize, Duration timeToLive) {
+        this(maximumSize, timeToLive, System::nanoTime);
+    }
+
+    QueryResultCache(int maximumSize, Duration timeToLive, LongSupplier nanoClock) {
+        this.maximumSize = Math.max(maximumSize, 0);
+        this.timeToLiveNanos = Math.max(timeToLive.toNanos(), 0);
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedResult> eldest) {
+                if (size() > QueryResultCache.this.maximumSize) {
+                    unindex(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return maximumSize > 0;
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public Duration timeToLive() {
+        return Duration.ofNanos(timeToLiveNanos);
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Execute a select statement, or return the result cached for a previous execution of the same statement with the
+     * same parameter values and result mapping.
+     *
+     * <p>The result is cached only if no table was invalidated while the query was executing, so a result read before
+     * a concurrent write completes is not cached.
+     *
+     * @param selectModel the select statement
+     * @param renderingStrategy the rendering strategy for the statement
+     * @param resultMapping an object that identifies how rows are mapped - for example, the row mapper. Results of the
+     *     same statement with different result mappings are cached separately
+     * @param query a function that executes the rendered statement
+     * @param <R> the type of the result
+     * @return the result of the query
+     */
+    public <R> R get(SelectModel selectModel, RenderingStrategy renderingStrategy, Object resultMapping,
+                     Function<SelectStatementProvider, R> query) {
+        SelectStatementProvider selectStatement = selectModel.render(renderingStrategy);
+        Optional<Set<SqlTable>> tables = new SelectTableCalculator(selectModel).calculate();
+        if (!isEnabled() || tables.isEmpty()) {
+            return query.apply(selectStatement);
+        }
+
+        Key key = new Key(selectStatement.getSelectStatement(), selectStatement.getParameters(),
+                Objects.requireNonNull(resultMapping));
+        Optional<CachedResult> cachedResult = get(key);
+        if (cachedResult.isPresent()) {
+            hitCount.increment();
+            @SuppressWarnings("unchecked")
+            R result = (R) cachedResult.get().result;
+            return result;
+        }
+
+        missCount.increment();
+        long invalidationStamp = invalidationStamp();
+        R result = query.apply(selectStatement);
+        put(key, new CachedResult(result, tableNames(tables.get()), nanoClock.getAsLong() + timeToLiveNanos),
+                invalidationStamp);
+        return result;
+    }
+
+    /**
+     * Remove every cached result that reads the table. Tables are matched by name.
+     *
+     * @param table the table that was changed
+     */
+    public synchronized void invalidate(SqlTable table) {
+        invalidationCount++;
+        Set<Key> keys = keysByTable.remove(table.tableName());
+        if (keys != null) {
+            for (Key key : keys) {
+                CachedResult cachedResult = cache.remove(key);
+                if (cachedResult != null) {
+                    unindex(key, cachedResult);
+                }
+            }
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        invalidationCount++;
+        cache.clear();
+        keysByTable.clear();
+    }
+
+    private synchronized Optional<CachedResult> get(Key key) {
+        CachedResult cachedResult = cache.get(key);
+        if (cachedResult != null && timeToLiveNanos > 0 && nanoClock.getAsLong() - cachedResult.expiresAt >= 0) {
+            cache.remove(key);
+            unindex(key, cachedResult);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cachedResult);
+    }
+
+    private synchronized long invalidationStamp() {
+        return invalidationCount;
+    }
+
+    private synchronized void put(Key key, CachedResult cachedResult, long invalidationStamp) {
+        if (invalidationStamp != invalidationCount) {
+            return;
+        }
+
+        CachedResult previous = cache.put(key, cachedResult);
+        if (previous != null) {
+            unindex(key, previous);
+        }
+        for (String tableName : cachedResult.tableNames) {
+            keysByTable.computeIfAbsent(tableName, k -> new HashSet<>()).add(key);
+        }
+    }
+
+    private void unindex(Key key, CachedResult cachedResult) {
+        for (String tableName : cachedResult.tableNames) {
+            Set<Key> keys = keysByTable.get(tableName);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByTable.remove(tableName);
+                }
+            }
+        }
+    }
+
+    private static Set<String> tableNames(Set<SqlTable> tables) {
+        return tables.stream().map(SqlTable::tableName).collect(Collectors.toUnmodifiableSet());
+    }
+
+    private record CachedResult(@Nullable Object result, Set<String> tableNames, long expiresAt) {}
+
+    private static final class Key {
+        private final String sql;
+        private final Map<String, Object> parameters;
+        private final Object resultMapping;
+        private final int hashCode;
+
+        private Key(String sql, Map<String, Object> parameters, Object resultMapping) {
+            this.sql = sql;
+            this.parameters = new HashMap<>(parameters);
+            this.resultMapping = resultMapping;
+            hashCode = calculateHashCode();
+        }
+
+        private int calculateHashCode() {
+            // array parameters are compared by content
+            int parametersHash = 0;
+            for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+                parametersHash += entry.getKey().hashCode() ^ Arrays.deepHashCode(new Object[] {entry.getValue()});
+            }
+            return Objects.hash(sql, parametersHash, resultMapping);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return hashCode == other.hashCode
+                    && sql.equals(other.sql)
+                    && resultMapping.equals(other.resultMapping)
+                    && parameters.size() == other.parameters.size()
+                    && parameters.entrySet().stream().allMatch(e -> other.parameters.containsKey(e.getKey())
+                        && Objects.deepEquals(e.getValue(), other.parameters.get(e.getKey())));
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
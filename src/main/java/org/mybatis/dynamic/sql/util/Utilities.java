@@ -15,6 +15,7 @@
  */
 package org.mybatis.dynamic.sql.util;
 
+import java.sql.Statement;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -30,4 +31,24 @@ public interface Utilities {
         // this method helps IntelliJ understand intended nullability
         return values.stream().filter(Objects::nonNull);
     }
+
+    /**
+     * Calculate the total number of rows affected by a JDBC batch. Drivers may return
+     * {@link Statement#SUCCESS_NO_INFO} rather than an update count - each of those is counted as one row.
+     *
+     * @param updateCounts update counts returned from a JDBC batch
+     * @return the total number of rows affected
+     * @since 2.1.0
+     */
+    static long sumUpdateCounts(int[] updateCounts) {
+        long total = 0;
+        for (int updateCount : updateCounts) {
+            if (updateCount >= 0) {
+                total += updateCount;
+            } else if (updateCount == Statement.SUCCESS_NO_INFO) {
+                total++;
+            }
+        }
+        return total;
+    }
 }
@@ -45,6 +45,12 @@ public class Validator {
         }
     }
 
+    public static void assertFalse(boolean condition, String messageNumber, String p1, String p2) {
+        if (condition) {
+            throw new InvalidSqlException(Messages.getString(messageNumber, p1, p2));
+        }
+    }
+
     public static void assertTrue(boolean condition, String messageNumber) {
         assertFalse(!condition, messageNumber);
     }
@@ -53,6 +59,10 @@ public class Validator {
         assertFalse(!condition, messageNumber, p1);
     }
 
+    public static void assertTrue(boolean condition, String messageNumber, String p1, String p2) {
+        assertFalse(!condition, messageNumber, p1, p2);
+    }
+
     public static void assertNull(@Nullable Object object, String messageNumber) {
         if (object != null) {
             throw new InvalidSqlException(Messages.getString(messageNumber));
@@ -0,0 +1,480 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.configuration.StatementHints;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.exception.DynamicSqlException;
+import org.mybatis.dynamic.sql.exception.SqlExecutionException;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.StreamingBatchInsertModel;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.Messages;
+import org.mybatis.dynamic.sql.util.Utilities;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * Executes statements directly on a JDBC {@link DataSource}, without MyBatis or Spring. Statements must be rendered
+ * with {@link RenderingStrategies#JDBC} - the methods that accept a {@link Buildable} model render the statement
+ * with that strategy.
+ *
+ * <p>Each method borrows a connection from the data source and returns it when the method completes, unless the
+ * method is called inside {@link #inSession(Supplier)} or {@link #inTransaction(Supplier)}. Inside a session all
+ * statements use the same connection, and prepared statements are reused when the same SQL is executed again.
+ * Prepared statements are also reused within a single call - for example, every chunk of a streaming batch insert
+ * uses the same prepared statement. A cached statement is never shared by two executions that overlap - for example
+ * when a row mapper executes the same query again - the second execution uses a new statement that is closed when it
+ * completes.
+ *
+ * <p>The {@link StatementHints} of select statements are applied when the statement is prepared. Statements with
+ * different hints are prepared and cached separately, even if the SQL is the same.
+ *
+ * <p>SQL exceptions are reported as {@link SqlExecutionException}.
+ *
+ * @since 2.1.0
+ */
+public class JdbcExecutor {
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE = 32;
+
+    private final DataSource dataSource;
+    private final int statementCacheSize;
+    private final ThreadLocal<@Nullable Session> currentSession = new ThreadLocal<>();
+
+    public JdbcExecutor(DataSource dataSource) {
+        this(dataSource, DEFAULT_STATEMENT_CACHE_SIZE);
+    }
+
+    /**
+     * Create an executor.
+     *
+     * @param dataSource the data source
+     * @param statementCacheSize the maximum number of prepared statements held open by a session. The least recently
+     *     used statement is closed when the limit is reached. Zero disables the cache - every statement is closed as
+     *     soon as it has been executed
+     * @throws org.mybatis.dynamic.sql.exception.InvalidSqlException if the cache size is negative
+     */
+    public JdbcExecutor(DataSource dataSource, int statementCacheSize) {
+        Validator.assertTrue(statementCacheSize >= 0, "ERROR.81"); //$NON-NLS-1$
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    /**
+     * Run the supplied work with a single connection. All statements executed by this executor on the current thread
+     * use the same connection, and reuse prepared statements. If a session is already active, the work joins it.
+     *
+     * @param work the work to execute
+     * @param <R> the type of the result
+     * @return the result of the work
+     */
+    public <R> R inSession(Supplier<R> work) {
+        if (currentSession.get() != null) {
+            return work.get();
+        }
+
+        Session session = openSession();
+        currentSession.set(session);
+        R result;
+        try {
+            result = work.get();
+        } catch (RuntimeException | Error e) {
+            currentSession.remove();
+            session.close(e);
+            throw e;
+        }
+        currentSession.remove();
+        session.close();
+        return result;
+    }
+
+    /**
+     * Run the supplied work in a transaction. The transaction is committed if the work completes normally, and rolled
+     * back if the work throws an exception. If a transaction is already active, the work joins it.
+     *
+     * @param work the work to execute
+     * @param <R> the type of the result
+     * @return the result of the work
+     */
+    public <R> R inTransaction(Supplier<R> work) {
+        return inSession(() -> {
+            Session session = Objects.requireNonNull(currentSession.get());
+            if (session.inTransaction) {
+                return work.get();
+            }
+
+            session.begin();
+            try {
+                R result = work.get();
+                session.commit();
+                return result;
+            } catch (RuntimeException | Error e) {
+                session.rollback(e);
+                throw e;
+            } finally {
+                session.end();
+            }
+        });
+    }
+
+    public long count(Buildable<SelectModel> countStatement) {
+        return count(countStatement.build().render(RenderingStrategies.JDBC));
+    }
+
+    public long count(SelectStatementProvider countStatement) {
+        return selectOne(countStatement, (rs, rowNumber) -> rs.getLong(1)).orElse(0L);
+    }
+
+    public <T> List<T> selectList(Buildable<SelectModel> selectStatement, JdbcRowMapper<T> rowMapper) {
+        return selectList(selectStatement.build().render(RenderingStrategies.JDBC), rowMapper);
+    }
+
+    public <T> List<T> selectList(SelectStatementProvider selectStatement, JdbcRowMapper<T> rowMapper) {
+        return selectList(JdbcStatement.of(selectStatement), rowMapper);
+    }
+
+    public <T> Optional<T> selectOne(Buildable<SelectModel> selectStatement, JdbcRowMapper<T> rowMapper) {
+        return selectOne(selectStatement.build().render(RenderingStrategies.JDBC), rowMapper);
+    }
+
+    public <T> Optional<T> selectOne(SelectStatementProvider selectStatement, JdbcRowMapper<T> rowMapper) {
+        JdbcStatement statement = JdbcStatement.of(selectStatement);
+        List<T> rows = selectList(statement, rowMapper);
+        if (rows.size() > 1) {
+            throw new DynamicSqlException(Messages.getString("ERROR.69", statement.getSql())); //$NON-NLS-1$
+        }
+        return rows.stream().findFirst();
+    }
+
+    public int delete(Buildable<DeleteModel> deleteStatement) {
+        return delete(deleteStatement.build().render(RenderingStrategies.JDBC));
+    }
+
+    public int delete(DeleteStatementProvider deleteStatement) {
+        return update(JdbcStatement.of(deleteStatement));
+    }
+
+    public int update(Buildable<UpdateModel> updateStatement) {
+        return update(updateStatement.build().render(RenderingStrategies.JDBC));
+    }
+
+    public int update(UpdateStatementProvider updateStatement) {
+        return update(JdbcStatement.of(updateStatement));
+    }
+
+    public int generalInsert(Buildable<GeneralInsertModel> insertStatement) {
+        return generalInsert(insertStatement.build().render(RenderingStrategies.JDBC));
+    }
+
+    public int generalInsert(GeneralInsertStatementProvider insertStatement) {
+        return update(JdbcStatement.of(insertStatement));
+    }
+
+    public <T> int insert(Buildable<InsertModel<T>> insertStatement) {
+        return insert(insertStatement.build().render(RenderingStrategies.JDBC));
+    }
+
+    public <T> int insert(InsertStatementProvider<T> insertStatement) {
+        return update(JdbcStatement.of(insertStatement));
+    }
+
+    public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement) {
+        return insertMultiple(insertStatement.build().render(RenderingStrategies.JDBC));
+    }
+
+    public <T> int insertMultiple(MultiRowInsertStatementProvider<T> insertStatement) {
+        return update(JdbcStatement.of(insertStatement));
+    }
+
+    public <T> int[] insertBatch(Buildable<BatchInsertModel<T>> insertStatement) {
+        return insertBatch(insertStatement.build().render(RenderingStrategies.JDBC));
+    }
+
+    /**
+     * Execute a batch insert as a single JDBC batch.
+     *
+     * @param insertStatement the rendered batch insert
+     * @param <T> the type of record to insert
+     * @return the update counts returned by the driver
+     */
+    public <T> int[] insertBatch(BatchInsert<T> insertStatement) {
+        return execute(insertStatement.getInsertStatementSQL(), StatementHints.empty(),
+                ps -> executeBatch(ps, insertStatement.getPositionalParameters(), insertStatement.getRecords()));
+    }
+
+    public <T> long insertBatch(Buildable<StreamingBatchInsertModel<T>> insertStatement, int chunkSize) {
+        return insertBatch(insertStatement.build().render(RenderingStrategies.JDBC), chunkSize);
+    }
+
+    /**
+     * Execute a streaming batch insert. Records are read from the batch in chunks, and each chunk is executed as a
+     * separate JDBC batch on the same prepared statement.
+     *
+     * @param insertStatement the rendered batch insert
+     * @param chunkSize the number of records in each JDBC batch
+     * @param <T> the type of record to insert
+     * @return the total number of rows inserted
+     */
+    public <T> long insertBatch(StreamingBatchInsert<T> insertStatement, int chunkSize) {
+        String sql = insertStatement.getInsertStatementSQL();
+        List<ParameterSlot> positionalParameters = insertStatement.getPositionalParameters();
+        LongAdder rowCount = new LongAdder();
+        inSession(() -> insertStatement.forEachChunk(chunkSize, chunk -> rowCount.add(Utilities.sumUpdateCounts(
+                execute(sql, StatementHints.empty(), ps -> executeBatch(ps, positionalParameters, chunk))))));
+        return rowCount.sum();
+    }
+
+    private <T> List<T> selectList(JdbcStatement statement, JdbcRowMapper<T> rowMapper) {
+        return execute(statement.getSql(), statement.getStatementHints(), ps -> {
+            bind(ps, statement.getParameters());
+            List<T> rows = new ArrayList<>();
+            try (ResultSet rs = ps.executeQuery()) {
+                int rowNumber = 0;
+                while (rs.next()) {
+                    rows.add(rowMapper.mapRow(rs, rowNumber++));
+                }
+            }
+            return rows;
+        });
+    }
+
+    private int update(JdbcStatement statement) {
+        return execute(statement.getSql(), statement.getStatementHints(), ps -> {
+            bind(ps, statement.getParameters());
+            return ps.executeUpdate();
+        });
+    }
+
+    private static int[] executeBatch(PreparedStatement ps, List<ParameterSlot> positionalParameters,
+                                      List<?> records) throws SQLException {
+        for (Object row : records) {
+            bind(ps, JdbcStatement.bindRow(positionalParameters, row));
+            ps.addBatch();
+        }
+        return ps.executeBatch();
+    }
+
+    private <R> R execute(String sql, StatementHints statementHints, StatementCallback<R> callback) {
+        StatementKey key = new StatementKey(sql, statementHints);
+        return inSession(() -> {
+            Session session = Objects.requireNonNull(currentSession.get());
+            PreparedStatement ps = null;
+            try {
+                ps = session.prepare(key);
+                return callback.doInStatement(ps);
+            } catch (SQLException e) {
+                throw new SqlExecutionException(Messages.getString("ERROR.67", sql), e); //$NON-NLS-1$
+            } finally {
+                if (ps != null) {
+                    session.release(key, ps);
+                }
+            }
+        });
+    }
+
+    private Session openSession() {
+        try {
+            return new Session(dataSource.getConnection(), statementCacheSize);
+        } catch (SQLException e) {
+            throw new SqlExecutionException(Messages.getString("ERROR.67", "getConnection"), e); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+    private static void bind(PreparedStatement ps, List<JdbcParameter> parameters) throws SQLException {
+        ps.clearParameters();
+        int index = 1;
+        for (JdbcParameter parameter : parameters) {
+            parameter.bindTo(ps, index++);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StatementCallback<R> {
+        R doInStatement(PreparedStatement ps) throws SQLException;
+    }
+
+    private record StatementKey(String sql, StatementHints statementHints) {
+        PreparedStatement prepare(Connection connection) throws SQLException {
+            PreparedStatement ps = statementHints.isForwardOnly()
+                    ? connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)
+                    : connection.prepareStatement(sql);
+            try {
+                statementHints.applyTo(ps);
+            } catch (SQLException e) {
+                Session.closeQuietly(ps);
+                throw e;
+            }
+            return ps;
+        }
+    }
+
+    private static class Session {
+        private final Connection connection;
+        private final Map<StatementKey, PreparedStatement> statements;
+        private final Set<PreparedStatement> statementsInUse = Collections.newSetFromMap(new IdentityHashMap<>());
+        private boolean inTransaction;
+        private boolean autoCommit;
+
+        Session(Connection connection, int statementCacheSize) {
+            this.connection = connection;
+            statements = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<StatementKey, PreparedStatement> eldest) {
+                    if (size() > statementCacheSize) {
+                        // a statement that is still executing is closed when it is released
+                        if (!statementsInUse.contains(eldest.getValue())) {
+                            closeQuietly(eldest.getValue());
+                        }
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        /**
+         * Return a prepared statement for the SQL and hints. The cached statement is returned unless it is still in
+         * use by an enclosing execution, in which case a new statement is prepared. Every statement returned by this
+         * method must be passed to {@link #release(StatementKey, PreparedStatement)}.
+         */
+        PreparedStatement prepare(StatementKey key) throws SQLException {
+            PreparedStatement cached = statements.get(key);
+            if (cached != null && statementsInUse.add(cached)) {
+                return cached;
+            }
+
+            PreparedStatement ps = key.prepare(connection);
+            statementsInUse.add(ps);
+            if (cached == null) {
+                statements.put(key, ps);
+            }
+            return ps;
+        }
+
+        void release(StatementKey key, PreparedStatement ps) {
+            statementsInUse.remove(ps);
+            if (statements.get(key) != ps) {
+                // not cached - either prepared while the cached statement was busy, or evicted while executing
+                closeQuietly(ps);
+            }
+        }
+
+        void begin() {
+            try {
+                autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                inTransaction = true;
+            } catch (SQLException e) {
+                throw new SqlExecutionException(Messages.getString("ERROR.67", "begin"), e); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        }
+
+        void commit() {
+            try {
+                connection.commit();
+            } catch (SQLException e) {
+                throw new SqlExecutionException(Messages.getString("ERROR.67", "commit"), e); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        }
+
+        void rollback(Throwable cause) {
+            try {
+                connection.rollback();
+            } catch (SQLException e) {
+                cause.addSuppressed(e);
+            }
+        }
+
+        void end() {
+            inTransaction = false;
+            try {
+                connection.setAutoCommit(autoCommit);
+            } catch (SQLException e) {
+                throw new SqlExecutionException(Messages.getString("ERROR.67", "end"), e); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        }
+
+        void close() {
+            try {
+                closeStatementsAndConnection();
+            } catch (SQLException e) {
+                throw new SqlExecutionException(Messages.getString("ERROR.67", "close"), e); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        }
+
+        /**
+         * Close the session after the work failed. A failure to close is added to the work's exception, so it
+         * doesn't hide it.
+         */
+        void close(Throwable cause) {
+            try {
+                closeStatementsAndConnection();
+            } catch (SQLException e) {
+                cause.addSuppressed(e);
+            }
+        }
+
+        private void closeStatementsAndConnection() throws SQLException {
+            Iterator<PreparedStatement> iterator = statements.values().iterator();
+            while (iterator.hasNext()) {
+                closeQuietly(iterator.next());
+                iterator.remove();
+            }
+            connection.close();
+        }
+
+        private static void closeQuietly(PreparedStatement ps) {
+            try {
+                ps.close();
+            } catch (SQLException e) {
+                // ignore - the statement is no longer used
+            }
+        }
+    }
+}
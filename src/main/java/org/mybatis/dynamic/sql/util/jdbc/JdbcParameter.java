@@ -0,0 +1,79 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.AbstractArrayValueCondition;
+
+/**
+ * A parameter of a statement prepared for direct JDBC execution.
+ *
+ * @param value the value to bind
+ * @param jdbcType the JDBC type of the target column, if known. It is used when binding null values, and as the
+ *     element type of array parameters. Null values without a JDBC type are bound with the type reported by the
+ *     driver's parameter metadata, or with <code>setObject(index, null)</code> if the driver does not report it
+ * @param array true if the value is a Java array that should be bound as a <code>java.sql.Array</code>
+ * @since 2.1.0
+ */
+public record JdbcParameter(@Nullable Object value, @Nullable JDBCType jdbcType, boolean array) {
+
+    /**
+     * Bind this parameter to a prepared statement.
+     *
+     * @param ps the prepared statement
+     * @param index the index of the placeholder (one based)
+     * @throws SQLException if the driver reports an error
+     */
+    public void bindTo(PreparedStatement ps, int index) throws SQLException {
+        if (value == null) {
+            if (jdbcType == null) {
+                setNullWithUnknownType(ps, index);
+            } else {
+                ps.setNull(index, jdbcType.getVendorTypeNumber());
+            }
+        } else if (array) {
+            ps.setArray(index, ps.getConnection().createArrayOf(arrayTypeName(value), (Object[]) value));
+        } else if (value instanceof java.util.Date date && !(value instanceof java.sql.Date)
+                && !(value instanceof java.sql.Time) && !(value instanceof Timestamp)) {
+            // same treatment as MyBatis and Spring - drivers do not accept java.util.Date
+            ps.setTimestamp(index, new Timestamp(date.getTime()));
+        } else {
+            ps.setObject(index, value);
+        }
+    }
+
+    // same approach as Spring's StatementCreatorUtils - several drivers reject setNull with Types.NULL
+    private static void setNullWithUnknownType(PreparedStatement ps, int index) throws SQLException {
+        int sqlType;
+        try {
+            sqlType = ps.getParameterMetaData().getParameterType(index);
+        } catch (SQLException | RuntimeException e) {
+            // the driver does not support parameter metadata
+            ps.setObject(index, null);
+            return;
+        }
+        ps.setNull(index, sqlType);
+    }
+
+    private String arrayTypeName(Object arrayValue) {
+        return AbstractArrayValueCondition.elementTypeName(jdbcType, arrayValue.getClass().getComponentType());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+
+/**
+ * A rendering strategy for direct JDBC execution with {@link JdbcExecutor}.
+ *
+ * <p>Placeholders are rendered as plain JDBC <code>?</code> placeholders. This strategy is positional, so the
+ * statement renderers record the parameter of every placeholder - its name, the related column, and whether it is an
+ * array - and the statement providers carry them in placeholder order. {@link JdbcStatement} binds the parameter
+ * values in that order, so the rendered SQL is never parsed.
+ *
+ * @since 2.1.0
+ */
+public class JdbcRenderingStrategy extends RenderingStrategy {
+    private static final String PLACEHOLDER = "?"; //$NON-NLS-1$
+
+    @Override
+    public boolean isPositional() {
+        return true;
+    }
+
+    @Override
+    public String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        return PLACEHOLDER;
+    }
+
+    @Override
+    public String getFormattedJdbcPlaceholder(String prefix, String parameterName) {
+        return PLACEHOLDER;
+    }
+
+    @Override
+    public String getRecordBasedInsertBinding(BindableColumn<?> column, String prefix, String parameterName) {
+        return PLACEHOLDER;
+    }
+
+    @Override
+    public String getRecordBasedInsertBinding(BindableColumn<?> column, String parameterName) {
+        return PLACEHOLDER;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.configuration.StatementHints;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.exception.DynamicSqlException;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Messages;
+import org.mybatis.dynamic.sql.util.PropertyReader;
+
+/**
+ * A statement ready for direct JDBC execution - SQL with <code>?</code> placeholders and the parameters in
+ * placeholder order. Statements must be rendered with {@link JdbcRenderingStrategy}, which records the parameter of
+ * every placeholder while the statement is rendered.
+ *
+ * @since 2.1.0
+ */
+public class JdbcStatement {
+    private static final String ROW = "row"; //$NON-NLS-1$
+    private static final String ROW_PREFIX = "row."; //$NON-NLS-1$
+    private static final String RECORDS_PREFIX = "records["; //$NON-NLS-1$
+
+    private final String sql;
+    private final List<JdbcParameter> parameters;
+    private final StatementHints statementHints;
+
+    private JdbcStatement(String sql, List<JdbcParameter> parameters, StatementHints statementHints) {
+        this.sql = sql;
+        this.parameters = parameters;
+        this.statementHints = statementHints;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public List<JdbcParameter> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * JDBC execution hints for this statement. Only select statements carry hints.
+     *
+     * @return the hints for this statement
+     */
+    public StatementHints getStatementHints() {
+        return statementHints;
+    }
+
+    public static JdbcStatement of(SelectStatementProvider selectStatement) {
+        return new JdbcStatement(selectStatement.getSelectStatement(),
+                bind(selectStatement.getPositionalParameters(), selectStatement.getParameters()),
+                selectStatement.getStatementHints());
+    }
+
+    public static JdbcStatement of(UpdateStatementProvider updateStatement) {
+        return of(updateStatement.getUpdateStatement(), updateStatement.getPositionalParameters(),
+                updateStatement.getParameters());
+    }
+
+    public static JdbcStatement of(DeleteStatementProvider deleteStatement) {
+        return of(deleteStatement.getDeleteStatement(), deleteStatement.getPositionalParameters(),
+                deleteStatement.getParameters());
+    }
+
+    public static JdbcStatement of(GeneralInsertStatementProvider insertStatement) {
+        return of(insertStatement.getInsertStatement(), insertStatement.getPositionalParameters(),
+                insertStatement.getParameters());
+    }
+
+    public static JdbcStatement of(InsertStatementProvider<?> insertStatement) {
+        return new JdbcStatement(insertStatement.getInsertStatement(),
+                bindRow(insertStatement.getPositionalParameters(), insertStatement.getRow()), StatementHints.empty());
+    }
+
+    public static JdbcStatement of(MultiRowInsertStatementProvider<?> insertStatement) {
+        return new JdbcStatement(insertStatement.getInsertStatement(),
+                bindRecords(insertStatement.getPositionalParameters(), insertStatement.getRecords()),
+                StatementHints.empty());
+    }
+
+    private static JdbcStatement of(String sql, List<ParameterSlot> positionalParameters,
+                                    Map<String, Object> parameters) {
+        return new JdbcStatement(sql, bind(positionalParameters, parameters), StatementHints.empty());
+    }
+
+    static List<JdbcParameter> bind(List<ParameterSlot> positionalParameters, Map<String, ?> parameters) {
+        List<JdbcParameter> answer = new ArrayList<>(positionalParameters.size());
+        for (ParameterSlot positionalParameter : positionalParameters) {
+            String name = positionalParameter.parameterMapKey();
+            if (!parameters.containsKey(name)) {
+                throw new DynamicSqlException(Messages.getString("ERROR.68", name)); //$NON-NLS-1$
+            }
+            answer.add(toParameter(positionalParameter, parameters.get(name)));
+        }
+        return answer;
+    }
+
+    static List<JdbcParameter> bindRow(List<ParameterSlot> positionalParameters, Object row) {
+        List<JdbcParameter> answer = new ArrayList<>(positionalParameters.size());
+        for (ParameterSlot positionalParameter : positionalParameters) {
+            answer.add(toParameter(positionalParameter,
+                    resolveRowValue(positionalParameter.parameterMapKey(), row)));
+        }
+        return answer;
+    }
+
+    static List<JdbcParameter> bindRecords(List<ParameterSlot> positionalParameters, List<?> records) {
+        List<JdbcParameter> answer = new ArrayList<>(positionalParameters.size());
+        for (ParameterSlot positionalParameter : positionalParameters) {
+            answer.add(toParameter(positionalParameter,
+                    resolveRecordValue(positionalParameter.parameterMapKey(), records)));
+        }
+        return answer;
+    }
+
+    private static JdbcParameter toParameter(ParameterSlot positionalParameter, @Nullable Object value) {
+        return new JdbcParameter(value, positionalParameter.column().flatMap(BindableColumn::jdbcType).orElse(null),
+                positionalParameter.isArray());
+    }
+
+    private static @Nullable Object resolveRowValue(String name, Object row) {
+        if (name.equals(ROW)) {
+            return row;
+        } else if (name.startsWith(ROW_PREFIX)) {
+            return readProperty(name, row, name.substring(ROW_PREFIX.length()));
+        } else {
+            throw new DynamicSqlException(Messages.getString("ERROR.68", name)); //$NON-NLS-1$
+        }
+    }
+
+    private static @Nullable Object resolveRecordValue(String name, List<?> records) {
+        int close = name.indexOf(']');
+        if (!name.startsWith(RECORDS_PREFIX) || close < 0) {
+            throw new DynamicSqlException(Messages.getString("ERROR.68", name)); //$NON-NLS-1$
+        }
+
+        Object rowRecord;
+        try {
+            rowRecord = records.get(Integer.parseInt(name.substring(RECORDS_PREFIX.length(), close)));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new DynamicSqlException(Messages.getString("ERROR.68", name), e); //$NON-NLS-1$
+        }
+
+        if (close == name.length() - 1) {
+            return rowRecord;
+        } else if (rowRecord == null) {
+            return null;
+        } else {
+            return readProperty(name, rowRecord, name.substring(close + 2));
+        }
+    }
+
+    private static @Nullable Object readProperty(String name, Object bean, String propertyPath) {
+        return PropertyReader.of(bean.getClass(), propertyPath)
+                .orElseThrow(() -> new DynamicSqlException(Messages.getString("ERROR.68", name))) //$NON-NLS-1$
+                .read(bean);
+    }
+}
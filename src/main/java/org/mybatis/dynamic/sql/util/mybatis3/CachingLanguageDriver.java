@@ -0,0 +1,120 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.mybatis3;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.apache.ibatis.session.Configuration;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A MyBatis language driver that caches parsed SQL sources.
+ *
+ * <p>Statements rendered by this library are executed with MyBatis SQL provider methods (for example
+ * {@link CommonSelectMapper} and the other common mappers). MyBatis parses the SQL returned by a provider method every
+ * time the mapper method is called - finding the parameter markers and building parameter mappings. Statements with
+ * the same shape render identical SQL, so this driver caches the parsed {@link SqlSource} keyed by the SQL string and
+ * parameter type, and skips the parse for repeated statements. A parsed SQL source does not hold parameter values, so
+ * it can be reused safely for any parameter object of the same type.
+ *
+ * <p>The cache holds at most {@link #maximumSize()} entries. When the cache is full, the least recently used entry is
+ * evicted.
+ *
+ * <p>Register the driver as the default scripting language to use it for all provider methods:
+ *
+ * <pre>
+ * configuration.setDefaultScriptingLanguage(CachingLanguageDriver.class);
+ * </pre>
+ *
+ * <p>Or use it for individual mapper methods with <code>&#64;Lang(CachingLanguageDriver.class)</code>.
+ *
+ * <p>This class is thread safe.
+ *
+ * @since 2.1.0
+ */
+public class CachingLanguageDriver extends XMLLanguageDriver {
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final int maximumSize;
+    private final Map<Key, SqlSource> cache;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public CachingLanguageDriver() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public CachingLanguageDriver(int maximumSize) {
+        this.maximumSize = Math.max(maximumSize, 0);
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, SqlSource> eldest) {
+                return size() > CachingLanguageDriver.this.maximumSize;
+            }
+        };
+    }
+
+    @Override
+    public SqlSource createSqlSource(Configuration configuration, String script, Class<?> parameterType) {
+        Key key = new Key(script, parameterType);
+        SqlSource sqlSource = get(key);
+        if (sqlSource != null) {
+            hitCount.increment();
+            return sqlSource;
+        }
+
+        missCount.increment();
+        sqlSource = super.createSqlSource(configuration, script, parameterType);
+        put(key, sqlSource);
+        return sqlSource;
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    private synchronized @Nullable SqlSource get(Key key) {
+        return cache.get(key);
+    }
+
+    private synchronized void put(Key key, SqlSource sqlSource) {
+        if (maximumSize > 0) {
+            cache.put(key, sqlSource);
+        }
+    }
+
+    private record Key(String script, Class<?> parameterType) {}
+}
@@ -0,0 +1,184 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.mybatis3;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.QueryResultCache;
+import org.mybatis.dynamic.sql.util.Utilities;
+
+/**
+ * A facade over a {@link CommonSelectMapper} that caches the results of select statements in a
+ * {@link QueryResultCache}. Insert, update, and delete statements executed through this facade invalidate the cached
+ * results of every query that reads the changed table. Write methods accept a mapper method in the same way as the
+ * methods in {@link MyBatis3Utils} - for example, {@code executor.update(mapper::update, updateStatement)}.
+ *
+ * <p>MyBatis does not report when a transaction completes, so transactions must be marked with
+ * {@link #inTransaction(Supplier)}. Inside the transaction, queries executed after a write bypass the cache, so
+ * uncommitted data is never cached. The changed tables are invalidated again when the transaction completes, so
+ * results read by other sessions before the commit do not remain in the cache. Writes executed outside of
+ * {@link #inTransaction(Supplier)} are assumed to be committed immediately.
+ *
+ * <p>Lists returned by this facade are unmodifiable because cached results are shared by every caller.
+ *
+ * @since 2.1.0
+ */
+public class CachingMapperExecutor {
+    private final CommonSelectMapper selectMapper;
+    private final QueryResultCache cache;
+    private final ThreadLocal<@Nullable Set<SqlTable>> pendingInvalidations = new ThreadLocal<>();
+
+    public CachingMapperExecutor(CommonSelectMapper selectMapper, QueryResultCache cache) {
+        this.selectMapper = Objects.requireNonNull(selectMapper);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    public QueryResultCache cache() {
+        return cache;
+    }
+
+    public long count(Buildable<SelectModel> countStatement) {
+        return query(countStatement, new ResultMapping("count", Long.class), //$NON-NLS-1$
+                s -> Utilities.safelyUnbox(selectMapper.selectOneLong(s)));
+    }
+
+    public <R> List<R> selectMany(Buildable<SelectModel> selectStatement,
+                                  Function<Map<String, Object>, R> rowMapper) {
+        return query(selectStatement, new ResultMapping("selectMany", rowMapper), //$NON-NLS-1$
+                s -> Collections.unmodifiableList(selectMapper.selectMany(s, rowMapper)));
+    }
+
+    public <R> Optional<R> selectOne(Buildable<SelectModel> selectStatement,
+                                     Function<Map<String, Object>, R> rowMapper) {
+        return query(selectStatement, new ResultMapping("selectOne", rowMapper), //$NON-NLS-1$
+                s -> Optional.ofNullable(selectMapper.selectOne(s, rowMapper)));
+    }
+
+    public int delete(ToIntFunction<DeleteStatementProvider> mapper, Buildable<DeleteModel> deleteStatement) {
+        DeleteModel model = deleteStatement.build();
+        return write(model.table(), () -> mapper.applyAsInt(model.render(RenderingStrategies.MYBATIS3)));
+    }
+
+    public int generalInsert(ToIntFunction<GeneralInsertStatementProvider> mapper,
+                             Buildable<GeneralInsertModel> insertStatement) {
+        GeneralInsertModel model = insertStatement.build();
+        return write(model.table(), () -> mapper.applyAsInt(model.render(RenderingStrategies.MYBATIS3)));
+    }
+
+    public <T> int insert(ToIntFunction<InsertStatementProvider<T>> mapper, Buildable<InsertModel<T>> insertStatement) {
+        InsertModel<T> model = insertStatement.build();
+        return write(model.table(), () -> mapper.applyAsInt(model.render(RenderingStrategies.MYBATIS3)));
+    }
+
+    public <T> int insertMultiple(ToIntFunction<MultiRowInsertStatementProvider<T>> mapper,
+                                  Buildable<MultiRowInsertModel<T>> insertStatement) {
+        MultiRowInsertModel<T> model = insertStatement.build();
+        return write(model.table(), () -> mapper.applyAsInt(model.render(RenderingStrategies.MYBATIS3)));
+    }
+
+    public int update(ToIntFunction<UpdateStatementProvider> mapper, Buildable<UpdateModel> updateStatement) {
+        UpdateModel model = updateStatement.build();
+        return write(model.table(), () -> mapper.applyAsInt(model.render(RenderingStrategies.MYBATIS3)));
+    }
+
+    /**
+     * Run work that executes statements in a single transaction on the current thread - for example, work that ends
+     * with <code>sqlSession.commit()</code>. Queries executed after the first write in the work bypass the cache, and
+     * tables changed by the work are invalidated again when the work completes, whether it commits, rolls back, or
+     * throws an exception. If a transaction is already active on the current thread, the work joins it.
+     *
+     * @param work the work to execute
+     * @param <R> the type of the result
+     * @return the result of the work
+     */
+    public <R> R inTransaction(Supplier<R> work) {
+        if (pendingInvalidations.get() != null) {
+            return work.get();
+        }
+
+        Set<SqlTable> tables = new LinkedHashSet<>();
+        pendingInvalidations.set(tables);
+        try {
+            return work.get();
+        } finally {
+            pendingInvalidations.remove();
+            tables.forEach(cache::invalidate);
+        }
+    }
+
+    /**
+     * Invalidate the cached results of every query that reads the table. Use this method when the table is changed
+     * by a statement that is not executed through this facade.
+     *
+     * @param table the table that was changed
+     */
+    public void invalidate(SqlTable table) {
+        cache.invalidate(table);
+        Set<SqlTable> tables = pendingInvalidations.get();
+        if (tables != null) {
+            tables.add(table);
+        }
+    }
+
+    private <R> R query(Buildable<SelectModel> selectStatement, ResultMapping resultMapping,
+                        Function<SelectStatementProvider, R> query) {
+        SelectModel model = selectStatement.build();
+        if (hasPendingWrites()) {
+            return query.apply(model.render(RenderingStrategies.MYBATIS3));
+        }
+        return cache.get(model, RenderingStrategies.MYBATIS3, resultMapping, query);
+    }
+
+    private boolean hasPendingWrites() {
+        Set<SqlTable> tables = pendingInvalidations.get();
+        return tables != null && !tables.isEmpty();
+    }
+
+    private int write(SqlTable table, Supplier<Integer> statement) {
+        try {
+            return statement.get();
+        } finally {
+            invalidate(table);
+        }
+    }
+
+    private record ResultMapping(String method, Object mapper) {}
+}
@@ -22,6 +22,7 @@ import java.util.Optional;
 import java.util.function.Function;
 
 import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.cursor.Cursor;
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.util.SqlProviderAdapter;
@@ -37,6 +38,9 @@ import org.mybatis.dynamic.sql.util.SqlProviderAdapter;
  *   <li>The selectOne and selectMany methods also allow you to use select statements with any number of columns.
  *   These methods also allow you to specify a function that will transform a Map of row values into a specific
  *   object.</li>
+ *   <li>The selectManyMappedRowsCursor and selectManyCursor methods are like selectManyMappedRows and selectMany,
+ *   but return a MyBatis {@link Cursor} that reads rows one at a time rather than loading all rows into a
+ *   List.</li>
  *   <li>The other methods are for result sets with a single column. There are functions for many
  *   data types (Integer, Long, String, etc.) There are also functions that return a single value, and Optional value,
  *   or a List of values.</li>
@@ -114,6 +118,39 @@ public interface CommonSelectMapper {
                 .toList();
     }
 
+    /**
+     * Select any number of rows and return a Cursor of Maps containing row values (one Map for each row returned).
+     * Rows are read from the result set as the cursor is iterated, so large result sets can be processed without
+     * holding all rows in memory. The cursor must be closed, and the SqlSession must remain open while the cursor
+     * is in use.
+     *
+     * <p>See {@link CommonSelectMapper#selectManyMappedRows(SelectStatementProvider)} for details about
+     * how MyBatis will construct the Maps of values.
+     *
+     * @param selectStatement the select statement
+     * @return A Cursor of Maps containing the row values.
+     * @since 2.1.0
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "select")
+    Cursor<Map<String, Object>> selectManyMappedRowsCursor(SelectStatementProvider selectStatement);
+
+    /**
+     * Select any number of rows and convert the values of each row to a custom type as the row is read. Unlike
+     * {@link CommonSelectMapper#selectMany(SelectStatementProvider, Function)}, neither the Maps of row values
+     * nor the converted objects are collected into a List. The cursor must be closed, and the SqlSession must
+     * remain open while the cursor is in use.
+     *
+     * @param selectStatement the select statement
+     * @param rowMapper a function that will convert a Map of row values to the desired data type
+     * @param <R> the datatype of the converted object
+     * @return a Cursor of converted objects
+     * @since 2.1.0
+     */
+    default <R> Cursor<R> selectManyCursor(SelectStatementProvider selectStatement,
+                                           Function<Map<String, Object>, R> rowMapper) {
+        return new MappingCursor<>(selectManyMappedRowsCursor(selectStatement), rowMapper);
+    }
+
     /**
      * Retrieve a single {@link java.math.BigDecimal} from a result set. The result set must have
      * only one column and one or zero rows. The column must be retrievable from the result set
@@ -0,0 +1,75 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.mybatis3;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.function.Function;
+
+import org.apache.ibatis.cursor.Cursor;
+
+/**
+ * A cursor that converts each row of an underlying cursor as it is read. Nothing is buffered, so the rows of a
+ * large result set can be processed in constant memory.
+ *
+ * @param <T> the type of rows in the underlying cursor
+ * @param <R> the type of converted rows
+ */
+class MappingCursor<T, R> implements Cursor<R> {
+    private final Cursor<T> delegate;
+    private final Function<? super T, ? extends R> rowMapper;
+
+    MappingCursor(Cursor<T> delegate, Function<? super T, ? extends R> rowMapper) {
+        this.delegate = delegate;
+        this.rowMapper = rowMapper;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate.isOpen();
+    }
+
+    @Override
+    public boolean isConsumed() {
+        return delegate.isConsumed();
+    }
+
+    @Override
+    public int getCurrentIndex() {
+        return delegate.getCurrentIndex();
+    }
+
+    @Override
+    public Iterator<R> iterator() {
+        Iterator<T> iterator = delegate.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public R next() {
+                return rowMapper.apply(iterator.next());
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
@@ -18,11 +18,13 @@ package org.mybatis.dynamic.sql.util.mybatis3;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.ToIntBiFunction;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
 
+import org.apache.ibatis.executor.BatchResult;
 import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.SqlBuilder;
 import org.mybatis.dynamic.sql.SqlTable;
@@ -41,11 +43,14 @@ import org.mybatis.dynamic.sql.insert.MultiRowInsertDSL;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RowLimit;
 import org.mybatis.dynamic.sql.select.QueryExpressionDSL;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Utilities;
 
 /**
  * Utility functions for building MyBatis3 mappers.
@@ -209,6 +214,35 @@ public class MyBatis3Utils {
         return mapper.applyAsInt(insertMultiple(records, table, completer));
     }
 
+    public static <R> List<MultiRowInsertStatementProvider<R>> insertMultiple(Collection<R> records,
+            SqlTable table, UnaryOperator<MultiRowInsertDSL<R>> completer, RowLimit limit) {
+        return completer.apply(SqlBuilder.insertMultiple(records).into(table))
+                .build()
+                .render(RenderingStrategies.MYBATIS3, limit);
+    }
+
+    /**
+     * Execute a multi-row insert as several statements, each with no more rows than allowed by the limit.
+     *
+     * @param mapper a mapper method that executes a multi-row insert statement
+     * @param records the records to insert
+     * @param table the table to insert into
+     * @param completer a function that adds column mappings to the insert
+     * @param limit the limit on the size of each statement
+     * @param <R> the type of record to insert
+     * @return the total number of rows inserted
+     * @since 2.1.0
+     */
+    public static <R> int insertMultiple(ToIntFunction<MultiRowInsertStatementProvider<R>> mapper,
+                                         Collection<R> records,
+                                         SqlTable table,
+                                         UnaryOperator<MultiRowInsertDSL<R>> completer,
+                                         RowLimit limit) {
+        return insertMultiple(records, table, completer, limit).stream()
+                .mapToInt(mapper)
+                .sum();
+    }
+
     public static <R> int insertMultipleWithGeneratedKeys(ToIntBiFunction<String, List<R>> mapper,
                                                           Collection<R> records,
                                                           SqlTable table,
@@ -217,6 +251,36 @@ public class MyBatis3Utils {
         return mapper.applyAsInt(provider.getInsertStatement(), provider.getRecords());
     }
 
+    /**
+     * Execute a streaming batch insert with a MyBatis batch executor. Records are read from the batch in chunks. The
+     * mapper is called for each record in a chunk, then the flusher is called to execute the batch, so only one chunk
+     * of records is held in memory at any time.
+     *
+     * <p>This method should be used with a <code>SqlSession</code> opened with <code>ExecutorType.BATCH</code>.
+     *
+     * @param mapper a mapper method that inserts a single record - typically <code>CommonInsertMapper::insert</code>
+     * @param flusher a method that flushes the batch - typically <code>CommonInsertMapper::flush</code> or
+     *                <code>SqlSession::flushStatements</code>
+     * @param batchInsert the rendered batch insert
+     * @param chunkSize the number of records to execute in each batch
+     * @param <R> the type of record to insert
+     * @return the total number of rows inserted
+     * @since 2.1.0
+     */
+    public static <R> long insertBatch(ToIntFunction<InsertStatementProvider<R>> mapper,
+                                       Supplier<List<BatchResult>> flusher,
+                                       StreamingBatchInsert<R> batchInsert,
+                                       int chunkSize) {
+        return batchInsert.executeInChunks(chunkSize, chunk -> {
+            chunk.forEach(row -> mapper.applyAsInt(batchInsert.toInsertStatement(row)));
+            long rowCount = 0;
+            for (BatchResult batchResult : flusher.get()) {
+                rowCount += Utilities.sumUpdateCounts(batchResult.getUpdateCounts());
+            }
+            return rowCount;
+        });
+    }
+
     // deprecate
     public static SelectStatementProvider select(BasicColumn[] selectList,
                                                  SqlTable table,
@@ -0,0 +1,98 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.mybatis3;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.executor.statement.StatementUtil;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.configuration.StatementHints;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+/**
+ * A MyBatis interceptor that applies the {@link StatementHints} of a select statement to the JDBC statement
+ * prepared by MyBatis. The fetch size, query timeout, and maximum rows hints override the values from the mapped
+ * statement. A query timeout hint is shortened if the remaining transaction timeout is shorter.
+ *
+ * <p>MyBatis determines the result set type from the mapped statement before the interceptor runs, so the forward
+ * only hint is not applied by this interceptor. Use {@code @Options(resultSetType = ResultSetType.FORWARD_ONLY)} on
+ * the mapper method instead.
+ *
+ * <p>The interceptor applies to mapper methods with a {@link SelectStatementProvider} parameter, like the methods of
+ * {@link CommonSelectMapper}. Register the interceptor with the MyBatis configuration:
+ *
+ * <pre>
+ *     configuration.addInterceptor(new StatementHintsInterceptor());
+ * </pre>
+ *
+ * @since 2.1.0
+ */
+@Intercepts(@Signature(type = StatementHandler.class, method = "prepare", //$NON-NLS-1$
+        args = {Connection.class, Integer.class}))
+public class StatementHintsInterceptor implements Interceptor {
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        if (result instanceof Statement statement
+                && invocation.getTarget() instanceof StatementHandler statementHandler) {
+            Optional<StatementHints> statementHints =
+                    findStatementHints(statementHandler.getBoundSql().getParameterObject());
+            if (statementHints.isPresent()) {
+                applyStatementHints(statement, statementHints.get(), (Integer) invocation.getArgs()[1]);
+            }
+        }
+        return result;
+    }
+
+    private void applyStatementHints(Statement statement, StatementHints statementHints,
+                                     @Nullable Integer transactionTimeout) throws SQLException {
+        statementHints.applyTo(statement);
+        Optional<Integer> queryTimeout = statementHints.queryTimeout();
+        if (queryTimeout.isPresent()) {
+            StatementUtil.applyTransactionTimeout(statement, queryTimeout.get(), transactionTimeout);
+        }
+    }
+
+    private Optional<StatementHints> findStatementHints(@Nullable Object parameterObject) {
+        if (parameterObject instanceof SelectStatementProvider selectStatement) {
+            return nonEmpty(selectStatement.getStatementHints());
+        }
+
+        // mapper methods with several parameters, or annotated parameters, are passed a map of parameters
+        if (parameterObject instanceof Map<?, ?> parameters) {
+            return parameters.values().stream()
+                    .filter(SelectStatementProvider.class::isInstance)
+                    .map(SelectStatementProvider.class::cast)
+                    .findFirst()
+                    .flatMap(s -> nonEmpty(s.getStatementHints()));
+        }
+
+        return Optional.empty();
+    }
+
+    private Optional<StatementHints> nonEmpty(StatementHints statementHints) {
+        return statementHints.isEmpty() ? Optional.empty() : Optional.of(statementHints);
+    }
+}
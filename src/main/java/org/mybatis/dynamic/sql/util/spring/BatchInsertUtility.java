@@ -18,25 +18,23 @@ package org.mybatis.dynamic.sql.util.spring;
 import java.util.List;
 
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
-import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils;
 
 /**
  * Utility class for converting a list of rows to an array or SqlParameterSources.
  *
  * <p>This class is necessary due to the way that the library generates bindings for batch insert
  * statements. The bindings will be of the form <code>:row.propertyName</code>. The <code>createBatch</code> method
- * in this class will wrap all input rows in a class - RowHolder - with a single property named "row".
- * This will allow the generated bindings to function properly with a Spring batch insert.
+ * in this class will wrap all input rows in a {@link RecordParameterSource} that resolves the "row" bindings with
+ * precompiled property readers. This will allow the generated bindings to function properly with a Spring batch
+ * insert, and with the batch updates and deletes that use the same bindings.
  */
 public class BatchInsertUtility {
     private BatchInsertUtility() {}
 
     public static <T> SqlParameterSource[] createBatch(List<T> rows) {
-        List<RowHolder<T>> tt = rows.stream()
-                .map(RowHolder::new)
-                .toList();
-
-        return SqlParameterSourceUtils.createBatch(tt);
+        return rows.stream()
+                .map(RecordParameterSource::forRow)
+                .toArray(SqlParameterSource[]::new);
     }
 
     public record RowHolder<T>(T row) {}
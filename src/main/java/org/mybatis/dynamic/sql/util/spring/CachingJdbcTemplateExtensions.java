@@ -0,0 +1,192 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.BatchDeleteModel;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.UpsertModel;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.BatchUpdateModel;
+import org.mybatis.dynamic.sql.update.MultiRowUpdateModel;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.QueryResultCache;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A facade over {@link NamedParameterJdbcTemplateExtensions} that caches the results of select statements in a
+ * {@link QueryResultCache}. Insert, update, and delete statements executed through this facade invalidate the cached
+ * results of every query that reads the changed table.
+ *
+ * <p>When a write is executed in a Spring managed transaction, the changed tables are invalidated again when the
+ * transaction completes, and queries executed later in the same transaction bypass the cache. This prevents results
+ * read before the transaction commits from remaining in the cache, and prevents uncommitted data from being cached.
+ *
+ * <p>Lists returned by this facade are unmodifiable because cached results are shared by every caller.
+ *
+ * @since 2.1.0
+ */
+public class CachingJdbcTemplateExtensions {
+    private final NamedParameterJdbcTemplateExtensions extensions;
+    private final QueryResultCache cache;
+
+    public CachingJdbcTemplateExtensions(NamedParameterJdbcTemplateExtensions extensions, QueryResultCache cache) {
+        this.extensions = Objects.requireNonNull(extensions);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    public QueryResultCache cache() {
+        return cache;
+    }
+
+    public long count(Buildable<SelectModel> countStatement) {
+        return query(countStatement, new ResultMapping("count", Long.class), extensions::count); //$NON-NLS-1$
+    }
+
+    public <T> List<T> selectList(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
+        return query(selectStatement, new ResultMapping("selectList", rowMapper), //$NON-NLS-1$
+                s -> Collections.unmodifiableList(extensions.selectList(s, rowMapper)));
+    }
+
+    public <T> Optional<T> selectOne(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
+        return query(selectStatement, new ResultMapping("selectOne", rowMapper), //$NON-NLS-1$
+                s -> extensions.selectOne(s, rowMapper));
+    }
+
+    public int delete(Buildable<DeleteModel> deleteStatement) {
+        DeleteModel model = deleteStatement.build();
+        return write(model.table(), () -> extensions.delete(() -> model));
+    }
+
+    public <T> int[] deleteBatch(Buildable<BatchDeleteModel<T>> deleteStatement) {
+        BatchDeleteModel<T> model = deleteStatement.build();
+        return write(model.table(), () -> extensions.deleteBatch(() -> model));
+    }
+
+    public int generalInsert(Buildable<GeneralInsertModel> insertStatement) {
+        GeneralInsertModel model = insertStatement.build();
+        return write(model.table(), () -> extensions.generalInsert(() -> model));
+    }
+
+    public <T> int insert(Buildable<InsertModel<T>> insertStatement) {
+        InsertModel<T> model = insertStatement.build();
+        return write(model.table(), () -> extensions.insert(() -> model));
+    }
+
+    public <T> int[] insertBatch(Buildable<BatchInsertModel<T>> insertStatement) {
+        BatchInsertModel<T> model = insertStatement.build();
+        return write(model.table(), () -> extensions.insertBatch(() -> model));
+    }
+
+    public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement) {
+        MultiRowInsertModel<T> model = insertStatement.build();
+        return write(model.table(), () -> extensions.insertMultiple(() -> model));
+    }
+
+    public <T> int upsert(Buildable<UpsertModel<T>> upsertStatement) {
+        UpsertModel<T> model = upsertStatement.build();
+        return write(model.table(), () -> extensions.upsert(() -> model));
+    }
+
+    public int update(Buildable<UpdateModel> updateStatement) {
+        UpdateModel model = updateStatement.build();
+        return write(model.table(), () -> extensions.update(() -> model));
+    }
+
+    public <T> int[] updateBatch(Buildable<BatchUpdateModel<T>> updateStatement) {
+        BatchUpdateModel<T> model = updateStatement.build();
+        return write(model.table(), () -> extensions.updateBatch(() -> model));
+    }
+
+    public <T> int updateMultiple(Buildable<MultiRowUpdateModel<T>> updateStatement) {
+        MultiRowUpdateModel<T> model = updateStatement.build();
+        return write(model.table(), () -> extensions.updateMultiple(() -> model));
+    }
+
+    /**
+     * Invalidate the cached results of every query that reads the table. Use this method when the table is changed
+     * by a statement that is not executed through this facade.
+     *
+     * @param table the table that was changed
+     */
+    public void invalidate(SqlTable table) {
+        cache.invalidate(table);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingInvalidations().add(table);
+        }
+    }
+
+    private <R> R query(Buildable<SelectModel> selectStatement, ResultMapping resultMapping,
+                        Function<SelectStatementProvider, R> query) {
+        SelectModel model = selectStatement.build();
+        if (hasPendingWrites()) {
+            return query.apply(model.render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+        }
+        return cache.get(model, RenderingStrategies.SPRING_NAMED_PARAMETER, resultMapping, query);
+    }
+
+    private <R> R write(SqlTable table, Supplier<R> statement) {
+        try {
+            return statement.get();
+        } finally {
+            invalidate(table);
+        }
+    }
+
+    private boolean hasPendingWrites() {
+        return TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.hasResource(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<SqlTable> pendingInvalidations() {
+        Object tables = TransactionSynchronizationManager.getResource(this);
+        if (tables != null) {
+            return (Set<SqlTable>) tables;
+        }
+
+        Set<SqlTable> newTables = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(this, newTables);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CachingJdbcTemplateExtensions.this);
+                newTables.forEach(cache::invalidate);
+            }
+        });
+        return newTables;
+    }
+
+    private record ResultMapping(String method, Object mapper) {}
+}
@@ -18,27 +18,41 @@ package org.mybatis.dynamic.sql.util.spring;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.delete.BatchDeleteModel;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
 import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.BatchUpsertModel;
 import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
 import org.mybatis.dynamic.sql.insert.InsertModel;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowUpsertModel;
+import org.mybatis.dynamic.sql.insert.StreamingBatchInsertModel;
+import org.mybatis.dynamic.sql.insert.UpsertModel;
 import org.mybatis.dynamic.sql.insert.render.BatchInsert;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RowLimit;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.BatchUpdateModel;
+import org.mybatis.dynamic.sql.update.MultiRowUpdateModel;
 import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 import org.mybatis.dynamic.sql.util.Buildable;
 import org.mybatis.dynamic.sql.util.Utilities;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.KeyHolder;
@@ -55,8 +69,7 @@ public class NamedParameterJdbcTemplateExtensions {
     }
 
     public long count(SelectStatementProvider countStatement) {
-        Long answer = template.queryForObject(countStatement.getSelectStatement(),
-                countStatement.getParameters(), Long.class);
+        Long answer = queryForObject(countStatement, SingleColumnRowMapper.newInstance(Long.class));
 
         return Utilities.safelyUnbox(answer);
     }
@@ -69,6 +82,31 @@ public class NamedParameterJdbcTemplateExtensions {
         return template.update(deleteStatement.getDeleteStatement(), deleteStatement.getParameters());
     }
 
+    /**
+     * Execute a batch delete with a single JDBC batch.
+     *
+     * @param deleteStatement the batch delete
+     * @param <T> the type of record to delete
+     * @return the update counts of the batch
+     * @since 2.1.0
+     */
+    public <T> int[] deleteBatch(Buildable<BatchDeleteModel<T>> deleteStatement) {
+        return deleteBatch(deleteStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+    }
+
+    /**
+     * Execute a batch delete with a single JDBC batch.
+     *
+     * @param deleteStatement the rendered batch delete
+     * @param <T> the type of record to delete
+     * @return the update counts of the batch
+     * @since 2.1.0
+     */
+    public <T> int[] deleteBatch(BatchDelete<T> deleteStatement) {
+        return template.batchUpdate(deleteStatement.getDeleteStatementSQL(),
+                BatchInsertUtility.createBatch(deleteStatement.getRecords()));
+    }
+
     public int generalInsert(Buildable<GeneralInsertModel> insertStatement) {
         return generalInsert(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
     }
@@ -92,7 +130,7 @@ public class NamedParameterJdbcTemplateExtensions {
 
     public <T> int insert(InsertStatementProvider<T> insertStatement) {
         return template.update(insertStatement.getInsertStatement(),
-                new BeanPropertySqlParameterSource(insertStatement));
+                RecordParameterSource.forStatement(insertStatement));
     }
 
     public <T> int insert(Buildable<InsertModel<T>> insertStatement, KeyHolder keyHolder) {
@@ -101,7 +139,7 @@ public class NamedParameterJdbcTemplateExtensions {
 
     public <T> int insert(InsertStatementProvider<T> insertStatement, KeyHolder keyHolder) {
         return template.update(insertStatement.getInsertStatement(),
-                new BeanPropertySqlParameterSource(insertStatement), keyHolder);
+                RecordParameterSource.forStatement(insertStatement), keyHolder);
     }
 
     public <T> int[] insertBatch(Buildable<BatchInsertModel<T>> insertStatement) {
@@ -113,13 +151,50 @@ public class NamedParameterJdbcTemplateExtensions {
                 BatchInsertUtility.createBatch(insertStatement.getRecords()));
     }
 
+    public <T> long insertBatch(Buildable<StreamingBatchInsertModel<T>> insertStatement, int chunkSize) {
+        return insertBatch(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), chunkSize);
+    }
+
+    /**
+     * Execute a streaming batch insert. Records are read from the batch in chunks, and each chunk is executed as a
+     * separate JDBC batch, so only one chunk of records is held in memory at any time.
+     *
+     * @param insertStatement the rendered batch insert
+     * @param chunkSize the number of records in each JDBC batch
+     * @param <T> the type of record to insert
+     * @return the total number of rows inserted
+     * @since 2.1.0
+     */
+    public <T> long insertBatch(StreamingBatchInsert<T> insertStatement, int chunkSize) {
+        return insertStatement.executeInChunks(chunkSize, chunk -> Utilities.sumUpdateCounts(
+                template.batchUpdate(insertStatement.getInsertStatementSQL(), BatchInsertUtility.createBatch(chunk))));
+    }
+
     public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement) {
         return insertMultiple(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
     }
 
     public <T> int insertMultiple(MultiRowInsertStatementProvider<T> insertStatement) {
         return template.update(insertStatement.getInsertStatement(),
-                new BeanPropertySqlParameterSource(insertStatement));
+                RecordParameterSource.forStatement(insertStatement));
+    }
+
+    public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement, RowLimit limit) {
+        return insertMultiple(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER, limit));
+    }
+
+    /**
+     * Execute a multi-row insert that was rendered as several statements.
+     *
+     * @param insertStatements the rendered insert statements
+     * @param <T> the type of record to insert
+     * @return the total number of rows inserted
+     * @since 2.1.0
+     */
+    public <T> int insertMultiple(List<MultiRowInsertStatementProvider<T>> insertStatements) {
+        return insertStatements.stream()
+                .mapToInt(this::insertMultiple)
+                .sum();
     }
 
     public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement, KeyHolder keyHolder) {
@@ -128,7 +203,57 @@ public class NamedParameterJdbcTemplateExtensions {
 
     public <T> int insertMultiple(MultiRowInsertStatementProvider<T> insertStatement, KeyHolder keyHolder) {
         return template.update(insertStatement.getInsertStatement(),
-                new BeanPropertySqlParameterSource(insertStatement), keyHolder);
+                RecordParameterSource.forStatement(insertStatement), keyHolder);
+    }
+
+    /**
+     * Execute an upsert statement. Rendered upserts are insert statement providers, so they can also be executed
+     * with {@link #insert(InsertStatementProvider)}.
+     *
+     * @param upsertStatement the upsert statement
+     * @param <T> the type of record to upsert
+     * @return the number of rows affected, as reported by the driver
+     * @since 2.1.0
+     */
+    public <T> int upsert(Buildable<UpsertModel<T>> upsertStatement) {
+        return insert(upsertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+    }
+
+    /**
+     * Execute a multi-row upsert statement.
+     *
+     * @param upsertStatement the upsert statement
+     * @param <T> the type of record to upsert
+     * @return the number of rows affected, as reported by the driver
+     * @since 2.1.0
+     */
+    public <T> int upsertMultiple(Buildable<MultiRowUpsertModel<T>> upsertStatement) {
+        return insertMultiple(upsertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+    }
+
+    /**
+     * Execute a multi-row upsert statement rendered as several statements, each within the limit.
+     *
+     * @param upsertStatement the upsert statement
+     * @param limit the limit on the size of each statement
+     * @param <T> the type of record to upsert
+     * @return the total number of rows affected, as reported by the driver
+     * @since 2.1.0
+     */
+    public <T> int upsertMultiple(Buildable<MultiRowUpsertModel<T>> upsertStatement, RowLimit limit) {
+        return insertMultiple(upsertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER, limit));
+    }
+
+    /**
+     * Execute an upsert statement as a JDBC batch.
+     *
+     * @param upsertStatement the upsert statement
+     * @param <T> the type of record to upsert
+     * @return the update counts of the batch
+     * @since 2.1.0
+     */
+    public <T> int[] upsertBatch(Buildable<BatchUpsertModel<T>> upsertStatement) {
+        return insertBatch(upsertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
     }
 
     public <T> List<T> selectList(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
@@ -136,7 +261,56 @@ public class NamedParameterJdbcTemplateExtensions {
     }
 
     public <T> List<T> selectList(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
-        return template.query(selectStatement.getSelectStatement(), selectStatement.getParameters(), rowMapper);
+        if (selectStatement.getStatementHints().isEmpty()) {
+            return template.query(selectStatement.getSelectStatement(), selectStatement.getParameters(), rowMapper);
+        }
+        return template.getJdbcOperations().query(SelectStatementCreator.of(selectStatement), rowMapper);
+    }
+
+    public <T> Stream<T> selectStream(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
+        return selectStream(selectStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), rowMapper);
+    }
+
+    /**
+     * Execute a select statement and return the mapped rows as a stream. Rows are read from the result set as the
+     * stream is consumed, so large result sets can be processed without holding all rows in memory. The stream
+     * holds an open connection and must be closed - for example, with a try-with-resources block.
+     *
+     * @param selectStatement the select statement
+     * @param rowMapper the row mapper
+     * @param <T> the type of the mapped rows
+     * @return a stream of mapped rows
+     * @since 2.1.0
+     */
+    public <T> Stream<T> selectStream(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        if (selectStatement.getStatementHints().isEmpty()) {
+            return template.queryForStream(selectStatement.getSelectStatement(), selectStatement.getParameters(),
+                    rowMapper);
+        }
+        return template.getJdbcOperations().queryForStream(SelectStatementCreator.of(selectStatement), rowMapper);
+    }
+
+    public <T> Stream<T> selectStream(Buildable<SelectModel> selectStatement, int fetchSize,
+                                      RowMapper<T> rowMapper) {
+        return selectStream(selectStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), fetchSize,
+                rowMapper);
+    }
+
+    /**
+     * Execute a select statement with a JDBC fetch size and return the mapped rows as a stream. The stream
+     * holds an open connection and must be closed.
+     *
+     * @param selectStatement the select statement
+     * @param fetchSize the JDBC fetch size for this statement. See {@link SelectStatementCreator#of}
+     * @param rowMapper the row mapper
+     * @param <T> the type of the mapped rows
+     * @return a stream of mapped rows
+     * @since 2.1.0
+     */
+    public <T> Stream<T> selectStream(SelectStatementProvider selectStatement, int fetchSize,
+                                      RowMapper<T> rowMapper) {
+        return template.getJdbcOperations().queryForStream(SelectStatementCreator.of(selectStatement, fetchSize),
+                rowMapper);
     }
 
     public <T> Optional<T> selectOne(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
@@ -146,8 +320,7 @@ public class NamedParameterJdbcTemplateExtensions {
     public <T> Optional<T> selectOne(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
         T result;
         try {
-            result = template.queryForObject(selectStatement.getSelectStatement(), selectStatement.getParameters(),
-                            rowMapper);
+            result = queryForObject(selectStatement, rowMapper);
         } catch (EmptyResultDataAccessException e) {
             result = null;
         }
@@ -155,6 +328,20 @@ public class NamedParameterJdbcTemplateExtensions {
         return Optional.ofNullable(result);
     }
 
+    /**
+     * Execute a select statement that returns a single row. Statements without hints are executed by the template
+     * directly. Statements with hints are executed with a {@link SelectStatementCreator} so the hints can be
+     * applied to the JDBC statement.
+     */
+    private <T> @Nullable T queryForObject(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        if (selectStatement.getStatementHints().isEmpty()) {
+            return template.queryForObject(selectStatement.getSelectStatement(), selectStatement.getParameters(),
+                    rowMapper);
+        }
+        return DataAccessUtils.nullableSingleResult(
+                template.getJdbcOperations().query(SelectStatementCreator.of(selectStatement), rowMapper));
+    }
+
     public int update(Buildable<UpdateModel> updateStatement) {
         return update(updateStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
     }
@@ -162,4 +349,180 @@ public class NamedParameterJdbcTemplateExtensions {
     public int update(UpdateStatementProvider updateStatement) {
         return template.update(updateStatement.getUpdateStatement(), updateStatement.getParameters());
     }
+
+    /**
+     * Execute a batch update with a single JDBC batch.
+     *
+     * @param updateStatement the batch update
+     * @param <T> the type of record to update
+     * @return the update counts of the batch
+     * @since 2.1.0
+     */
+    public <T> int[] updateBatch(Buildable<BatchUpdateModel<T>> updateStatement) {
+        return updateBatch(updateStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+    }
+
+    /**
+     * Execute a batch update with a single JDBC batch.
+     *
+     * @param updateStatement the rendered batch update
+     * @param <T> the type of record to update
+     * @return the update counts of the batch
+     * @since 2.1.0
+     */
+    public <T> int[] updateBatch(BatchUpdate<T> updateStatement) {
+        return template.batchUpdate(updateStatement.getUpdateStatementSQL(),
+                BatchInsertUtility.createBatch(updateStatement.getRecords()));
+    }
+
+    /**
+     * Execute a multiple row update as a single statement.
+     *
+     * @param updateStatement the multiple row update
+     * @param <T> the type of record to update
+     * @return the number of rows updated
+     * @since 2.1.0
+     */
+    public <T> int updateMultiple(Buildable<MultiRowUpdateModel<T>> updateStatement) {
+        return update(updateStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+    }
+
+    /**
+     * Execute a multiple row update rendered as several statements, each within the limit.
+     *
+     * @param updateStatement the multiple row update
+     * @param limit the limit on the size of each statement
+     * @param <T> the type of record to update
+     * @return the total number of rows updated
+     * @since 2.1.0
+     */
+    public <T> int updateMultiple(Buildable<MultiRowUpdateModel<T>> updateStatement, RowLimit limit) {
+        return updateStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER, limit).stream()
+                .mapToInt(this::update)
+                .sum();
+    }
+
+    /**
+     * Execute a count statement with positional parameters. The statement is rendered with
+     * {@link RenderingStrategies#JDBC} and executed with a {@link PositionalStatementCreator}, so Spring does not
+     * parse the SQL for named parameters.
+     *
+     * @param countStatement the count statement
+     * @return the count
+     * @since 2.1.0
+     */
+    public long countPositional(Buildable<SelectModel> countStatement) {
+        return countPositional(countStatement.build().render(RenderingStrategies.JDBC));
+    }
+
+    /**
+     * Execute a count statement with positional parameters.
+     *
+     * @param countStatement a count statement rendered with {@link RenderingStrategies#JDBC}
+     * @return the count
+     * @since 2.1.0
+     */
+    public long countPositional(SelectStatementProvider countStatement) {
+        Long answer = DataAccessUtils.nullableSingleResult(template.getJdbcOperations()
+                .query(PositionalStatementCreator.of(countStatement), SingleColumnRowMapper.newInstance(Long.class)));
+
+        return Utilities.safelyUnbox(answer);
+    }
+
+    public <T> List<T> selectListPositional(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
+        return selectListPositional(selectStatement.build().render(RenderingStrategies.JDBC), rowMapper);
+    }
+
+    /**
+     * Execute a select statement with positional parameters. Statement hints are applied to the JDBC statement.
+     *
+     * @param selectStatement a select statement rendered with {@link RenderingStrategies#JDBC}
+     * @param rowMapper the row mapper
+     * @param <T> the type of the mapped rows
+     * @return the mapped rows
+     * @since 2.1.0
+     */
+    public <T> List<T> selectListPositional(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        return template.getJdbcOperations().query(PositionalStatementCreator.of(selectStatement), rowMapper);
+    }
+
+    public <T> Optional<T> selectOnePositional(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
+        return selectOnePositional(selectStatement.build().render(RenderingStrategies.JDBC), rowMapper);
+    }
+
+    /**
+     * Execute a select statement that returns at most one row with positional parameters.
+     *
+     * @param selectStatement a select statement rendered with {@link RenderingStrategies#JDBC}
+     * @param rowMapper the row mapper
+     * @param <T> the type of the mapped row
+     * @return the mapped row, or an empty optional if the statement returns no rows
+     * @since 2.1.0
+     */
+    public <T> Optional<T> selectOnePositional(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        return Optional.ofNullable(DataAccessUtils.singleResult(
+                template.getJdbcOperations().query(PositionalStatementCreator.of(selectStatement), rowMapper)));
+    }
+
+    public int deletePositional(Buildable<DeleteModel> deleteStatement) {
+        return deletePositional(deleteStatement.build().render(RenderingStrategies.JDBC));
+    }
+
+    /**
+     * Execute a delete statement with positional parameters.
+     *
+     * @param deleteStatement a delete statement rendered with {@link RenderingStrategies#JDBC}
+     * @return the number of rows deleted
+     * @since 2.1.0
+     */
+    public int deletePositional(DeleteStatementProvider deleteStatement) {
+        return template.getJdbcOperations().update(PositionalStatementCreator.of(deleteStatement));
+    }
+
+    public int generalInsertPositional(Buildable<GeneralInsertModel> insertStatement) {
+        return generalInsertPositional(insertStatement.build().render(RenderingStrategies.JDBC));
+    }
+
+    /**
+     * Execute a general insert statement with positional parameters.
+     *
+     * @param insertStatement an insert statement rendered with {@link RenderingStrategies#JDBC}
+     * @return the number of rows inserted
+     * @since 2.1.0
+     */
+    public int generalInsertPositional(GeneralInsertStatementProvider insertStatement) {
+        return template.getJdbcOperations().update(PositionalStatementCreator.of(insertStatement));
+    }
+
+    public <T> int insertPositional(Buildable<InsertModel<T>> insertStatement) {
+        return insertPositional(insertStatement.build().render(RenderingStrategies.JDBC));
+    }
+
+    /**
+     * Execute a record based insert statement with positional parameters. Record properties are read with cached
+     * property readers.
+     *
+     * @param insertStatement an insert statement rendered with {@link RenderingStrategies#JDBC}
+     * @param <T> the type of record to insert
+     * @return the number of rows inserted
+     * @since 2.1.0
+     */
+    public <T> int insertPositional(InsertStatementProvider<T> insertStatement) {
+        return template.getJdbcOperations().update(PositionalStatementCreator.of(insertStatement));
+    }
+
+    public int updatePositional(Buildable<UpdateModel> updateStatement) {
+        return updatePositional(updateStatement.build().render(RenderingStrategies.JDBC));
+    }
+
+    /**
+     * Execute an update statement with positional parameters.
+     *
+     * @param updateStatement an update statement rendered with {@link RenderingStrategies#JDBC}
+     * @return the number of rows updated
+     * @since 2.1.0
+     */
+    public int updatePositional(UpdateStatementProvider updateStatement) {
+        return template.getJdbcOperations().update(PositionalStatementCreator.of(updateStatement));
+    }
 }
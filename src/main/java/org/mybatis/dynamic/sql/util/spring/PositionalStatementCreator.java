@@ -0,0 +1,126 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.configuration.StatementHints;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.jdbc.JdbcParameter;
+import org.mybatis.dynamic.sql.util.jdbc.JdbcStatement;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.support.JdbcUtils;
+
+/**
+ * A prepared statement creator for statements rendered with {@link RenderingStrategies#JDBC}. Statements rendered
+ * with that strategy already contain plain <code>?</code> placeholders, and the rendered statement carries the
+ * parameter of every placeholder in order, so the SQL is not parsed by {@code NamedParameterUtils} - the parameter
+ * values are bound directly by position.
+ *
+ * <p>The {@link StatementHints} of select statements are applied to the prepared statement.
+ *
+ * @since 2.1.0
+ */
+public class PositionalStatementCreator implements PreparedStatementCreator, PreparedStatementSetter, SqlProvider {
+    private final String sql;
+    private final List<JdbcParameter> parameters;
+    private final StatementHints statementHints;
+
+    private PositionalStatementCreator(JdbcStatement statement) {
+        sql = statement.getSql();
+        parameters = statement.getParameters();
+        statementHints = statement.getStatementHints();
+    }
+
+    @Override
+    public PreparedStatement createPreparedStatement(Connection connection) throws SQLException {
+        PreparedStatement ps = statementHints.isForwardOnly()
+                ? connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)
+                : connection.prepareStatement(sql);
+        try {
+            setValues(ps);
+            statementHints.applyTo(ps);
+        } catch (SQLException | RuntimeException e) {
+            JdbcUtils.closeStatement(ps);
+            throw e;
+        }
+        return ps;
+    }
+
+    @Override
+    public void setValues(PreparedStatement ps) throws SQLException {
+        int index = 1;
+        for (JdbcParameter parameter : parameters) {
+            parameter.bindTo(ps, index++);
+        }
+    }
+
+    @Override
+    public String getSql() {
+        return sql;
+    }
+
+    public List<JdbcParameter> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Create a statement creator that applies the hints of the select statement.
+     *
+     * @param selectStatement a select statement rendered with {@link RenderingStrategies#JDBC}
+     * @return the statement creator
+     */
+    public static PositionalStatementCreator of(SelectStatementProvider selectStatement) {
+        return of(JdbcStatement.of(selectStatement));
+    }
+
+    public static PositionalStatementCreator of(UpdateStatementProvider updateStatement) {
+        return of(JdbcStatement.of(updateStatement));
+    }
+
+    public static PositionalStatementCreator of(DeleteStatementProvider deleteStatement) {
+        return of(JdbcStatement.of(deleteStatement));
+    }
+
+    public static PositionalStatementCreator of(GeneralInsertStatementProvider insertStatement) {
+        return of(JdbcStatement.of(insertStatement));
+    }
+
+    public static PositionalStatementCreator of(InsertStatementProvider<?> insertStatement) {
+        return of(JdbcStatement.of(insertStatement));
+    }
+
+    /**
+     * Create a statement creator that applies the hints of the statement.
+     *
+     * @param statement a statement for direct JDBC execution
+     * @return the statement creator
+     */
+    public static PositionalStatementCreator of(JdbcStatement statement) {
+        return new PositionalStatementCreator(statement);
+    }
+}
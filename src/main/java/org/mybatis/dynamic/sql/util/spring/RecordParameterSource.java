@@ -0,0 +1,167 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.util.PropertyReader;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.AbstractSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+
+/**
+ * A lightweight parameter source for record based insert statements.
+ *
+ * <p>The library renders record based inserts with bindings of the form <code>:row.propertyName</code> (single
+ * row and batch inserts) or <code>:records[n].propertyName</code> (multi-row inserts). This parameter source
+ * resolves those bindings with precompiled, cached {@link PropertyReader}s rather than creating a reflective bean
+ * wrapper for every row. Any binding it does not recognize is delegated to a {@link BeanPropertySqlParameterSource}
+ * so the behavior is the same for custom rendering strategies.
+ *
+ * @since 2.1.0
+ */
+public class RecordParameterSource extends AbstractSqlParameterSource {
+    private static final String ROW = "row"; //$NON-NLS-1$
+    private static final String ROW_PREFIX = "row."; //$NON-NLS-1$
+    private static final String RECORDS_PREFIX = "records["; //$NON-NLS-1$
+
+    private final @Nullable Object row;
+    private final List<?> records;
+    private final Object fallbackBean;
+    private @Nullable BeanPropertySqlParameterSource fallback;
+
+    private RecordParameterSource(@Nullable Object row, List<?> records, Object fallbackBean) {
+        this.row = row;
+        this.records = records;
+        this.fallbackBean = fallbackBean;
+    }
+
+    @Override
+    public boolean hasValue(String paramName) {
+        return resolve(paramName) != null || fallback().hasValue(paramName);
+    }
+
+    @Override
+    public @Nullable Object getValue(String paramName) {
+        Binding binding = resolve(paramName);
+        if (binding == null) {
+            return fallback().getValue(paramName);
+        }
+        return binding.value();
+    }
+
+    @Override
+    public int getSqlType(String paramName) {
+        int sqlType = super.getSqlType(paramName);
+        if (sqlType != TYPE_UNKNOWN) {
+            return sqlType;
+        }
+
+        Binding binding = resolve(paramName);
+        if (binding == null) {
+            return fallback().getSqlType(paramName);
+        }
+
+        // a whole row binding has no declared type, so let Spring infer the type from the value
+        PropertyReader reader = binding.reader();
+        return reader == null ? TYPE_UNKNOWN : StatementCreatorUtils.javaTypeToSqlParameterType(reader.propertyType());
+    }
+
+    private @Nullable Binding resolve(String paramName) {
+        if (paramName.equals(ROW)) {
+            return row == null ? null : new Binding(row, null);
+        } else if (paramName.startsWith(ROW_PREFIX)) {
+            return resolve(row, paramName.substring(ROW_PREFIX.length()));
+        } else if (paramName.startsWith(RECORDS_PREFIX)) {
+            return resolveRecord(paramName);
+        } else {
+            return null;
+        }
+    }
+
+    private @Nullable Binding resolveRecord(String paramName) {
+        int close = paramName.indexOf(']', RECORDS_PREFIX.length());
+        if (close < 0) {
+            return null;
+        }
+
+        int index;
+        try {
+            index = Integer.parseInt(paramName.substring(RECORDS_PREFIX.length(), close));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        if (index < 0 || index >= records.size()) {
+            return null;
+        }
+
+        Object rowRecord = records.get(index);
+        if (close == paramName.length() - 1) {
+            return rowRecord == null ? null : new Binding(rowRecord, null);
+        } else if (paramName.charAt(close + 1) == '.') {
+            return resolve(rowRecord, paramName.substring(close + 2));
+        } else {
+            return null;
+        }
+    }
+
+    private @Nullable Binding resolve(@Nullable Object bean, String propertyPath) {
+        if (bean == null) {
+            return null;
+        }
+
+        return PropertyReader.of(bean.getClass(), propertyPath)
+                .map(reader -> new Binding(bean, reader))
+                .orElse(null);
+    }
+
+    private BeanPropertySqlParameterSource fallback() {
+        if (fallback == null) {
+            fallback = new BeanPropertySqlParameterSource(fallbackBean);
+        }
+        return fallback;
+    }
+
+    /**
+     * Create a parameter source for a single row, with bindings of the form <code>:row.propertyName</code>. This
+     * is appropriate for each row in a batch insert.
+     *
+     * @param row the row to insert
+     * @return the parameter source
+     */
+    public static RecordParameterSource forRow(Object row) {
+        return new RecordParameterSource(row, Collections.emptyList(), new BatchInsertUtility.RowHolder<>(row));
+    }
+
+    public static RecordParameterSource forStatement(InsertStatementProvider<?> insertStatement) {
+        return new RecordParameterSource(insertStatement.getRow(), Collections.emptyList(), insertStatement);
+    }
+
+    public static RecordParameterSource forStatement(MultiRowInsertStatementProvider<?> insertStatement) {
+        return new RecordParameterSource(null, insertStatement.getRecords(), insertStatement);
+    }
+
+    private record Binding(Object bean, @Nullable PropertyReader reader) {
+        @Nullable Object value() {
+            return reader == null ? bean : reader.read(bean);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.configuration.StatementHints;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * A prepared statement creator for select statements rendered for Spring. This allows statement settings such as
+ * the fetch size to be set for an individual statement, rather than for every statement executed by a template.
+ * The {@link StatementHints} of the select statement are applied to the prepared statement.
+ *
+ * <p>Note that settings configured on a {@code JdbcTemplate} (fetch size, max rows, query timeout) are applied
+ * after the statement is created, so they take precedence over the statement hints.
+ *
+ * @since 2.1.0
+ */
+public class SelectStatementCreator implements PreparedStatementCreator, ParameterDisposer, SqlProvider {
+    /** Fetch size value that leaves the driver default in place. */
+    public static final int DEFAULT_FETCH_SIZE = -1;
+
+    private final String sql;
+    private final PreparedStatementCreator delegate;
+    private final StatementHints statementHints;
+
+    private SelectStatementCreator(SelectStatementProvider selectStatement, StatementHints statementHints) {
+        SqlParameterSource parameterSource = new MapSqlParameterSource(selectStatement.getParameters());
+        ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(selectStatement.getSelectStatement());
+        List<SqlParameter> declaredParameters = NamedParameterUtils.buildSqlParameterList(parsedSql, parameterSource);
+        sql = NamedParameterUtils.substituteNamedParameters(parsedSql, parameterSource);
+        PreparedStatementCreatorFactory factory = new PreparedStatementCreatorFactory(sql, declaredParameters);
+        if (statementHints.isForwardOnly()) {
+            factory.setResultSetType(ResultSet.TYPE_FORWARD_ONLY);
+            factory.setUpdatableResults(false);
+        }
+        delegate = factory.newPreparedStatementCreator(
+                NamedParameterUtils.buildValueArray(parsedSql, parameterSource, null));
+        this.statementHints = statementHints;
+    }
+
+    @Override
+    public PreparedStatement createPreparedStatement(Connection connection) throws SQLException {
+        PreparedStatement ps = delegate.createPreparedStatement(connection);
+        statementHints.applyTo(ps);
+        return ps;
+    }
+
+    @Override
+    public void cleanupParameters() {
+        if (delegate instanceof ParameterDisposer parameterDisposer) {
+            parameterDisposer.cleanupParameters();
+        }
+    }
+
+    @Override
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Create a statement creator that applies the hints of the select statement.
+     *
+     * @param selectStatement a select statement rendered for Spring
+     * @return the statement creator
+     */
+    public static SelectStatementCreator of(SelectStatementProvider selectStatement) {
+        return new SelectStatementCreator(selectStatement, selectStatement.getStatementHints());
+    }
+
+    /**
+     * Create a statement creator with a fetch size. The fetch size overrides any fetch size hint in the select
+     * statement.
+     *
+     * @param selectStatement a select statement rendered for Spring
+     * @param fetchSize the JDBC fetch size. Use {@link #DEFAULT_FETCH_SIZE} for the fetch size hint of the
+     *     statement, or the driver default if there is no hint. Some drivers have special values - for example,
+     *     MySQL streams rows one at a time if the fetch size is {@link Integer#MIN_VALUE}
+     * @return the statement creator
+     */
+    public static SelectStatementCreator of(SelectStatementProvider selectStatement, int fetchSize) {
+        StatementHints statementHints = selectStatement.getStatementHints();
+        if (fetchSize != DEFAULT_FETCH_SIZE) {
+            statementHints = statementHints.withFetchSize(fetchSize);
+        }
+        return new SelectStatementCreator(selectStatement, statementHints);
+    }
+}
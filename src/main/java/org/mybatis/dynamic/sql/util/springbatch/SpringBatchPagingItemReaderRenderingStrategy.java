@@ -15,9 +15,8 @@
  */
 package org.mybatis.dynamic.sql.util.springbatch;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 import org.mybatis.dynamic.sql.render.MyBatis3RenderingStrategy;
+import org.mybatis.dynamic.sql.render.ParameterSequence;
 
 /**
  * This rendering strategy should be used for MyBatis3 statements using the
@@ -34,17 +33,17 @@ public class SpringBatchPagingItemReaderRenderingStrategy extends MyBatis3Render
     }
 
     @Override
-    public String formatParameterMapKeyForFetchFirstRows(AtomicInteger sequence) {
+    public String formatParameterMapKeyForFetchFirstRows(ParameterSequence sequence) {
         return "_pagesize"; //$NON-NLS-1$
     }
 
     @Override
-    public String formatParameterMapKeyForLimit(AtomicInteger sequence) {
+    public String formatParameterMapKeyForLimit(ParameterSequence sequence) {
         return "_pagesize"; //$NON-NLS-1$
     }
 
     @Override
-    public String formatParameterMapKeyForOffset(AtomicInteger sequence) {
+    public String formatParameterMapKeyForOffset(ParameterSequence sequence) {
         return "_skiprows"; //$NON-NLS-1$
     }
 }
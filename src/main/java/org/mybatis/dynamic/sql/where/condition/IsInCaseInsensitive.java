@@ -18,6 +18,7 @@ package org.mybatis.dynamic.sql.where.condition;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -52,6 +53,11 @@ public class IsInCaseInsensitive<T> extends AbstractListValueCondition<T>
         return "in"; //$NON-NLS-1$
     }
 
+    @Override
+    protected Optional<String> inListConnector() {
+        return Optional.of("or"); //$NON-NLS-1$
+    }
+
     @Override
     public IsInCaseInsensitive<T> filter(Predicate<? super T> predicate) {
         return filterSupport(predicate, IsInCaseInsensitive::new, this, IsInCaseInsensitive::empty);
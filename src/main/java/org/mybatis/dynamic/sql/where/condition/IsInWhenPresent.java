@@ -18,6 +18,7 @@ package org.mybatis.dynamic.sql.where.condition;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -44,6 +45,11 @@ public class IsInWhenPresent<T> extends AbstractListValueCondition<T>
         return "in"; //$NON-NLS-1$
     }
 
+    @Override
+    protected Optional<String> inListConnector() {
+        return Optional.of("or"); //$NON-NLS-1$
+    }
+
     @Override
     public IsInWhenPresent<T> filter(Predicate<? super T> predicate) {
         return filterSupport(predicate, IsInWhenPresent::new, this, IsInWhenPresent::empty);
@@ -18,6 +18,7 @@ package org.mybatis.dynamic.sql.where.condition;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -50,6 +51,11 @@ public class IsNotIn<T> extends AbstractListValueCondition<T>
         return "not in"; //$NON-NLS-1$
     }
 
+    @Override
+    protected Optional<String> inListConnector() {
+        return Optional.of("and"); //$NON-NLS-1$
+    }
+
     @Override
     public IsNotIn<T> filter(Predicate<? super T> predicate) {
         return filterSupport(predicate, IsNotIn::new, this, IsNotIn::empty);
@@ -18,6 +18,7 @@ package org.mybatis.dynamic.sql.where.condition;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -44,6 +45,11 @@ public class IsNotInWhenPresent<T> extends AbstractListValueCondition<T>
         return "not in"; //$NON-NLS-1$
     }
 
+    @Override
+    protected Optional<String> inListConnector() {
+        return Optional.of("and"); //$NON-NLS-1$
+    }
+
     @Override
     public IsNotInWhenPresent<T> filter(Predicate<? super T> predicate) {
         return filterSupport(predicate, IsNotInWhenPresent::new, this, IsNotInWhenPresent::empty);
@@ -37,6 +37,11 @@ public class ColumnAndConditionRenderer<T> {
     }
 
     public FragmentAndParameters render() {
+        return condition.renderColumnAndCondition(renderingContext, column)
+                .orElseGet(this::renderColumnAndCondition);
+    }
+
+    private FragmentAndParameters renderColumnAndCondition() {
         FragmentCollector fc = new FragmentCollector();
         fc.add(condition.renderLeftColumn(renderingContext, column));
         fc.add(condition.renderCondition(renderingContext, column));
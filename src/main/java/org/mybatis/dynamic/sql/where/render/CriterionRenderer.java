@@ -111,7 +111,7 @@ public class CriterionRenderer implements SqlCriterionVisitor<Optional<RenderedC
         if (criterion.condition().shouldRender(renderingContext)) {
             return Optional.of(renderCondition(criterion));
         } else {
-            criterion.condition().renderingSkipped();
+            renderingContext.renderingSkipped(criterion.condition());
             return Optional.empty();
         }
     }
@@ -0,0 +1,160 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.render;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.AbstractArrayValueCondition;
+import org.mybatis.dynamic.sql.AbstractColumnComparisonCondition;
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.AbstractNoValueCondition;
+import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.ExistsCriterion;
+import org.mybatis.dynamic.sql.NotCriterion;
+import org.mybatis.dynamic.sql.NullCriterion;
+import org.mybatis.dynamic.sql.RenderableCondition;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.common.AbstractBooleanExpressionModel;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.StatementShape;
+import org.mybatis.dynamic.sql.where.condition.IsEqualTo;
+
+/**
+ * Adds the shape of a where clause, having clause, or join specification to a {@link StatementShape}. The visitor
+ * mirrors {@link CriterionRenderer} and returns false if it finds a criterion that cannot be captured in a shape -
+ * exists criteria, sub queries, functions, or conditions that are not supplied by this library.
+ *
+ * @since 2.1.0
+ */
+public class CriterionShapeCalculator implements SqlCriterionVisitor<Boolean> {
+    private static final String STANDARD_CONDITION_PACKAGE = IsEqualTo.class.getPackageName();
+
+    private final StatementShape.Builder shapeBuilder;
+    private final RenderingContext renderingContext;
+    private final Map<SqlTable, String> tableAliases;
+
+    public CriterionShapeCalculator(StatementShape.Builder shapeBuilder, RenderingContext renderingContext,
+                                    Map<SqlTable, String> tableAliases) {
+        this.shapeBuilder = Objects.requireNonNull(shapeBuilder);
+        this.renderingContext = Objects.requireNonNull(renderingContext);
+        this.tableAliases = Objects.requireNonNull(tableAliases);
+    }
+
+    public boolean calculate(AbstractBooleanExpressionModel model) {
+        return calculate(model.initialCriterion(), model.subCriteria());
+    }
+
+    @Override
+    public <T> Boolean visit(ColumnAndConditionCriterion<T> criterion) {
+        shapeBuilder.withElement(ColumnAndConditionCriterion.class);
+        return calculateColumnAndCondition(criterion.column(), criterion.condition())
+                && calculateSubCriteria(criterion.subCriteria());
+    }
+
+    @Override
+    public Boolean visit(ExistsCriterion criterion) {
+        return false;
+    }
+
+    @Override
+    public Boolean visit(CriteriaGroup criterion) {
+        shapeBuilder.withElement(CriteriaGroup.class);
+        return calculate(criterion.initialCriterion(), criterion.subCriteria());
+    }
+
+    @Override
+    public Boolean visit(NotCriterion criterion) {
+        shapeBuilder.withElement(NotCriterion.class);
+        return calculate(criterion.initialCriterion(), criterion.subCriteria());
+    }
+
+    @Override
+    public Boolean visit(NullCriterion criterion) {
+        shapeBuilder.withElement(NullCriterion.class);
+        return true;
+    }
+
+    private boolean calculate(SqlCriterion initialCriterion, List<AndOrCriteriaGroup> subCriteria) {
+        return initialCriterion.accept(this) && calculateSubCriteria(subCriteria);
+    }
+
+    private boolean calculateSubCriteria(List<AndOrCriteriaGroup> subCriteria) {
+        shapeBuilder.withElement(subCriteria.size());
+        for (AndOrCriteriaGroup subCriterion : subCriteria) {
+            shapeBuilder.withElement(subCriterion.connector());
+            if (!calculate(subCriterion.initialCriterion(), subCriterion.subCriteria())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private <T> boolean calculateColumnAndCondition(BindableColumn<T> column, RenderableCondition<T> condition) {
+        if (!condition.getClass().getPackageName().equals(STANDARD_CONDITION_PACKAGE)) {
+            return false;
+        }
+
+        if (!condition.shouldRender(renderingContext)) {
+            shapeBuilder.withElement(Boolean.FALSE).withSkippedCondition(condition);
+            return true;
+        }
+
+        shapeBuilder.withElement(Boolean.TRUE).withElement(condition.getClass());
+        return shapeBuilder.withColumn(column, tableAliases) && calculateCondition(column, condition);
+    }
+
+    private <T> boolean calculateCondition(BindableColumn<T> column, RenderableCondition<T> condition) {
+        if (condition instanceof AbstractNoValueCondition) {
+            return true;
+        } else if (condition instanceof AbstractSingleValueCondition<T> singleValueCondition) {
+            shapeBuilder.withParameterValue(column.convertParameterType(singleValueCondition.value()));
+            return true;
+        } else if (condition instanceof AbstractTwoValueCondition<T> twoValueCondition) {
+            shapeBuilder.withParameterValue(column.convertParameterType(twoValueCondition.value1()))
+                    .withParameterValue(column.convertParameterType(twoValueCondition.value2()));
+            return true;
+        } else if (condition instanceof AbstractArrayValueCondition<T> arrayValueCondition) {
+            // the element type name is part of the rendered SQL when the column has no JDBC type
+            Object[] array = arrayValueCondition.arrayValue(column);
+            String elementTypeName = AbstractArrayValueCondition.elementTypeName(column.jdbcType().orElse(null),
+                    array.getClass().getComponentType());
+            shapeBuilder.withElement(elementTypeName)
+                    .withParameterValue(renderingContext.arrayParameterValue(column, elementTypeName, array));
+            return true;
+        } else if (condition instanceof AbstractListValueCondition<T> listValueCondition) {
+            List<List<T>> valueLists = listValueCondition.valueLists(renderingContext.inListStrategy());
+            shapeBuilder.withElement(valueLists.size());
+            for (List<T> values : valueLists) {
+                shapeBuilder.withElement(values.size());
+                values.forEach(v -> shapeBuilder.withParameterValue(column.convertParameterType(v)));
+            }
+            return true;
+        } else if (condition instanceof AbstractColumnComparisonCondition<T> columnComparisonCondition) {
+            return shapeBuilder.withColumn(columnComparisonCondition.rightColumn(), tableAliases);
+        } else {
+            return false;
+        }
+    }
+}
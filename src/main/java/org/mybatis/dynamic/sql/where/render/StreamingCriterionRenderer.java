@@ -0,0 +1,233 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.render;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.ExistsCriterion;
+import org.mybatis.dynamic.sql.ExistsPredicate;
+import org.mybatis.dynamic.sql.NotCriterion;
+import org.mybatis.dynamic.sql.NullCriterion;
+import org.mybatis.dynamic.sql.RenderableCondition;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.select.render.SubQueryRenderer;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+
+/**
+ * Renders a where clause, having clause, or join specification into a single buffer. This renderer produces
+ * exactly the same SQL as {@link CriterionRenderer}, but it does not create an intermediate fragment for every
+ * criterion and group. Instead, each criterion is appended to one {@link StringBuilder} and every parameter is added
+ * to one parameter map.
+ *
+ * <p>The visitor returns true if the criterion rendered anything. The opening parenthesis of a group is written
+ * before the group is rendered. Once the number of rendered fragments in the group is known, an empty group is
+ * truncated from the buffer, and the parenthesis of a group with a single fragment is marked as removed. Removed
+ * characters are skipped when the clause is copied out of the buffer, so the buffer is never shifted.
+ *
+ * <p>This class is stateful. A new instance should be created for each clause.
+ *
+ * @since 2.1.0
+ */
+public class StreamingCriterionRenderer implements SqlCriterionVisitor<Boolean> {
+    private final RenderingContext renderingContext;
+    private final StringBuilder buffer = new StringBuilder(128);
+    private final BitSet removed = new BitSet();
+    private final FragmentAndParameters.Builder parameters = new FragmentAndParameters.Builder();
+
+    public StreamingCriterionRenderer(RenderingContext renderingContext) {
+        this.renderingContext = Objects.requireNonNull(renderingContext);
+    }
+
+    /**
+     * Render a complete clause.
+     *
+     * @param initialCriterion the first criterion in the clause
+     * @param subCriteria any additional criteria in the clause
+     * @param prefix the prefix for the clause - "where", "having", or "on" for example
+     * @return the rendered clause, or empty if no criterion rendered
+     */
+    public Optional<FragmentAndParameters> render(SqlCriterion initialCriterion,
+                                                  List<AndOrCriteriaGroup> subCriteria, String prefix) {
+        buffer.append(prefix).append(' ');
+        int start = buffer.length();
+        int fragmentCount = renderFragments(initialCriterion.accept(this), subCriteria);
+        if (fragmentCount == 0) {
+            return Optional.empty();
+        }
+
+        if (fragmentCount == 1) {
+            stripEnclosingParenthesesIfPresent(start);
+        }
+
+        return parameters.withFragment(compact()).buildOptional();
+    }
+
+    @Override
+    public <T> Boolean visit(ColumnAndConditionCriterion<T> criterion) {
+        int start = openGroup();
+        boolean rendered = renderColumnAndCondition(criterion.column(), criterion.condition());
+        return closeGroup(start, renderFragments(rendered, criterion.subCriteria()));
+    }
+
+    @Override
+    public Boolean visit(ExistsCriterion criterion) {
+        int start = openGroup();
+        renderExists(criterion.existsPredicate());
+        return closeGroup(start, renderFragments(true, criterion.subCriteria()));
+    }
+
+    @Override
+    public Boolean visit(CriteriaGroup criterion) {
+        return renderGroup(criterion.initialCriterion(), criterion.subCriteria());
+    }
+
+    @Override
+    public Boolean visit(NotCriterion criterion) {
+        int start = buffer.length();
+        buffer.append("not "); //$NON-NLS-1$
+        int groupStart = openGroup();
+        int fragmentCount = renderFragments(criterion.initialCriterion().accept(this), criterion.subCriteria());
+        if (fragmentCount == 0) {
+            truncate(start);
+            return false;
+        }
+        return closeGroup(groupStart, fragmentCount);
+    }
+
+    @Override
+    public Boolean visit(NullCriterion criterion) {
+        return false;
+    }
+
+    private boolean renderGroup(SqlCriterion initialCriterion, List<AndOrCriteriaGroup> subCriteria) {
+        int start = openGroup();
+        return closeGroup(start, renderFragments(initialCriterion.accept(this), subCriteria));
+    }
+
+    /**
+     * Render sub criteria after an initial criterion that has already been written to the buffer. The connector
+     * of a sub criterion is written only if a fragment precedes it, and is removed again if the sub criterion
+     * does not render.
+     *
+     * @param initialRendered whether the initial criterion rendered
+     * @param subCriteria the sub criteria to render
+     * @return the total number of fragments rendered, including the initial criterion
+     */
+    private int renderFragments(boolean initialRendered, List<AndOrCriteriaGroup> subCriteria) {
+        int fragmentCount = initialRendered ? 1 : 0;
+        for (AndOrCriteriaGroup subCriterion : subCriteria) {
+            int mark = buffer.length();
+            if (fragmentCount > 0) {
+                buffer.append(' ').append(subCriterion.connector()).append(' ');
+            }
+
+            if (renderGroup(subCriterion.initialCriterion(), subCriterion.subCriteria())) {
+                fragmentCount++;
+            } else {
+                truncate(mark);
+            }
+        }
+        return fragmentCount;
+    }
+
+    private int openGroup() {
+        int start = buffer.length();
+        buffer.append('(');
+        return start;
+    }
+
+    private boolean closeGroup(int start, int fragmentCount) {
+        if (fragmentCount == 0) {
+            truncate(start);
+        } else if (fragmentCount == 1) {
+            removed.set(start);
+        } else {
+            buffer.append(')');
+        }
+        return fragmentCount > 0;
+    }
+
+    private void truncate(int length) {
+        buffer.setLength(length);
+        removed.clear(length, Math.max(length, removed.length()));
+    }
+
+    private String compact() {
+        if (removed.isEmpty()) {
+            return buffer.toString();
+        }
+
+        StringBuilder sb = new StringBuilder(buffer.length() - removed.cardinality());
+        int from = 0;
+        for (int i = removed.nextSetBit(0); i >= 0; i = removed.nextSetBit(i + 1)) {
+            sb.append(buffer, from, i);
+            from = i + 1;
+        }
+        return sb.append(buffer, from, buffer.length()).toString();
+    }
+
+    private <T> boolean renderColumnAndCondition(BindableColumn<T> column, RenderableCondition<T> condition) {
+        if (!condition.shouldRender(renderingContext)) {
+            renderingContext.renderingSkipped(condition);
+            return false;
+        }
+
+        Optional<FragmentAndParameters> columnAndCondition =
+                condition.renderColumnAndCondition(renderingContext, column);
+        if (columnAndCondition.isPresent()) {
+            append(columnAndCondition.get());
+        } else {
+            append(condition.renderLeftColumn(renderingContext, column));
+            buffer.append(' ');
+            append(condition.renderCondition(renderingContext, column));
+        }
+        return true;
+    }
+
+    private void renderExists(ExistsPredicate existsPredicate) {
+        append(SubQueryRenderer.withSelectModel(existsPredicate.selectModelBuilder().build())
+                .withRenderingContext(renderingContext)
+                .withPrefix(existsPredicate.operator() + " (") //$NON-NLS-1$
+                .withSuffix(")") //$NON-NLS-1$
+                .build()
+                .render());
+    }
+
+    private void append(FragmentAndParameters fragmentAndParameters) {
+        buffer.append(fragmentAndParameters.fragment());
+        parameters.withParameters(fragmentAndParameters.parameters());
+    }
+
+    private void stripEnclosingParenthesesIfPresent(int start) {
+        // The fragment will have surrounding open/close parentheses if there is more than one rendered condition.
+        // Since there is only a single fragment, we don't need these in the final rendered clause
+        int first = removed.nextClearBit(start);
+        int last = buffer.length() - 1;
+        if (last > first && buffer.charAt(first) == '(' && buffer.charAt(last) == ')') {
+            buffer.setLength(last);
+            removed.set(first);
+        }
+    }
+}
@@ -366,6 +366,11 @@ open class GroupingCriteriaCollector : SubCriteriaCollector() {
     infix fun <T : Any> BindableColumn<T>.isInWhenPresent(values: Collection<T?>?) =
         invoke(org.mybatis.dynamic.sql.util.kotlin.elements.isInWhenPresent(values))
 
+    fun <T : Any> BindableColumn<T>.isInArray(vararg values: T) = isInArray(values.asList())
+
+    infix fun <T : Any> BindableColumn<T>.isInArray(values: Collection<T>) =
+        invoke(org.mybatis.dynamic.sql.util.kotlin.elements.isInArray(values))
+
     fun <T : Any> BindableColumn<T>.isNotIn(vararg values: T) = isNotIn(values.asList())
 
     infix fun <T : Any> BindableColumn<T>.isNotIn(values: Collection<T>) =
@@ -379,6 +384,11 @@ open class GroupingCriteriaCollector : SubCriteriaCollector() {
     infix fun <T : Any> BindableColumn<T>.isNotInWhenPresent(values: Collection<T?>?) =
         invoke(org.mybatis.dynamic.sql.util.kotlin.elements.isNotInWhenPresent(values))
 
+    fun <T : Any> BindableColumn<T>.isNotInArray(vararg values: T) = isNotInArray(values.asList())
+
+    infix fun <T : Any> BindableColumn<T>.isNotInArray(values: Collection<T>) =
+        invoke(org.mybatis.dynamic.sql.util.kotlin.elements.isNotInArray(values))
+
     infix fun <T : Any> BindableColumn<T>.isBetween(value1: T) =
         SecondValueCollector<T> {
             invoke(org.mybatis.dynamic.sql.util.kotlin.elements.isBetween(value1).and(it))
@@ -19,6 +19,7 @@ import org.mybatis.dynamic.sql.BasicColumn
 import org.mybatis.dynamic.sql.SortSpecification
 import org.mybatis.dynamic.sql.SqlTable
 import org.mybatis.dynamic.sql.dsl.SelectDSL
+import org.mybatis.dynamic.sql.select.KeysetPage
 import org.mybatis.dynamic.sql.select.SelectModel
 import org.mybatis.dynamic.sql.util.Buildable
 
@@ -60,6 +61,14 @@ class KotlinSelectBuilder(private val dsl: SelectDSL) :
         dsl.orderBy(columns.toList())
     }
 
+    /**
+     * Select a page with keyset pagination. This sets the order by and limit clauses, and adds the seek predicate
+     * of the page to the where clause. If there is a where clause, it must be specified before this function is called.
+     */
+    fun seek(page: KeysetPage) {
+        dsl.seek(page)
+    }
+
     override fun limitWhenPresent(limit: Long?) {
         dsl.limitWhenPresent(limit)
     }
@@ -21,6 +21,7 @@ import org.mybatis.dynamic.sql.BasicColumn
 import org.mybatis.dynamic.sql.BindableColumn
 import org.mybatis.dynamic.sql.BoundValue
 import org.mybatis.dynamic.sql.Constant
+import org.mybatis.dynamic.sql.NamedParameter
 import org.mybatis.dynamic.sql.RenderableCondition
 import org.mybatis.dynamic.sql.SortSpecification
 import org.mybatis.dynamic.sql.SqlBuilder
@@ -66,6 +67,7 @@ import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualToWithSubsele
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanWhenPresent
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsIn
+import org.mybatis.dynamic.sql.where.condition.IsInArray
 import org.mybatis.dynamic.sql.where.condition.IsInCaseInsensitive
 import org.mybatis.dynamic.sql.where.condition.IsInCaseInsensitiveWhenPresent
 import org.mybatis.dynamic.sql.where.condition.IsInWhenPresent
@@ -89,6 +91,7 @@ import org.mybatis.dynamic.sql.where.condition.IsNotEqualToColumn
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualToWhenPresent
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualToWithSubselect
 import org.mybatis.dynamic.sql.where.condition.IsNotIn
+import org.mybatis.dynamic.sql.where.condition.IsNotInArray
 import org.mybatis.dynamic.sql.where.condition.IsNotInCaseInsensitive
 import org.mybatis.dynamic.sql.where.condition.IsNotInCaseInsensitiveWhenPresent
 import org.mybatis.dynamic.sql.where.condition.IsNotInWhenPresent
@@ -164,6 +167,10 @@ fun stringConstant(constant: String): StringConstant = SqlBuilder.stringConstant
 
 fun <T : Any> value(value: T): BoundValue<T> = SqlBuilder.value(value)
 
+fun <T : Any> param(name: String): NamedParameter<T> = SqlBuilder.param(name)
+
+fun <T : Any> param(name: String, typeColumn: BindableColumn<T>): NamedParameter<T> = SqlBuilder.param(name, typeColumn)
+
 // functions
 fun <T : Any> add(
     firstColumn: BindableColumn<T>,
@@ -295,6 +302,10 @@ fun <T : Any> isInWhenPresent(vararg values: T?): IsInWhenPresent<T> = isInWhenP
 
 fun <T : Any> isInWhenPresent(values: Collection<T?>?): IsInWhenPresent<T> = SqlBuilder.isInWhenPresent(values)
 
+fun <T : Any> isInArray(vararg values: T): IsInArray<T> = isInArray(values.asList())
+
+fun <T : Any> isInArray(values: Collection<T>): IsInArray<T> = SqlBuilder.isInArray(values)
+
 fun <T : Any> isNotIn(vararg values: T): IsNotIn<T> = isNotIn(values.asList())
 
 fun <T : Any> isNotIn(values: Collection<T>): IsNotIn<T> = SqlBuilder.isNotIn(values)
@@ -306,6 +317,10 @@ fun <T : Any> isNotInWhenPresent(vararg values: T?): IsNotInWhenPresent<T> = isN
 
 fun <T : Any> isNotInWhenPresent(values: Collection<T?>?): IsNotInWhenPresent<T> = SqlBuilder.isNotInWhenPresent(values)
 
+fun <T : Any> isNotInArray(vararg values: T): IsNotInArray<T> = isNotInArray(values.asList())
+
+fun <T : Any> isNotInArray(values: Collection<T>): IsNotInArray<T> = SqlBuilder.isNotInArray(values)
+
 fun <T : Any> isBetween(value1: T): BetweenBuilder<T> = BetweenBuilder(value1)
 
 fun <T : Any> isBetweenWhenPresent(value1: T?): BetweenWhenPresentBuilder<T> = BetweenWhenPresentBuilder(value1)
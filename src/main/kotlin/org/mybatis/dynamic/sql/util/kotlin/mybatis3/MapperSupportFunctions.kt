@@ -16,6 +16,7 @@
 @file:Suppress("TooManyFunctions")
 package org.mybatis.dynamic.sql.util.kotlin.mybatis3
 
+import org.apache.ibatis.cursor.Cursor
 import org.mybatis.dynamic.sql.BasicColumn
 import org.mybatis.dynamic.sql.SqlTable
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider
@@ -133,6 +134,24 @@ fun insertSelect(
         run(completer)
     }.run(mapper)
 
+fun <T> selectCursor(
+    mapper: (SelectStatementProvider) -> Cursor<T>,
+    selectList: List<BasicColumn>,
+    table: SqlTable,
+    completer: SelectCompleter
+): Cursor<T> =
+    select(selectList) {
+        from(table)
+        run(completer)
+    }.run(mapper)
+
+/**
+ * Process the rows of a cursor as a sequence. Rows are read as the sequence is consumed, and the cursor is closed
+ * when the block returns.
+ */
+fun <T, R> Cursor<T>.useSequence(block: (Sequence<T>) -> R): R =
+    use { block(it.asSequence()) }
+
 fun <T> selectDistinct(
     mapper: (SelectStatementProvider) -> List<T>,
     selectList: List<BasicColumn>,
@@ -24,6 +24,7 @@ import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider
 import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider
+import org.mybatis.dynamic.sql.render.RenderingStrategies
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider
 import org.mybatis.dynamic.sql.util.kotlin.CountCompleter
@@ -37,17 +38,23 @@ import org.mybatis.dynamic.sql.util.kotlin.MyBatisDslMarker
 import org.mybatis.dynamic.sql.util.kotlin.SelectCompleter
 import org.mybatis.dynamic.sql.util.kotlin.UpdateCompleter
 import org.mybatis.dynamic.sql.util.spring.BatchInsertUtility
+import org.mybatis.dynamic.sql.util.spring.PositionalStatementCreator
+import org.mybatis.dynamic.sql.util.spring.RecordParameterSource
+import org.mybatis.dynamic.sql.util.spring.SelectStatementCreator
 import org.springframework.dao.EmptyResultDataAccessException
+import org.springframework.dao.support.DataAccessUtils
 import org.springframework.jdbc.core.RowMapper
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource
+import org.springframework.jdbc.core.SingleColumnRowMapper
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate
 import org.springframework.jdbc.support.KeyHolder
 import java.sql.ResultSet
+import java.util.stream.Stream
 import kotlin.reflect.KClass
+import kotlin.streams.asSequence
 
 fun NamedParameterJdbcTemplate.count(selectStatement: SelectStatementProvider): Long =
-    queryForObject(selectStatement.selectStatement, selectStatement.parameters, Long::class.java)!!
+    queryForObject(selectStatement, SingleColumnRowMapper.newInstance(Long::class.java))!!
 
 fun NamedParameterJdbcTemplate.count(column: BasicColumn, completer: CountCompleter): Long =
     count(org.mybatis.dynamic.sql.util.kotlin.spring.count(column, completer))
@@ -82,13 +89,13 @@ fun <T : Any> NamedParameterJdbcTemplate.insertBatch(
 
 // single row insert
 fun <T : Any> NamedParameterJdbcTemplate.insert(insertStatement: InsertStatementProvider<T>): Int =
-    update(insertStatement.insertStatement, BeanPropertySqlParameterSource(insertStatement))
+    update(insertStatement.insertStatement, RecordParameterSource.forStatement(insertStatement))
 
 fun <T : Any> NamedParameterJdbcTemplate.insert(
     insertStatement: InsertStatementProvider<T>,
     keyHolder: KeyHolder
 ): Int =
-    update(insertStatement.insertStatement, BeanPropertySqlParameterSource(insertStatement), keyHolder)
+    update(insertStatement.insertStatement, RecordParameterSource.forStatement(insertStatement), keyHolder)
 
 fun <T : Any> NamedParameterJdbcTemplate.insert(row: T, completer: KotlinInsertCompleter<T>): Int =
     insert(org.mybatis.dynamic.sql.util.kotlin.spring.insert(row, completer))
@@ -120,13 +127,13 @@ fun <T : Any> NamedParameterJdbcTemplate.insertMultiple(
     insertMultiple(org.mybatis.dynamic.sql.util.kotlin.spring.insertMultiple(records, completer))
 
 fun <T : Any> NamedParameterJdbcTemplate.insertMultiple(insertStatement: MultiRowInsertStatementProvider<T>): Int =
-    update(insertStatement.insertStatement, BeanPropertySqlParameterSource(insertStatement))
+    update(insertStatement.insertStatement, RecordParameterSource.forStatement(insertStatement))
 
 fun <T : Any> NamedParameterJdbcTemplate.insertMultiple(
     insertStatement: MultiRowInsertStatementProvider<T>,
     keyHolder: KeyHolder
 ): Int =
-    update(insertStatement.insertStatement, BeanPropertySqlParameterSource(insertStatement), keyHolder)
+    update(insertStatement.insertStatement, RecordParameterSource.forStatement(insertStatement), keyHolder)
 
 fun NamedParameterJdbcTemplate.insertSelect(completer: InsertSelectCompleter): Int =
     insertSelect(org.mybatis.dynamic.sql.util.kotlin.spring.insertSelect(completer))
@@ -180,13 +187,55 @@ fun <T> NamedParameterJdbcTemplate.selectList(
     selectStatement: SelectStatementProvider,
     rowMapper: RowMapper<T>
 ): List<T> =
-    query(selectStatement.selectStatement, selectStatement.parameters, rowMapper)
+    if (selectStatement.statementHints.isEmpty) {
+        query(selectStatement.selectStatement, selectStatement.parameters, rowMapper)
+    } else {
+        jdbcOperations.query(SelectStatementCreator.of(selectStatement), rowMapper)
+    }
 
 fun <T : Any> NamedParameterJdbcTemplate.selectList(
     selectStatement: SelectStatementProvider,
     type: KClass<T>
 ): List<T?> =
-    queryForList(selectStatement.selectStatement, selectStatement.parameters, type.java)
+    if (selectStatement.statementHints.isEmpty) {
+        queryForList(selectStatement.selectStatement, selectStatement.parameters, type.java)
+    } else {
+        jdbcOperations.query(SelectStatementCreator.of(selectStatement), SingleColumnRowMapper.newInstance(type.java))
+    }
+
+// streaming select - the stream holds an open connection and must be closed
+fun <T> NamedParameterJdbcTemplate.selectStream(
+    selectStatement: SelectStatementProvider,
+    rowMapper: (rs: ResultSet, rowNum: Int) -> T,
+    fetchSize: Int = SelectStatementCreator.DEFAULT_FETCH_SIZE
+): Stream<T> = selectStream(selectStatement, RowMapper(rowMapper), fetchSize)
+
+fun <T> NamedParameterJdbcTemplate.selectStream(
+    selectStatement: SelectStatementProvider,
+    rowMapper: RowMapper<T>,
+    fetchSize: Int = SelectStatementCreator.DEFAULT_FETCH_SIZE
+): Stream<T> =
+    if (fetchSize == SelectStatementCreator.DEFAULT_FETCH_SIZE && selectStatement.statementHints.isEmpty) {
+        queryForStream(selectStatement.selectStatement, selectStatement.parameters, rowMapper)
+    } else {
+        jdbcOperations.queryForStream(SelectStatementCreator.of(selectStatement, fetchSize), rowMapper)
+    }
+
+// streaming select - rows are read as the sequence is consumed, the statement is closed when the block returns
+fun <T, R> NamedParameterJdbcTemplate.selectSequence(
+    selectStatement: SelectStatementProvider,
+    rowMapper: (rs: ResultSet, rowNum: Int) -> T,
+    fetchSize: Int = SelectStatementCreator.DEFAULT_FETCH_SIZE,
+    block: (Sequence<T>) -> R
+): R = selectSequence(selectStatement, RowMapper(rowMapper), fetchSize, block)
+
+fun <T, R> NamedParameterJdbcTemplate.selectSequence(
+    selectStatement: SelectStatementProvider,
+    rowMapper: RowMapper<T>,
+    fetchSize: Int = SelectStatementCreator.DEFAULT_FETCH_SIZE,
+    block: (Sequence<T>) -> R
+): R =
+    selectStream(selectStatement, rowMapper, fetchSize).use { block(it.asSequence()) }
 
 fun NamedParameterJdbcTemplate.selectOne(
     vararg selectList: BasicColumn,
@@ -213,7 +262,7 @@ fun <T> NamedParameterJdbcTemplate.selectOne(
     selectStatement: SelectStatementProvider,
     rowMapper: RowMapper<T>
 ): T? = try {
-    queryForObject(selectStatement.selectStatement, selectStatement.parameters, rowMapper)
+    queryForObject(selectStatement, rowMapper)
 } catch (e: EmptyResultDataAccessException) {
     null
 }
@@ -223,17 +272,94 @@ fun <T : Any> NamedParameterJdbcTemplate.selectOne(
     selectStatement: SelectStatementProvider,
     type: KClass<T>
 ): T? = try {
-    queryForObject(selectStatement.selectStatement, selectStatement.parameters, type.java)
+    queryForObject(selectStatement, SingleColumnRowMapper.newInstance(type.java))
 } catch (e: EmptyResultDataAccessException) {
     null
 }
 
+// statements with hints are executed with a statement creator so the hints can be applied to the JDBC statement
+private fun <T> NamedParameterJdbcTemplate.queryForObject(
+    selectStatement: SelectStatementProvider,
+    rowMapper: RowMapper<T>
+): T? =
+    if (selectStatement.statementHints.isEmpty) {
+        queryForObject(selectStatement.selectStatement, selectStatement.parameters, rowMapper)
+    } else {
+        DataAccessUtils.nullableSingleResult(
+            jdbcOperations.query(SelectStatementCreator.of(selectStatement), rowMapper)
+        )
+    }
+
 fun NamedParameterJdbcTemplate.update(updateStatement: UpdateStatementProvider): Int =
     update(updateStatement.updateStatement, updateStatement.parameters)
 
 fun NamedParameterJdbcTemplate.update(table: SqlTable, completer: UpdateCompleter): Int =
     update(org.mybatis.dynamic.sql.util.kotlin.spring.update(table, completer))
 
+// positional statements - statements rendered with RenderingStrategies.JDBC are bound by position, so the SQL is
+// not parsed again for named parameters
+fun NamedParameterJdbcTemplate.countPositional(selectStatement: SelectStatementProvider): Long =
+    DataAccessUtils.nullableSingleResult(
+        jdbcOperations.query(
+            PositionalStatementCreator.of(selectStatement),
+            SingleColumnRowMapper.newInstance(Long::class.java)
+        )
+    )!!
+
+fun NamedParameterJdbcTemplate.countFromPositional(table: SqlTable, completer: CountCompleter): Long =
+    countPositional(
+        org.mybatis.dynamic.sql.util.kotlin.model.countFrom(table, completer).render(RenderingStrategies.JDBC)
+    )
+
+fun <T> NamedParameterJdbcTemplate.selectListPositional(
+    selectStatement: SelectStatementProvider,
+    rowMapper: (rs: ResultSet, rowNum: Int) -> T
+): List<T> = selectListPositional(selectStatement, RowMapper(rowMapper))
+
+fun <T> NamedParameterJdbcTemplate.selectListPositional(
+    selectStatement: SelectStatementProvider,
+    rowMapper: RowMapper<T>
+): List<T> = jdbcOperations.query(PositionalStatementCreator.of(selectStatement), rowMapper)
+
+fun <T> NamedParameterJdbcTemplate.selectOnePositional(
+    selectStatement: SelectStatementProvider,
+    rowMapper: (rs: ResultSet, rowNum: Int) -> T
+): T? = selectOnePositional(selectStatement, RowMapper(rowMapper))
+
+fun <T> NamedParameterJdbcTemplate.selectOnePositional(
+    selectStatement: SelectStatementProvider,
+    rowMapper: RowMapper<T>
+): T? = jdbcOperations.query(PositionalStatementCreator.of(selectStatement), rowMapper).let {
+    if (it.isEmpty()) null else DataAccessUtils.nullableSingleResult(it)
+}
+
+fun NamedParameterJdbcTemplate.deletePositional(deleteStatement: DeleteStatementProvider): Int =
+    jdbcOperations.update(PositionalStatementCreator.of(deleteStatement))
+
+fun NamedParameterJdbcTemplate.deleteFromPositional(table: SqlTable, completer: DeleteCompleter): Int =
+    deletePositional(
+        org.mybatis.dynamic.sql.util.kotlin.model.deleteFrom(table, completer).render(RenderingStrategies.JDBC)
+    )
+
+fun NamedParameterJdbcTemplate.generalInsertPositional(insertStatement: GeneralInsertStatementProvider): Int =
+    jdbcOperations.update(PositionalStatementCreator.of(insertStatement))
+
+fun NamedParameterJdbcTemplate.insertIntoPositional(table: SqlTable, completer: GeneralInsertCompleter): Int =
+    generalInsertPositional(
+        org.mybatis.dynamic.sql.util.kotlin.model.insertInto(table, completer).render(RenderingStrategies.JDBC)
+    )
+
+fun <T : Any> NamedParameterJdbcTemplate.insertPositional(insertStatement: InsertStatementProvider<T>): Int =
+    jdbcOperations.update(PositionalStatementCreator.of(insertStatement))
+
+fun NamedParameterJdbcTemplate.updatePositional(updateStatement: UpdateStatementProvider): Int =
+    jdbcOperations.update(PositionalStatementCreator.of(updateStatement))
+
+fun NamedParameterJdbcTemplate.updatePositional(table: SqlTable, completer: UpdateCompleter): Int =
+    updatePositional(
+        org.mybatis.dynamic.sql.util.kotlin.model.update(table, completer).render(RenderingStrategies.JDBC)
+    )
+
 // support classes for select DSL
 @MyBatisDslMarker
 class SelectListMapperGatherer(
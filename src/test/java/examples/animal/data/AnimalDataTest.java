@@ -32,6 +32,8 @@ import java.sql.DriverManager;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
 import org.apache.ibatis.jdbc.ScriptRunner;
@@ -48,16 +50,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
 import org.mybatis.dynamic.sql.exception.NonRenderingWhereClauseException;
 import org.mybatis.dynamic.sql.insert.render.BatchInsert;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.SelectDSLCompleter;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 import org.mybatis.dynamic.sql.util.mybatis3.CommonSelectMapper;
 import org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils;
@@ -1711,6 +1716,115 @@ class AnimalDataTest {
         }
     }
 
+    @Test
+    void testBulkUpdate() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+            List<AnimalData> records = List.of(
+                    new AnimalData(1, "Old Shep", 1.2, 22.5),
+                    new AnimalData(2, "Old Dan", 1.2, 23.5)
+            );
+
+            BatchUpdate<AnimalData> batchUpdate = updateBatch(records)
+                    .table(animalData)
+                    .set(animalName).toProperty("animalName")
+                    .set(bodyWeight).toProperty("bodyWeight")
+                    .set(brainWeight).toConstant("1.2")
+                    .where(id).isEqualToProperty("id")
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            batchUpdate.updateStatements().forEach(mapper::update);
+            mapper.flush();
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isIn(1, 2))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+
+            assertAll(
+                    () -> assertThat(animals).hasSize(2),
+                    () -> assertThat(animals).element(0).isNotNull()
+                            .extracting(AnimalData::id, AnimalData::bodyWeight, AnimalData::animalName)
+                            .containsExactly(1, 22.5, "Old Shep"),
+                    () -> assertThat(animals).element(1).isNotNull()
+                            .extracting(AnimalData::id, AnimalData::bodyWeight, AnimalData::animalName)
+                            .containsExactly(2, 23.5, "Old Dan")
+            );
+        }
+    }
+
+    @Test
+    void testBulkDelete() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+            List<AnimalData> records = List.of(
+                    new AnimalData(1, "Lesser short-tailed shrew", 0.14, 0.005),
+                    new AnimalData(2, "Little brown bat", 0.25, 0.01)
+            );
+
+            BatchDelete<AnimalData> batchDelete = deleteBatch(records)
+                    .from(animalData)
+                    .where(id).isEqualToProperty("id")
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            batchDelete.deleteStatements().forEach(mapper::delete);
+            mapper.flush();
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isIn(1, 2, 3))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+
+            assertThat(animals).hasSize(1);
+        }
+    }
+
+    @Test
+    void testStreamingBulkInsert() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+            Stream<AnimalData> records = IntStream.range(100, 105)
+                    .mapToObj(i -> new AnimalData(i, "Old Shep", 0.0, 22.5));
+
+            StreamingBatchInsert<AnimalData> batchInsert = insertBatch(records)
+                    .into(animalData)
+                    .map(id).toProperty("id")
+                    .map(animalName).toProperty("animalName")
+                    .map(bodyWeight).toProperty("bodyWeight")
+                    .map(brainWeight).toConstant("1.2")
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            long rows = MyBatis3Utils.insertBatch(mapper::insert, mapper::flush, batchInsert, 2);
+
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isGreaterThanOrEqualTo(100))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<AnimalData> animals = mapper.selectMany(selectStatement);
+
+            assertAll(
+                    () -> assertThat(rows).isEqualTo(5),
+                    () -> assertThat(animals).hasSize(5),
+                    () -> assertThat(animals).element(4).isNotNull()
+                            .extracting(AnimalData::id, AnimalData::brainWeight, AnimalData::animalName)
+                            .containsExactly(104, 1.2, "Old Shep")
+            );
+        }
+    }
+
     @Test
     void testOrderByAndDistinct() {
         try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
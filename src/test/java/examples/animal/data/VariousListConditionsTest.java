@@ -21,10 +21,12 @@ import static examples.animal.data.AnimalDataDynamicSqlSupport.id;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mybatis.dynamic.sql.SqlBuilder.isIn;
+import static org.mybatis.dynamic.sql.SqlBuilder.isInArray;
 import static org.mybatis.dynamic.sql.SqlBuilder.isInCaseInsensitive;
 import static org.mybatis.dynamic.sql.SqlBuilder.isInCaseInsensitiveWhenPresent;
 import static org.mybatis.dynamic.sql.SqlBuilder.isInWhenPresent;
 import static org.mybatis.dynamic.sql.SqlBuilder.isNotIn;
+import static org.mybatis.dynamic.sql.SqlBuilder.isNotInArray;
 import static org.mybatis.dynamic.sql.SqlBuilder.isNotInCaseInsensitive;
 import static org.mybatis.dynamic.sql.SqlBuilder.isNotInCaseInsensitiveWhenPresent;
 import static org.mybatis.dynamic.sql.SqlBuilder.isNotInWhenPresent;
@@ -34,6 +36,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +51,7 @@ import org.apache.ibatis.session.SqlSessionFactoryBuilder;
 import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.exception.InvalidSqlException;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
@@ -363,4 +367,118 @@ class VariousListConditionsTest {
                 .isThrownBy(() -> selectModel.render(RenderingStrategies.MYBATIS3))
                 .withMessage(Messages.getString("ERROR.44", "IsIn"));
     }
+
+    @Test
+    void testInArray() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            CommonSelectMapper mapper = sqlSession.getMapper(CommonSelectMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName)
+                    .from(animalData)
+                    .where(id, isInArray(5, 8, 10))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                    "select id, animal_name from AnimalData " +
+                            "where id in (select * from unnest(cast(" +
+                            "#{parameters.p1,typeHandler=org.apache.ibatis.type.ArrayTypeHandler} " +
+                            "as INTEGER array))) " +
+                            "order by id"
+            );
+            assertThat(selectStatement.getParameters()).containsEntry("p1", new Integer[] {5, 8, 10});
+
+            List<Map<String, Object>> rows = mapper.selectManyMappedRows(selectStatement);
+            assertThat(rows).hasSize(3);
+
+            assertThat(rows.get(0)).containsEntry("ID", 5);
+        }
+    }
+
+    @Test
+    void testInArrayWithStrings() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            CommonSelectMapper mapper = sqlSession.getMapper(CommonSelectMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName)
+                    .from(animalData)
+                    .where(animalName, isInArray("Cat", "Little brown bat"))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<Map<String, Object>> rows = mapper.selectManyMappedRows(selectStatement);
+            assertThat(rows).hasSize(2);
+
+            assertThat(rows.get(0)).containsEntry("ID", 2);
+            assertThat(rows.get(1)).containsEntry("ID", 31);
+        }
+    }
+
+    @Test
+    void testNotInArray() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            CommonSelectMapper mapper = sqlSession.getMapper(CommonSelectMapper.class);
+
+            SelectStatementProvider selectStatement = select(id, animalName)
+                    .from(animalData)
+                    .where(id, isNotInArray(1, 2, 3))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                    "select id, animal_name from AnimalData " +
+                            "where id not in (select * from unnest(cast(" +
+                            "#{parameters.p1,typeHandler=org.apache.ibatis.type.ArrayTypeHandler} " +
+                            "as INTEGER array))) " +
+                            "order by id"
+            );
+
+            List<Map<String, Object>> rows = mapper.selectManyMappedRows(selectStatement);
+            assertThat(rows).hasSize(62);
+
+            assertThat(rows.get(0)).containsEntry("ID", 4);
+        }
+    }
+
+    @Test
+    void testInArrayEventuallyEmpty() {
+        var selectModel = select(id, animalName)
+                .from(animalData)
+                .where(id, isInArray(1, 2).filter(s -> false))
+                .orderBy(id)
+                .build();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> selectModel.render(RenderingStrategies.MYBATIS3))
+                .withMessage(Messages.getString("ERROR.44", "IsInArray"));
+    }
+
+    @Test
+    void testInArrayWithMixedTypesAndNoJdbcType() {
+        SqlColumn<Object> untypedId = animalData.column("id");
+        var selectModel = select(id, animalName)
+                .from(animalData)
+                .where(untypedId, isInArray(1, "2"))
+                .build();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> selectModel.render(RenderingStrategies.MYBATIS3))
+                .withMessage(Messages.getString("ERROR.86", "java.lang.Object"));
+    }
+
+    @Test
+    void testInArrayWithUnmappedTypeAndNoJdbcType() {
+        SqlColumn<LocalDate> untypedDate = animalData.column("birth_date");
+        var selectModel = select(id, animalName)
+                .from(animalData)
+                .where(untypedDate, isNotInArray(LocalDate.of(2020, 1, 1)))
+                .build();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> selectModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER))
+                .withMessage(Messages.getString("ERROR.86", "java.time.LocalDate"));
+    }
 }
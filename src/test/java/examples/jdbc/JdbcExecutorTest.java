@@ -0,0 +1,390 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.jdbc;
+
+import static examples.spring.PersonDynamicSqlSupport.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+
+import examples.spring.LastName;
+import examples.spring.PersonRecord;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.exception.SqlExecutionException;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.Messages;
+import org.mybatis.dynamic.sql.util.jdbc.JdbcExecutor;
+import org.mybatis.dynamic.sql.util.jdbc.JdbcRowMapper;
+
+class JdbcExecutorTest {
+    private JdbcExecutor executor;
+
+    @BeforeEach
+    void setup() throws Exception {
+        JDBCDataSource dataSource = new JDBCDataSource();
+        dataSource.setUrl("jdbc:hsqldb:mem:jdbcexecutor");
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+
+        try (InputStream is = getClass().getResourceAsStream("/examples/simple/CreateSimpleDB.sql")) {
+            assert is != null;
+            try (Connection connection = dataSource.getConnection();
+                 InputStreamReader isr = new InputStreamReader(is)) {
+                ScriptRunner sr = new ScriptRunner(connection);
+                sr.setLogWriter(null);
+                sr.runScript(isr);
+            }
+        }
+
+        executor = new JdbcExecutor(dataSource);
+    }
+
+    @Test
+    void testSelect() {
+        List<PersonRecord> rows = executor.selectList(
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                        .from(person)
+                        .where(id, isIn(1, 5))
+                        .and(lastName, isEqualTo(new LastName("Flintstone")))
+                        .orderBy(id),
+                personRowMapper);
+
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.id()).isEqualTo(1);
+            assertThat(row.firstName()).isEqualTo("Fred");
+            assertThat(row.employed()).isTrue();
+        });
+    }
+
+    @Test
+    void testSelectOneAndCount() {
+        Optional<PersonRecord> row = executor.selectOne(
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                        .from(person)
+                        .where(id, isEqualTo(4)),
+                personRowMapper);
+
+        long count = executor.count(countFrom(person).where(employed, isEqualTo(true)));
+
+        assertAll(
+                () -> assertThat(row).hasValueSatisfying(r -> assertThat(r.firstName()).isEqualTo("Barney")),
+                () -> assertThat(count).isEqualTo(4)
+        );
+    }
+
+    @Test
+    void testUpdateAndDelete() {
+        int updated = executor.update(update(person)
+                .set(occupation).equalTo("Programmer")
+                .where(id, isEqualTo(1)));
+
+        int deleted = executor.delete(deleteFrom(person)
+                .where(occupation, isNull()));
+
+        assertAll(
+                () -> assertThat(updated).isEqualTo(1),
+                () -> assertThat(deleted).isEqualTo(2),
+                () -> assertThat(executor.count(countFrom(person))).isEqualTo(4)
+        );
+    }
+
+    @Test
+    void testInsertAndGeneralInsert() {
+        PersonRecord row = new PersonRecord(100, "Joe", new LastName("Jones"), new Date(), true, "Developer", 1);
+
+        int rows = executor.insert(insert(row).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId"));
+
+        int generalRows = executor.generalInsert(insertInto(person)
+                .set(id).toValue(101)
+                .set(firstName).toValue("Sarah")
+                .set(lastName).toValue(new LastName("Smith"))
+                .set(birthDate).toValue(new Date())
+                .set(employed).toValue(false)
+                .set(occupation).toNull()
+                .set(addressId).toValue(2));
+
+        assertAll(
+                () -> assertThat(rows).isEqualTo(1),
+                () -> assertThat(generalRows).isEqualTo(1),
+                () -> assertThat(executor.count(countFrom(person).where(id, isIn(100, 101)))).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void testUpsert() {
+        PersonRecord row = new PersonRecord(1, "Frederick", new LastName("Flintstone"), new Date(), true, "Pilot", 1);
+
+        // the merge form binds the key and the updated columns before the inserted values
+        int rows = executor.insert(upsert(row).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId")
+                .onConflict(id)
+                .updateColumns(occupation, firstName)
+                .build()
+                .render(RenderingStrategies.JDBC));
+
+        Optional<PersonRecord> updated = executor.selectOne(
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                        .from(person)
+                        .where(id, isEqualTo(1)),
+                personRowMapper);
+
+        assertAll(
+                () -> assertThat(rows).isEqualTo(1),
+                () -> assertThat(updated).hasValueSatisfying(r -> {
+                    assertThat(r.firstName()).isEqualTo("Frederick");
+                    assertThat(r.occupation()).isEqualTo("Pilot");
+                }),
+                () -> assertThat(executor.count(countFrom(person))).isEqualTo(6)
+        );
+    }
+
+    @Test
+    void testInsertMultipleAndBatch() {
+        List<PersonRecord> records = List.of(
+                new PersonRecord(100, "Joe", new LastName("Jones"), new Date(), true, "Developer", 1),
+                new PersonRecord(101, "Sarah", new LastName("Smith"), new Date(), true, "Architect", 2));
+
+        int multipleRows = executor.insertMultiple(insertMultiple(records).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId"));
+
+        List<PersonRecord> batchRecords = List.of(
+                new PersonRecord(102, "Fred", new LastName("Jones"), new Date(), true, "Developer", 1),
+                new PersonRecord(103, "Pebbles", new LastName("Smith"), new Date(), false, null, 2));
+
+        int[] batchRows = executor.insertBatch(insertBatch(batchRecords).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId"));
+
+        assertAll(
+                () -> assertThat(multipleRows).isEqualTo(2),
+                () -> assertThat(batchRows).hasSize(2),
+                () -> assertThat(executor.count(countFrom(person).where(id, isGreaterThanOrEqualTo(100))))
+                        .isEqualTo(4)
+        );
+    }
+
+    @Test
+    void testStreamingBatchInSession() {
+        List<PersonRecord> records = IntStream.rangeClosed(100, 150)
+                .mapToObj(i -> new PersonRecord(i, "Joe", new LastName("Jones"), new Date(), true, "Developer", 1))
+                .toList();
+
+        long rows = executor.inSession(() -> executor.insertBatch(insertBatch(records.iterator()).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId"), 20));
+
+        assertAll(
+                () -> assertThat(rows).isEqualTo(51),
+                () -> assertThat(executor.count(countFrom(person))).isEqualTo(57)
+        );
+    }
+
+    @Test
+    void testNullWithoutJdbcType() {
+        int updated = executor.update(update(person)
+                .set(occupation).equalTo((String) null)
+                .where(id, isEqualTo(1)));
+
+        assertAll(
+                () -> assertThat(updated).isEqualTo(1),
+                () -> assertThat(executor.count(countFrom(person).where(occupation, isNull()))).isEqualTo(3)
+        );
+    }
+
+    @Test
+    void testNestedExecutionOfTheSameStatement() {
+        // the row mapper executes the same SQL while the result set of the outer execution is open, so the
+        // inner execution must not reuse the outer prepared statement
+        List<Boolean> sharedStatement = executor.inSession(() -> executor.selectList(idsGreaterThan(3),
+                (rs, i) -> executor.selectList(idsGreaterThan(rs.getInt(1)),
+                        (inner, j) -> inner.getStatement() == rs.getStatement()).contains(true)));
+
+        // the cached statement is reused once it is no longer in use
+        boolean reused = executor.inSession(() -> executor.selectList(idsGreaterThan(3), (rs, i) -> rs.getStatement())
+                .equals(executor.selectList(idsGreaterThan(3), (rs, i) -> rs.getStatement())));
+
+        assertAll(
+                () -> assertThat(sharedStatement).containsExactly(false, false, false),
+                () -> assertThat(reused).isTrue()
+        );
+    }
+
+    @Test
+    void testWithoutStatementCache() throws Exception {
+        JDBCDataSource dataSource = new JDBCDataSource();
+        dataSource.setUrl("jdbc:hsqldb:mem:jdbcexecutor");
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+        JdbcExecutor uncached = new JdbcExecutor(dataSource, 0);
+
+        long count = uncached.inSession(() -> uncached.count(countFrom(person))
+                + uncached.count(countFrom(person)));
+
+        assertAll(
+                () -> assertThat(count).isEqualTo(12),
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> new JdbcExecutor(dataSource, -1))
+                        .withMessage(Messages.getString("ERROR.81"))
+        );
+    }
+
+    @Test
+    void testTransactionRollback() {
+        assertThatExceptionOfType(SqlExecutionException.class).isThrownBy(() -> executor.inTransaction(() -> {
+            executor.delete(deleteFrom(person).where(id, isEqualTo(1)));
+            // duplicate key
+            return executor.generalInsert(insertInto(person)
+                    .set(id).toValue(2)
+                    .set(firstName).toValue("Wilma")
+                    .set(lastName).toValue(new LastName("Flintstone"))
+                    .set(birthDate).toValue(new Date())
+                    .set(employed).toValue(true)
+                    .set(addressId).toValue(1));
+        }));
+
+        assertThat(executor.count(countFrom(person))).isEqualTo(6);
+    }
+
+    @Test
+    void testStatementHints() {
+        // the same SQL with different hints is prepared separately, so the hints of one don't leak into the other
+        List<Integer> limited = executor.inSession(() -> {
+            executor.selectList(select(id).from(person).orderBy(id), (rs, i) -> rs.getInt(1));
+            return executor.selectList(select(id).from(person).orderBy(id)
+                    .configureStatement(c -> c.setMaxRows(2).setForwardOnly(true)), (rs, i) -> rs.getInt(1));
+        });
+
+        List<Integer> unlimited = executor.selectList(select(id).from(person).orderBy(id), (rs, i) -> rs.getInt(1));
+
+        assertAll(
+                () -> assertThat(limited).containsExactly(1, 2),
+                () -> assertThat(unlimited).hasSize(6)
+        );
+    }
+
+    @Test
+    void testCloseFailureDoesNotHideWorkFailure() throws Exception {
+        JDBCDataSource dataSource = new JDBCDataSource();
+        dataSource.setUrl("jdbc:hsqldb:mem:jdbcexecutor");
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+        JdbcExecutor failingClose = new JdbcExecutor(failingCloseDataSource(dataSource));
+        IllegalStateException workFailure = new IllegalStateException("work failed");
+
+        assertAll(
+                () -> assertThatExceptionOfType(IllegalStateException.class)
+                        .isThrownBy(() -> failingClose.inSession(() -> {
+                            failingClose.count(countFrom(person));
+                            throw workFailure;
+                        }))
+                        .isSameAs(workFailure)
+                        .satisfies(e -> assertThat(e.getSuppressed()).singleElement()
+                                .isInstanceOf(SQLException.class)),
+                () -> assertThatExceptionOfType(SqlExecutionException.class)
+                        .isThrownBy(() -> failingClose.count(countFrom(person)))
+                        .withMessage(Messages.getString("ERROR.67", "close"))
+        );
+    }
+
+    private static DataSource failingCloseDataSource(DataSource dataSource) {
+        return (DataSource) Proxy.newProxyInstance(JdbcExecutorTest.class.getClassLoader(),
+                new Class<?>[] { DataSource.class }, (proxy, method, args) -> {
+                    Object result = invoke(dataSource, method, args);
+                    return result instanceof Connection connection ? failingCloseConnection(connection) : result;
+                });
+    }
+
+    private static Connection failingCloseConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(JdbcExecutorTest.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (method.getName().equals("close")) {
+                        throw new SQLException("close failed");
+                    }
+                    return result;
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static SelectStatementProvider idsGreaterThan(int minimumId) {
+        return select(id).from(person).where(id, isGreaterThan(minimumId)).orderBy(id).build()
+                .render(RenderingStrategies.JDBC);
+    }
+
+    static final JdbcRowMapper<PersonRecord> personRowMapper =
+            (rs, i) -> new PersonRecord(rs.getInt(1),
+                    rs.getString(2),
+                    new LastName(rs.getString(3)),
+                    rs.getTimestamp(4),
+                    "Yes".equals(rs.getString(5)),
+                    rs.getString(6),
+                    rs.getInt(7));
+}
@@ -0,0 +1,146 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.simple;
+
+import static examples.simple.PersonDynamicSqlSupport.firstName;
+import static examples.simple.PersonDynamicSqlSupport.id;
+import static examples.simple.PersonDynamicSqlSupport.occupation;
+import static examples.simple.PersonDynamicSqlSupport.person;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.util.QueryResultCache;
+import org.mybatis.dynamic.sql.util.mybatis3.CachingMapperExecutor;
+import org.mybatis.dynamic.sql.util.mybatis3.CommonSelectMapper;
+
+class CachingMapperExecutorTest {
+    private static final String JDBC_URL = "jdbc:hsqldb:mem:cachingmapper";
+    private static final String JDBC_DRIVER = "org.hsqldb.jdbcDriver";
+    private static final Function<Map<String, Object>, String> OCCUPATION_MAPPER =
+            row -> (String) row.get("OCCUPATION");
+
+    private SqlSessionFactory sqlSessionFactory;
+
+    @BeforeEach
+    void setup() throws Exception {
+        Class.forName(JDBC_DRIVER);
+        try (InputStream is = getClass().getResourceAsStream("/examples/simple/CreateSimpleDB.sql")) {
+            assert is != null;
+            try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+                 InputStreamReader isr = new InputStreamReader(is)) {
+                ScriptRunner sr = new ScriptRunner(connection);
+                sr.setLogWriter(null);
+                sr.runScript(isr);
+            }
+        }
+
+        UnpooledDataSource ds = new UnpooledDataSource(JDBC_DRIVER, JDBC_URL, "sa", "");
+        Environment environment = new Environment("test", new JdbcTransactionFactory(), ds);
+        Configuration config = new Configuration(environment);
+        config.addMapper(PersonMapper.class);
+        config.addMapper(CommonSelectMapper.class);
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(config);
+    }
+
+    @Test
+    void testSelectManyIsCachedAndUnmodifiable() {
+        try (SqlSession session = sqlSessionFactory.openSession(true)) {
+            CachingMapperExecutor executor =
+                    new CachingMapperExecutor(session.getMapper(CommonSelectMapper.class), new QueryResultCache(100));
+
+            List<String> first = executor.selectMany(select(occupation).from(person).where(id, isEqualTo(1)),
+                    OCCUPATION_MAPPER);
+            List<String> second = executor.selectMany(select(occupation).from(person).where(id, isEqualTo(1)),
+                    OCCUPATION_MAPPER);
+
+            assertAll(
+                    () -> assertThat(second).isSameAs(first).containsExactly("Brontosaurus Operator"),
+                    () -> assertThat(executor.cache().hitCount()).isEqualTo(1),
+                    () -> assertThatExceptionOfType(UnsupportedOperationException.class)
+                            .isThrownBy(() -> first.add("Programmer"))
+            );
+        }
+    }
+
+    @Test
+    void testUncommittedWritesAreNotCached() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            CachingMapperExecutor executor =
+                    new CachingMapperExecutor(session.getMapper(CommonSelectMapper.class), new QueryResultCache(100));
+
+            List<String> inTransaction = executor.inTransaction(() -> {
+                executor.update(mapper::update, update(person).set(occupation).equalTo("Programmer")
+                        .where(id, isEqualTo(1)));
+                List<String> rows = executor.selectMany(select(occupation).from(person).where(id, isEqualTo(1)),
+                        OCCUPATION_MAPPER);
+                session.rollback(true);
+                return rows;
+            });
+
+            List<String> afterRollback = executor.selectMany(select(occupation).from(person)
+                    .where(id, isEqualTo(1)), OCCUPATION_MAPPER);
+
+            assertAll(
+                    () -> assertThat(inTransaction).containsExactly("Programmer"),
+                    () -> assertThat(afterRollback).containsExactly("Brontosaurus Operator"),
+                    () -> assertThat(executor.cache().hitCount()).isZero()
+            );
+        }
+    }
+
+    @Test
+    void testTablesAreInvalidatedWhenTheTransactionCompletes() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            CachingMapperExecutor executor =
+                    new CachingMapperExecutor(session.getMapper(CommonSelectMapper.class), new QueryResultCache(100));
+
+            executor.inTransaction(() -> {
+                int rows = executor.update(mapper::update, update(person).set(firstName).equalTo("Freddy")
+                        .where(id, isEqualTo(1)));
+                // simulates a query from another session that caches a result before the commit
+                executor.cache().get(select(firstName).from(person).where(id, isEqualTo(1)).build(),
+                        RenderingStrategies.MYBATIS3, "stale", s -> "Fred");
+                session.commit();
+                return rows;
+            });
+
+            assertThat(executor.cache().size()).isZero();
+        }
+    }
+}
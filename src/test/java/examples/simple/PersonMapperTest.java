@@ -55,10 +55,13 @@ import org.mybatis.dynamic.sql.exception.NonRenderingWhereClauseException;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RowLimit;
 import org.mybatis.dynamic.sql.select.CountDSLCompleter;
+import org.mybatis.dynamic.sql.select.KeysetPage;
 import org.mybatis.dynamic.sql.select.SelectDSLCompleter;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils;
 
 class PersonMapperTest {
 
@@ -380,6 +383,27 @@ class PersonMapperTest {
         }
     }
 
+    @Test
+    void testSelectWithKeysetPagination() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            KeysetPage firstPage = KeysetPage.of(3, id.descending());
+
+            List<PersonRecord> rows = mapper.select(c ->
+                    c.where(employed, isTrue())
+                    .seek(firstPage));
+
+            assertThat(rows).extracting(PersonRecord::id).containsExactly(5, 4, 2);
+
+            KeysetPage nextPage = firstPage.after(rows.get(rows.size() - 1).id());
+            rows = mapper.select(c ->
+                    c.where(employed, isTrue())
+                    .seek(nextPage));
+
+            assertThat(rows).extracting(PersonRecord::id).containsExactly(1);
+        }
+    }
+
     @Test
     void testInsertMultiple() {
         try (SqlSession session = sqlSessionFactory.openSession()) {
@@ -395,6 +419,33 @@ class PersonMapperTest {
         }
     }
 
+    @Test
+    void testInsertMultipleWithLimit() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            List<PersonRecord> records = List.of(
+                    new PersonRecord(100, "Joe", new LastName("Jones"), new Date(), true, "Developer", 1),
+                    new PersonRecord(101, "Sarah", new LastName("Smith"), new Date(), true, "Architect", 2),
+                    new PersonRecord(102, "Pete", new LastName("Jones"), new Date(), false, null, 1)
+            );
+
+            int rows = MyBatis3Utils.insertMultiple(mapper::insertMultiple, records, person, c ->
+                    c.withMappedColumn(id)
+                    .withMappedColumn(firstName)
+                    .withMappedColumn(lastName)
+                    .withMappedColumn(birthDate)
+                    .withMappedColumn(employed)
+                    .withMappedColumn(occupation)
+                    .withMappedColumn(addressId),
+                    RowLimit.maxParameters(14));
+            assertThat(rows).isEqualTo(3);
+
+            long count = mapper.count(c -> c.where(id, isGreaterThanOrEqualTo(100)));
+            assertThat(count).isEqualTo(3);
+        }
+    }
+
     @Test
     void testInsertSelective() {
         try (SqlSession session = sqlSessionFactory.openSession()) {
@@ -28,16 +28,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mybatis.dynamic.sql.SqlBuilder.*;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
 import org.apache.ibatis.jdbc.ScriptRunner;
 import org.apache.ibatis.mapping.Environment;
@@ -67,6 +70,7 @@ import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.HavingApplier;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.util.mybatis3.CommonSelectMapper;
+import org.mybatis.dynamic.sql.util.mybatis3.StatementHintsInterceptor;
 import org.mybatis.dynamic.sql.where.WhereApplier;
 
 class PersonMapperV2Test {
@@ -95,6 +99,7 @@ class PersonMapperV2Test {
         config.addMapper(PersonMapperV2.class);
         config.addMapper(PersonWithAddressMapperV2.class);
         config.addMapper(CommonSelectMapper.class);
+        config.addInterceptor(new StatementHintsInterceptor());
         sqlSessionFactory = new SqlSessionFactoryBuilder().build(config);
     }
 
@@ -1125,6 +1130,44 @@ class PersonMapperV2Test {
         }
     }
 
+    @Test
+    void testSelectWithStatementHints() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            CommonSelectMapper mapper = session.getMapper(CommonSelectMapper.class);
+            SelectStatementProvider selectStatement = SelectDSL.select(id, firstName)
+                    .from(person)
+                    .configureStatement(c -> c.setMaxRows(2).setFetchSize(1).setQueryTimeout(10))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<Map<String, Object>> rows = mapper.selectManyMappedRows(selectStatement);
+
+            assertThat(rows).hasSize(2);
+        }
+    }
+
+    @Test
+    void testSelectManyCursor() throws IOException {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            CommonSelectMapper mapper = session.getMapper(CommonSelectMapper.class);
+            SelectStatementProvider selectStatement = SelectDSL.select(id, firstName)
+                    .from(person)
+                    .where(employed, isTrue())
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<String> names = new ArrayList<>();
+            try (Cursor<String> rows = mapper.selectManyCursor(selectStatement,
+                    row -> (String) row.get("FIRST_NAME"))) {
+                rows.forEach(names::add);
+            }
+
+            assertThat(names).containsExactly("Fred", "Wilma", "Barney", "Betty");
+        }
+    }
+
     @Test
     void testHavingApplier() {
         try (SqlSession session = sqlSessionFactory.openSession()) {
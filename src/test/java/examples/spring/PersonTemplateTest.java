@@ -20,21 +20,38 @@ import static examples.spring.PersonDynamicSqlSupport.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mybatis.dynamic.sql.SqlBuilder.*;
 
+import java.time.Duration;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.delete.BatchDeleteModel;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
 import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.BatchUpsertModel;
 import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
 import org.mybatis.dynamic.sql.insert.InsertModel;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.StreamingBatchInsertModel;
+import org.mybatis.dynamic.sql.insert.UpsertModel;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RowLimit;
 import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.update.BatchUpdateModel;
+import org.mybatis.dynamic.sql.update.MultiRowUpdateModel;
 import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.InsertBuffer;
+import org.mybatis.dynamic.sql.util.KeyedBatchLoader;
+import org.mybatis.dynamic.sql.util.QueryResultCache;
+import org.mybatis.dynamic.sql.util.spring.CachingJdbcTemplateExtensions;
 import org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.DataClassRowMapper;
@@ -61,6 +78,179 @@ class PersonTemplateTest {
         assertThat(rows).hasSize(3);
     }
 
+    @Test
+    void testSelectStream() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isEqualTo(1))
+                .or(occupation, isNull())
+                .orderBy(id);
+
+        try (Stream<PersonRecord> rows = template.selectStream(selectStatement, personRowMapper)) {
+            assertThat(rows.map(PersonRecord::id).toList()).containsExactly(1, 3, 6);
+        }
+    }
+
+    @Test
+    void testSelectStreamWithFetchSize() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(employed, isEqualTo(true))
+                .orderBy(id);
+
+        try (Stream<PersonRecord> rows = template.selectStream(selectStatement, 2, personRowMapper)) {
+            assertThat(rows.map(PersonRecord::firstName).toList()).containsExactly("Fred", "Wilma", "Barney", "Betty");
+        }
+    }
+
+    @Test
+    void testSelectWithStatementHints() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .configureStatement(c -> c.setMaxRows(2).setFetchSize(1).setForwardOnly(true))
+                .orderBy(id);
+
+        List<PersonRecord> rows = template.selectList(selectStatement, personRowMapper);
+
+        assertThat(rows).extracting(PersonRecord::id).containsExactly(1, 2);
+    }
+
+    @Test
+    void testSelectOneAndCountWithStatementHints() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isEqualTo(1))
+                .configureStatement(c -> c.setQueryTimeout(10));
+
+        Buildable<SelectModel> countStatement = countFrom(person)
+                .configureStatement(c -> c.setQueryTimeout(10));
+
+        Optional<PersonRecord> row = template.selectOne(selectStatement, personRowMapper);
+        long count = template.count(countStatement);
+
+        assertThat(row).hasValueSatisfying(r -> assertThat(r.firstName()).isEqualTo("Fred"));
+        assertThat(count).isEqualTo(6);
+    }
+
+    @Test
+    void testSelectPositional() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isEqualTo(1))
+                .or(occupation, isNull())
+                .orderBy(id);
+
+        List<PersonRecord> rows = template.selectListPositional(selectStatement, personRowMapper);
+        Optional<PersonRecord> row = template.selectOnePositional(
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                        .from(person)
+                        .where(lastName, isEqualTo(new LastName("Rubble")))
+                        .and(firstName, isEqualTo("Barney")),
+                personRowMapper);
+        long count = template.countPositional(countFrom(person).where(employed, isEqualTo(true)));
+
+        assertThat(rows).extracting(PersonRecord::id).containsExactly(1, 3, 6);
+        assertThat(row).hasValueSatisfying(r -> assertThat(r.id()).isEqualTo(4));
+        assertThat(count).isEqualTo(4);
+    }
+
+    @Test
+    void testSelectOnePositionalNoRows() {
+        Optional<PersonRecord> row = template.selectOnePositional(
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                        .from(person)
+                        .where(id, isEqualTo(100)),
+                personRowMapper);
+
+        assertThat(row).isEmpty();
+    }
+
+    @Test
+    void testUpdateAndDeletePositional() {
+        int inserted = template.generalInsertPositional(insertInto(person)
+                .set(id).toValue(100)
+                .set(firstName).toValue("Joe")
+                .set(lastName).toValue(new LastName("Jones"))
+                .set(birthDate).toValue(new Date())
+                .set(employed).toValue(true)
+                .set(occupation).toNull()
+                .set(addressId).toValue(1));
+
+        int updated = template.updatePositional(update(person)
+                .set(occupation).equalTo("Programmer")
+                .where(id, isEqualTo(100)));
+
+        Optional<PersonRecord> row = template.selectOnePositional(
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                        .from(person)
+                        .where(id, isEqualTo(100)),
+                personRowMapper);
+
+        int deleted = template.deletePositional(deleteFrom(person).where(id, isEqualTo(100)));
+
+        assertThat(inserted).isEqualTo(1);
+        assertThat(updated).isEqualTo(1);
+        assertThat(row).hasValueSatisfying(r -> assertThat(r.occupation()).isEqualTo("Programmer"));
+        assertThat(deleted).isEqualTo(1);
+    }
+
+    @Test
+    void testCachedSelect() {
+        CachingJdbcTemplateExtensions cachingTemplate =
+                new CachingJdbcTemplateExtensions(template, new QueryResultCache(100));
+
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isEqualTo(1));
+
+        Optional<PersonRecord> first = cachingTemplate.selectOne(selectStatement, personRowMapper);
+        Optional<PersonRecord> second = cachingTemplate.selectOne(selectStatement, personRowMapper);
+        long hitsBeforeUpdate = cachingTemplate.cache().hitCount();
+
+        int rows = cachingTemplate.update(update(person)
+                .set(firstName).equalTo("Freddy")
+                .where(id, isEqualTo(1)));
+
+        // the update invalidates the cache, and later queries in the transaction bypass the cache
+        Optional<PersonRecord> third = cachingTemplate.selectOne(selectStatement, personRowMapper);
+
+        assertThat(second).isSameAs(first);
+        assertThat(hitsBeforeUpdate).isEqualTo(1);
+        assertThat(rows).isEqualTo(1);
+        assertThat(third).hasValueSatisfying(r -> assertThat(r.firstName()).isEqualTo("Freddy"));
+        assertThat(cachingTemplate.cache().size()).isZero();
+    }
+
+    @Test
+    void testBatchLoader() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            KeyedBatchLoader<Integer, PersonRecord> loader = new KeyedBatchLoader.Builder<Integer, PersonRecord>()
+                    .withKeyColumn(id)
+                    .withSelect(where -> select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                            .from(person)
+                            .applyWhere(where))
+                    .withQuery(RenderingStrategies.SPRING_NAMED_PARAMETER, s -> template.selectList(s, personRowMapper))
+                    .withKeyExtractor(PersonRecord::id)
+                    .withScheduler(scheduler)
+                    .withWindow(Duration.ofHours(1))
+                    .build();
+
+            CompletableFuture<Optional<PersonRecord>> fred = loader.load(1);
+            CompletableFuture<Optional<PersonRecord>> barney = loader.load(4);
+            CompletableFuture<Optional<PersonRecord>> missing = loader.load(22);
+
+            // query the batch on this thread so the query runs in the test transaction
+            loader.dispatch();
+
+            assertThat(fred.join()).hasValueSatisfying(r -> assertThat(r.firstName()).isEqualTo("Fred"));
+            assertThat(barney.join()).hasValueSatisfying(r -> assertThat(r.firstName()).isEqualTo("Barney"));
+            assertThat(missing.join()).isEmpty();
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
     @Test
     void testSelectAll() {
         Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
@@ -182,6 +372,26 @@ class PersonTemplateTest {
         assertThat(rows.get(1).id()).isEqualTo(2);
     }
 
+    @Test
+    void testSelectWithTypeConverterAndInArray() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(lastName, isInArray(new LastName("Flintstone"), new LastName("Rubble")))
+                .and(id, isNotInArray(1, 2))
+                .orderBy(id);
+
+        var rendered = selectStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+        assertThat(rendered.getSelectStatement())
+                .endsWith("where last_name in (select * from unnest(cast(:p1 as VARCHAR array)))"
+                + " and id not in (select * from unnest(cast(:p2 as INTEGER array))) order by id");
+        assertThat(rendered.getParameters().get("p1")).isEqualTo(new String[] {"Flintstone", "Rubble"});
+
+        List<PersonRecord> rows = template.selectList(selectStatement, personRowMapper);
+
+        assertThat(rows).hasSize(4);
+        assertThat(rows.get(0).id()).isEqualTo(3);
+    }
+
     @Test
     void testSelectByPrimaryKeyWithMissingRecord() {
         Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
@@ -259,6 +469,39 @@ class PersonTemplateTest {
         assertThat(rows).isEqualTo(1);
     }
 
+    @Test
+    void testInsertBuffer() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            InsertBuffer<PersonRecord> buffer = new InsertBuffer.Builder<PersonRecord>()
+                    .withMultiRowInserts(template::insertMultiple)
+                    .withScheduler(scheduler)
+                    .withWindow(Duration.ofHours(1))
+                    .build();
+
+            List<CompletableFuture<Void>> futures = Stream.of(
+                    new PersonRecord(100, "Joe", new LastName("Jones"), new Date(), true, "Developer", 1),
+                    new PersonRecord(101, "Sarah", new LastName("Smith"), new Date(), true, "Architect", 2))
+                    .map(row -> buffer.add(insert(row).into(person)
+                            .map(id).toProperty("id")
+                            .map(firstName).toProperty("firstName")
+                            .map(lastName).toProperty("lastNameAsString")
+                            .map(birthDate).toProperty("birthDate")
+                            .map(employed).toProperty("employedAsString")
+                            .map(occupation).toProperty("occupation")
+                            .map(addressId).toProperty("addressId")))
+                    .toList();
+
+            // write the rows on this thread so the insert runs in the test transaction
+            buffer.flush();
+
+            assertThat(futures).allSatisfy(f -> assertThat(f).isCompletedWithValue(null));
+            assertThat(template.count(countFrom(person).where(id, isIn(100, 101)))).isEqualTo(2);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
     @Test
     void testGeneralInsert() {
         Buildable<GeneralInsertModel> insertStatement = insertInto(person)
@@ -296,6 +539,28 @@ class PersonTemplateTest {
         assertThat(rows).isEqualTo(2);
     }
 
+    @Test
+    void testInsertMultipleWithLimit() {
+
+        List<PersonRecord> records = List.of(
+                new PersonRecord(100, "Joe", new LastName("Jones"), new Date(), true, "Developer", 1),
+                new PersonRecord(101, "Sarah", new LastName("Smith"), new Date(), true, "Architect", 2),
+                new PersonRecord(102, "Pete", new LastName("Jones"), new Date(), false, "Plumber", 1));
+
+        Buildable<MultiRowInsertModel<PersonRecord>> insertStatement = insertMultiple(records).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId");
+
+        int rows = template.insertMultiple(insertStatement, RowLimit.maxRows(2));
+
+        assertThat(rows).isEqualTo(3);
+    }
+
     @Test
     void testInsertBatch() {
 
@@ -319,6 +584,142 @@ class PersonTemplateTest {
         assertThat(rows[1]).isEqualTo(1);
     }
 
+    @Test
+    void testUpsert() {
+        PersonRecord row = new PersonRecord(1, "Freddy", new LastName("Flintstone"), new Date(), true, "Brontosaurus Operator", 1);
+
+        Buildable<UpsertModel<PersonRecord>> upsertStatement = upsert(row).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId")
+                .onConflict(id)
+                .updateColumns(firstName);
+
+        int rows = template.upsert(upsertStatement);
+
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isEqualTo(1));
+
+        Optional<PersonRecord> updated = template.selectOne(selectStatement, personRowMapper);
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(updated).hasValueSatisfying(r -> assertThat(r.firstName()).isEqualTo("Freddy"));
+    }
+
+    @Test
+    void testUpsertBatch() {
+        List<PersonRecord> records = List.of(
+                new PersonRecord(1, "Freddy", new LastName("Flintstone"), new Date(), true, "Brontosaurus Operator", 1),
+                new PersonRecord(100, "Joe", new LastName("Jones"), new Date(), true, "Developer", 1));
+
+        Buildable<BatchUpsertModel<PersonRecord>> upsertStatement = upsertBatch(records).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId")
+                .onConflict(id);
+
+        int[] rows = template.upsertBatch(upsertStatement);
+
+        long count = template.count(countFrom(person));
+
+        assertThat(rows).hasSize(2);
+        assertThat(count).isEqualTo(7);
+    }
+
+    @Test
+    void testUpdateBatch() {
+        List<PersonRecord> records = List.of(
+                new PersonRecord(1, "Freddy", new LastName("Flintstone"), new Date(), true, "Brontosaurus Operator", 1),
+                new PersonRecord(4, "Barney", new LastName("Rubble"), new Date(), true, "Quarry Owner", 2));
+
+        Buildable<BatchUpdateModel<PersonRecord>> updateStatement = updateBatch(records).table(person)
+                .set(occupation).toProperty("occupation")
+                .where(id).isEqualToProperty("id");
+
+        int[] rows = template.updateBatch(updateStatement);
+
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(occupation, isIn("Brontosaurus Operator", "Quarry Owner"));
+
+        List<PersonRecord> updated = template.selectList(selectStatement, personRowMapper);
+
+        assertThat(rows).hasSize(2);
+        assertThat(updated).hasSize(2);
+    }
+
+    @Test
+    void testUpdateMultiple() {
+        List<PersonRecord> records = List.of(
+                new PersonRecord(1, "Freddy", new LastName("Flintstone"), new Date(), true, "Brontosaurus Operator", 1),
+                new PersonRecord(4, "Barney", new LastName("Rubble"), new Date(), true, "Quarry Owner", 2));
+
+        Buildable<MultiRowUpdateModel<PersonRecord>> updateStatement = updateMultiple(records).table(person)
+                .set(firstName).toProperty("firstName")
+                .set(occupation).toProperty("occupation")
+                .where(id).isEqualToProperty("id");
+
+        int rows = template.updateMultiple(updateStatement);
+
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isIn(1, 4))
+                .orderBy(id);
+
+        List<PersonRecord> updated = template.selectList(selectStatement, personRowMapper);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(updated).hasSize(2);
+        assertThat(updated.get(0).firstName()).isEqualTo("Freddy");
+        assertThat(updated.get(1).occupation()).isEqualTo("Quarry Owner");
+    }
+
+    @Test
+    void testDeleteBatch() {
+        List<PersonRecord> records = List.of(
+                new PersonRecord(1, "Fred", new LastName("Flintstone"), new Date(), true, "Brontosaurus Operator", 1),
+                new PersonRecord(4, "Barney", new LastName("Rubble"), new Date(), true, "Brontosaurus Operator", 2));
+
+        Buildable<BatchDeleteModel<PersonRecord>> deleteStatement = deleteBatch(records).from(person)
+                .where(id).isEqualToProperty("id");
+
+        int[] rows = template.deleteBatch(deleteStatement);
+
+        long count = template.count(countFrom(person));
+
+        assertThat(rows).hasSize(2);
+        assertThat(count).isEqualTo(4);
+    }
+
+    @Test
+    void testInsertStreamingBatch() {
+        Stream<PersonRecord> records = IntStream.range(100, 105)
+                .mapToObj(i -> new PersonRecord(i, "Joe", new LastName("Jones"), new Date(), true, "Developer", 1));
+
+        Buildable<StreamingBatchInsertModel<PersonRecord>> insertStatement = insertBatch(records).into(person)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId");
+
+        long rows = template.insertBatch(insertStatement, 2);
+
+        assertThat(rows).isEqualTo(5);
+        assertThat(template.count(countFrom(person).where(firstName, isEqualTo("Joe")))).isEqualTo(5);
+    }
+
     @Test
     void testInsertSelective() {
         PersonRecord row = new PersonRecord(100, "Joe", new LastName("Jones"), new Date(), false, null, 1);
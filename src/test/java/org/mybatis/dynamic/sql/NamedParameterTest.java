@@ -0,0 +1,249 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementTemplate;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Messages;
+
+class NamedParameterTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<Boolean> employed = foo.column("employed", JDBCType.VARCHAR)
+            .withParameterTypeConverter((Boolean b) -> b ? "Yes" : "No");
+
+    private static final SelectModel selectByRange = select(id, firstName)
+            .from(foo)
+            .where(id, isGreaterThanOrEqualTo(param("minimumId", id)))
+            .and(id, isLessThan(param("maximumId")))
+            .or(firstName, isEqualTo(param("name")))
+            .build();
+
+    @Test
+    void testSelectWithNamedParameters() {
+        SelectStatementProvider selectStatement = selectByRange.render(RenderingStrategies.MYBATIS3,
+                Map.of("minimumId", 2, "maximumId", 5, "name", "Fred"));
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                        "select id, first_name from foo"
+                        + " where id >= #{parameters.minimumId,jdbcType=INTEGER}"
+                        + " and id < #{parameters.maximumId}"
+                        + " or first_name = #{parameters.name}"),
+                () -> assertThat(selectStatement.getParameters()).containsOnly(entry("minimumId", 2),
+                        entry("maximumId", 5), entry("name", "Fred"))
+        );
+    }
+
+    @Test
+    void testConcurrentRendering() {
+        List<SelectStatementProvider> selectStatements = IntStream.range(0, 100)
+                .parallel()
+                .mapToObj(i -> selectByRange.render(RenderingStrategies.SPRING_NAMED_PARAMETER,
+                        Map.of("minimumId", i, "maximumId", i + 10, "name", "Name" + i)))
+                .toList();
+
+        for (int i = 0; i < selectStatements.size(); i++) {
+            SelectStatementProvider selectStatement = selectStatements.get(i);
+            assertThat(selectStatement.getSelectStatement()).isEqualTo("select id, first_name from foo"
+                    + " where id >= :minimumId and id < :maximumId or first_name = :name");
+            assertThat(selectStatement.getParameters()).containsOnly(entry("minimumId", i),
+                    entry("maximumId", i + 10), entry("name", "Name" + i));
+        }
+    }
+
+    @Test
+    void testRepeatedNameAndTypeConversion() {
+        UpdateStatementProvider updateStatement = update(foo)
+                .set(employed).equalTo(param("employed", employed))
+                .where(employed, isNotEqualTo(param("employed", employed)))
+                .and(id, isEqualTo(3))
+                .build()
+                .render(RenderingStrategies.MYBATIS3, Map.of("employed", true));
+
+        assertAll(
+                () -> assertThat(updateStatement.getUpdateStatement()).isEqualTo(
+                        "update foo set employed = #{parameters.employed,jdbcType=VARCHAR}"
+                        + " where employed <> #{parameters.employed,jdbcType=VARCHAR}"
+                        + " and id = #{parameters.p1,jdbcType=INTEGER}"),
+                () -> assertThat(updateStatement.getParameters()).containsOnly(entry("employed", "Yes"),
+                        entry("p1", 3))
+        );
+    }
+
+    @Test
+    void testTemplateWithNamedParameters() {
+        SelectStatementTemplate template = select(id)
+                .from(foo)
+                .where(id, isGreaterThan(param("minimumId")))
+                .and(firstName, isLike("F%"))
+                .build()
+                .renderTemplate(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        SelectStatementProvider selectStatement = template.bindNamed(Map.of("minimumId", 4));
+
+        assertAll(
+                () -> assertThat(template.parameterSlots()).hasSize(1),
+                () -> assertThat(selectStatement.getSelectStatement())
+                        .isEqualTo("select id from foo where id > :minimumId and first_name like :p1"),
+                () -> assertThat(selectStatement.getParameters()).containsOnly(entry("minimumId", 4),
+                        entry("p1", "F%"))
+        );
+    }
+
+    @Test
+    void testNullValue() {
+        DeleteStatementProvider deleteStatement = deleteFrom(foo)
+                .where(firstName, isEqualTo(param("name")))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, Collections.singletonMap("name", null));
+
+        assertAll(
+                () -> assertThat(deleteStatement.getDeleteStatement())
+                        .isEqualTo("delete from foo where first_name = :name"),
+                () -> assertThat(deleteStatement.getParameters()).containsOnly(entry("name", null))
+        );
+    }
+
+    @Test
+    void testMissingValue() {
+        Map<String, Object> values = Map.of("minimumId", 2, "name", "Fred");
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> selectByRange.render(RenderingStrategies.MYBATIS3, values))
+                .withMessage(Messages.getString("ERROR.64", "maximumId"));
+    }
+
+    @Test
+    void testRenderWithoutValues() {
+        SelectModel selectModel = select(id)
+                .from(foo)
+                .where(id, isGreaterThan(param("minimumId")))
+                .build();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> selectModel.render(RenderingStrategies.MYBATIS3))
+                .withMessage(Messages.getString("ERROR.64", "minimumId"));
+    }
+
+    @Test
+    void testUpdateAndDeleteWithoutValues() {
+        assertAll(
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> update(foo)
+                                .set(firstName).equalTo(param("name"))
+                                .build()
+                                .render(RenderingStrategies.MYBATIS3))
+                        .withMessage(Messages.getString("ERROR.64", "name")),
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> deleteFrom(foo)
+                                .where(firstName, isEqualTo(param("name")))
+                                .build()
+                                .render(RenderingStrategies.SPRING_NAMED_PARAMETER))
+                        .withMessage(Messages.getString("ERROR.64", "name"))
+        );
+    }
+
+    @Test
+    void testParallelUnionAndInsertSelectWithoutValues() {
+        assertAll(
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> multiSelect(select(id).from(foo).where(id, isEqualTo(1)))
+                                .union(select(id).from(foo).where(id, isEqualTo(2)))
+                                .union(select(id).from(foo).where(id, isGreaterThan(param("minimumId"))))
+                                .configureStatement(c -> c.setParallelRenderingThreshold(2))
+                                .build()
+                                .render(RenderingStrategies.MYBATIS3))
+                        .withMessage(Messages.getString("ERROR.64", "minimumId")),
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> insertInto(foo)
+                                .withSelectStatement(select(id).from(foo).where(id, isLessThan(param("maximumId"))))
+                                .build()
+                                .render(RenderingStrategies.SPRING_NAMED_PARAMETER))
+                        .withMessage(Messages.getString("ERROR.64", "maximumId"))
+        );
+    }
+
+    @Test
+    void testTemplateBindWithoutNamedValues() {
+        SelectStatementTemplate template = select(id)
+                .from(foo)
+                .where(id, isGreaterThan(param("minimumId")))
+                .and(firstName, isLike("F%"))
+                .build()
+                .renderTemplate(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        List<Object> values = List.of("G%");
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> template.bind(values))
+                .withMessage(Messages.getString("ERROR.64", "minimumId"));
+    }
+
+    @Test
+    void testUnknownValue() {
+        Map<String, Object> values = Map.of("minimumId", 2, "maximumId", 5, "name", "Fred", "nmae", "Barney");
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> selectByRange.render(RenderingStrategies.MYBATIS3, values))
+                .withMessage(Messages.getString("ERROR.65", "nmae"));
+    }
+
+    @Test
+    void testInvalidNames() {
+        assertAll(
+                () -> assertInvalidName("p1"),
+                () -> assertInvalidName("u1_p2"),
+                () -> assertInvalidName("u12_name"),
+                () -> assertInvalidName("1st"),
+                () -> assertInvalidName("first-name"),
+                () -> assertInvalidName(""),
+                () -> assertThat(param("p").name()).isEqualTo("p"),
+                () -> assertThat(param("page1").name()).isEqualTo("page1"),
+                () -> assertThat(param("_u1").name()).isEqualTo("_u1")
+        );
+    }
+
+    @Test
+    void testAliasIsNotAllowed() {
+        NamedParameter<Integer> parameter = param("minimumId");
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> parameter.as("a"))
+                .withMessage(Messages.getString("ERROR.38"));
+    }
+
+    private void assertInvalidName(String name) {
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> param(name))
+                .withMessage(Messages.getString("ERROR.63", name));
+    }
+}
@@ -23,6 +23,7 @@ import java.io.InputStream;
 
 import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.exception.DynamicSqlException;
+import org.mybatis.dynamic.sql.render.RenderMetrics;
 import org.mybatis.dynamic.sql.util.Messages;
 
 class GlobalConfigurationTest {
@@ -42,6 +43,64 @@ class GlobalConfigurationTest {
         System.clearProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY);
 
         assertThat(configuration.isIsNonRenderingWhereClauseAllowed()).isFalse();
+        assertThat(configuration.getRenderedStatementCacheSize()).isZero();
+        assertThat(configuration.getInListStrategy()).isEqualTo(InListStrategy.defaultStrategy());
+        assertThat(configuration.getRenderListener()).isEmpty();
+        assertThat(configuration.getParallelRenderingThreshold()).isZero();
+    }
+
+    @Test
+    void testRenderedStatementCacheSize() {
+        System.setProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY, "renderedStatementCache.properties");
+        GlobalConfiguration configuration = new GlobalConfiguration();
+        System.clearProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY);
+
+        assertThat(configuration.getRenderedStatementCacheSize()).isEqualTo(100);
+    }
+
+    @Test
+    void testInvalidRenderedStatementCacheSize() {
+        System.setProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY, "badRenderedStatementCache.properties");
+        try {
+            assertThatExceptionOfType(DynamicSqlException.class)
+                    .isThrownBy(GlobalConfiguration::new)
+                    .withMessage(Messages.getString("ERROR.53", "renderedStatementCacheSize", "lots"))
+                    .withCauseInstanceOf(NumberFormatException.class);
+        } finally {
+            System.clearProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY);
+        }
+    }
+
+    @Test
+    void testInListStrategy() {
+        System.setProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY, "inListStrategy.properties");
+        GlobalConfiguration configuration = new GlobalConfiguration();
+        System.clearProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY);
+
+        assertThat(configuration.getInListStrategy()).isEqualTo(InListStrategy.of(true, 1000));
+    }
+
+    @Test
+    void testRenderListener() {
+        System.setProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY, "renderListener.properties");
+        GlobalConfiguration configuration = new GlobalConfiguration();
+        System.clearProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY);
+
+        assertThat(configuration.getRenderListener()).hasValueSatisfying(
+                l -> assertThat(l).isInstanceOf(RenderMetrics.class));
+    }
+
+    @Test
+    void testInvalidRenderListener() {
+        System.setProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY, "badRenderListener.properties");
+        try {
+            assertThatExceptionOfType(DynamicSqlException.class)
+                    .isThrownBy(GlobalConfiguration::new)
+                    .withMessage(Messages.getString("ERROR.62", "java.lang.String"))
+                    .withCauseInstanceOf(ClassCastException.class);
+        } finally {
+            System.clearProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY);
+        }
     }
 
     @Test
@@ -0,0 +1,183 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderedStatementCache;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.Messages;
+
+class InListStrategyTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> name = foo.column("name", JDBCType.VARCHAR);
+
+    @Test
+    void testDefaultStrategy() {
+        List<Integer> values = List.of(1, 2, 3);
+
+        assertThat(InListStrategy.defaultStrategy().apply(values)).containsExactly(values);
+    }
+
+    @Test
+    void testPadding() {
+        InListStrategy strategy = InListStrategy.of(true, 0);
+
+        assertAll(
+                () -> assertThat(strategy.apply(List.of(1))).containsExactly(List.of(1)),
+                () -> assertThat(strategy.apply(List.of(1, 2, 3))).containsExactly(List.of(1, 2, 3, 3)),
+                () -> assertThat(strategy.apply(List.of(1, 2, 3, 4, 5)))
+                        .containsExactly(List.of(1, 2, 3, 4, 5, 5, 5, 5)),
+                () -> assertThat(strategy.apply(List.of(1, 2, 3, 4))).containsExactly(List.of(1, 2, 3, 4))
+        );
+    }
+
+    @Test
+    void testSplitting() {
+        InListStrategy strategy = InListStrategy.of(false, 3);
+
+        assertAll(
+                () -> assertThat(strategy.apply(List.of(1, 2, 3))).containsExactly(List.of(1, 2, 3)),
+                () -> assertThat(strategy.apply(List.of(1, 2, 3, 4, 5, 6, 7)))
+                        .containsExactly(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7))
+        );
+    }
+
+    @Test
+    void testSplittingAndPadding() {
+        List<Integer> values = IntStream.rangeClosed(1, 1300).boxed().toList();
+
+        List<List<Integer>> valueLists = InListStrategy.of(true, 1000).apply(values);
+
+        assertAll(
+                () -> assertThat(valueLists).hasSize(2),
+                () -> assertThat(valueLists.get(0)).isEqualTo(values.subList(0, 1000)),
+                () -> assertThat(valueLists.get(1)).hasSize(512),
+                () -> assertThat(valueLists.get(1).get(511)).isEqualTo(1300)
+        );
+    }
+
+    @Test
+    void testRenderedSizeMatchesRenderedLists() {
+        List<InListStrategy> strategies = List.of(InListStrategy.defaultStrategy(), InListStrategy.of(true, 0),
+                InListStrategy.of(false, 3), InListStrategy.of(true, 5));
+
+        for (InListStrategy strategy : strategies) {
+            for (int size = 0; size <= 40; size++) {
+                List<Integer> values = IntStream.range(0, size).boxed().toList();
+                int renderedValues = strategy.apply(values).stream().mapToInt(List::size).sum();
+
+                assertThat(strategy.renderedSize(size)).isEqualTo(renderedValues);
+            }
+        }
+    }
+
+    @Test
+    void testNegativeMaximumListSize() {
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> InListStrategy.of(false, -1))
+                .withMessage(Messages.getString("ERROR.54"));
+    }
+
+    @Test
+    void testPaddedRendering() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2, 3))
+                .configureStatement(c -> c.setInListStrategy(InListStrategy.of(true, 0)))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement())
+                        .isEqualTo("select id from foo where id in (:p1,:p2,:p3,:p4)"),
+                () -> assertThat(selectStatement.getParameters())
+                        .containsOnly(entry("p1", 1), entry("p2", 2), entry("p3", 3), entry("p4", 3))
+        );
+    }
+
+    @Test
+    void testSplitRendering() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2, 3, 4, 5))
+                .and(name, isNotInCaseInsensitive("a", "b", "c"))
+                .configureStatement(c -> c.setInListStrategy(InListStrategy.of(false, 2)))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "select id from foo where (id in (:p1,:p2) or id in (:p3,:p4) or id in (:p5))"
+                + " and (upper(name) not in (:p6,:p7) and upper(name) not in (:p8))";
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(expected),
+                () -> assertThat(selectStatement.getParameters()).hasSize(8),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p8", "C")
+        );
+    }
+
+    @Test
+    void testSingleSplitCondition() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isNotIn(1, 2, 3))
+                .configureStatement(c -> c.setInListStrategy(InListStrategy.of(true, 2)))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement())
+                .isEqualTo("select id from foo where id not in (:p1,:p2) and id not in (:p3)");
+    }
+
+    @Test
+    void testPaddedListsShareCachedStatements() {
+        RenderedStatementCache cache = new RenderedStatementCache(10);
+        InListStrategy strategy = InListStrategy.of(true, 0);
+
+        SelectStatementProvider first = renderWithCache(List.of(1, 2, 3, 4, 5), strategy, cache);
+        SelectStatementProvider second = renderWithCache(List.of(6, 7, 8, 9, 10, 11, 12), strategy, cache);
+
+        assertAll(
+                () -> assertThat(second.getSelectStatement()).isSameAs(first.getSelectStatement()),
+                () -> assertThat(second.getParameters()).containsEntry("p1", 6).containsEntry("p8", 12),
+                () -> assertThat(cache.hitCount()).isEqualTo(1)
+        );
+    }
+
+    private SelectStatementProvider renderWithCache(List<Integer> ids, InListStrategy strategy,
+                                                    RenderedStatementCache cache) {
+        return select(id)
+                .from(foo)
+                .where(id, isIn(ids))
+                .configureStatement(c -> c.setInListStrategy(strategy).setRenderedStatementCache(cache))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+    }
+}
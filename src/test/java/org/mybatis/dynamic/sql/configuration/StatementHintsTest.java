@@ -0,0 +1,145 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.Messages;
+
+class StatementHintsTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+
+    @Test
+    void testNoHints() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(selectStatement.getStatementHints()).isSameAs(StatementHints.empty()),
+                () -> assertThat(selectStatement.getStatementHints().isEmpty()).isTrue()
+        );
+    }
+
+    @Test
+    void testHintsOnRenderedStatement() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .configureStatement(c -> c.setFetchSize(500).setQueryTimeout(30).setMaxRows(1000)
+                        .setForwardOnly(true))
+                .orderBy(id)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        StatementHints statementHints = selectStatement.getStatementHints();
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from foo order by id"),
+                () -> assertThat(statementHints.isEmpty()).isFalse(),
+                () -> assertThat(statementHints.fetchSize()).hasValue(500),
+                () -> assertThat(statementHints.queryTimeout()).hasValue(30),
+                () -> assertThat(statementHints.maxRows()).hasValue(1000),
+                () -> assertThat(statementHints.isForwardOnly()).isTrue()
+        );
+    }
+
+    @Test
+    void testHintsOnCountStatement() {
+        SelectStatementProvider countStatement = countFrom(foo)
+                .where(id, isGreaterThan(2))
+                .configureStatement(c -> c.setQueryTimeout(5))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(countStatement.getStatementHints().queryTimeout()).hasValue(5);
+    }
+
+    @Test
+    void testHintsOnUnion() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isEqualTo(1))
+                .union()
+                .select(id)
+                .from(foo)
+                .where(id, isEqualTo(2))
+                .configureStatement(c -> c.setFetchSize(10))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement.getStatementHints().fetchSize()).hasValue(10);
+    }
+
+    @Test
+    void testHintsOnTemplateAndNamedParameters() {
+        SelectModel selectModel = select(id)
+                .from(foo)
+                .where(id, isEqualTo(param("id", id)))
+                .configureStatement(c -> c.setMaxRows(1))
+                .build();
+
+        SelectStatementProvider named = selectModel.render(RenderingStrategies.MYBATIS3, Map.of("id", 3));
+        SelectStatementProvider bound = selectModel.renderTemplate(RenderingStrategies.MYBATIS3)
+                .bindNamed(Map.of("id", 4));
+
+        assertAll(
+                () -> assertThat(named.getStatementHints().maxRows()).hasValue(1),
+                () -> assertThat(bound.getStatementHints().maxRows()).hasValue(1)
+        );
+    }
+
+    @Test
+    void testHintsCanBeCleared() {
+        StatementConfiguration statementConfiguration = new StatementConfiguration()
+                .setFetchSize(100)
+                .setFetchSize(null);
+
+        assertThat(statementConfiguration.statementHints()).isEqualTo(StatementHints.empty());
+    }
+
+    @Test
+    void testNegativeMaxRows() {
+        StatementConfiguration statementConfiguration = new StatementConfiguration();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> statementConfiguration.setMaxRows(-1))
+                .withMessage(Messages.getString("ERROR.70", "maxRows"));
+    }
+
+    @Test
+    void testNegativeQueryTimeout() {
+        StatementConfiguration statementConfiguration = new StatementConfiguration();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> statementConfiguration.setQueryTimeout(-1))
+                .withMessage(Messages.getString("ERROR.70", "queryTimeout"));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.deleteBatch;
+
+import java.sql.JDBCType;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.util.Messages;
+
+class BatchDeleteTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> lastName = foo.column("last_name", JDBCType.VARCHAR);
+
+    @Test
+    void testBatchDeleteMyBatis() {
+        List<TestRecord> records = List.of(new TestRecord(1, "Flintstone"), new TestRecord(2, "Rubble"));
+
+        BatchDelete<TestRecord> batchDelete = deleteBatch(records)
+                .from(foo)
+                .where(id).isEqualToProperty("id")
+                .and(lastName).isEqualToProperty("lastName")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "delete from foo where id = #{row.id,jdbcType=INTEGER} "
+                + "and last_name = #{row.lastName,jdbcType=VARCHAR}";
+
+        List<DeleteStatementProvider> deleteStatements = batchDelete.deleteStatements();
+
+        assertAll(
+                () -> assertThat(batchDelete.getDeleteStatementSQL()).isEqualTo(expected),
+                () -> assertThat(deleteStatements).hasSize(2),
+                () -> assertThat(deleteStatements.get(0).getDeleteStatement()).isEqualTo(expected),
+                () -> assertThat(deleteStatements.get(0).getParameters()).isEmpty()
+        );
+    }
+
+    @Test
+    void testBatchDeleteSpring() {
+        BatchDelete<TestRecord> batchDelete = deleteBatch(new TestRecord(1, "Flintstone"))
+                .from(foo)
+                .where(id).isEqualToProperty("id")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(batchDelete.getDeleteStatementSQL()).isEqualTo("delete from foo where id = :row.id");
+    }
+
+    @Test
+    void testNoWhereConditions() {
+        BatchDeleteDSL<TestRecord> dsl = deleteBatch(new TestRecord(1, "Flintstone")).from(foo);
+
+        assertThatExceptionOfType(InvalidSqlException.class).isThrownBy(dsl::build)
+                .withMessage(Messages.getString("ERROR.76"));
+    }
+
+    record TestRecord(Integer id, String lastName) {}
+}
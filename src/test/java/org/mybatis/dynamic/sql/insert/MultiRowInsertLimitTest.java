@@ -0,0 +1,156 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
+
+import java.sql.JDBCType;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RowLimit;
+import org.mybatis.dynamic.sql.util.Messages;
+
+class MultiRowInsertLimitTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id1 = foo.column("id1", JDBCType.INTEGER);
+    private static final SqlColumn<Integer> id2 = foo.column("id2", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    private static final List<IdRecord> records = List.of(
+            new IdRecord(1, 11),
+            new IdRecord(2, 12),
+            new IdRecord(3, 13),
+            new IdRecord(4, 14),
+            new IdRecord(5, 15));
+
+    @Test
+    void testMaxRows() {
+        List<MultiRowInsertStatementProvider<IdRecord>> insertStatements = insertMultiple(records)
+                .into(foo)
+                .map(id1).toProperty("id1")
+                .map(id2).toProperty("id2")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, RowLimit.maxRows(2));
+
+        String expectedFull = "insert into foo (id1, id2) values (:records[0].id1, :records[0].id2), "
+                + "(:records[1].id1, :records[1].id2)";
+        String expectedLast = "insert into foo (id1, id2) values (:records[0].id1, :records[0].id2)";
+
+        assertAll(
+                () -> assertThat(insertStatements).hasSize(3),
+                () -> assertThat(insertStatements.get(0).getInsertStatement()).isEqualTo(expectedFull),
+                () -> assertThat(insertStatements.get(1).getInsertStatement())
+                        .isSameAs(insertStatements.get(0).getInsertStatement()),
+                () -> assertThat(insertStatements.get(2).getInsertStatement()).isEqualTo(expectedLast),
+                () -> assertThat(insertStatements.get(0).getRecords()).isEqualTo(records.subList(0, 2)),
+                () -> assertThat(insertStatements.get(1).getRecords()).isEqualTo(records.subList(2, 4)),
+                () -> assertThat(insertStatements.get(2).getRecords()).isEqualTo(records.subList(4, 5))
+        );
+    }
+
+    @Test
+    void testMaxParameters() {
+        List<MultiRowInsertStatementProvider<IdRecord>> insertStatements = insertMultiple(records)
+                .into(foo)
+                .map(id1).toProperty("id1")
+                .map(id2).toProperty("id2")
+                .map(description).toStringConstant("100%")
+                .build()
+                .render(RenderingStrategies.MYBATIS3, RowLimit.maxParameters(5));
+
+        String expectedFull = "insert into foo (id1, id2, description) values "
+                + "(#{records[0].id1,jdbcType=INTEGER}, #{records[0].id2,jdbcType=INTEGER}, '100%'), "
+                + "(#{records[1].id1,jdbcType=INTEGER}, #{records[1].id2,jdbcType=INTEGER}, '100%')";
+
+        assertAll(
+                () -> assertThat(insertStatements).hasSize(3),
+                () -> assertThat(insertStatements.get(0).getInsertStatement()).isEqualTo(expectedFull),
+                () -> assertThat(insertStatements.get(2).getRecords()).containsExactly(new IdRecord(5, 15))
+        );
+    }
+
+    @Test
+    void testLimitLargerThanRecordCount() {
+        MultiRowInsertModel<IdRecord> model = insertMultiple(records)
+                .into(foo)
+                .map(id1).toProperty("id1")
+                .map(id2).toProperty("id2")
+                .build();
+
+        List<MultiRowInsertStatementProvider<IdRecord>> insertStatements =
+                model.render(RenderingStrategies.MYBATIS3, RowLimit.maxRows(100));
+
+        assertAll(
+                () -> assertThat(insertStatements).hasSize(1),
+                () -> assertThat(insertStatements.get(0).getInsertStatement())
+                        .isEqualTo(model.render(RenderingStrategies.MYBATIS3).getInsertStatement()),
+                () -> assertThat(insertStatements.get(0).getRecords()).isEqualTo(records)
+        );
+    }
+
+    @Test
+    void testConstantsOnly() {
+        List<MultiRowInsertStatementProvider<IdRecord>> insertStatements = insertMultiple(records)
+                .into(foo)
+                .map(id1).toConstant("22")
+                .build()
+                .render(RenderingStrategies.MYBATIS3, RowLimit.maxParameters(1));
+
+        assertAll(
+                () -> assertThat(insertStatements).hasSize(1),
+                () -> assertThat(insertStatements.get(0).getInsertStatement())
+                        .isEqualTo("insert into foo (id1) values (22), (22), (22), (22), (22)")
+        );
+    }
+
+    @Test
+    void testRowLargerThanMaxParameters() {
+        MultiRowInsertModel<IdRecord> model = insertMultiple(records)
+                .into(foo)
+                .map(id1).toProperty("id1")
+                .map(id2).toProperty("id2")
+                .build();
+
+        RowLimit limit = RowLimit.maxParameters(1);
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> model.render(RenderingStrategies.MYBATIS3, limit))
+                .withMessage(Messages.getString("ERROR.57", "2", "1"));
+    }
+
+    @Test
+    void testInvalidLimits() {
+        assertAll(
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> RowLimit.maxRows(0))
+                        .withMessage(Messages.getString("ERROR.56")),
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> RowLimit.maxParameters(-1))
+                        .withMessage(Messages.getString("ERROR.56"))
+        );
+    }
+
+    record IdRecord(Integer id1, Integer id2) {}
+}
@@ -0,0 +1,158 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertBatch;
+
+import java.sql.JDBCType;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.util.Messages;
+import org.mybatis.dynamic.sql.util.Utilities;
+
+class StreamingBatchInsertTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    @Test
+    void testRenderedStatementMatchesBatchInsert() {
+        List<Integer> ids = List.of(1, 2, 3);
+
+        StreamingBatchInsert<Integer> streamingBatchInsert = insertBatch(ids.stream())
+                .into(foo)
+                .map(id).toRow()
+                .map(description).toStringConstant("Fred")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = insertBatch(ids)
+                .into(foo)
+                .map(id).toRow()
+                .map(description).toStringConstant("Fred")
+                .build()
+                .render(RenderingStrategies.MYBATIS3)
+                .getInsertStatementSQL();
+
+        List<InsertStatementProvider<Integer>> insertStatements = streamingBatchInsert.insertStatements().toList();
+
+        assertAll(
+                () -> assertThat(streamingBatchInsert.getInsertStatementSQL()).isEqualTo(expected),
+                () -> assertThat(insertStatements).hasSize(3),
+                () -> assertThat(insertStatements.get(2).getRow()).isEqualTo(3),
+                () -> assertThat(insertStatements.get(2).getInsertStatement()).isEqualTo(expected)
+        );
+    }
+
+    @Test
+    void testChunks() {
+        List<List<Integer>> chunks = new ArrayList<>();
+
+        long recordCount = renderIds(IntStream.rangeClosed(1, 7).boxed())
+                .forEachChunk(3, chunk -> chunks.add(List.copyOf(chunk)));
+
+        assertAll(
+                () -> assertThat(recordCount).isEqualTo(7),
+                () -> assertThat(chunks).containsExactly(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7))
+        );
+    }
+
+    @Test
+    void testExactChunksAndEmptyStream() {
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        long recordCount = renderIds(Stream.of(1, 2, 3, 4)).forEachChunk(2, chunk -> chunkSizes.add(chunk.size()));
+        long emptyCount = renderIds(Stream.empty()).forEachChunk(2, chunk -> chunkSizes.add(chunk.size()));
+
+        assertAll(
+                () -> assertThat(recordCount).isEqualTo(4),
+                () -> assertThat(emptyCount).isZero(),
+                () -> assertThat(chunkSizes).containsExactly(2, 2)
+        );
+    }
+
+    @Test
+    void testStreamIsClosedAfterExecution() {
+        AtomicBoolean closed = new AtomicBoolean();
+
+        long rowCount = renderIds(Stream.of(1, 2, 3).onClose(() -> closed.set(true)))
+                .executeInChunks(2, chunk -> chunk.size() * 10L);
+
+        assertAll(
+                () -> assertThat(rowCount).isEqualTo(30),
+                () -> assertThat(closed).isTrue()
+        );
+    }
+
+    @Test
+    void testStreamIsClosedWhenExecutionFails() {
+        AtomicBoolean closed = new AtomicBoolean();
+        StreamingBatchInsert<Integer> batchInsert = renderIds(Stream.of(1, 2, 3).onClose(() -> closed.set(true)));
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> batchInsert.forEachChunk(2, chunk -> {
+                    throw new IllegalStateException();
+                }));
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void testInvalidChunkSize() {
+        StreamingBatchInsert<Integer> batchInsert = renderIds(Stream.of(1));
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> batchInsert.forEachChunk(0, chunk -> { }))
+                .withMessage(Messages.getString("ERROR.55"));
+    }
+
+    @Test
+    void testNoColumnMappings() {
+        StreamingBatchInsertDSL<Integer> dsl = insertBatch(Stream.of(1)).into(foo);
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(dsl::build)
+                .withMessage(Messages.getString("ERROR.5"));
+    }
+
+    @Test
+    void testSumUpdateCounts() {
+        assertThat(Utilities.sumUpdateCounts(new int[] {1, 2, Statement.SUCCESS_NO_INFO, Statement.EXECUTE_FAILED}))
+                .isEqualTo(4);
+    }
+
+    private StreamingBatchInsert<Integer> renderIds(Stream<Integer> ids) {
+        return insertBatch(ids)
+                .into(foo)
+                .map(id).toRow()
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+    }
+}
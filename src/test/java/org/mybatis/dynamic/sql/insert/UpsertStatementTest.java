@@ -0,0 +1,449 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.upsert;
+import static org.mybatis.dynamic.sql.SqlBuilder.upsertBatch;
+import static org.mybatis.dynamic.sql.SqlBuilder.upsertMultiple;
+
+import java.sql.JDBCType;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RowLimit;
+import org.mybatis.dynamic.sql.util.Messages;
+
+class UpsertStatementTest {
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = foo.column("last_name", JDBCType.VARCHAR);
+
+    @Test
+    void testMerge() {
+        TestRecord row = new TestRecord(1, "Fred", "Flintstone");
+
+        InsertStatementProvider<TestRecord> upsertStatement = upsert(row)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .onConflict(id)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "merge into foo using (values (1)) as s (dummy) on (foo.id = #{row.id,jdbcType=INTEGER}) "
+                + "when matched then update set first_name = #{row.firstName,jdbcType=VARCHAR}, "
+                + "last_name = #{row.lastName,jdbcType=VARCHAR} "
+                + "when not matched then insert (id, first_name, last_name) values (#{row.id,jdbcType=INTEGER}, "
+                + "#{row.firstName,jdbcType=VARCHAR}, #{row.lastName,jdbcType=VARCHAR})";
+
+        assertAll(
+                () -> assertThat(upsertStatement.getInsertStatement()).isEqualTo(expected),
+                () -> assertThat(upsertStatement.getRow()).isSameAs(row)
+        );
+    }
+
+    @Test
+    void testMergeDoNothing() {
+        TestRecord row = new TestRecord(1, "Fred", "Flintstone");
+
+        InsertStatementProvider<TestRecord> upsertStatement = upsert(row)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toConstant("'Flintstone'")
+                .onConflict(id)
+                .doNothing()
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "merge into foo using (values (1)) as s (dummy) on (foo.id = :row.id) "
+                + "when not matched then insert (id, first_name, last_name) "
+                + "values (:row.id, :row.firstName, 'Flintstone')";
+
+        assertThat(upsertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testPostgresql() {
+        TestRecord row = new TestRecord(1, "Fred", "Flintstone");
+
+        InsertStatementProvider<TestRecord> upsertStatement = upsert(row)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .onConflict(id)
+                .updateColumns(lastName)
+                .withDialect(UpsertDialect.POSTGRESQL)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "insert into foo (id, first_name, last_name) "
+                + "values (:row.id, :row.firstName, :row.lastName) "
+                + "on conflict (id) do update set last_name = excluded.last_name";
+
+        assertThat(upsertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testPostgresqlDoNothing() {
+        TestRecord row = new TestRecord(1, "Fred", "Flintstone");
+
+        InsertStatementProvider<TestRecord> upsertStatement = upsert(row)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .onConflict(id)
+                .doNothing()
+                .withDialect(UpsertDialect.POSTGRESQL)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "insert into foo (id, first_name) values (:row.id, :row.firstName) "
+                + "on conflict (id) do nothing";
+
+        assertThat(upsertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testMySql() {
+        TestRecord row = new TestRecord(1, "Fred", "Flintstone");
+
+        InsertStatementProvider<TestRecord> upsertStatement = upsert(row)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .onConflict(id)
+                .withDialect(UpsertDialect.MYSQL)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "insert into foo (id, first_name, last_name) "
+                + "values (:row.id, :row.firstName, :row.lastName) as new "
+                + "on duplicate key update first_name = new.first_name, last_name = new.last_name";
+
+        assertThat(upsertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testMariaDb() {
+        TestRecord row = new TestRecord(1, "Fred", "Flintstone");
+
+        InsertStatementProvider<TestRecord> upsertStatement = upsert(row)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .onConflict(id)
+                .withDialect(UpsertDialect.MARIADB)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "insert into foo (id, first_name, last_name) "
+                + "values (:row.id, :row.firstName, :row.lastName) "
+                + "on duplicate key update first_name = values(first_name), last_name = values(last_name)";
+
+        assertThat(upsertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testMySqlDoNothing() {
+        TestRecord row = new TestRecord(1, "Fred", "Flintstone");
+
+        InsertStatementProvider<TestRecord> upsertStatement = upsert(row)
+                .into(foo)
+                .map(id).toProperty("id")
+                .onConflict(id)
+                .doNothing()
+                .withDialect(UpsertDialect.MYSQL)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "insert into foo (id) values (:row.id) as new on duplicate key update id = id";
+
+        assertThat(upsertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testMultiRowMerge() {
+        List<TestRecord> records = List.of(new TestRecord(1, "Fred", "Flintstone"),
+                new TestRecord(2, "Barney", "Rubble"));
+
+        MultiRowInsertStatementProvider<TestRecord> upsertStatement = upsertMultiple(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .onConflict(id)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "merge into foo using (values (:records[0].id, :records[0].firstName), "
+                + "(:records[1].id, :records[1].firstName)) as s (id, first_name) on (foo.id = s.id) "
+                + "when matched then update set first_name = s.first_name "
+                + "when not matched then insert (id, first_name) values (s.id, s.first_name)";
+
+        assertAll(
+                () -> assertThat(upsertStatement.getInsertStatement()).isEqualTo(expected),
+                () -> assertThat(upsertStatement.getRecords()).containsExactly(records.toArray(new TestRecord[0]))
+        );
+    }
+
+    @Test
+    void testSqlServer() {
+        TestRecord row = new TestRecord(1, "Fred", "Flintstone");
+
+        InsertStatementProvider<TestRecord> upsertStatement = upsert(row)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(lastName).toProperty("lastName")
+                .onConflict(id)
+                .withDialect(UpsertDialect.SQL_SERVER)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "merge into foo using (values (1)) as s (dummy) on (foo.id = :row.id) "
+                + "when matched then update set last_name = :row.lastName "
+                + "when not matched then insert (id, last_name) values (:row.id, :row.lastName);";
+
+        assertThat(upsertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testMultiRowSqlServer() {
+        List<TestRecord> records = List.of(new TestRecord(1, "Fred", "Flintstone"),
+                new TestRecord(2, "Barney", "Rubble"));
+
+        MultiRowInsertStatementProvider<TestRecord> upsertStatement = upsertMultiple(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .onConflict(id)
+                .withDialect(UpsertDialect.SQL_SERVER)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "merge into foo using (values (:records[0].id, :records[0].firstName), "
+                + "(:records[1].id, :records[1].firstName)) as s (id, first_name) on (foo.id = s.id) "
+                + "when matched then update set first_name = s.first_name "
+                + "when not matched then insert (id, first_name) values (s.id, s.first_name);";
+
+        assertThat(upsertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testMergePositionalParameters() {
+        TestRecord row = new TestRecord(1, "Fred", "Flintstone");
+
+        InsertStatementProvider<TestRecord> upsertStatement = upsert(row)
+                .into(foo)
+                .map(firstName).toProperty("firstName")
+                .map(id).toProperty("id")
+                .map(lastName).toProperty("lastName")
+                .onConflict(id)
+                .updateColumns(lastName, firstName)
+                .build()
+                .render(RenderingStrategies.JDBC);
+
+        String expected = "merge into foo using (values (1)) as s (dummy) on (foo.id = ?) "
+                + "when matched then update set last_name = ?, first_name = ? "
+                + "when not matched then insert (first_name, id, last_name) values (?, ?, ?)";
+
+        assertAll(
+                () -> assertThat(upsertStatement.getInsertStatement()).isEqualTo(expected),
+                () -> assertThat(upsertStatement.getPositionalParameters()).extracting(ParameterSlot::parameterMapKey)
+                        .containsExactly("row.id", "row.lastName", "row.firstName", "row.firstName", "row.id",
+                                "row.lastName")
+        );
+    }
+
+    @Test
+    void testMultiRowMySqlPositionalParameters() {
+        List<TestRecord> records = List.of(new TestRecord(1, "Fred", "Flintstone"),
+                new TestRecord(2, "Barney", "Rubble"));
+
+        MultiRowInsertStatementProvider<TestRecord> upsertStatement = upsertMultiple(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .onConflict(id)
+                .withDialect(UpsertDialect.MYSQL)
+                .build()
+                .render(RenderingStrategies.JDBC);
+
+        String expected = "insert into foo (id, first_name) values (?, ?), (?, ?) as new "
+                + "on duplicate key update first_name = new.first_name";
+
+        assertAll(
+                () -> assertThat(upsertStatement.getInsertStatement()).isEqualTo(expected),
+                () -> assertThat(upsertStatement.getPositionalParameters()).extracting(ParameterSlot::parameterMapKey)
+                        .containsExactly("records[0].id", "records[0].firstName", "records[1].id",
+                                "records[1].firstName")
+        );
+    }
+
+    @Test
+    void testMultiRowPostgresqlWithLimit() {
+        List<TestRecord> records = List.of(new TestRecord(1, "Fred", "Flintstone"),
+                new TestRecord(2, "Barney", "Rubble"), new TestRecord(3, "Wilma", "Flintstone"));
+
+        List<MultiRowInsertStatementProvider<TestRecord>> upsertStatements = upsertMultiple(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(lastName).toProperty("lastName")
+                .onConflict(id)
+                .withDialect(UpsertDialect.POSTGRESQL)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, RowLimit.maxRows(2));
+
+        String expectedFull = "insert into foo (id, last_name) values (:records[0].id, :records[0].lastName), "
+                + "(:records[1].id, :records[1].lastName) "
+                + "on conflict (id) do update set last_name = excluded.last_name";
+        String expectedPartial = "insert into foo (id, last_name) values (:records[0].id, :records[0].lastName) "
+                + "on conflict (id) do update set last_name = excluded.last_name";
+
+        assertAll(
+                () -> assertThat(upsertStatements).hasSize(2),
+                () -> assertThat(upsertStatements.get(0).getInsertStatement()).isEqualTo(expectedFull),
+                () -> assertThat(upsertStatements.get(0).getRecords()).hasSize(2),
+                () -> assertThat(upsertStatements.get(1).getInsertStatement()).isEqualTo(expectedPartial),
+                () -> assertThat(upsertStatements.get(1).getRecords()).hasSize(1)
+        );
+    }
+
+    @Test
+    void testBatchMerge() {
+        List<TestRecord> records = List.of(new TestRecord(1, "Fred", "Flintstone"),
+                new TestRecord(2, "Barney", "Rubble"));
+
+        BatchInsert<TestRecord> upsertStatement = upsertBatch(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .onConflict(id)
+                .updateColumns(lastName)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "merge into foo using (values (1)) as s (dummy) on (foo.id = #{row.id,jdbcType=INTEGER}) "
+                + "when matched then update set last_name = #{row.lastName,jdbcType=VARCHAR} "
+                + "when not matched then insert (id, first_name, last_name) values (#{row.id,jdbcType=INTEGER}, "
+                + "#{row.firstName,jdbcType=VARCHAR}, #{row.lastName,jdbcType=VARCHAR})";
+
+        assertAll(
+                () -> assertThat(upsertStatement.getInsertStatementSQL()).isEqualTo(expected),
+                () -> assertThat(upsertStatement.insertStatements()).hasSize(2)
+        );
+    }
+
+    @Test
+    void testCompoundKey() {
+        TestRecord row = new TestRecord(1, "Fred", "Flintstone");
+
+        InsertStatementProvider<TestRecord> upsertStatement = upsert(row)
+                .into(foo)
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .map(id).toProperty("id")
+                .onConflict(firstName, lastName)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "merge into foo using (values (1)) as s (dummy) "
+                + "on (foo.first_name = :row.firstName and foo.last_name = :row.lastName) "
+                + "when matched then update set id = :row.id "
+                + "when not matched then insert (first_name, last_name, id) "
+                + "values (:row.firstName, :row.lastName, :row.id)";
+
+        assertThat(upsertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testNoKeyColumns() {
+        UpsertDSL<TestRecord> dsl = upsert(new TestRecord(1, "Fred", "Flintstone"))
+                .into(foo)
+                .map(id).toProperty("id");
+
+        assertThatExceptionOfType(InvalidSqlException.class).isThrownBy(dsl::build)
+                .withMessage(Messages.getString("ERROR.71"));
+    }
+
+    @Test
+    void testUnmappedKeyColumn() {
+        UpsertModel<TestRecord> model = upsert(new TestRecord(1, "Fred", "Flintstone"))
+                .into(foo)
+                .map(firstName).toProperty("firstName")
+                .onConflict(id)
+                .build();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> model.render(RenderingStrategies.SPRING_NAMED_PARAMETER))
+                .withMessage(Messages.getString("ERROR.72", "id"));
+    }
+
+    @Test
+    void testUnmappedUpdateColumn() {
+        UpsertModel<TestRecord> model = upsert(new TestRecord(1, "Fred", "Flintstone"))
+                .into(foo)
+                .map(id).toProperty("id")
+                .onConflict(id)
+                .updateColumns(lastName)
+                .build();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> model.render(RenderingStrategies.SPRING_NAMED_PARAMETER))
+                .withMessage(Messages.getString("ERROR.72", "last_name"));
+    }
+
+    @Test
+    void testNoMappings() {
+        UpsertDSL<TestRecord> dsl = upsert(new TestRecord(1, "Fred", "Flintstone"))
+                .into(foo)
+                .onConflict(id);
+
+        assertThatExceptionOfType(InvalidSqlException.class).isThrownBy(dsl::build)
+                .withMessage(Messages.getString("ERROR.73"));
+    }
+
+    @Test
+    void testNoRecords() {
+        MultiRowUpsertDSL<TestRecord> dsl = upsertMultiple(Collections.<TestRecord>emptyList())
+                .into(foo)
+                .map(id).toProperty("id")
+                .onConflict(id);
+
+        assertThatExceptionOfType(InvalidSqlException.class).isThrownBy(dsl::build)
+                .withMessage(Messages.getString("ERROR.74"));
+    }
+
+    record TestRecord(Integer id, String firstName, String lastName) {}
+}
@@ -16,8 +16,12 @@
 package org.mybatis.dynamic.sql.insert.render;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
 
 import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
 
 class FieldAndValueCollectorTest {
 
@@ -36,4 +40,47 @@ class FieldAndValueCollectorTest {
         assertThat(collector1.columnsPhrase()).isEqualTo("(f1, f2)");
         assertThat(collector1.valuesPhrase()).isEqualTo("values (3, 4)");
     }
+
+    @Test
+    void testMultiRowInsertValuesPhrase() {
+        FieldAndValueCollector collector = new FieldAndValueCollector();
+        collector.add(FieldAndValueAndParameters.withFieldName("f1").withParameterBinding("#{records[%s].f1}").build());
+        collector.add(FieldAndValueAndParameters.withFieldName("f2").withValuePhrase("'a'").build());
+        collector.add(FieldAndValueAndParameters.withFieldName("f3").withParameterBinding("#{records[%s]}").build());
+
+        assertThat(collector.parametersPerRow()).isEqualTo(2);
+        assertThat(collector.multiRowInsertValuesPhrase(2))
+                .isEqualTo("values (#{records[0].f1}, 'a', #{records[0]}), (#{records[1].f1}, 'a', #{records[1]})");
+    }
+
+    @Test
+    void testMultiRowInsertValuesPhraseWithFormatCharactersInConstants() {
+        FieldAndValueCollector collector = new FieldAndValueCollector();
+        collector.add(FieldAndValueAndParameters.withFieldName("f1").withValuePhrase("'100%s'").build());
+        collector.add(FieldAndValueAndParameters.withFieldName("f2").withParameterBinding("#{records[%s].f2}").build());
+        collector.add(FieldAndValueAndParameters.withFieldName("f3").withValuePhrase("'50%%'").build());
+
+        assertThat(collector.parametersPerRow()).isEqualTo(1);
+        assertThat(collector.multiRowInsertValuesPhrase(2))
+                .isEqualTo("values ('100%s', #{records[0].f2}, '50%'), ('100%s', #{records[1].f2}, '50%')");
+    }
+
+    @Test
+    void testMultiRowInsertWithFormatCharactersInConstants() {
+        SqlTable foo = SqlTable.of("foo");
+        SqlColumn<Integer> id = foo.column("id");
+        SqlColumn<String> description = foo.column("description");
+        SqlColumn<String> discount = foo.column("discount");
+
+        MultiRowInsertStatementProvider<Integer> insertStatement = insertMultiple(1, 2)
+                .into(foo)
+                .map(id).toRow()
+                .map(description).toStringConstant("100%s")
+                .map(discount).toConstant("'50%%'")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(insertStatement.getInsertStatement()).isEqualTo("insert into foo (id, description, discount) "
+                + "values (:records[0], '100%s', '50%'), (:records[1], '100%s', '50%')");
+    }
 }
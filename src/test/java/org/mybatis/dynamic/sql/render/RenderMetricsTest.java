@@ -0,0 +1,283 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderEvent.StatementType;
+import org.mybatis.dynamic.sql.render.RenderMetrics.StatementMetrics;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.Messages;
+
+class RenderMetricsTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = foo.column("last_name", JDBCType.VARCHAR);
+
+    @Test
+    void testSelectMetrics() {
+        RenderMetrics metrics = new RenderMetrics();
+
+        SelectStatementProvider selectStatement = null;
+        for (int i = 0; i < 3; i++) {
+            selectStatement = renderSelect(i, null, null, metrics, null);
+        }
+        String expectedStatement = selectStatement.getSelectStatement();
+
+        List<StatementMetrics> snapshot = metrics.snapshot();
+        assertThat(snapshot).hasSize(1);
+        StatementMetrics statementMetrics = snapshot.get(0);
+
+        assertAll(
+                () -> assertThat(expectedStatement)
+                        .isEqualTo("select id from foo where id > #{parameters.p1,jdbcType=INTEGER}"),
+                () -> assertThat(statementMetrics.statementType()).isEqualTo(StatementType.SELECT),
+                () -> assertThat(statementMetrics.shapeFingerprint()).isEqualTo(RenderInstrumentation.fingerprint(expectedStatement)),
+                () -> assertThat(statementMetrics.sqlLength()).isEqualTo(expectedStatement.length()),
+                () -> assertThat(statementMetrics.parameterCount()).isEqualTo(1),
+                () -> assertThat(statementMetrics.count()).isEqualTo(3),
+                () -> assertThat(statementMetrics.skippedConditionCount()).isEqualTo(6),
+                () -> assertThat(Arrays.stream(statementMetrics.histogram()).sum()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    void testDifferentShapesAreSeparate() {
+        RenderMetrics metrics = new RenderMetrics();
+
+        renderSelect(1, null, null, metrics, null);
+        renderSelect(1, "Fred", null, metrics, null);
+        renderSelect(1, "Fred", "Flintstone", metrics, null);
+        renderSelect(2, "Barney", "Rubble", metrics, null);
+
+        List<StatementMetrics> snapshot = metrics.snapshot();
+
+        assertAll(
+                () -> assertThat(snapshot).hasSize(3),
+                () -> assertThat(snapshot).extracting(StatementMetrics::count)
+                        .containsExactlyInAnyOrder(1L, 1L, 2L),
+                () -> assertThat(snapshot).extracting(StatementMetrics::parameterCount)
+                        .containsExactlyInAnyOrder(1, 2, 3),
+                () -> assertThat(snapshot).extracting(StatementMetrics::totalNanos).isSortedAccordingTo(
+                        (a, b) -> Long.compare(b, a))
+        );
+    }
+
+    @Test
+    void testSkippedConditionsAreCountedOnceWithCache() {
+        RenderMetrics metrics = new RenderMetrics();
+        RenderedStatementCache cache = new RenderedStatementCache(10);
+
+        for (int i = 0; i < 3; i++) {
+            renderSelect(i, null, "Flintstone", metrics, cache);
+            renderDelete(i, null, metrics, cache);
+        }
+
+        List<StatementMetrics> snapshot = metrics.snapshot();
+
+        assertAll(
+                () -> assertThat(cache.hitCount()).isEqualTo(4),
+                () -> assertThat(cache.missCount()).isEqualTo(2),
+                () -> assertThat(snapshot).hasSize(2),
+                () -> assertThat(snapshot).extracting(StatementMetrics::statementType)
+                        .containsExactlyInAnyOrder(StatementType.SELECT, StatementType.DELETE),
+                () -> assertThat(snapshot).extracting(StatementMetrics::count).containsOnly(3L),
+                () -> assertThat(snapshot).extracting(StatementMetrics::skippedConditionCount).containsOnly(3L)
+        );
+    }
+
+    @Test
+    void testListenerIsNotCalledWithoutConfiguration() {
+        List<RenderEvent> events = new ArrayList<>();
+
+        renderSelect(1, null, null, null, null);
+        renderDelete(1, "Fred", events::add, null);
+
+        assertThat(events).singleElement().satisfies(e -> assertAll(
+                () -> assertThat(e.statementType()).isEqualTo(StatementType.DELETE),
+                () -> assertThat(e.parameterCount()).isEqualTo(2),
+                () -> assertThat(e.skippedConditionCount()).isZero(),
+                () -> assertThat(e.durationNanos()).isNotNegative()
+        ));
+    }
+
+    @Test
+    void testRecordBasedStatementsUseTheStatementListener() {
+        List<RenderEvent> events = new ArrayList<>();
+        Row fred = new Row(1, "Fred", "Flintstone");
+        Row wilma = new Row(2, "Wilma", "Flintstone");
+
+        insert(fred).into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toStringConstant("Flintstone")
+                .configureStatement(c -> c.setRenderListener(events::add))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        insertMultiple(fred, wilma).into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .configureStatement(c -> c.setRenderListener(events::add))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        insertBatch(fred, wilma).into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .configureStatement(c -> c.setRenderListener(events::add))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        upsert(fred).into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .onConflict(id)
+                .configureStatement(c -> c.setRenderListener(events::add))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        updateBatch(fred, wilma).table(foo)
+                .set(firstName).toProperty("firstName")
+                .set(lastName).toNull()
+                .where(id).isEqualToProperty("id")
+                .configureStatement(c -> c.setRenderListener(events::add))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        deleteBatch(fred, wilma).from(foo)
+                .where(id).isEqualToProperty("id")
+                .configureStatement(c -> c.setRenderListener(events::add))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(events).extracting(RenderEvent::statementType).containsExactly(StatementType.INSERT,
+                        StatementType.MULTI_ROW_INSERT, StatementType.BATCH_INSERT, StatementType.UPSERT,
+                        StatementType.BATCH_UPDATE, StatementType.BATCH_DELETE),
+                // the merge upsert binds the key in the search condition and the update columns in the update
+                () -> assertThat(events).extracting(RenderEvent::parameterCount).containsExactly(2, 4, 2, 6, 2, 1)
+        );
+    }
+
+    @Test
+    void testPercentiles() {
+        RenderMetrics metrics = new RenderMetrics();
+        for (long duration = 1; duration <= 100; duration++) {
+            metrics.statementRendered(new RenderEvent(StatementType.UPDATE, duration * 1000, 10, 1, 0, 42));
+        }
+
+        StatementMetrics statementMetrics = metrics.snapshot().get(0);
+
+        assertAll(
+                () -> assertThat(statementMetrics.count()).isEqualTo(100),
+                () -> assertThat(statementMetrics.maxNanos()).isEqualTo(100_000),
+                () -> assertThat(statementMetrics.averageNanos()).isEqualTo(50_500),
+                () -> assertThat(statementMetrics.percentileNanos(50)).isEqualTo(65_536),
+                () -> assertThat(statementMetrics.percentileNanos(100)).isEqualTo(100_000),
+                () -> assertThat(statementMetrics.percentileNanos(1)).isEqualTo(1024),
+                () -> assertThat(statementMetrics.histogram()).hasSize(64),
+                () -> assertThat(statementMetrics.histogram()[17]).isEqualTo(35)
+        );
+
+        metrics.clear();
+        assertThat(metrics.snapshot()).isEmpty();
+    }
+
+    @Test
+    void testMaximumStatements() {
+        RenderMetrics metrics = new RenderMetrics(2);
+        for (long fingerprint = 1; fingerprint <= 4; fingerprint++) {
+            metrics.statementRendered(new RenderEvent(StatementType.SELECT, 1000, 10, 1, 0, fingerprint));
+        }
+        metrics.statementRendered(new RenderEvent(StatementType.SELECT, 1000, 10, 1, 0, 1));
+
+        assertAll(
+                () -> assertThat(metrics.maximumStatements()).isEqualTo(2),
+                () -> assertThat(metrics.snapshot()).extracting(StatementMetrics::shapeFingerprint)
+                        .containsExactlyInAnyOrder(1L, 2L),
+                () -> assertThat(metrics.snapshot()).extracting(StatementMetrics::count)
+                        .containsExactlyInAnyOrder(2L, 1L),
+                () -> assertThat(metrics.droppedEventCount()).isEqualTo(2)
+        );
+
+        metrics.clear();
+        assertThat(metrics.droppedEventCount()).isZero();
+    }
+
+    @Test
+    void testInvalidMaximumStatements() {
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> new RenderMetrics(0))
+                .withMessage(Messages.getString("ERROR.80"));
+    }
+
+    @Test
+    void testFingerprintsDistinguishStatementsWithEqualHashCodes() {
+        // "Aa" and "BB" have the same String hash code
+        assertThat(RenderInstrumentation.fingerprint("select Aa from foo"))
+                .isNotEqualTo(RenderInstrumentation.fingerprint("select BB from foo"));
+    }
+
+    @Test
+    void testBuckets() {
+        assertAll(
+                () -> assertThat(RenderMetrics.bucket(0)).isZero(),
+                () -> assertThat(RenderMetrics.bucket(1)).isEqualTo(1),
+                () -> assertThat(RenderMetrics.bucket(2)).isEqualTo(2),
+                () -> assertThat(RenderMetrics.bucket(3)).isEqualTo(2),
+                () -> assertThat(RenderMetrics.bucket(4)).isEqualTo(3),
+                () -> assertThat(RenderMetrics.bucket(Long.MAX_VALUE)).isEqualTo(63)
+        );
+    }
+
+    private record Row(Integer id, String firstName, String lastName) {}
+
+    private SelectStatementProvider renderSelect(int minimumId, @Nullable String first, @Nullable String last,
+                                                 @Nullable RenderListener listener,
+                                                 @Nullable RenderedStatementCache cache) {
+        return select(id)
+                .from(foo)
+                .where(id, isGreaterThan(minimumId))
+                .and(firstName, isEqualToWhenPresent(first))
+                .and(lastName, isEqualToWhenPresent(last))
+                .configureStatement(c -> c.setRenderListener(listener).setRenderedStatementCache(cache))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+    }
+
+    private DeleteStatementProvider renderDelete(int id, @Nullable String first,
+                                                 @Nullable RenderListener listener,
+                                                 @Nullable RenderedStatementCache cache) {
+        return deleteFrom(foo)
+                .where(RenderMetricsTest.id, isEqualTo(id))
+                .and(firstName, isEqualToWhenPresent(first))
+                .configureStatement(c -> c.setRenderListener(listener).setRenderedStatementCache(cache))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+    }
+}
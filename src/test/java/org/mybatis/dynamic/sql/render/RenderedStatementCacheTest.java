@@ -0,0 +1,258 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.RenderableCondition;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+class RenderedStatementCacheTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlTable bar = SqlTable.of("bar");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<Integer> barId = bar.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<Boolean> employed = foo.column("employed", JDBCType.VARCHAR)
+            .withParameterTypeConverter((Boolean b) -> b ? "Yes" : "No");
+
+    @Test
+    void testSameShapeIsRenderedOnce() {
+        RenderedStatementCache cache = new RenderedStatementCache(10);
+
+        SelectStatementProvider first = renderSelect(1, null, List.of(1, 2), cache, RenderingStrategies.MYBATIS3);
+        SelectStatementProvider second = renderSelect(2, null, List.of(3, 4), cache, RenderingStrategies.MYBATIS3);
+
+        String expected = "select foo.id, foo.first_name from foo join bar on bar.id = foo.id"
+                + " where foo.id > #{parameters.p1,jdbcType=INTEGER}"
+                + " and foo.id in (#{parameters.p2,jdbcType=INTEGER},#{parameters.p3,jdbcType=INTEGER})"
+                + " order by id limit #{parameters.p4}";
+
+        assertAll(
+                () -> assertThat(first.getSelectStatement()).isEqualTo(expected),
+                () -> assertThat(second.getSelectStatement()).isSameAs(first.getSelectStatement()),
+                () -> assertThat(second.getParameters()).containsOnly(entry("p1", 2), entry("p2", 3),
+                        entry("p3", 4), entry("p4", 10L)),
+                () -> assertThat(cache.hitCount()).isEqualTo(1),
+                () -> assertThat(cache.missCount()).isEqualTo(1),
+                () -> assertThat(cache.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testDifferentShapesMatchNormalRendering() {
+        RenderedStatementCache cache = new RenderedStatementCache(10);
+
+        for (int i = 0; i < 4; i++) {
+            String name = i % 2 == 0 ? null : "F%";
+            List<Integer> ids = i < 2 ? List.of(i) : List.of(i, i + 1, i + 2);
+
+            SelectStatementProvider expected =
+                    renderSelect(i, name, ids, null, RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+            for (int j = 0; j < 2; j++) {
+                SelectStatementProvider actual =
+                        renderSelect(i, name, ids, cache, RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+                assertThat(actual.getSelectStatement()).isEqualTo(expected.getSelectStatement());
+                assertThat(actual.getParameters()).isEqualTo(expected.getParameters());
+            }
+        }
+
+        assertAll(
+                () -> assertThat(cache.hitCount()).isEqualTo(4),
+                () -> assertThat(cache.missCount()).isEqualTo(4),
+                () -> assertThat(cache.size()).isEqualTo(4)
+        );
+    }
+
+    @Test
+    void testLeastRecentlyUsedShapeIsEvicted() {
+        RenderedStatementCache cache = new RenderedStatementCache(2);
+
+        renderCount(cache, isEqualTo(1));
+        renderCount(cache, isGreaterThan(1));
+        renderCount(cache, isEqualTo(2));
+        renderCount(cache, isLessThan(1));
+        renderCount(cache, isGreaterThan(2));
+
+        assertAll(
+                () -> assertThat(cache.size()).isEqualTo(2),
+                () -> assertThat(cache.hitCount()).isEqualTo(1),
+                () -> assertThat(cache.missCount()).isEqualTo(4)
+        );
+    }
+
+    @Test
+    void testUpdateAndDelete() {
+        RenderedStatementCache cache = new RenderedStatementCache(10);
+
+        for (int i = 0; i < 2; i++) {
+            boolean isEmployed = i == 0;
+            UpdateStatementProvider updateStatement = update(foo)
+                    .set(firstName).equalTo("Fred" + i)
+                    .set(employed).equalTo(isEmployed)
+                    .where(id, isEqualTo(i))
+                    .configureStatement(c -> c.setRenderedStatementCache(cache))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            DeleteStatementProvider deleteStatement = deleteFrom(foo)
+                    .where(id, isBetween(i).and(i + 5))
+                    .configureStatement(c -> c.setRenderedStatementCache(cache))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            int expectedId = i;
+            assertAll(
+                    () -> assertThat(updateStatement.getUpdateStatement()).isEqualTo(
+                            "update foo set first_name = #{parameters.p1,jdbcType=VARCHAR},"
+                            + " employed = #{parameters.p2,jdbcType=VARCHAR}"
+                            + " where id = #{parameters.p3,jdbcType=INTEGER}"),
+                    () -> assertThat(updateStatement.getParameters()).containsOnly(entry("p1", "Fred" + expectedId),
+                            entry("p2", isEmployed ? "Yes" : "No"), entry("p3", expectedId)),
+                    () -> assertThat(deleteStatement.getDeleteStatement()).isEqualTo(
+                            "delete from foo where id between #{parameters.p1,jdbcType=INTEGER}"
+                            + " and #{parameters.p2,jdbcType=INTEGER}"),
+                    () -> assertThat(deleteStatement.getParameters()).containsOnly(entry("p1", expectedId),
+                            entry("p2", expectedId + 5))
+            );
+        }
+
+        assertAll(
+                () -> assertThat(cache.hitCount()).isEqualTo(2),
+                () -> assertThat(cache.missCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void testArrayConditionsShareCachedStatements() {
+        RenderedStatementCache cache = new RenderedStatementCache(10);
+
+        SelectStatementProvider first = renderArraySelect(List.of(1, 2), cache);
+        SelectStatementProvider second = renderArraySelect(List.of(3, 4, 5, 6, 7), cache);
+
+        assertAll(
+                () -> assertThat(first.getSelectStatement()).isEqualTo("select id from foo where id in (select * from unnest(cast("
+                        + "#{parameters.p1,typeHandler=org.apache.ibatis.type.ArrayTypeHandler} "
+                        + "as INTEGER array)))"),
+                () -> assertThat(second.getSelectStatement()).isSameAs(first.getSelectStatement()),
+                () -> assertThat(second.getParameters()).containsEntry("p1", new Integer[] {3, 4, 5, 6, 7}),
+                () -> assertThat(cache.hitCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testUnsupportedStatementIsNotCached() {
+        RenderedStatementCache cache = new RenderedStatementCache(10);
+
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(exists(select(barId).from(bar).where(barId, isEqualTo(3))))
+                .configureStatement(c -> c.setRenderedStatementCache(cache))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                        "select id from foo where exists"
+                        + " (select id from bar where id = #{parameters.p1,jdbcType=INTEGER})"),
+                () -> assertThat(cache.size()).isZero(),
+                () -> assertThat(cache.hitCount()).isZero(),
+                () -> assertThat(cache.missCount()).isZero()
+        );
+    }
+
+    @Test
+    void testTemplatesBypassTheCache() {
+        RenderedStatementCache cache = new RenderedStatementCache(10);
+
+        select(id).from(foo)
+                .where(id, isEqualTo(3))
+                .configureStatement(c -> c.setRenderedStatementCache(cache))
+                .build()
+                .renderTemplate(RenderingStrategies.MYBATIS3);
+
+        assertThat(cache.missCount()).isZero();
+    }
+
+    @Test
+    void testDisabledCache() {
+        RenderedStatementCache cache = new RenderedStatementCache(0);
+
+        for (int i = 0; i < 2; i++) {
+            renderCount(cache, isEqualTo(i));
+        }
+
+        assertAll(
+                () -> assertThat(cache.isEnabled()).isFalse(),
+                () -> assertThat(cache.size()).isZero(),
+                () -> assertThat(cache.hitCount()).isZero(),
+                () -> assertThat(cache.missCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void testDefaultStatementConfiguration() {
+        assertThat(new StatementConfiguration().renderedStatementCache()).isEmpty();
+    }
+
+    private SelectStatementProvider renderSelect(int minimumId, @Nullable String name, List<Integer> ids,
+                                                 @Nullable RenderedStatementCache cache,
+                                                 RenderingStrategy renderingStrategy) {
+        return select(id, firstName)
+                .from(foo)
+                .join(bar).on(barId, isEqualTo(id))
+                .where(id, isGreaterThan(minimumId))
+                .and(firstName, isLikeWhenPresent(name))
+                .and(id, isIn(ids))
+                .configureStatement(c -> c.setRenderedStatementCache(cache))
+                .orderBy(id)
+                .limit(10)
+                .build()
+                .render(renderingStrategy);
+    }
+
+    private SelectStatementProvider renderArraySelect(List<Integer> ids, RenderedStatementCache cache) {
+        return select(id)
+                .from(foo)
+                .where(id, isInArray(ids))
+                .configureStatement(c -> c.setRenderedStatementCache(cache))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+    }
+
+    private void renderCount(RenderedStatementCache cache, RenderableCondition<Integer> condition) {
+        countFrom(foo)
+                .where(id, condition)
+                .configureStatement(c -> c.setRenderedStatementCache(cache))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.sql.JDBCType;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+
+class RenderingStrategyTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+
+    @Test
+    void testParameterMapKeysAreReused() {
+        assertAll(
+                () -> assertThat(RenderingStrategy.parameterMapKey(1)).isEqualTo("p1"),
+                () -> assertThat(RenderingStrategy.parameterMapKey(2047))
+                        .isSameAs(RenderingStrategy.parameterMapKey(2047)),
+                () -> assertThat(RenderingStrategy.parameterMapKey(2048)).isEqualTo("p2048"),
+                () -> assertThat(RenderingStrategy.parameterMapKey(-1)).isEqualTo("p-1")
+        );
+    }
+
+    @Test
+    void testSequence() {
+        ParameterSequence sequence = new ParameterSequence();
+        RenderingStrategy renderingStrategy = RenderingStrategies.MYBATIS3;
+
+        assertAll(
+                () -> assertThat(renderingStrategy.formatParameterMapKey(sequence)).isEqualTo("p1"),
+                () -> assertThat(renderingStrategy.formatParameterMapKeyForLimit(sequence)).isEqualTo("p2"),
+                () -> assertThat(renderingStrategy.formatParameterMapKeyForOffset(sequence)).isEqualTo("p3"),
+                () -> assertThat(new ParameterSequence(5).getAndIncrement()).isEqualTo(5)
+        );
+    }
+
+    @Test
+    @SuppressWarnings("removal")
+    void testDeprecatedHooksDelegateToSequenceHooks() {
+        RenderingStrategy renderingStrategy = new MyBatis3RenderingStrategy() {
+            @Override
+            public String formatParameterMapKeyForLimit(ParameterSequence sequence) {
+                return "_limit";
+            }
+        };
+        AtomicInteger sequence = new AtomicInteger(1);
+
+        assertAll(
+                () -> assertThat(renderingStrategy.formatParameterMapKey(sequence)).isEqualTo("p1"),
+                () -> assertThat(renderingStrategy.formatParameterMapKeyForLimit(sequence)).isEqualTo("_limit"),
+                () -> assertThat(renderingStrategy.formatParameterMapKeyForOffset(sequence)).isEqualTo("p2"),
+                () -> assertThat(renderingStrategy.formatParameterMapKeyForFetchFirstRows(sequence)).isEqualTo("p3"),
+                () -> assertThat(sequence).hasValue(4)
+        );
+    }
+
+    @Test
+    @SuppressWarnings("removal")
+    void testAtomicSequenceIsShared() {
+        SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+        AtomicInteger sequence = new AtomicInteger(5);
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .withSequence(sequence)
+                .withStatementConfiguration(new StatementConfiguration())
+                .build();
+
+        assertAll(
+                () -> assertThat(renderingContext.calculateParameterInfo(id).parameterMapKey()).isEqualTo("p5"),
+                () -> assertThat(renderingContext.calculateLimitParameterInfo().parameterMapKey()).isEqualTo("p6"),
+                () -> assertThat(sequence).hasValue(7)
+        );
+    }
+
+    @Test
+    void testMyBatis3TypeDetails() {
+        SqlColumn<String> column = foo.column("description", JDBCType.VARCHAR, "foo.StringTypeHandler")
+                .withJavaType(String.class);
+        SqlColumn<String> plainColumn = foo.column("name");
+
+        RenderingStrategy renderingStrategy = RenderingStrategies.MYBATIS3;
+
+        assertAll(
+                () -> assertThat(renderingStrategy.getFormattedJdbcPlaceholder(column, "parameters", "p1"))
+                        .isEqualTo("#{parameters.p1,jdbcType=VARCHAR,javaType=java.lang.String"
+                                + ",typeHandler=foo.StringTypeHandler}"),
+                () -> assertThat(renderingStrategy.getFormattedJdbcPlaceholder(column, "parameters", "p2"))
+                        .isEqualTo("#{parameters.p2,jdbcType=VARCHAR,javaType=java.lang.String"
+                                + ",typeHandler=foo.StringTypeHandler}"),
+                () -> assertThat(renderingStrategy.getRecordBasedInsertBinding(column, "row.description"))
+                        .isEqualTo("#{row.description,jdbcType=VARCHAR,javaType=java.lang.String"
+                                + ",typeHandler=foo.StringTypeHandler}"),
+                () -> assertThat(renderingStrategy.getFormattedJdbcPlaceholder(plainColumn, "parameters", "p3"))
+                        .isEqualTo("#{parameters.p3}")
+        );
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.configuration.InListStrategy;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.util.Messages;
+
+class RowLimitTest {
+
+    @Test
+    void testProportionalParameterCount() {
+        RowLimit limit = RowLimit.maxParameters(10);
+
+        assertAll(
+                () -> assertThat(limit.rowsPerStatement(rows -> rows * 3)).isEqualTo(3),
+                () -> assertThat(limit.rowsPerStatement(rows -> rows * 3)).isEqualTo(limit.rowsPerStatement(3)),
+                () -> assertThat(limit.rowsPerStatement(rows -> rows)).isEqualTo(10)
+        );
+    }
+
+    @Test
+    void testPaddedParameterCount() {
+        InListStrategy padding = InListStrategy.of(true, 0);
+        RowLimit limit = RowLimit.maxParameters(20);
+
+        // two parameters per row, plus the keys padded to the next power of two - 6 rows need 12 + 8 parameters, 7 rows
+        // would need 14 + 8
+        assertThat(limit.rowsPerStatement(rows -> rows * 2 + padding.renderedSize(rows))).isEqualTo(6);
+    }
+
+    @Test
+    void testMaxRowsIgnoresParameterCount() {
+        assertThat(RowLimit.maxRows(4).rowsPerStatement(rows -> rows * 1000)).isEqualTo(4);
+    }
+
+    @Test
+    void testSingleRowLargerThanMaxParameters() {
+        RowLimit limit = RowLimit.maxParameters(2);
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> limit.rowsPerStatement(rows -> rows * 2 + 1))
+                .withMessage(Messages.getString("ERROR.57", "3", "2"));
+    }
+}
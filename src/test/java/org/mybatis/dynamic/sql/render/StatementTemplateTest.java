@@ -0,0 +1,159 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementTemplate;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementTemplate;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementTemplate;
+
+class StatementTemplateTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<Boolean> employed = foo.column("employed", JDBCType.VARCHAR)
+            .withParameterTypeConverter((Boolean b) -> b ? "Yes" : "No");
+
+    @Test
+    void testSelectTemplate() {
+        SelectStatementTemplate template = select(id, firstName)
+                .from(foo)
+                .where(id, isEqualTo(3))
+                .and(firstName, isEqualToWhenPresent("Fred"))
+                .limit(10)
+                .build()
+                .renderTemplate(RenderingStrategies.MYBATIS3);
+
+        SelectStatementProvider selectStatement = template.bind(4, "Barney", 20L);
+
+        String expected = "select id, first_name from foo where id = #{parameters.p1,jdbcType=INTEGER}"
+                + " and first_name = #{parameters.p2,jdbcType=VARCHAR} limit #{parameters.p3}";
+
+        assertAll(
+                () -> assertThat(template.statement()).isEqualTo(expected),
+                () -> assertThat(template.parameterSlots()).extracting(ParameterSlot::parameterMapKey)
+                        .containsExactly("p1", "p2", "p3"),
+                () -> assertThat(template.parameterSlots().get(0).column()).contains(id),
+                () -> assertThat(template.parameterSlots().get(2).column()).isEmpty(),
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(expected),
+                () -> assertThat(selectStatement.getParameters()).hasSize(3),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p1", 4),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p2", "Barney"),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p3", 20L)
+        );
+    }
+
+    @Test
+    void testSelectTemplateMatchesRenderedStatement() {
+        var selectModel = select(id, firstName)
+                .from(foo)
+                .where(id, isIn(1, 2, 3))
+                .and(firstName, isLike("F%"))
+                .or(exists(select(id).from(foo, "f2").where(firstName, isEqualTo("Wilma"))))
+                .build();
+
+        SelectStatementProvider rendered = selectModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+        SelectStatementProvider bound = selectModel.renderTemplate(RenderingStrategies.SPRING_NAMED_PARAMETER)
+                .bind(1, 2, 3, "F%", "Wilma");
+
+        assertAll(
+                () -> assertThat(bound.getSelectStatement()).isEqualTo(rendered.getSelectStatement()),
+                () -> assertThat(bound.getParameters()).isEqualTo(rendered.getParameters())
+        );
+    }
+
+    @Test
+    void testTemplateCanBeBoundManyTimes() {
+        SelectStatementTemplate template = select(id, firstName)
+                .from(foo)
+                .where(id, isEqualTo(3))
+                .build()
+                .renderTemplate(RenderingStrategies.MYBATIS3);
+
+        SelectStatementProvider first = template.bind(4);
+        SelectStatementProvider second = template.bind(5);
+
+        assertAll(
+                () -> assertThat(first.getParameters()).containsEntry("p1", 4),
+                () -> assertThat(second.getParameters()).containsEntry("p1", 5),
+                () -> assertThat(first.getSelectStatement()).isSameAs(second.getSelectStatement())
+        );
+    }
+
+    @Test
+    void testUpdateTemplateWithTypeConverter() {
+        UpdateStatementTemplate template = update(foo)
+                .set(firstName).equalTo("Fred")
+                .set(employed).equalTo(true)
+                .where(id, isEqualTo(3))
+                .build()
+                .renderTemplate(RenderingStrategies.MYBATIS3);
+
+        UpdateStatementProvider updateStatement = template.bind("Barney", false, 4);
+
+        String expected = "update foo set first_name = #{parameters.p1,jdbcType=VARCHAR},"
+                + " employed = #{parameters.p2,jdbcType=VARCHAR} where id = #{parameters.p3,jdbcType=INTEGER}";
+
+        assertAll(
+                () -> assertThat(updateStatement.getUpdateStatement()).isEqualTo(expected),
+                () -> assertThat(updateStatement.getParameters()).containsEntry("p1", "Barney"),
+                () -> assertThat(updateStatement.getParameters()).containsEntry("p2", "No"),
+                () -> assertThat(updateStatement.getParameters()).containsEntry("p3", 4)
+        );
+    }
+
+    @Test
+    void testDeleteTemplate() {
+        DeleteStatementTemplate template = deleteFrom(foo)
+                .where(id, isBetween(1).and(5))
+                .build()
+                .renderTemplate(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        DeleteStatementProvider deleteStatement = template.bind(10, 20);
+
+        assertAll(
+                () -> assertThat(deleteStatement.getDeleteStatement())
+                        .isEqualTo("delete from foo where id between :p1 and :p2"),
+                () -> assertThat(deleteStatement.getParameters()).containsEntry("p1", 10),
+                () -> assertThat(deleteStatement.getParameters()).containsEntry("p2", 20)
+        );
+    }
+
+    @Test
+    void testWrongNumberOfValues() {
+        DeleteStatementTemplate template = deleteFrom(foo)
+                .where(id, isEqualTo(3))
+                .build()
+                .renderTemplate(RenderingStrategies.MYBATIS3);
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> template.bind(1, 2))
+                .withMessage("A statement template requires 1 parameter value(s), but 2 value(s) were supplied");
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualTo;
+import static org.mybatis.dynamic.sql.SqlBuilder.select;
+
+import java.sql.JDBCType;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.Messages;
+
+class KeysetPageTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> lastName = foo.column("last_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<Integer> status = foo.column("status", JDBCType.INTEGER);
+
+    @Test
+    void testFirstPage() {
+        KeysetPage page = KeysetPage.of(10, lastName, id);
+
+        SelectStatementProvider selectStatement = select(id, lastName)
+                .from(foo)
+                .seek(page)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement())
+                        .isEqualTo("select id, last_name from foo order by last_name, id limit :p1"),
+                () -> assertThat(selectStatement.getParameters()).containsOnly(entry("p1", 10L))
+        );
+    }
+
+    @Test
+    void testNextPage() {
+        KeysetPage page = KeysetPage.of(10, lastName, id).after("Flintstone", 4);
+
+        SelectStatementProvider selectStatement = select(id, lastName)
+                .from(foo)
+                .seek(page)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "select id, last_name from foo"
+                + " where last_name > :p1 or (last_name = :p2 and id > :p3)"
+                + " order by last_name, id limit :p4";
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(expected),
+                () -> assertThat(selectStatement.getParameters()).containsOnly(entry("p1", "Flintstone"),
+                        entry("p2", "Flintstone"), entry("p3", 4), entry("p4", 10L))
+        );
+    }
+
+    @Test
+    void testNextPageWithWhereClauseAndDescendingColumns() {
+        KeysetPage page = KeysetPage.of(5, lastName.descending(), firstName, id.descending())
+                .after(KeysetCursor.of("Rubble", "Barney", 4));
+
+        SelectStatementProvider selectStatement = select(id, lastName, firstName)
+                .from(foo)
+                .where(status, isEqualTo(1))
+                .seek(page)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "select id, last_name, first_name from foo"
+                + " where status = #{parameters.p1,jdbcType=INTEGER}"
+                + " and (last_name < #{parameters.p2,jdbcType=VARCHAR}"
+                + " or (last_name = #{parameters.p3,jdbcType=VARCHAR} and first_name > #{parameters.p4,jdbcType=VARCHAR})"
+                + " or (last_name = #{parameters.p5,jdbcType=VARCHAR} and first_name = #{parameters.p6,jdbcType=VARCHAR}"
+                + " and id < #{parameters.p7,jdbcType=INTEGER}))"
+                + " order by last_name DESC, first_name, id DESC limit #{parameters.p8}";
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testSingleSortColumn() {
+        KeysetPage page = KeysetPage.of(10, id).after(20);
+
+        SelectStatementProvider selectStatement = org.mybatis.dynamic.sql.dsl.SelectDSL.select(id)
+                .from(foo)
+                .seek(page)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement())
+                .isEqualTo("select id from foo where id > :p1 order by id limit :p2");
+    }
+
+    @Test
+    void testCursor() {
+        KeysetPage page = KeysetPage.of(10, lastName, id);
+        KeysetPage nextPage = page.after("Rubble", 5);
+
+        assertAll(
+                () -> assertThat(page.cursor()).isEmpty(),
+                () -> assertThat(page.seekCriterion()).isEmpty(),
+                () -> assertThat(nextPage.cursor()).hasValue(KeysetCursor.of("Rubble", 5)),
+                () -> assertThat(nextPage.pageSize()).isEqualTo(10),
+                () -> assertThat(nextPage.orderBy()).containsExactly(lastName, id)
+        );
+    }
+
+    @Test
+    void testInvalidPages() {
+        KeysetPage page = KeysetPage.of(10, lastName, id);
+
+        assertAll(
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> KeysetPage.of(0, id))
+                        .withMessage(Messages.getString("ERROR.61")),
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> KeysetPage.of(10))
+                        .withMessage(Messages.getString("ERROR.58")),
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> page.after("Rubble"))
+                        .withMessage(Messages.getString("ERROR.59", "2", "1")),
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> page.after("Rubble", null))
+                        .withMessage(Messages.getString("ERROR.60"))
+        );
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.springbatch.SpringBatchPagingItemReaderRenderingStrategy;
+
+class ParallelRenderingTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+    private static final SqlTable bar = SqlTable.of("bar");
+    private static final SqlColumn<Integer> barId = bar.column("id", JDBCType.INTEGER);
+
+    @Test
+    void testMultiSelectBranchesUseNamespaces() {
+        SelectStatementProvider selectStatement = renderMultiSelect(3);
+
+        String expected = "(select id from foo where id > #{parameters.p1,jdbcType=INTEGER}"
+                + " and description = #{parameters.p2,jdbcType=VARCHAR})"
+                + " union (select id from foo where id > #{parameters.u1_p1,jdbcType=INTEGER}"
+                + " and description = #{parameters.u1_p2,jdbcType=VARCHAR})"
+                + " union all (select id from foo where id > #{parameters.u2_p1,jdbcType=INTEGER}"
+                + " and description = #{parameters.u2_p2,jdbcType=VARCHAR})"
+                + " order by id limit #{parameters.p3}";
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(expected),
+                () -> assertThat(selectStatement.getParameters()).containsOnly(entry("p1", 1), entry("p2", "a"),
+                        entry("u1_p1", 2), entry("u1_p2", "b"), entry("u2_p1", 3), entry("u2_p2", "c"),
+                        entry("p3", 10L))
+        );
+    }
+
+    @Test
+    void testParallelRenderingIsStable() {
+        String expected = renderMultiSelect(2).getSelectStatement();
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(renderMultiSelect(2).getSelectStatement()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testBelowThresholdRendersSequentially() {
+        SelectStatementProvider selectStatement = renderMultiSelect(4);
+
+        String expected = "(select id from foo where id > #{parameters.p1,jdbcType=INTEGER}"
+                + " and description = #{parameters.p2,jdbcType=VARCHAR})"
+                + " union (select id from foo where id > #{parameters.p3,jdbcType=INTEGER}"
+                + " and description = #{parameters.p4,jdbcType=VARCHAR})"
+                + " union all (select id from foo where id > #{parameters.p5,jdbcType=INTEGER}"
+                + " and description = #{parameters.p6,jdbcType=VARCHAR})"
+                + " order by id limit #{parameters.p7}";
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testUnionWithNestedUnionInSubQuery() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isEqualTo(1))
+                .union()
+                .select(id)
+                .from(foo)
+                .where(id, isIn(select(barId).from(bar).where(barId, isGreaterThan(2))
+                        .union()
+                        .select(barId).from(bar).where(barId, isLessThan(3))))
+                .and(description, isEqualTo("d"))
+                .configureStatement(c -> c.setParallelRenderingThreshold(2))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "select id from foo where id = :p1"
+                + " union select id from foo where id in"
+                + " (select id from bar where id > :u1_p1 union select id from bar where id < :u1_u1_p1)"
+                + " and description = :u1_p2";
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(expected),
+                () -> assertThat(selectStatement.getParameters()).containsOnly(entry("p1", 1), entry("u1_p1", 2),
+                        entry("u1_u1_p1", 3), entry("u1_p2", "d"))
+        );
+    }
+
+    @Test
+    void testFixedParameterNamesAreNotNamespaced() {
+        SelectStatementProvider selectStatement = multiSelect(select(id).from(foo).where(id, isGreaterThan(1)))
+                .union(select(id).from(foo).where(id, isGreaterThan(2)).orderBy(id).limit(5).offset(10))
+                .configureStatement(c -> c.setParallelRenderingThreshold(2))
+                .build()
+                .render(new SpringBatchPagingItemReaderRenderingStrategy());
+
+        String expected = "(select id from foo where id > #{parameters.p1,jdbcType=INTEGER})"
+                + " union (select id from foo where id > #{parameters.u1_p1,jdbcType=INTEGER}"
+                + " order by id limit #{_pagesize} offset #{_skiprows})";
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(expected),
+                () -> assertThat(selectStatement.getParameters()).containsOnly(entry("p1", 1), entry("u1_p1", 2),
+                        entry("_pagesize", 5L), entry("_skiprows", 10L))
+        );
+    }
+
+    private SelectStatementProvider renderMultiSelect(int parallelRenderingThreshold) {
+        return multiSelect(select(id).from(foo).where(id, isGreaterThan(1)).and(description, isEqualTo("a")))
+                .union(select(id).from(foo).where(id, isGreaterThan(2)).and(description, isEqualTo("b")))
+                .unionAll(select(id).from(foo).where(id, isGreaterThan(3)).and(description, isEqualTo("c")))
+                .configureStatement(c -> c.setParallelRenderingThreshold(parallelRenderingThreshold))
+                .orderBy(id)
+                .limit(10)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.select.render.SelectTableCalculator;
+
+class SelectTableCalculatorTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> fooId = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> fooName = foo.column("name", JDBCType.VARCHAR);
+    private static final SqlTable bar = SqlTable.of("bar");
+    private static final SqlColumn<Integer> barId = bar.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<Integer> barFooId = bar.column("foo_id", JDBCType.INTEGER);
+    private static final SqlTable baz = SqlTable.of("baz");
+    private static final SqlColumn<Integer> bazId = baz.column("id", JDBCType.INTEGER);
+
+    @Test
+    void testSimpleSelect() {
+        SelectModel selectModel = select(fooId, fooName)
+                .from(foo)
+                .where(fooId, isEqualTo(3))
+                .build();
+
+        Optional<Set<SqlTable>> tables = new SelectTableCalculator(selectModel).calculate();
+
+        assertThat(tables).hasValueSatisfying(t -> assertThat(t).containsExactly(foo));
+    }
+
+    @Test
+    void testJoinAndCount() {
+        SelectModel selectModel = countFrom(foo)
+                .build();
+
+        SelectModel joinModel = select(fooId, barId)
+                .from(foo, "f")
+                .join(bar, "b").on(barFooId, isEqualTo(fooId))
+                .build();
+
+        assertAll(
+                () -> assertThat(new SelectTableCalculator(selectModel).calculate())
+                        .hasValueSatisfying(t -> assertThat(t).containsExactly(foo)),
+                () -> assertThat(new SelectTableCalculator(joinModel).calculate())
+                        .hasValueSatisfying(t -> assertThat(t).containsExactlyInAnyOrder(foo, bar))
+        );
+    }
+
+    @Test
+    void testSubQueries() {
+        SelectModel selectModel = select(fooId, fooName)
+                .from(foo)
+                .where(fooId, isIn(select(barFooId).from(bar)))
+                .or(exists(select(bazId).from(baz).where(bazId, isEqualTo(fooId))))
+                .build();
+
+        Optional<Set<SqlTable>> tables = new SelectTableCalculator(selectModel).calculate();
+
+        assertThat(tables).hasValueSatisfying(t -> assertThat(t).containsExactlyInAnyOrder(foo, bar, baz));
+    }
+
+    @Test
+    void testUnion() {
+        SelectModel selectModel = select(fooId)
+                .from(foo)
+                .union()
+                .select(barId)
+                .from(bar)
+                .build();
+
+        Optional<Set<SqlTable>> tables = new SelectTableCalculator(selectModel).calculate();
+
+        assertThat(tables).hasValueSatisfying(t -> assertThat(t).containsExactlyInAnyOrder(foo, bar));
+    }
+
+    @Test
+    void testFunctionIsNotCalculated() {
+        SelectModel selectModel = select(upper(fooName))
+                .from(foo)
+                .build();
+
+        assertThat(new SelectTableCalculator(selectModel).calculate()).isEmpty();
+    }
+
+    @Test
+    void testForUpdateIsNotCalculated() {
+        SelectModel selectModel = select(fooId)
+                .from(foo)
+                .forUpdate()
+                .build();
+
+        assertThat(new SelectTableCalculator(selectModel).calculate()).isEmpty();
+    }
+}
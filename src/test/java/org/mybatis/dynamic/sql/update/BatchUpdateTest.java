@@ -0,0 +1,125 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.updateBatch;
+
+import java.sql.JDBCType;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
+import org.mybatis.dynamic.sql.update.render.RowUpdateStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Messages;
+
+class BatchUpdateTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = foo.column("last_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> occupation = foo.column("occupation", JDBCType.VARCHAR);
+
+    @Test
+    void testBatchUpdateMyBatis() {
+        List<TestRecord> records = List.of(new TestRecord(1, "Fred", "Flintstone"),
+                new TestRecord(2, "Barney", "Rubble"));
+
+        BatchUpdate<TestRecord> batchUpdate = updateBatch(records)
+                .table(foo)
+                .set(firstName).toProperty("firstName")
+                .set(lastName).toProperty("lastName")
+                .set(occupation).toNull()
+                .where(id).isEqualToProperty("id")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "update foo set first_name = #{row.firstName,jdbcType=VARCHAR}, "
+                + "last_name = #{row.lastName,jdbcType=VARCHAR}, occupation = null "
+                + "where id = #{row.id,jdbcType=INTEGER}";
+
+        List<UpdateStatementProvider> updateStatements = batchUpdate.updateStatements();
+
+        assertAll(
+                () -> assertThat(batchUpdate.getUpdateStatementSQL()).isEqualTo(expected),
+                () -> assertThat(batchUpdate.getRecords()).hasSize(2),
+                () -> assertThat(updateStatements).hasSize(2),
+                () -> assertThat(updateStatements.get(1).getUpdateStatement()).isEqualTo(expected),
+                () -> assertThat(updateStatements.get(1)).isInstanceOf(RowUpdateStatementProvider.class),
+                () -> assertThat(((RowUpdateStatementProvider<?>) updateStatements.get(1)).getRow())
+                        .isEqualTo(records.get(1))
+        );
+    }
+
+    @Test
+    void testBatchUpdateSpring() {
+        BatchUpdate<TestRecord> batchUpdate = updateBatch(new TestRecord(1, "Fred", "Flintstone"))
+                .table(foo)
+                .set(lastName).toProperty("lastName")
+                .set(occupation).toStringConstant("Quarry Worker")
+                .set(firstName).toConstant("first_name")
+                .where(id).isEqualToProperty("id")
+                .and(firstName).isEqualToProperty("firstName")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "update foo set last_name = :row.lastName, occupation = 'Quarry Worker', "
+                + "first_name = first_name where id = :row.id and first_name = :row.firstName";
+
+        assertThat(batchUpdate.getUpdateStatementSQL()).isEqualTo(expected);
+    }
+
+    @Test
+    void testNoRecords() {
+        BatchUpdateDSL<TestRecord> dsl = updateBatch(Collections.<TestRecord>emptyList())
+                .table(foo)
+                .set(lastName).toProperty("lastName")
+                .where(id).isEqualToProperty("id");
+
+        assertThatExceptionOfType(InvalidSqlException.class).isThrownBy(dsl::build)
+                .withMessage(Messages.getString("ERROR.75"));
+    }
+
+    @Test
+    void testNoSetPhrases() {
+        BatchUpdateDSL<TestRecord> dsl = updateBatch(new TestRecord(1, "Fred", "Flintstone"))
+                .table(foo)
+                .where(id).isEqualToProperty("id");
+
+        assertThatExceptionOfType(InvalidSqlException.class).isThrownBy(dsl::build)
+                .withMessage(Messages.getString("ERROR.17"));
+    }
+
+    @Test
+    void testNoWhereConditions() {
+        BatchUpdateDSL<TestRecord> dsl = updateBatch(new TestRecord(1, "Fred", "Flintstone"))
+                .table(foo)
+                .set(lastName).toProperty("lastName");
+
+        assertThatExceptionOfType(InvalidSqlException.class).isThrownBy(dsl::build)
+                .withMessage(Messages.getString("ERROR.76"));
+    }
+
+    record TestRecord(Integer id, String firstName, String lastName) {}
+}
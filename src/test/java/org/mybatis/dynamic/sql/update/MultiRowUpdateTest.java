@@ -0,0 +1,154 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.updateMultiple;
+
+import java.sql.JDBCType;
+import java.util.Collections;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RowLimit;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Messages;
+
+class MultiRowUpdateTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = foo.column("last_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> occupation = foo.column("occupation", JDBCType.VARCHAR);
+
+    @Test
+    void testMultiRowUpdateMyBatis() {
+        List<TestRecord> records = List.of(new TestRecord(1, "Fred", null), new TestRecord(2, "Barney", "Rubble"));
+
+        UpdateStatementProvider updateStatement = updateMultiple(records)
+                .table(foo)
+                .set(firstName).toProperty("firstName")
+                .set(lastName).toProperty("lastName")
+                .where(id).isEqualToProperty("id")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "update foo set first_name = case id "
+                + "when #{parameters.p1,jdbcType=INTEGER} then #{parameters.p2,jdbcType=VARCHAR} "
+                + "when #{parameters.p3,jdbcType=INTEGER} then #{parameters.p4,jdbcType=VARCHAR} "
+                + "else first_name end, "
+                + "last_name = case id "
+                + "when #{parameters.p5,jdbcType=INTEGER} then #{parameters.p6,jdbcType=VARCHAR} "
+                + "when #{parameters.p7,jdbcType=INTEGER} then #{parameters.p8,jdbcType=VARCHAR} "
+                + "else last_name end "
+                + "where id in (#{parameters.p9,jdbcType=INTEGER},#{parameters.p10,jdbcType=INTEGER})";
+
+        assertAll(
+                () -> assertThat(updateStatement.getUpdateStatement()).isEqualTo(expected),
+                () -> assertThat(updateStatement.getParameters()).containsExactly(entry("p1", 1), entry("p2", "Fred"),
+                        entry("p3", 2), entry("p4", "Barney"), entry("p5", 1), entry("p6", null), entry("p7", 2),
+                        entry("p8", "Rubble"), entry("p9", 1), entry("p10", 2))
+        );
+    }
+
+    @Test
+    void testMultiRowUpdateWithConstants() {
+        List<TestRecord> records = List.of(new TestRecord(1, "Fred", "Flintstone"));
+
+        UpdateStatementProvider updateStatement = updateMultiple(records)
+                .table(foo)
+                .set(firstName).toProperty("firstName")
+                .set(lastName).toNull()
+                .set(occupation).toStringConstant("Quarry Worker")
+                .where(id).isEqualToProperty("id")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "update foo set first_name = case id when :p1 then :p2 else first_name end, "
+                + "last_name = null, occupation = 'Quarry Worker' where id in (:p3)";
+
+        assertThat(updateStatement.getUpdateStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testMultiRowUpdateWithLimit() {
+        List<TestRecord> records = List.of(new TestRecord(1, "Fred", "Flintstone"),
+                new TestRecord(2, "Barney", "Rubble"), new TestRecord(3, "Wilma", "Flintstone"));
+
+        List<UpdateStatementProvider> updateStatements = updateMultiple(records)
+                .table(foo)
+                .set(firstName).toProperty("firstName")
+                .where(id).isEqualToProperty("id")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER, RowLimit.maxParameters(6));
+
+        assertAll(
+                () -> assertThat(updateStatements).hasSize(2),
+                () -> assertThat(updateStatements.get(0).getUpdateStatement()).isEqualTo(
+                        "update foo set first_name = case id when :p1 then :p2 when :p3 then :p4 else first_name end "
+                                + "where id in (:p5,:p6)"),
+                () -> assertThat(updateStatements.get(1).getUpdateStatement()).isEqualTo(
+                        "update foo set first_name = case id when :p1 then :p2 else first_name end "
+                                + "where id in (:p3)"),
+                () -> assertThat(updateStatements.get(1).getParameters())
+                        .containsExactly(entry("p1", 3), entry("p2", "Wilma"), entry("p3", 3))
+        );
+    }
+
+    @Test
+    void testNoRecords() {
+        MultiRowUpdateDSL<TestRecord> dsl = updateMultiple(Collections.<TestRecord>emptyList())
+                .table(foo)
+                .set(firstName).toProperty("firstName")
+                .where(id).isEqualToProperty("id");
+
+        assertThatExceptionOfType(InvalidSqlException.class).isThrownBy(dsl::build)
+                .withMessage(Messages.getString("ERROR.77"));
+    }
+
+    @Test
+    void testNoKeyColumn() {
+        MultiRowUpdateDSL<TestRecord> dsl = updateMultiple(new TestRecord(1, "Fred", "Flintstone"))
+                .table(foo)
+                .set(firstName).toProperty("firstName");
+
+        assertThatExceptionOfType(InvalidSqlException.class).isThrownBy(dsl::build)
+                .withMessage(Messages.getString("ERROR.78"));
+    }
+
+    @Test
+    void testUnknownProperty() {
+        MultiRowUpdateModel<TestRecord> model = updateMultiple(new TestRecord(1, "Fred", "Flintstone"))
+                .table(foo)
+                .set(firstName).toProperty("nickName")
+                .where(id).isEqualToProperty("id")
+                .build();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> model.render(RenderingStrategies.SPRING_NAMED_PARAMETER))
+                .withMessage(Messages.getString("ERROR.66", "nickName", TestRecord.class.getName()));
+    }
+
+    record TestRecord(Integer id, String firstName, @Nullable String lastName) {}
+}
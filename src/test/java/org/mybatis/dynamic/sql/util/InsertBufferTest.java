@@ -0,0 +1,302 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.insert;
+
+import java.sql.JDBCType;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+
+class InsertBufferTest {
+    private static final SqlTable audit = SqlTable.of("audit");
+    private static final SqlColumn<Integer> id = audit.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> message = audit.column("message", JDBCType.VARCHAR);
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<MultiRowInsertModel<AuditRecord>> multiRowInserts = new CopyOnWriteArrayList<>();
+    private final List<BatchInsertModel<AuditRecord>> batchInserts = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void shutdownScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void testRowsAreGroupedByShape() {
+        InsertBuffer<AuditRecord> buffer = new InsertBuffer.Builder<AuditRecord>()
+                .withMultiRowInserts(i -> multiRowInserts.add(i.build()))
+                .withScheduler(scheduler)
+                .withWindow(Duration.ofHours(1))
+                .build();
+
+        CompletableFuture<Void> first = buffer.add(insertAudit(new AuditRecord(1, "first")));
+        CompletableFuture<Void> second = buffer.add(insertAudit(new AuditRecord(2, null)));
+        CompletableFuture<Void> third = buffer.add(insertAudit(new AuditRecord(3, "third")));
+        int pendingCount = buffer.pendingCount();
+        buffer.flush();
+
+        assertAll(
+                () -> assertThat(pendingCount).isEqualTo(3),
+                () -> assertThat(buffer.pendingCount()).isZero(),
+                () -> assertThat(first).isCompletedWithValue(null),
+                () -> assertThat(second).isCompletedWithValue(null),
+                () -> assertThat(third).isCompletedWithValue(null),
+                () -> assertThat(multiRowInserts.stream()
+                        .map(i -> i.render(RenderingStrategies.MYBATIS3).getInsertStatement())
+                        .toList()).containsExactlyInAnyOrder(
+                                "insert into audit (id, message) "
+                                        + "values (#{records[0].id,jdbcType=INTEGER}, "
+                                        + "#{records[0].message,jdbcType=VARCHAR}), "
+                                        + "(#{records[1].id,jdbcType=INTEGER}, #{records[1].message,jdbcType=VARCHAR})",
+                                "insert into audit (id) values (#{records[0].id,jdbcType=INTEGER})"),
+                () -> assertThat(multiRowInserts.stream().map(MultiRowInsertModel::records).toList())
+                        .containsExactlyInAnyOrder(List.of(new AuditRecord(1, "first"), new AuditRecord(3, "third")),
+                                List.of(new AuditRecord(2, null)))
+        );
+    }
+
+    @Test
+    void testConstantsAreDifferentShapes() {
+        InsertBuffer<AuditRecord> buffer = new InsertBuffer.Builder<AuditRecord>()
+                .withMultiRowInserts(i -> multiRowInserts.add(i.build()))
+                .withScheduler(scheduler)
+                .withWindow(Duration.ofHours(1))
+                .build();
+
+        buffer.add(insert(new AuditRecord(1, null)).into(audit)
+                .map(id).toProperty("id")
+                .map(message).toStringConstant("first"));
+        buffer.add(insert(new AuditRecord(2, null)).into(audit)
+                .map(id).toProperty("id")
+                .map(message).toStringConstant("second"));
+        buffer.add(insert(new AuditRecord(3, null)).into(audit)
+                .map(id).toProperty("id")
+                .map(message).toStringConstant("first"));
+        int shapeCount = buffer.shapeCount();
+        buffer.flush();
+
+        assertAll(
+                () -> assertThat(shapeCount).isEqualTo(2),
+                () -> assertThat(multiRowInserts.stream()
+                        .map(i -> i.render(RenderingStrategies.MYBATIS3).getInsertStatement())
+                        .toList()).containsExactlyInAnyOrder(
+                                "insert into audit (id, message) values (#{records[0].id,jdbcType=INTEGER}, 'first'), "
+                                        + "(#{records[1].id,jdbcType=INTEGER}, 'first')",
+                                "insert into audit (id, message) values (#{records[0].id,jdbcType=INTEGER}, 'second')")
+        );
+    }
+
+    @Test
+    void testEmptyShapesAreRemoved() {
+        InsertBuffer<AuditRecord> buffer = new InsertBuffer.Builder<AuditRecord>()
+                .withMultiRowInserts(i -> multiRowInserts.add(i.build()))
+                .withScheduler(scheduler)
+                .withWindow(Duration.ofHours(1))
+                .build();
+
+        buffer.add(insertAudit(new AuditRecord(1, "first")));
+        buffer.add(insertAudit(new AuditRecord(2, null)));
+        int shapeCount = buffer.shapeCount();
+        buffer.flush();
+        int shapeCountAfterFlush = buffer.shapeCount();
+
+        CompletableFuture<Void> third = buffer.add(insertAudit(new AuditRecord(3, "third")));
+        buffer.flush();
+
+        assertAll(
+                () -> assertThat(shapeCount).isEqualTo(2),
+                () -> assertThat(shapeCountAfterFlush).isZero(),
+                () -> assertThat(third).isCompletedWithValue(null),
+                () -> assertThat(buffer.shapeCount()).isZero(),
+                () -> assertThat(multiRowInserts).hasSize(3)
+        );
+    }
+
+    @Test
+    void testFullBatchIsWrittenImmediately() throws Exception {
+        InsertBuffer<AuditRecord> buffer = new InsertBuffer.Builder<AuditRecord>()
+                .withBatchInserts(i -> batchInserts.add(i.build()))
+                .withScheduler(scheduler)
+                .withWindow(Duration.ofHours(1))
+                .withMaximumBatchSize(2)
+                .build();
+
+        buffer.add(insertAudit(new AuditRecord(1, "first")));
+        CompletableFuture<Void> second = buffer.add(insertAudit(new AuditRecord(2, "second")));
+        second.get(5, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertThat(batchInserts).hasSize(1),
+                () -> assertThat(batchInserts.get(0).render(RenderingStrategies.MYBATIS3).getInsertStatementSQL())
+                        .isEqualTo("insert into audit (id, message) "
+                                + "values (#{row.id,jdbcType=INTEGER}, #{row.message,jdbcType=VARCHAR})"),
+                () -> assertThat(batchInserts.get(0).recordCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void testRowsAreWrittenWhenWindowExpires() throws Exception {
+        InsertBuffer<AuditRecord> buffer = new InsertBuffer.Builder<AuditRecord>()
+                .withMultiRowInserts(i -> multiRowInserts.add(i.build()))
+                .withScheduler(scheduler)
+                .withWindow(Duration.ofMillis(20))
+                .build();
+
+        CompletableFuture<Void> first = buffer.add(insertAudit(new AuditRecord(1, "first")));
+        CompletableFuture<Void> second = buffer.add(insertAudit(new AuditRecord(2, "second")));
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+        CompletableFuture<Void> third = buffer.add(insertAudit(new AuditRecord(3, "third")));
+        third.get(5, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertThat(multiRowInserts).hasSize(2),
+                () -> assertThat(multiRowInserts.get(0).recordCount()).isEqualTo(2),
+                () -> assertThat(multiRowInserts.get(1).records()).containsExactly(new AuditRecord(3, "third"))
+        );
+    }
+
+    @Test
+    void testFailedWriteCompletesRowsExceptionally() {
+        InsertBuffer<AuditRecord> buffer = new InsertBuffer.Builder<AuditRecord>()
+                .withMultiRowInserts(i -> {
+                    throw new IllegalStateException("Database is down");
+                })
+                .withScheduler(scheduler)
+                .withWindow(Duration.ofHours(1))
+                .build();
+
+        CompletableFuture<Void> first = buffer.add(insertAudit(new AuditRecord(1, "first")));
+        buffer.flush();
+
+        assertThatExceptionOfType(ExecutionException.class).isThrownBy(first::get)
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testErrorCompletesRowsExceptionally() {
+        InsertBuffer<AuditRecord> buffer = new InsertBuffer.Builder<AuditRecord>()
+                .withMultiRowInserts(i -> {
+                    throw new AssertionError("Unexpected");
+                })
+                .withScheduler(scheduler)
+                .withWindow(Duration.ofHours(1))
+                .build();
+
+        CompletableFuture<Void> first = buffer.add(insertAudit(new AuditRecord(1, "first")));
+
+        assertAll(
+                () -> assertThatExceptionOfType(AssertionError.class).isThrownBy(buffer::flush),
+                () -> assertThatExceptionOfType(ExecutionException.class).isThrownBy(first::get)
+                        .withCauseInstanceOf(AssertionError.class)
+        );
+    }
+
+    @Test
+    void testRejectedWindowCompletesRowExceptionally() {
+        InsertBuffer<AuditRecord> buffer = new InsertBuffer.Builder<AuditRecord>()
+                .withMultiRowInserts(i -> multiRowInserts.add(i.build()))
+                .withScheduler(scheduler)
+                .build();
+        scheduler.shutdown();
+
+        CompletableFuture<Void> first = buffer.add(insertAudit(new AuditRecord(1, "first")));
+        buffer.flush();
+
+        assertAll(
+                () -> assertThatExceptionOfType(ExecutionException.class).isThrownBy(first::get)
+                        .withCauseInstanceOf(RejectedExecutionException.class),
+                () -> assertThat(buffer.pendingCount()).isZero(),
+                () -> assertThat(buffer.shapeCount()).isZero(),
+                () -> assertThat(multiRowInserts).isEmpty()
+        );
+    }
+
+    @Test
+    void testRejectedFullBatchCompletesRowExceptionally() {
+        InsertBuffer<AuditRecord> buffer = new InsertBuffer.Builder<AuditRecord>()
+                .withMultiRowInserts(i -> multiRowInserts.add(i.build()))
+                .withScheduler(scheduler)
+                .withWindow(Duration.ofHours(1))
+                .withMaximumBatchSize(2)
+                .build();
+
+        CompletableFuture<Void> first = buffer.add(insertAudit(new AuditRecord(1, "first")));
+        scheduler.shutdown();
+        CompletableFuture<Void> second = buffer.add(insertAudit(new AuditRecord(2, "second")));
+        int pendingCount = buffer.pendingCount();
+        buffer.flush();
+
+        assertAll(
+                () -> assertThatExceptionOfType(ExecutionException.class).isThrownBy(second::get)
+                        .withCauseInstanceOf(RejectedExecutionException.class),
+                () -> assertThat(pendingCount).isEqualTo(1),
+                () -> assertThat(first).isCompletedWithValue(null),
+                () -> assertThat(multiRowInserts.stream().map(MultiRowInsertModel::records).toList())
+                        .containsExactly(List.of(new AuditRecord(1, "first")))
+        );
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        InsertBuffer.Builder<AuditRecord> negativeWindow = new InsertBuffer.Builder<AuditRecord>()
+                .withMultiRowInserts(i -> multiRowInserts.add(i.build()))
+                .withScheduler(scheduler)
+                .withWindow(Duration.ofMillis(-1));
+        InsertBuffer.Builder<AuditRecord> emptyBatch = new InsertBuffer.Builder<AuditRecord>()
+                .withMultiRowInserts(i -> multiRowInserts.add(i.build()))
+                .withScheduler(scheduler)
+                .withMaximumBatchSize(0);
+
+        assertAll(
+                () -> assertThatExceptionOfType(InvalidSqlException.class).isThrownBy(negativeWindow::build)
+                        .withMessage(Messages.getString("ERROR.84")),
+                () -> assertThatExceptionOfType(InvalidSqlException.class).isThrownBy(emptyBatch::build)
+                        .withMessage(Messages.getString("ERROR.85"))
+        );
+    }
+
+    private Buildable<InsertModel<AuditRecord>> insertAudit(AuditRecord row) {
+        return insert(row)
+                .into(audit)
+                .map(id).toProperty("id")
+                .map(message).toPropertyWhenPresent("message", row::message);
+    }
+
+    private record AuditRecord(Integer id, @Nullable String message) {}
+}
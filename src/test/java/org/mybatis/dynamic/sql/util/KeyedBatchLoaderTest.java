@@ -0,0 +1,278 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.DynamicSqlException;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class KeyedBatchLoaderTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> fooId = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> fooName = foo.column("name", JDBCType.VARCHAR);
+    private static final Map<Integer, Row> database = Map.of(1, new Row(1, "Fred"), 2, new Row(2, "Wilma"),
+            3, new Row(3, "Barney"));
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<SelectStatementProvider> statements = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void shutdownScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void testKeysInWindowAreBatched() {
+        KeyedBatchLoader<Integer, Row> loader = loaderBuilder()
+                .withWindow(Duration.ofMillis(20))
+                .build();
+
+        CompletableFuture<Optional<Row>> fred = loader.load(1);
+        CompletableFuture<Optional<Row>> wilma = loader.load(2);
+        CompletableFuture<Optional<Row>> fredAgain = loader.load(1);
+        CompletableFuture<Optional<Row>> missing = loader.load(9);
+
+        assertAll(
+                () -> assertThat(fred.get(5, TimeUnit.SECONDS)).hasValue(database.get(1)),
+                () -> assertThat(wilma.get(5, TimeUnit.SECONDS)).hasValue(database.get(2)),
+                () -> assertThat(fredAgain.get(5, TimeUnit.SECONDS)).hasValue(database.get(1)),
+                () -> assertThat(missing.get(5, TimeUnit.SECONDS)).isEmpty(),
+                () -> assertThat(statements).hasSize(1),
+                () -> assertThat(statements.get(0).getSelectStatement()).isEqualTo(
+                        "select id, name from foo where id in (#{parameters.p1,jdbcType=INTEGER},"
+                                + "#{parameters.p2,jdbcType=INTEGER},#{parameters.p3,jdbcType=INTEGER})"),
+                () -> assertThat(loader.pendingCount()).isZero()
+        );
+    }
+
+    @Test
+    void testFullBatchIsQueriedImmediately() throws Exception {
+        KeyedBatchLoader<Integer, Row> loader = loaderBuilder()
+                .withWindow(Duration.ofHours(1))
+                .withMaximumBatchSize(2)
+                .build();
+
+        CompletableFuture<Optional<Row>> fred = loader.load(1);
+        CompletableFuture<Optional<Row>> wilma = loader.load(2);
+        Optional<Row> fredRow = fred.get(5, TimeUnit.SECONDS);
+        Optional<Row> wilmaRow = wilma.get(5, TimeUnit.SECONDS);
+
+        CompletableFuture<Optional<Row>> barney = loader.load(3);
+        int pendingCount = loader.pendingCount();
+        loader.dispatch();
+
+        assertAll(
+                () -> assertThat(fredRow).hasValue(database.get(1)),
+                () -> assertThat(wilmaRow).hasValue(database.get(2)),
+                () -> assertThat(pendingCount).isEqualTo(1),
+                () -> assertThat(barney).isCompletedWithValue(Optional.of(database.get(3))),
+                () -> assertThat(statements).hasSize(2)
+        );
+    }
+
+    @Test
+    void testAdditionalConditions() {
+        KeyedBatchLoader<Integer, Row> loader = loaderBuilder()
+                .withSelect(where -> select(fooId, fooName)
+                        .from(foo)
+                        .applyWhere(where)
+                        .and(fooName, isNotNull()))
+                .withWindow(Duration.ofHours(1))
+                .build();
+
+        CompletableFuture<Optional<Row>> fred = loader.load(1);
+        loader.dispatch();
+
+        assertAll(
+                () -> assertThat(fred).isCompletedWithValue(Optional.of(database.get(1))),
+                () -> assertThat(statements.get(0).getSelectStatement()).isEqualTo(
+                        "select id, name from foo where id in (#{parameters.p1,jdbcType=INTEGER}) and name is not null")
+        );
+    }
+
+    @Test
+    void testFailedQueryCompletesAllKeysExceptionally() {
+        KeyedBatchLoader<Integer, Row> loader = loaderBuilder()
+                .withQuery(RenderingStrategies.MYBATIS3, s -> {
+                    throw new IllegalStateException("Database is down");
+                })
+                .withWindow(Duration.ofHours(1))
+                .build();
+
+        CompletableFuture<Optional<Row>> fred = loader.load(1);
+        CompletableFuture<Optional<Row>> wilma = loader.load(2);
+        loader.dispatch();
+
+        assertAll(
+                () -> assertThatExceptionOfType(ExecutionException.class).isThrownBy(fred::get)
+                        .withCauseInstanceOf(IllegalStateException.class),
+                () -> assertThatExceptionOfType(ExecutionException.class).isThrownBy(wilma::get)
+                        .withCauseInstanceOf(IllegalStateException.class),
+                () -> assertThat(loader.load(1)).isNotDone()
+        );
+    }
+
+    @Test
+    void testErrorCompletesAllKeysExceptionally() {
+        KeyedBatchLoader<Integer, Row> loader = loaderBuilder()
+                .withQuery(RenderingStrategies.MYBATIS3, s -> {
+                    throw new AssertionError("Unexpected");
+                })
+                .withWindow(Duration.ofHours(1))
+                .build();
+
+        CompletableFuture<Optional<Row>> fred = loader.load(1);
+
+        assertAll(
+                () -> assertThatExceptionOfType(AssertionError.class).isThrownBy(loader::dispatch),
+                () -> assertThatExceptionOfType(ExecutionException.class).isThrownBy(fred::get)
+                        .withCauseInstanceOf(AssertionError.class),
+                () -> assertThat(loader.load(1)).isNotDone()
+        );
+    }
+
+    @Test
+    void testRejectedWindowCompletesKeyExceptionally() {
+        KeyedBatchLoader<Integer, Row> loader = loaderBuilder().build();
+        scheduler.shutdown();
+
+        CompletableFuture<Optional<Row>> fred = loader.load(1);
+
+        assertAll(
+                () -> assertThatExceptionOfType(ExecutionException.class).isThrownBy(fred::get)
+                        .withCauseInstanceOf(RejectedExecutionException.class),
+                () -> assertThat(loader.pendingCount()).isZero(),
+                () -> assertThat(loader.load(1)).isCompletedExceptionally()
+        );
+    }
+
+    @Test
+    void testRejectedFullBatchCompletesKeysExceptionally() {
+        KeyedBatchLoader<Integer, Row> loader = loaderBuilder()
+                .withWindow(Duration.ofHours(1))
+                .withMaximumBatchSize(2)
+                .build();
+
+        CompletableFuture<Optional<Row>> fred = loader.load(1);
+        scheduler.shutdown();
+        CompletableFuture<Optional<Row>> wilma = loader.load(2);
+
+        assertAll(
+                () -> assertThatExceptionOfType(ExecutionException.class).isThrownBy(fred::get)
+                        .withCauseInstanceOf(RejectedExecutionException.class),
+                () -> assertThatExceptionOfType(ExecutionException.class).isThrownBy(wilma::get)
+                        .withCauseInstanceOf(RejectedExecutionException.class),
+                () -> assertThat(loader.pendingCount()).isZero(),
+                () -> assertThat(statements).isEmpty()
+        );
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        KeyedBatchLoader.Builder<Integer, Row> negativeWindow = loaderBuilder().withWindow(Duration.ofMillis(-1));
+        KeyedBatchLoader.Builder<Integer, Row> emptyBatch = loaderBuilder().withMaximumBatchSize(0);
+
+        assertAll(
+                () -> assertThatExceptionOfType(InvalidSqlException.class).isThrownBy(negativeWindow::build)
+                        .withMessage(Messages.getString("ERROR.82")),
+                () -> assertThatExceptionOfType(InvalidSqlException.class).isThrownBy(emptyBatch::build)
+                        .withMessage(Messages.getString("ERROR.83"))
+        );
+    }
+
+    @Test
+    void testDuplicateRowsForKey() {
+        KeyedBatchLoader<Integer, Row> loader = loaderBuilder()
+                .withQuery(RenderingStrategies.MYBATIS3,
+                        s -> List.of(database.get(1), new Row(1, "Pebbles"), database.get(2)))
+                .withWindow(Duration.ofHours(1))
+                .build();
+
+        CompletableFuture<Optional<Row>> fred = loader.load(1);
+        CompletableFuture<Optional<Row>> wilma = loader.load(2);
+        CompletableFuture<Optional<Row>> missing = loader.load(9);
+        loader.dispatch();
+
+        assertAll(
+                () -> assertThatExceptionOfType(ExecutionException.class).isThrownBy(fred::get)
+                        .withCauseInstanceOf(DynamicSqlException.class)
+                        .withMessageContaining(Messages.getString("ERROR.79", "1")),
+                () -> assertThat(wilma).isCompletedWithValue(Optional.of(database.get(2))),
+                () -> assertThat(missing).isCompletedWithValue(Optional.empty())
+        );
+    }
+
+    @Test
+    void testCallersGetIndependentFutures() {
+        KeyedBatchLoader<Integer, Row> loader = loaderBuilder()
+                .withWindow(Duration.ofHours(1))
+                .build();
+
+        CompletableFuture<Optional<Row>> cancelled = loader.load(1);
+        CompletableFuture<Optional<Row>> fred = loader.load(1);
+        cancelled.cancel(false);
+        loader.dispatch();
+
+        assertAll(
+                () -> assertThat(cancelled).isCancelled(),
+                () -> assertThat(fred).isCompletedWithValue(Optional.of(database.get(1))),
+                () -> assertThat(statements).hasSize(1)
+        );
+    }
+
+    private KeyedBatchLoader.Builder<Integer, Row> loaderBuilder() {
+        return new KeyedBatchLoader.Builder<Integer, Row>()
+                .withKeyColumn(fooId)
+                .withSelect(where -> select(fooId, fooName).from(foo).applyWhere(where))
+                .withQuery(RenderingStrategies.MYBATIS3, this::execute)
+                .withKeyExtractor(Row::id)
+                .withScheduler(scheduler);
+    }
+
+    private List<Row> execute(SelectStatementProvider selectStatement) {
+        statements.add(selectStatement);
+        return selectStatement.getParameters().values().stream()
+                .map(database::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private record Row(Integer id, String name) {}
+}
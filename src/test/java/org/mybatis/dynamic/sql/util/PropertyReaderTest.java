@@ -0,0 +1,142 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.exception.DynamicSqlException;
+
+class PropertyReaderTest {
+
+    @Test
+    void testRecordComponents() {
+        Address address = new Address("Main Street", 22);
+
+        PropertyReader street = PropertyReader.of(Address.class, "street").orElseThrow();
+        PropertyReader number = PropertyReader.of(Address.class, "number").orElseThrow();
+
+        assertAll(
+                () -> assertThat(street.read(address)).isEqualTo("Main Street"),
+                () -> assertThat(street.propertyType()).isEqualTo(String.class),
+                () -> assertThat(number.read(address)).isEqualTo(22),
+                () -> assertThat(number.propertyType()).isEqualTo(int.class)
+        );
+    }
+
+    @Test
+    void testBeanGetters() {
+        Person person = new Person();
+        person.setFirstName("Fred");
+        person.setEmployed(true);
+        person.setURL("https://mybatis.org");
+
+        assertAll(
+                () -> assertThat(PropertyReader.of(Person.class, "firstName").orElseThrow().read(person))
+                        .isEqualTo("Fred"),
+                () -> assertThat(PropertyReader.of(Person.class, "employed").orElseThrow().read(person))
+                        .isEqualTo(true),
+                () -> assertThat(PropertyReader.of(Person.class, "URL").orElseThrow().read(person))
+                        .isEqualTo("https://mybatis.org"),
+                () -> assertThat(PropertyReader.of(Person.class, "class")).isEmpty(),
+                () -> assertThat(PropertyReader.of(Person.class, "lastName")).isEmpty()
+        );
+    }
+
+    @Test
+    void testNestedProperties() {
+        Person person = new Person();
+        PropertyReader street = PropertyReader.of(Person.class, "address.street").orElseThrow();
+
+        assertAll(
+                () -> assertThat(street.propertyPath()).isEqualTo("address.street"),
+                () -> assertThat(street.propertyType()).isEqualTo(String.class),
+                () -> assertThat(street.read(person)).isNull(),
+                () -> assertThat(PropertyReader.of(Person.class, "address.city")).isEmpty()
+        );
+
+        person.setAddress(new Address("Elm Street", 13));
+        assertThat(street.read(person)).isEqualTo("Elm Street");
+    }
+
+    @Test
+    void testReadersAreCached() {
+        assertThat(PropertyReader.of(Person.class, "firstName").orElseThrow())
+                .isSameAs(PropertyReader.of(Person.class, "firstName").orElseThrow());
+    }
+
+    @Test
+    void testCheckedExceptionIsWrapped() {
+        PropertyReader reader = PropertyReader.of(Faulty.class, "value").orElseThrow();
+        Faulty faulty = new Faulty();
+
+        assertThatExceptionOfType(DynamicSqlException.class)
+                .isThrownBy(() -> reader.read(faulty))
+                .withMessage(Messages.getString("ERROR.66", "value", Faulty.class.getName()))
+                .withCauseInstanceOf(IOException.class);
+    }
+
+    record Address(String street, int number) {}
+
+    public static class Person {
+        private String firstName;
+        private boolean employed;
+        private String url;
+        private Address address;
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public void setFirstName(String firstName) {
+            this.firstName = firstName;
+        }
+
+        public boolean isEmployed() {
+            return employed;
+        }
+
+        public void setEmployed(boolean employed) {
+            this.employed = employed;
+        }
+
+        public String getURL() {
+            return url;
+        }
+
+        public void setURL(String url) {
+            this.url = url;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+    }
+
+    public static class Faulty {
+        public String getValue() throws IOException {
+            throw new IOException("no value");
+        }
+    }
+}
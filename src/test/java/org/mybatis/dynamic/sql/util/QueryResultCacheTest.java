@@ -0,0 +1,166 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class QueryResultCacheTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> fooId = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> fooName = foo.column("name", JDBCType.VARCHAR);
+    private static final SqlTable bar = SqlTable.of("bar");
+    private static final SqlColumn<Integer> barFooId = bar.column("foo_id", JDBCType.INTEGER);
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void testRepeatedQueryIsCached() {
+        QueryResultCache cache = new QueryResultCache(10);
+
+        String first = cache.get(selectFoo(1), RenderingStrategies.MYBATIS3, "mapper", this::execute);
+        String second = cache.get(selectFoo(1), RenderingStrategies.MYBATIS3, "mapper", this::execute);
+        String other = cache.get(selectFoo(2), RenderingStrategies.MYBATIS3, "mapper", this::execute);
+        String otherMapping = cache.get(selectFoo(1), RenderingStrategies.MYBATIS3, "other", this::execute);
+
+        assertAll(
+                () -> assertThat(second).isSameAs(first),
+                () -> assertThat(other).isNotEqualTo(first),
+                () -> assertThat(otherMapping).isNotEqualTo(first),
+                () -> assertThat(executions.get()).isEqualTo(3),
+                () -> assertThat(cache.hitCount()).isEqualTo(1),
+                () -> assertThat(cache.missCount()).isEqualTo(3),
+                () -> assertThat(cache.size()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    void testInvalidateRemovesQueriesReadingTable() {
+        QueryResultCache cache = new QueryResultCache(10);
+        SelectModel joined = select(fooId, fooName)
+                .from(foo)
+                .where(fooId, isIn(select(barFooId).from(bar)))
+                .build();
+
+        cache.get(selectFoo(1), RenderingStrategies.MYBATIS3, "mapper", this::execute);
+        cache.get(joined, RenderingStrategies.MYBATIS3, "mapper", this::execute);
+        cache.invalidate(bar);
+        int sizeAfterBar = cache.size();
+        cache.invalidate(foo);
+
+        assertAll(
+                () -> assertThat(sizeAfterBar).isEqualTo(1),
+                () -> assertThat(cache.size()).isZero()
+        );
+    }
+
+    @Test
+    void testInvalidationDuringQueryIsNotCached() {
+        QueryResultCache cache = new QueryResultCache(10);
+
+        cache.get(selectFoo(1), RenderingStrategies.MYBATIS3, "mapper", s -> {
+            cache.invalidate(foo);
+            return execute(s);
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        QueryResultCache cache = new QueryResultCache(2);
+
+        cache.get(selectFoo(1), RenderingStrategies.MYBATIS3, "mapper", this::execute);
+        cache.get(selectFoo(2), RenderingStrategies.MYBATIS3, "mapper", this::execute);
+        cache.get(selectFoo(1), RenderingStrategies.MYBATIS3, "mapper", this::execute);
+        cache.get(selectFoo(3), RenderingStrategies.MYBATIS3, "mapper", this::execute);
+        cache.get(selectFoo(1), RenderingStrategies.MYBATIS3, "mapper", this::execute);
+
+        assertAll(
+                () -> assertThat(cache.size()).isEqualTo(2),
+                () -> assertThat(cache.hitCount()).isEqualTo(2),
+                () -> assertThat(executions.get()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    void testTimeToLive() {
+        AtomicLong clock = new AtomicLong();
+        QueryResultCache cache = new QueryResultCache(10, Duration.ofSeconds(1), clock::get);
+
+        cache.get(selectFoo(1), RenderingStrategies.MYBATIS3, "mapper", this::execute);
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        cache.get(selectFoo(1), RenderingStrategies.MYBATIS3, "mapper", this::execute);
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        cache.get(selectFoo(1), RenderingStrategies.MYBATIS3, "mapper", this::execute);
+
+        assertAll(
+                () -> assertThat(cache.hitCount()).isEqualTo(1),
+                () -> assertThat(executions.get()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void testStatementWithoutTablesIsNotCached() {
+        QueryResultCache cache = new QueryResultCache(10);
+        SelectModel selectModel = select(upper(fooName)).from(foo).build();
+
+        cache.get(selectModel, RenderingStrategies.MYBATIS3, "mapper", this::execute);
+        cache.get(selectModel, RenderingStrategies.MYBATIS3, "mapper", this::execute);
+
+        assertAll(
+                () -> assertThat(cache.size()).isZero(),
+                () -> assertThat(executions.get()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void testDisabledCache() {
+        QueryResultCache cache = new QueryResultCache(0);
+
+        cache.get(selectFoo(1), RenderingStrategies.MYBATIS3, "mapper", this::execute);
+        cache.get(selectFoo(1), RenderingStrategies.MYBATIS3, "mapper", this::execute);
+
+        assertAll(
+                () -> assertThat(cache.isEnabled()).isFalse(),
+                () -> assertThat(executions.get()).isEqualTo(2)
+        );
+    }
+
+    private String execute(SelectStatementProvider selectStatement) {
+        return selectStatement.getParameters() + ":" + executions.incrementAndGet();
+    }
+
+    private static SelectModel selectFoo(int id) {
+        return select(fooId, fooName)
+                .from(foo)
+                .where(fooId, isEqualTo(id))
+                .build();
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.StatementHints;
+import org.mybatis.dynamic.sql.exception.DynamicSqlException;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.ParameterSlot;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementTemplate;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Messages;
+
+class JdbcStatementTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+    private static final SqlColumn<String> notes = foo.column("notes");
+
+    @Test
+    void testSelect() {
+        SelectStatementProvider selectStatement = select(id, description)
+                .from(foo)
+                .where(id, isGreaterThan(2))
+                .and(description, isLike("%fred%"))
+                .and(notes, isEqualTo("n"))
+                .limit(3)
+                .build()
+                .render(RenderingStrategies.JDBC);
+
+        JdbcStatement statement = JdbcStatement.of(selectStatement);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                        "select id, description from foo where id > ? and description like ? and notes = ? limit ?"),
+                () -> assertThat(statement.getSql()).isEqualTo(selectStatement.getSelectStatement()),
+                () -> assertThat(statement.getStatementHints()).isEqualTo(StatementHints.empty()),
+                () -> assertThat(statement.getParameters()).containsExactly(
+                        new JdbcParameter(2, JDBCType.INTEGER, false),
+                        new JdbcParameter("%fred%", JDBCType.VARCHAR, false),
+                        new JdbcParameter("n", null, false),
+                        new JdbcParameter(3L, null, false))
+        );
+    }
+
+    @Test
+    void testMarkerTextInLiteral() {
+        SelectStatementProvider selectStatement = select(id, stringConstant("?{p9}").as("marker"))
+                .from(foo)
+                .where(id, isGreaterThan(2))
+                .build()
+                .render(RenderingStrategies.JDBC);
+
+        JdbcStatement statement = JdbcStatement.of(selectStatement);
+
+        assertAll(
+                () -> assertThat(statement.getSql())
+                        .isEqualTo("select id, '?{p9}' as marker from foo where id > ?"),
+                () -> assertThat(statement.getParameters()).containsExactly(
+                        new JdbcParameter(2, JDBCType.INTEGER, false))
+        );
+    }
+
+    @Test
+    void testNamedParameters() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isGreaterThan(param("minimumId", id)))
+                .and(description, isLike("%fred%"))
+                .or(id, isEqualTo(param("minimumId", id)))
+                .build()
+                .render(RenderingStrategies.JDBC, Map.of("minimumId", 7));
+
+        JdbcStatement statement = JdbcStatement.of(selectStatement);
+
+        assertAll(
+                () -> assertThat(statement.getSql())
+                        .isEqualTo("select id from foo where id > ? and description like ? or id = ?"),
+                () -> assertThat(statement.getParameters()).containsExactly(
+                        new JdbcParameter(7, JDBCType.INTEGER, false),
+                        new JdbcParameter("%fred%", JDBCType.VARCHAR, false),
+                        new JdbcParameter(7, JDBCType.INTEGER, false))
+        );
+    }
+
+    @Test
+    void testUnion() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isEqualTo(1))
+                .union()
+                .select(id)
+                .from(foo)
+                .where(description, isEqualTo("two"))
+                .union()
+                .select(id)
+                .from(foo)
+                .where(id, isEqualTo(3))
+                .build()
+                .render(RenderingStrategies.JDBC);
+
+        JdbcStatement statement = JdbcStatement.of(selectStatement);
+
+        assertAll(
+                () -> assertThat(statement.getSql()).isEqualTo("select id from foo where id = ?"
+                        + " union select id from foo where description = ?"
+                        + " union select id from foo where id = ?"),
+                () -> assertThat(statement.getParameters()).extracting(JdbcParameter::value)
+                        .containsExactly(1, "two", 3)
+        );
+    }
+
+    @Test
+    void testTemplate() {
+        SelectStatementTemplate template = select(id)
+                .from(foo)
+                .where(id, isGreaterThan(param("minimumId")))
+                .and(description, isLike("F%"))
+                .build()
+                .renderTemplate(RenderingStrategies.JDBC);
+
+        JdbcStatement statement = JdbcStatement.of(template.bindNamed(Map.of("minimumId", 4)));
+
+        assertAll(
+                () -> assertThat(statement.getSql())
+                        .isEqualTo("select id from foo where id > ? and description like ?"),
+                () -> assertThat(statement.getParameters()).extracting(JdbcParameter::value).containsExactly(4, "F%")
+        );
+    }
+
+    @Test
+    void testStatementHints() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .configureStatement(c -> c.setFetchSize(50).setForwardOnly(true))
+                .build()
+                .render(RenderingStrategies.JDBC);
+
+        JdbcStatement statement = JdbcStatement.of(selectStatement);
+
+        assertThat(statement.getStatementHints())
+                .isEqualTo(StatementHints.empty().withFetchSize(50).withForwardOnly(true));
+    }
+
+    @Test
+    void testMissingValue() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isGreaterThan(2))
+                .build()
+                .render(RenderingStrategies.JDBC);
+
+        assertThatExceptionOfType(DynamicSqlException.class)
+                .isThrownBy(() -> JdbcStatement.bind(selectStatement.getPositionalParameters(), Map.of()))
+                .withMessage(Messages.getString("ERROR.68", "p1"));
+    }
+
+    @Test
+    void testArrayParameter() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isInArray(1, 2, 3))
+                .build()
+                .render(RenderingStrategies.JDBC);
+
+        JdbcStatement statement = JdbcStatement.of(selectStatement);
+
+        assertAll(
+                () -> assertThat(statement.getSql()).isEqualTo(
+                        "select id from foo where id in (select * from unnest(cast(? as INTEGER array)))"),
+                () -> assertThat(statement.getParameters()).singleElement().satisfies(p -> {
+                    assertThat(p.jdbcType()).isEqualTo(JDBCType.INTEGER);
+                    assertThat(p.array()).isTrue();
+                    assertThat(p.value()).isInstanceOf(Integer[].class);
+                })
+        );
+    }
+
+    @Test
+    void testUpdateParametersInStatementOrder() {
+        UpdateStatementProvider updateStatement = update(foo)
+                .set(description).equalTo("new")
+                .set(notes).equalToNull()
+                .where(id, isEqualTo(5))
+                .build()
+                .render(RenderingStrategies.JDBC);
+
+        JdbcStatement statement = JdbcStatement.of(updateStatement);
+
+        assertAll(
+                () -> assertThat(statement.getSql()).isEqualTo(
+                        "update foo set description = ?, notes = null where id = ?"),
+                () -> assertThat(statement.getParameters()).extracting(JdbcParameter::value).containsExactly("new", 5)
+        );
+    }
+
+    @Test
+    void testInsertRecord() {
+        Row row = new Row(22, null);
+
+        InsertStatementProvider<Row> insertStatement = insert(row)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toProperty("description")
+                .map(notes).toConstant("'none'")
+                .build()
+                .render(RenderingStrategies.JDBC);
+
+        JdbcStatement statement = JdbcStatement.of(insertStatement);
+
+        assertAll(
+                () -> assertThat(insertStatement.getPositionalParameters()).extracting(ParameterSlot::parameterMapKey)
+                        .containsExactly("row.id", "row.description"),
+                () -> assertThat(statement.getSql()).isEqualTo(
+                        "insert into foo (id, description, notes) values (?, ?, 'none')"),
+                () -> assertThat(statement.getParameters()).containsExactly(
+                        new JdbcParameter(22, JDBCType.INTEGER, false),
+                        new JdbcParameter(null, JDBCType.VARCHAR, false))
+        );
+    }
+
+    @Test
+    void testMultiRowInsert() {
+        MultiRowInsertStatementProvider<Row> insertStatement = insertMultiple(new Row(1, "one"), new Row(2, "two"))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toProperty("description")
+                .build()
+                .render(RenderingStrategies.JDBC);
+
+        JdbcStatement statement = JdbcStatement.of(insertStatement);
+
+        assertAll(
+                () -> assertThat(statement.getSql()).isEqualTo(
+                        "insert into foo (id, description) values (?, ?), (?, ?)"),
+                () -> assertThat(statement.getParameters()).extracting(JdbcParameter::value)
+                        .containsExactly(1, "one", 2, "two")
+        );
+    }
+
+    @Test
+    void testMapToRow() {
+        MultiRowInsertStatementProvider<Integer> insertStatement = insertMultiple(List.of(4, 5))
+                .into(foo)
+                .map(id).toRow()
+                .build()
+                .render(RenderingStrategies.JDBC);
+
+        JdbcStatement statement = JdbcStatement.of(insertStatement);
+
+        assertAll(
+                () -> assertThat(statement.getSql()).isEqualTo("insert into foo (id) values (?), (?)"),
+                () -> assertThat(statement.getParameters()).extracting(JdbcParameter::value).containsExactly(4, 5)
+        );
+    }
+
+    @Test
+    void testUnknownProperty() {
+        InsertStatementProvider<Row> insertStatement = insert(new Row(1, "one"))
+                .into(foo)
+                .map(id).toProperty("identifier")
+                .build()
+                .render(RenderingStrategies.JDBC);
+
+        assertThatExceptionOfType(DynamicSqlException.class)
+                .isThrownBy(() -> JdbcStatement.of(insertStatement))
+                .withMessage(Messages.getString("ERROR.68", "row.identifier"));
+    }
+
+    record Row(Integer id, String description) {}
+}
@@ -0,0 +1,127 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.mybatis3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualTo;
+import static org.mybatis.dynamic.sql.SqlBuilder.select;
+
+import java.sql.JDBCType;
+import java.util.Map;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class CachingLanguageDriverTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    private final Configuration configuration = new Configuration();
+
+    @Test
+    void testRepeatedStatementIsParsedOnce() {
+        CachingLanguageDriver driver = new CachingLanguageDriver();
+
+        SelectStatementProvider first = render(1);
+        SelectStatementProvider second = render(2);
+
+        SqlSource firstSource = driver.createSqlSource(configuration, first.getSelectStatement(), first.getClass());
+        SqlSource secondSource = driver.createSqlSource(configuration, second.getSelectStatement(), second.getClass());
+        BoundSql boundSql = secondSource.getBoundSql(second);
+
+        assertAll(
+                () -> assertThat(secondSource).isSameAs(firstSource),
+                () -> assertThat(driver.hitCount()).isEqualTo(1),
+                () -> assertThat(driver.missCount()).isEqualTo(1),
+                () -> assertThat(driver.size()).isEqualTo(1),
+                () -> assertThat(boundSql.getSql()).isEqualTo("select id, description from foo where id = ?"),
+                () -> assertThat(boundSql.getParameterMappings()).hasSize(1),
+                () -> assertThat(boundSql.getParameterObject()).isSameAs(second)
+        );
+    }
+
+    @Test
+    void testParameterTypeIsPartOfTheKey() {
+        CachingLanguageDriver driver = new CachingLanguageDriver();
+        String sql = render(1).getSelectStatement();
+
+        SqlSource first = driver.createSqlSource(configuration, sql, SelectStatementProvider.class);
+        SqlSource second = driver.createSqlSource(configuration, sql, Map.class);
+
+        assertAll(
+                () -> assertThat(second).isNotSameAs(first),
+                () -> assertThat(driver.missCount()).isEqualTo(2),
+                () -> assertThat(driver.size()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        CachingLanguageDriver driver = new CachingLanguageDriver(1);
+
+        driver.createSqlSource(configuration, "select id from foo", Object.class);
+        driver.createSqlSource(configuration, "select description from foo", Object.class);
+        driver.createSqlSource(configuration, "select id from foo", Object.class);
+
+        assertAll(
+                () -> assertThat(driver.size()).isEqualTo(1),
+                () -> assertThat(driver.hitCount()).isZero(),
+                () -> assertThat(driver.missCount()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    void testDisabledCache() {
+        CachingLanguageDriver driver = new CachingLanguageDriver(0);
+
+        driver.createSqlSource(configuration, "select id from foo", Object.class);
+        driver.createSqlSource(configuration, "select id from foo", Object.class);
+
+        assertAll(
+                () -> assertThat(driver.size()).isZero(),
+                () -> assertThat(driver.hitCount()).isZero()
+        );
+    }
+
+    @Test
+    void testClear() {
+        CachingLanguageDriver driver = new CachingLanguageDriver();
+
+        driver.createSqlSource(configuration, "select id from foo", Object.class);
+        driver.clear();
+
+        assertAll(
+                () -> assertThat(driver.size()).isZero(),
+                () -> assertThat(driver.maximumSize()).isEqualTo(CachingLanguageDriver.DEFAULT_MAXIMUM_SIZE)
+        );
+    }
+
+    private SelectStatementProvider render(int value) {
+        return select(id, description)
+                .from(foo)
+                .where(id, isEqualTo(value))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+    }
+}
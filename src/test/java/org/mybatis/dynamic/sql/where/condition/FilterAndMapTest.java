@@ -440,6 +440,22 @@ class FilterAndMapTest {
         assertThat(mappedValues).containsExactly("FRED", "WILMA");
     }
 
+    @Test
+    void testIsInArrayRenderableFilterAndMap() {
+        IsInArray<String> cond = SqlBuilder.isInArray("Fred", "Wilma", "Barney");
+        IsInArray<String> filtered = cond.filter(s -> s.startsWith("F"));
+        IsInArray<String> mapped = filtered.map(String::toUpperCase);
+        assertThat(mapped.values().toList()).containsExactly("FRED");
+        assertThat(cond.filter(s -> false).isEmpty()).isTrue();
+    }
+
+    @Test
+    void testIsNotInArrayRenderableMapShouldReturnMappedObject() {
+        IsNotInArray<String> cond = SqlBuilder.isNotInArray("Fred", "Wilma");
+        IsNotInArray<String> mapped = cond.map(String::toUpperCase);
+        assertThat(mapped.values().toList()).containsExactly("FRED", "WILMA");
+    }
+
     @Test
     void testIsNotInCaseInsensitiveRenderableMapShouldReturnMappedObject() {
         var cond = SqlBuilder.isNotInCaseInsensitive("Fred  ", "Wilma  ");
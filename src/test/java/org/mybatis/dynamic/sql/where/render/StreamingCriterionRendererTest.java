@@ -0,0 +1,167 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.RenderableCondition;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.FragmentCollector;
+
+class StreamingCriterionRendererTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+    private static final @Nullable Integer NULL_ID = null;
+
+    @Test
+    void testSingleCriterion() {
+        Optional<FragmentAndParameters> fp = renderStreaming(id, isEqualTo(3), List.of());
+
+        assertThat(fp).hasValueSatisfying(f -> assertAll(
+                () -> assertThat(f.fragment()).isEqualTo("where id = #{parameters.p1,jdbcType=INTEGER}"),
+                () -> assertThat(f.parameters()).containsExactly(entry("p1", 3))
+        ));
+    }
+
+    @Test
+    void testSkippedInitialCriterion() {
+        Optional<FragmentAndParameters> fp = renderStreaming(id, isEqualToWhenPresent(NULL_ID),
+                List.of(or(description, isLike("%a%")), and(id, isLessThan(5))));
+
+        assertThat(fp).hasValueSatisfying(f -> assertAll(
+                () -> assertThat(f.fragment()).isEqualTo("where description like #{parameters.p1,jdbcType=VARCHAR}"
+                        + " and id < #{parameters.p2,jdbcType=INTEGER}"),
+                () -> assertThat(f.parameters()).containsOnly(entry("p1", "%a%"), entry("p2", 5))
+        ));
+    }
+
+    @Test
+    void testNothingRendered() {
+        Optional<FragmentAndParameters> fp = renderStreaming(id, isEqualToWhenPresent(NULL_ID),
+                List.of(and(group(id, isGreaterThanWhenPresent(NULL_ID), or(id, isLessThanWhenPresent(NULL_ID))))));
+
+        assertThat(fp).isEmpty();
+    }
+
+    @Test
+    void testSingleGroupParenthesesAreRemoved() {
+        Optional<FragmentAndParameters> fp = renderStreaming(group(id, isEqualTo(3), or(id, isEqualTo(4))),
+                List.of());
+
+        assertThat(fp).hasValueSatisfying(f -> assertThat(f.fragment()).isEqualTo(
+                "where id = #{parameters.p1,jdbcType=INTEGER} or id = #{parameters.p2,jdbcType=INTEGER}"));
+    }
+
+    @Test
+    void testMatchesCriterionRenderer() {
+        List<AndOrCriteriaGroup> subCriteria = List.of(
+                and(group(id, isEqualTo(1), or(description, isNull()))),
+                or(not(id, isIn(2, 3), and(description, isEqualToWhenPresent((String) null)))),
+                and(not(group(id, isGreaterThan(4), or(id, isLessThan(0))))),
+                or(exists(select(id).from(foo).where(id, isEqualTo(5)))),
+                and(group(group(id, isBetween(6).and(7)), and(id, isNotEqualToWhenPresent(NULL_ID)))),
+                and(id, isNotNull(), or(id, isEqualTo(8), and(description, isLike("%b"))))
+        );
+
+        SqlCriterion initialCriterion = group(id, isEqualToWhenPresent(NULL_ID), or(id, isEqualTo(0)));
+
+        assertSameRendering(initialCriterion, subCriteria);
+    }
+
+    @Test
+    void testDeepTreeMatchesCriterionRenderer() {
+        List<AndOrCriteriaGroup> subCriteria = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            subCriteria.add(or(group(id, isEqualTo(i), and(description, isLikeWhenPresent(i % 3 == 0 ? null : "%" + i),
+                    or(not(id, isIn(i, i + 1)))))));
+        }
+
+        SqlCriterion initialCriterion = group(id, isGreaterThan(-1));
+
+        assertSameRendering(initialCriterion, subCriteria);
+    }
+
+    @Test
+    void testDeeplyNestedGroupsMatchCriterionRenderer() {
+        SqlCriterion criterion = group(id, isEqualTo(0));
+        for (int i = 1; i < 200; i++) {
+            criterion = i % 2 == 0
+                    ? group(criterion, or(id, isEqualToWhenPresent(i % 3 == 0 ? NULL_ID : Integer.valueOf(i))))
+                    : not(criterion);
+        }
+
+        assertSameRendering(criterion, List.of(and(id, isNotNull())));
+    }
+
+    private void assertSameRendering(SqlCriterion initialCriterion, List<AndOrCriteriaGroup> subCriteria) {
+        FragmentAndParameters expected = new CriterionRenderer(createRenderingContext())
+                .render(initialCriterion, subCriteria, this::calculateWhereClause)
+                .map(RenderedCriterion::fragmentAndParameters)
+                .orElseThrow();
+
+        assertThat(renderStreaming(initialCriterion, subCriteria)).hasValueSatisfying(fp -> assertAll(
+                () -> assertThat(fp.fragment()).isEqualTo(expected.fragment()),
+                () -> assertThat(fp.parameters()).isEqualTo(expected.parameters())
+        ));
+    }
+
+    private String calculateWhereClause(FragmentCollector collector) {
+        if (collector.hasMultipleFragments()) {
+            return collector.collectFragments(Collectors.joining(" ", "where ", ""));
+        }
+
+        return collector.firstFragment()
+                .map(f -> f.startsWith("(") && f.endsWith(")") ? f.substring(1, f.length() - 1) : f)
+                .map(f -> "where " + f)
+                .orElse("");
+    }
+
+    private Optional<FragmentAndParameters> renderStreaming(SqlColumn<Integer> column,
+            RenderableCondition<Integer> condition, List<AndOrCriteriaGroup> subCriteria) {
+        return renderStreaming(group(column, condition), subCriteria);
+    }
+
+    private Optional<FragmentAndParameters> renderStreaming(SqlCriterion initialCriterion,
+                                                            List<AndOrCriteriaGroup> subCriteria) {
+        return new StreamingCriterionRenderer(createRenderingContext())
+                .render(initialCriterion, subCriteria, "where");
+    }
+
+    private RenderingContext createRenderingContext() {
+        return RenderingContext.withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .withStatementConfiguration(new StatementConfiguration())
+                .build();
+    }
+}
@@ -46,6 +46,7 @@ import org.mybatis.dynamic.sql.util.kotlin.mybatis3.insertInto
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.insertSelect
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.multiSelect
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.select
+import org.mybatis.dynamic.sql.util.kotlin.mybatis3.useSequence
 import org.mybatis.dynamic.sql.util.mybatis3.CommonSelectMapper
 import java.util.*
 
@@ -81,6 +82,20 @@ class PersonMapperTest {
         }
     }
 
+    @Test
+    fun testSelectCursor() {
+        sqlSessionFactory.openSession().use { session ->
+            val mapper = session.getMapper(PersonMapper::class.java)
+
+            val names = mapper.selectCursor {
+                where { employed isEqualTo true }
+                orderBy(id)
+            }.useSequence { rows -> rows.map { it.firstName }.toList() }
+
+            assertThat(names).containsExactly("Fred", "Wilma", "Barney", "Betty")
+        }
+    }
+
     @Test
     fun testSelectAll() {
         sqlSessionFactory.openSession().use { session ->
@@ -29,6 +29,7 @@ import org.assertj.core.api.Assertions.assertThat
 import org.assertj.core.api.Assertions.assertThatExceptionOfType
 import org.junit.jupiter.api.Test
 import org.mybatis.dynamic.sql.exception.InvalidSqlException
+import org.mybatis.dynamic.sql.render.RenderingStrategies
 import org.mybatis.dynamic.sql.util.Messages
 import org.mybatis.dynamic.sql.util.kotlin.KInvalidSQLException
 import org.mybatis.dynamic.sql.util.kotlin.elements.`as`
@@ -39,11 +40,14 @@ import org.mybatis.dynamic.sql.util.kotlin.elements.isLikeWhenPresent
 import org.mybatis.dynamic.sql.util.kotlin.elements.max
 import org.mybatis.dynamic.sql.util.kotlin.elements.sortColumn
 import org.mybatis.dynamic.sql.util.kotlin.elements.upper
+import org.mybatis.dynamic.sql.util.kotlin.model.select as selectModel
 import org.mybatis.dynamic.sql.util.kotlin.spring.count
 import org.mybatis.dynamic.sql.util.kotlin.spring.countDistinct
 import org.mybatis.dynamic.sql.util.kotlin.spring.countFrom
+import org.mybatis.dynamic.sql.util.kotlin.spring.countFromPositional
 import org.mybatis.dynamic.sql.util.kotlin.spring.delete
 import org.mybatis.dynamic.sql.util.kotlin.spring.deleteFrom
+import org.mybatis.dynamic.sql.util.kotlin.spring.deleteFromPositional
 import org.mybatis.dynamic.sql.util.kotlin.spring.generalInsert
 import org.mybatis.dynamic.sql.util.kotlin.spring.insert
 import org.mybatis.dynamic.sql.util.kotlin.spring.insertBatch
@@ -54,8 +58,12 @@ import org.mybatis.dynamic.sql.util.kotlin.spring.multiSelect
 import org.mybatis.dynamic.sql.util.kotlin.spring.select
 import org.mybatis.dynamic.sql.util.kotlin.spring.selectDistinct
 import org.mybatis.dynamic.sql.util.kotlin.spring.selectList
+import org.mybatis.dynamic.sql.util.kotlin.spring.selectListPositional
 import org.mybatis.dynamic.sql.util.kotlin.spring.selectOne
+import org.mybatis.dynamic.sql.util.kotlin.spring.selectOnePositional
+import org.mybatis.dynamic.sql.util.kotlin.spring.selectSequence
 import org.mybatis.dynamic.sql.util.kotlin.spring.update
+import org.mybatis.dynamic.sql.util.kotlin.spring.updatePositional
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate
 import org.springframework.jdbc.support.GeneratedKeyHolder
@@ -86,6 +94,51 @@ class CanonicalSpringKotlinTest {
         assertThat(rows).isEqualTo(3)
     }
 
+    @Test
+    fun testPositionalStatements() {
+        val selectStatement = selectModel(id, firstName, lastName, birthDate, employed, occupation, addressId) {
+            from(person)
+            where { id isLessThan 4 }
+            orderBy(id)
+        }.render(RenderingStrategies.JDBC)
+
+        val rows = template.selectListPositional(selectStatement, personRowMapper)
+        val count = template.countFromPositional(person) {
+            where { id isLessThan 4 }
+        }
+        val updated = template.updatePositional(person) {
+            set(occupation) equalTo "Programmer"
+            where { id isEqualTo 1 }
+        }
+        val deleted = template.deleteFromPositional(person) {
+            where { id isEqualTo 3 }
+        }
+
+        assertThat(rows.map { it.id }).containsExactly(1, 2, 3)
+        assertThat(count).isEqualTo(3)
+        assertThat(updated).isEqualTo(1)
+        assertThat(deleted).isEqualTo(1)
+    }
+
+    @Test
+    fun testSelectOnePositional() {
+        val selectStatement = selectModel(id, firstName, lastName, birthDate, employed, occupation, addressId) {
+            from(person)
+            where { id isEqualTo 1 }
+        }.render(RenderingStrategies.JDBC)
+
+        val noRowsStatement = selectModel(id, firstName, lastName, birthDate, employed, occupation, addressId) {
+            from(person)
+            where { id isEqualTo 100 }
+        }.render(RenderingStrategies.JDBC)
+
+        val row = template.selectOnePositional(selectStatement, personRowMapper)
+        val noRow = template.selectOnePositional(noRowsStatement, personRowMapper)
+
+        assertThat(row?.firstName).isEqualTo("Fred")
+        assertThat(noRow).isNull()
+    }
+
     @Test
     fun testRawCountAllRows() {
         val countStatement = countFrom(person) {
@@ -720,6 +773,36 @@ class CanonicalSpringKotlinTest {
         }
     }
 
+    @Test
+    fun testRawSelectSequence() {
+        val selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId) {
+            from(person)
+            where { employed isEqualTo true }
+            orderBy(id)
+        }
+
+        val names = template.selectSequence(selectStatement, personRowMapper, fetchSize = 2) { rows ->
+            rows.map { it.firstName }.toList()
+        }
+
+        assertThat(names).containsExactly("Fred", "Wilma", "Barney", "Betty")
+    }
+
+    @Test
+    fun testRawSelectWithStatementHints() {
+        val selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId) {
+            from(person)
+            orderBy(id)
+            configureStatement { setMaxRows(2).setFetchSize(1) }
+        }
+
+        assertThat(selectStatement.statementHints.maxRows()).hasValue(2)
+
+        val rows = template.selectList(selectStatement, personRowMapper)
+
+        assertThat(rows.map { it.id }).containsExactly(1, 2)
+    }
+
     @Test
     fun testRawSelectDistinct() {
         val selectStatement = selectDistinct(lastName) {
@@ -430,6 +430,45 @@ class InfixElementsTest {
         assertThat(rows[0]).isEqualTo("Wilma")
     }
 
+    @Test
+    fun testIsInArrayCondition() {
+        val selectStatement = select(firstName) {
+            from(person)
+            where { id isInArray listOf(1, 3) }
+            orderBy(id)
+        }
+
+        assertThat(selectStatement.selectStatement).isEqualTo(
+            "select first_name from Person where id in (select * from unnest(cast(:p1 as INTEGER array))) " +
+                "order by id"
+        )
+        assertThat(selectStatement.parameters["p1"]).isEqualTo(arrayOf(1, 3))
+
+        val rows = template.selectList(selectStatement, String::class)
+
+        assertThat(rows).hasSize(2)
+        assertThat(rows[0]).isEqualTo("Fred")
+    }
+
+    @Test
+    fun testIsNotInArrayCondition() {
+        val selectStatement = select(firstName) {
+            from(person)
+            where { id.isNotInArray(1, 3) }
+            orderBy(id)
+        }
+
+        assertThat(selectStatement.selectStatement).isEqualTo(
+            "select first_name from Person where id not in (select * from unnest(cast(:p1 as INTEGER array))) " +
+                "order by id"
+        )
+
+        val rows = template.selectList(selectStatement, String::class)
+
+        assertThat(rows).hasSize(4)
+        assertThat(rows[0]).isEqualTo("Wilma")
+    }
+
     @Test
     fun testIsNotInWhenPresentWithList() {
         val myList = listOf(1, null, 3)